@@ -0,0 +1,74 @@
+package com.bookreviewhub.backend.benchmark;
+
+import com.bookreviewhub.backend.infrastructure.security.filter.JwtAuthenticationFilter;
+import com.bookreviewhub.backend.infrastructure.security.jwt.AccountTokenRevocationRegistry;
+import com.bookreviewhub.backend.infrastructure.security.jwt.JwtService;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// The whole per-request authentication step as the security chain runs it: header parsing, verification (cached or not),
+// the revocation lookup, phase timers and the security context. ANONYMOUS is the pass-through cost of catalog reads.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    public enum Caller {
+        CACHED_TOKEN, UNCACHED_TOKEN, ANONYMOUS
+    }
+
+    @Param
+    public Caller caller;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private FilterChain chain;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(JwtVerificationBenchmark.jwtConfig(caller == Caller.UNCACHED_TOKEN ? 0 : 10_000));
+        // Nothing was ever revoked, as for almost every account in production
+        AccountTokenRevocationRegistry revocationRegistry = new AccountTokenRevocationRegistry(
+                Mockito.mock(UserRepository.class), Mockito.mock(JdbcTemplate.class));
+        filter = new JwtAuthenticationFilter(jwtService, revocationRegistry, new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/api/books");
+        if (caller != Caller.ANONYMOUS) {
+            request.addHeader("Authorization", "Bearer " + jwtService.generateToken(JwtVerificationBenchmark.benchmarkAccount()));
+        }
+        chain = (servletRequest, servletResponse) -> authentication = SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
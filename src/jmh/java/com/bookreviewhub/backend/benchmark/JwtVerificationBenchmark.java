@@ -0,0 +1,99 @@
+package com.bookreviewhub.backend.benchmark;
+
+import com.bookreviewhub.backend.infrastructure.security.jwt.JwtService;
+import com.bookreviewhub.backend.infrastructure.security.jwt.VerifiedToken;
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.config.JwtConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Compares the per-request JWT work of the old filter path (parse twice, rebuild key and parser each time)
+// with the single-parse path, with and without the verified-token cache, and the signing done once per login.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtConfig jwtConfig;
+    private JwtService cachedJwtService;
+    private JwtService uncachedJwtService;
+    private AccountUserDetails account;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtConfig = jwtConfig(10_000);
+        cachedJwtService = new JwtService(jwtConfig);
+        uncachedJwtService = new JwtService(jwtConfig(0));
+        account = benchmarkAccount();
+        token = cachedJwtService.generateToken(account);
+    }
+
+    static AccountUserDetails benchmarkAccount() {
+        return new AccountUserDetails(UserEntity.builder()
+                .id(1L)
+                .username("benchmark-user")
+                .password("{noop}benchmark")
+                .role(UserEntity.Role.USER)
+                .status(UserEntity.Status.ACTIVE)
+                .build());
+    }
+
+    static JwtConfig jwtConfig(long verificationCacheSize) {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(Duration.ofHours(1));
+        config.setVerificationCacheSize(verificationCacheSize);
+        config.setVerificationCacheTtl(Duration.ofMinutes(5));
+        return config;
+    }
+
+    // Previous filter behaviour: extractUsername + isTokenValid, each building its own key and parser
+    @Benchmark
+    public String legacyDoubleParse() {
+        String username = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes()))
+                .build()
+                .parseClaimsJws(token);
+        return username;
+    }
+
+    @Benchmark
+    public VerifiedToken singleParseUncached() {
+        return uncachedJwtService.verifyToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken singleParseCached() {
+        return cachedJwtService.verifyToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtService.generateToken(account);
+    }
+}
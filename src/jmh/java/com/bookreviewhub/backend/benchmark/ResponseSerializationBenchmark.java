@@ -0,0 +1,146 @@
+package com.bookreviewhub.backend.benchmark;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookDetailsResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookImageEntity;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.ErrorResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Serialization of the response envelopes with a mapper configured like spring.jackson.* in application.properties:
+// a default-sized book list page, a book details page with its top reviews, and a validation error.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    static final int PAGE_SIZE = 20;
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 12, 30, 15);
+
+    private ObjectMapper objectMapper;
+    private SuccessResponse<CursorPageResponse<BookDetailsResponse>> bookPage;
+    private SuccessResponse<BookDetailsResponse> bookDetails;
+    private ErrorResponse validationError;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.FAIL_ON_EMPTY_BEANS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES
+                )
+                .simpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ")
+                .timeZone("UTC")
+                .build();
+
+        bookPage = success("Books retrieved successfully!", CursorPageResponse.<BookDetailsResponse>builder()
+                .items(IntStream.rangeClosed(1, PAGE_SIZE).mapToObj(id -> book(id, List.of())).toList())
+                .nextCursor("MjAyNS0wNi0wMVQxMjozMDoxNXwyMA")
+                .hasMore(true)
+                .build());
+        bookDetails = success("Book retrieved successfully!", book(1, IntStream.rangeClosed(1, 3).mapToObj(id ->
+                BookDetailsResponse.ReviewSummary.builder()
+                        .id((long) id)
+                        .reviewer(account(id + 10))
+                        .rating(4)
+                        .content("A thoughtful, well-paced read with characters that stay with you long after the last page.")
+                        .upvotes(42)
+                        .downvotes(3)
+                        .createdAt(CREATED_AT)
+                        .build()
+        ).toList()));
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        errors.put("title", "Title is required");
+        errors.put("author", "Author is required");
+        errors.put("publishedYear", "Published year must not be in the future");
+        validationError = ErrorResponse.of(HttpStatus.BAD_REQUEST, "Validation failed", "/api/books", errors);
+    }
+
+    private static <T> SuccessResponse<T> success(String message, T data) {
+        return SuccessResponse.<T>builder()
+                .timestamp(CREATED_AT)
+                .status(200)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
+    private static BookDetailsResponse book(long id, List<BookDetailsResponse.ReviewSummary> topReviews) {
+        return BookDetailsResponse.builder()
+                .id(id)
+                .title("The Silent River of Glass, Book " + id)
+                .author("Mara Ellison")
+                .publishedYear((short) 2019)
+                .publisher("Northwind Press")
+                .coverImageUrl("https://res.cloudinary.com/demo/image/upload/books/" + id + "/cover.jpg")
+                .description("A quiet mystery set in a river town, told across three summers by the people who stayed.")
+                .addedBy(account(1))
+                .genres(List.of(
+                        BookDetailsResponse.GenreSummary.builder().id(3L).name("Mystery").build(),
+                        BookDetailsResponse.GenreSummary.builder().id(7L).name("Literary Fiction").build()
+                ))
+                .images(List.of(BookDetailsResponse.ImageSummary.builder()
+                        .id(id)
+                        .imageUrl("https://res.cloudinary.com/demo/image/upload/books/" + id + "/cover.jpg")
+                        .type(BookImageEntity.Type.COVER)
+                        .uploadedByAccountId(1L)
+                        .build()))
+                .reviewCount(128)
+                .averageRating(new BigDecimal("4.21"))
+                .topReviews(topReviews)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    private static BookDetailsResponse.AccountSummary account(long id) {
+        return BookDetailsResponse.AccountSummary.builder()
+                .id(id)
+                .username("reader" + id)
+                .displayName("Reader " + id)
+                .avatarUrl("https://api.dicebear.com/7.x/avataaars/svg?seed=reader" + id)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] bookListPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookPage);
+    }
+
+    @Benchmark
+    public byte[] bookDetailsPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookDetails);
+    }
+
+    @Benchmark
+    public byte[] validationError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(validationError);
+    }
+}
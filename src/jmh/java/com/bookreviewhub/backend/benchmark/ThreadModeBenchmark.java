@@ -0,0 +1,141 @@
+package com.bookreviewhub.backend.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Request handling on Tomcat-sized platform workers vs. one virtual thread per request, under an I/O-heavy mix:
+// 70% reads (one query), 20% uploads (an HTTP call to the image host, then a query), 10% logins (hashing, then a query).
+// Queries hold one of POOL_SIZE connections; VIRTUAL_PERMITS adds the fair permit queue of ConnectionPermitDataSource.
+// Throughput is reported by JMH in requests per second; p99 request latency is printed at the end of each trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadModeBenchmark {
+    static final int REQUESTS_PER_BURST = 2_000;
+    static final int TOMCAT_MAX_THREADS = 200;
+    static final int POOL_SIZE = 20;
+
+    static final long QUERY_MILLIS = 2;
+    static final long HTTP_MILLIS = 15;
+    static final int HASH_ROUNDS = 2_000;
+
+    public enum ThreadMode {
+        PLATFORM, VIRTUAL, VIRTUAL_PERMITS
+    }
+
+    @Param
+    public ThreadMode mode;
+
+    private ExecutorService executor;
+    private Semaphore pool;
+    private Semaphore permits;
+    private SimpleMeterRegistry meterRegistry;
+    private Timer latency;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = mode == ThreadMode.PLATFORM
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        pool = new Semaphore(POOL_SIZE);
+        permits = mode == ThreadMode.VIRTUAL_PERMITS ? new Semaphore(POOL_SIZE, true) : null;
+        meterRegistry = new SimpleMeterRegistry();
+        latency = Timer.builder("request")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            System.out.printf("%s p%.0f latency: %.1f ms%n",
+                    mode, percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_BURST)
+    public void burst() throws Exception {
+        List<Future<?>> requests = new ArrayList<>(REQUESTS_PER_BURST);
+        for (int i = 0; i < REQUESTS_PER_BURST; i++) {
+            long submittedAt = System.nanoTime();
+            requests.add(executor.submit(() -> {
+                handleRequest();
+                latency.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return null;
+            }));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+    }
+
+    private void handleRequest() throws Exception {
+        int kind = ThreadLocalRandom.current().nextInt(100);
+        if (kind < 20) {
+            Thread.sleep(HTTP_MILLIS);
+        } else if (kind < 30) {
+            hash();
+        }
+        query();
+    }
+
+    private void query() throws InterruptedException {
+        if (permits != null) {
+            permits.acquire();
+        }
+        try {
+            pool.acquire();
+            try {
+                Thread.sleep(QUERY_MILLIS);
+            } finally {
+                pool.release();
+            }
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    // Stand-in for BCrypt: CPU only, no blocking
+    private static byte[] hash() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] value = "benchmark-password".getBytes(StandardCharsets.UTF_8);
+        for (int round = 0; round < HASH_ROUNDS; round++) {
+            value = digest.digest(value);
+        }
+        return value;
+    }
+}
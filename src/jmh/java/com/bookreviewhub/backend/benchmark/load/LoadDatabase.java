@@ -0,0 +1,193 @@
+package com.bookreviewhub.backend.benchmark.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// Rebuilds the harness database from the Flyway migrations and fills it with a catalog generated from the seed,
+// so every run starts from the same rows. Ids are predictable (1..n) because every table starts empty.
+@Slf4j
+class LoadDatabase {
+    static final String PASSWORD = "LoadTest@123";
+
+    static final List<String> TITLE_WORDS = List.of(
+            "silent", "river", "glass", "winter", "garden", "shadow", "empire", "ocean", "letters", "mountain",
+            "orchard", "harbor", "lantern", "machine", "forest", "summer", "kingdom", "stranger", "island", "memory",
+            "library", "thunder", "velvet", "compass", "desert", "midnight", "paper", "storm", "crown", "meadow"
+    );
+
+    private static final List<String> GENRES = List.of(
+            "Fantasy", "Science Fiction", "Mystery", "Thriller", "Romance", "Historical Fiction", "Literary Fiction",
+            "Horror", "Biography", "Memoir", "History", "Poetry", "Philosophy", "Psychology", "Travel", "Cooking",
+            "Business", "Economics", "Politics", "Science", "Mathematics", "Programming", "Art", "Music", "Religion",
+            "Self-Help", "Health", "Sports", "Young Adult", "Children", "Graphic Novel", "Drama", "Humor", "Adventure",
+            "Crime", "Classics", "Essays", "Nature", "Education", "Short Stories"
+    );
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Mara", "Jonah", "Lena", "Tomas", "Ines", "Arjun", "Sofia", "Kenji", "Amara", "Felix", "Noor", "Elias"
+    );
+
+    private static final List<String> LAST_NAMES = List.of(
+            "Ellison", "Okafor", "Lindqvist", "Moreau", "Castillo", "Nakamura", "Brennan", "Haddad", "Novak", "Reyes"
+    );
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final LoadSettings settings;
+    private final DriverManagerDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadDatabase(LoadSettings settings) {
+        this.settings = settings;
+        this.dataSource = new DriverManagerDataSource(settings.dbUrl(), settings.dbUsername(), settings.dbPassword());
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    static String username(int account) {
+        return "loaduser" + account;
+    }
+
+    void reset() {
+        String databaseName = databaseName(settings.dbUrl());
+        // clean() drops every object in the schema; never point the harness at a database that holds real data
+        if (!databaseName.contains("load")) {
+            throw new IllegalArgumentException(
+                    "Refusing to wipe database '" + databaseName + "': the harness database name must contain 'load'");
+        }
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                // The harness seeds its own data instead of the repeatable MVP seed
+                .repeatableSqlMigrationPrefix("NONE__")
+                .load();
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    void seed() {
+        Random random = new Random(settings.seed());
+        LocalDateTime now = LocalDateTime.now();
+
+        String hashedPassword = new BCryptPasswordEncoder(settings.bcryptStrength()).encode(PASSWORD);
+        batchInsert("""
+                INSERT INTO accounts (username, hashed_password, email, role, first_name, last_name, provider, status, created_at)
+                VALUES (?, ?, ?, 'USER', ?, ?, 'LOCAL', 'ACTIVE', ?)
+                """, settings.accounts(), account -> new Object[]{
+                username(account), hashedPassword, username(account) + "@load.test",
+                pick(random, FIRST_NAMES), pick(random, LAST_NAMES), daysAgo(now, random, 720)
+        });
+
+        batchInsert("INSERT INTO genres (name, created_at) VALUES (?, ?)", settings.genres(), genre -> new Object[]{
+                genre <= GENRES.size() ? GENRES.get(genre - 1) : "Genre " + genre, daysAgo(now, random, 720)
+        });
+
+        batchInsert("""
+                INSERT INTO books (title, author, published_year, publisher, description, added_by_account_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, settings.books(), book -> {
+            Timestamp createdAt = daysAgo(now, random, 720);
+            return new Object[]{
+                    title(random) + ", Book " + book,
+                    pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+                    1950 + random.nextInt(75),
+                    pick(random, LAST_NAMES) + " Press",
+                    "A story of the " + pick(random, TITLE_WORDS) + " and the " + pick(random, TITLE_WORDS) + ".",
+                    1 + random.nextInt(settings.accounts()),
+                    createdAt,
+                    createdAt
+            };
+        });
+
+        List<Object[]> bookGenres = new ArrayList<>();
+        for (int book = 1; book <= settings.books(); book++) {
+            Set<Integer> genres = new LinkedHashSet<>();
+            int count = 1 + random.nextInt(3);
+            while (genres.size() < Math.min(count, settings.genres())) {
+                genres.add(1 + random.nextInt(settings.genres()));
+            }
+            for (int genre : genres) {
+                bookGenres.add(new Object[]{book, genre});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO book_genres (book_id, genre_id) VALUES (?, ?)", bookGenres);
+
+        batchInsert("""
+                INSERT INTO reviews (content, rating, reviewer_id, book_id, created_at)
+                VALUES (?, ?, ?, ?, ?)
+                """, settings.reviews(), review -> new Object[]{
+                "Seeded review " + review + ": the " + pick(random, TITLE_WORDS) + " chapters stand out.",
+                1 + random.nextInt(5),
+                1 + random.nextInt(settings.accounts()),
+                popularBook(random, settings.books()),
+                daysAgo(now, random, 365)
+        });
+        jdbcTemplate.update("UPDATE reviews SET root_review_id = id WHERE root_review_id IS NULL");
+
+        jdbcTemplate.update("""
+                INSERT INTO book_rating_stats (book_id, review_count, rating_sum,
+                        rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, average_rating, updated_at)
+                SELECT r.book_id, COUNT(*), SUM(r.rating),
+                       SUM(r.rating = 1), SUM(r.rating = 2), SUM(r.rating = 3), SUM(r.rating = 4), SUM(r.rating = 5),
+                       AVG(r.rating), NOW()
+                FROM reviews r
+                GROUP BY r.book_id
+                """);
+
+        log.info("Seeded {} accounts, {} genres, {} books and {} reviews",
+                settings.accounts(), settings.genres(), settings.books(), settings.reviews());
+    }
+
+    @FunctionalInterface
+    private interface RowGenerator {
+        Object[] row(int number);
+    }
+
+    private void batchInsert(String sql, int rows, RowGenerator generator) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int number = 1; number <= rows; number++) {
+            batch.add(generator.row(number));
+            if (batch.size() == BATCH_SIZE || number == rows) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    static String title(Random random) {
+        String title = pick(random, TITLE_WORDS) + " " + pick(random, TITLE_WORDS) + " of the " + pick(random, TITLE_WORDS);
+        return Character.toUpperCase(title.charAt(0)) + title.substring(1);
+    }
+
+    // Popular books get most of the reviews, as in any real catalog
+    static int popularBook(Random random, int books) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return 1 + (int) (skewed * books);
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Timestamp daysAgo(LocalDateTime now, Random random, int maxDays) {
+        return Timestamp.valueOf(now.minusMinutes(random.nextInt(maxDays * 24 * 60)));
+    }
+
+    private static String databaseName(String jdbcUrl) {
+        String path = jdbcUrl.substring(jdbcUrl.indexOf("//") + 2);
+        int start = path.indexOf('/') + 1;
+        int end = path.indexOf('?');
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
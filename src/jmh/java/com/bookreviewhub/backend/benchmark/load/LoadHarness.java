@@ -0,0 +1,80 @@
+package com.bookreviewhub.backend.benchmark.load;
+
+import com.bookreviewhub.backend.BookreviewhubBackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// End-to-end load run: rebuilds and seeds a local MySQL database, boots the application against it on a random port,
+// drives the login/browse/search/review-write mix for the warmup and the measured duration, then reports throughput
+// and p50/p99/p999 per operation and compares them with the baseline file. Exits with 1 on a regression.
+//
+//   ./mvnw -Pbenchmark test-compile exec:exec@load-harness -Dload.args="users=64 duration=PT5M"
+//
+// The database must be local and disposable (its name must contain "load"); nothing else is contacted, images stay on
+// the local storage backend. Client and server share the machine, so compare runs taken on the same one.
+@Slf4j
+public final class LoadHarness {
+    private static final String JWT_SECRET = "load-harness-secret-load-harness-secret-0123456789";
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.parse(args);
+
+        LoadDatabase database = new LoadDatabase(settings);
+        database.reset();
+        database.seed();
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookreviewhubBackendApplication.class)
+                .run(applicationArgs(settings))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            log.info("Application up on port {}; {} users for {} warmup and {} measured",
+                    port, settings.users(), settings.warmup(), settings.duration());
+
+            LoadReport report = new LoadReport(
+                    settings,
+                    objectMapper,
+                    new LoadWorkload(settings, "http://localhost:" + port, objectMapper).run()
+            );
+            report.print();
+            report.write();
+            exitCode = report.regressedAgainstBaseline() ? 1 : 0;
+        }
+        System.exit(exitCode);
+    }
+
+    // Command-line arguments, so they override application.properties; a repeated key would be joined with a comma
+    private static String[] applicationArgs(LoadSettings settings) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "-1");
+        properties.put("spring.datasource.url", settings.dbUrl());
+        properties.put("spring.datasource.username", settings.dbUsername());
+        properties.put("spring.datasource.password", settings.dbPassword());
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("app.jwt.secret", JWT_SECRET);
+        properties.put("app.cors.allowed-origin", "http://localhost");
+        properties.put("app.uploads.storage", "local");
+        // Seeded hashes use this cost, so logins never trigger a rehash
+        properties.put("app.security.password-hashing.bcrypt-strength", String.valueOf(settings.bcryptStrength()));
+        // Every virtual user would otherwise be throttled like an abusive client
+        properties.put("app.security.rate-limit.enabled", "false");
+        for (String arg : settings.applicationArgs()) {
+            int separator = arg.indexOf('=');
+            properties.put(arg.substring(2, separator < 0 ? arg.length() : separator), separator < 0 ? "" : arg.substring(separator + 1));
+        }
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookreviewhub.backend.benchmark.load;
+
+import java.util.List;
+
+// The requests a virtual user sends, grouped into the categories the mix is given in
+enum LoadOperation {
+    LOGIN("login"),
+    LIST_BOOKS("browse"),
+    GET_BOOK("browse"),
+    LIST_BOOK_REVIEWS("browse"),
+    SEARCH_BOOKS("search"),
+    CREATE_REVIEW("review-write"),
+    EDIT_REVIEW("review-write");
+
+    static final List<String> CATEGORIES = List.of("login", "browse", "search", "review-write");
+
+    private final String category;
+
+    LoadOperation(String category) {
+        this.category = category;
+    }
+
+    String category() {
+        return category;
+    }
+}
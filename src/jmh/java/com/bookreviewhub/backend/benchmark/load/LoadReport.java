@@ -0,0 +1,112 @@
+package com.bookreviewhub.backend.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Throughput and latency percentiles of one run, written as JSON and compared with a baseline run.
+// A regression is a throughput drop or a p99 rise beyond the threshold on any operation present in both runs.
+@Slf4j
+class LoadReport {
+    static final String ALL = "ALL";
+
+    private final LoadSettings settings;
+    private final ObjectMapper objectMapper;
+    private final Map<String, OperationResult> operations = new LinkedHashMap<>();
+
+    record OperationResult(long requests, long errors, double throughput, double p50Millis, double p99Millis, double p999Millis) {
+    }
+
+    record RunResult(String recordedAt, Map<String, Object> workload, Map<String, OperationResult> operations) {
+    }
+
+    LoadReport(LoadSettings settings, ObjectMapper objectMapper, Map<LoadOperation, LoadWorkload.Samples> samples) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        double seconds = settings.duration().toNanos() / 1e9;
+        LoadWorkload.Samples all = new LoadWorkload.Samples();
+        for (LoadOperation operation : LoadOperation.values()) {
+            LoadWorkload.Samples operationSamples = samples.get(operation);
+            if (operationSamples != null) {
+                operations.put(operation.name(), summarize(operationSamples, seconds));
+                all.addAll(operationSamples);
+            }
+        }
+        operations.put(ALL, summarize(all, seconds));
+    }
+
+    private static OperationResult summarize(LoadWorkload.Samples samples, double seconds) {
+        return new OperationResult(
+                samples.count(),
+                samples.errors(),
+                samples.count() / seconds,
+                samples.percentile(0.50) / 1e6,
+                samples.percentile(0.99) / 1e6,
+                samples.percentile(0.999) / 1e6
+        );
+    }
+
+    void print() {
+        log.info(String.format("%-18s %10s %8s %10s %10s %10s %10s",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+        operations.forEach((operation, result) -> log.info(String.format("%-18s %10d %8d %10.1f %10.2f %10.2f %10.2f",
+                operation, result.requests(), result.errors(), result.throughput(),
+                result.p50Millis(), result.p99Millis(), result.p999Millis())));
+    }
+
+    void write() throws IOException {
+        Files.createDirectories(settings.result().toAbsolutePath().getParent());
+        RunResult run = new RunResult(Instant.now().toString(), settings.workloadShape(), operations);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.result().toFile(), run);
+        log.info("Results written to {}", settings.result());
+        if (settings.updateBaseline()) {
+            Files.createDirectories(settings.baseline().toAbsolutePath().getParent());
+            Files.copy(settings.result(), settings.baseline(), StandardCopyOption.REPLACE_EXISTING);
+            log.info("Baseline {} updated", settings.baseline());
+        }
+    }
+
+    // True when this run regressed against the baseline; a missing or differently shaped baseline is not a regression
+    boolean regressedAgainstBaseline() throws IOException {
+        if (settings.updateBaseline() || !Files.exists(settings.baseline())) {
+            log.info("No baseline to compare with; keep this run as one with update-baseline=true");
+            return false;
+        }
+        JsonNode baseline = objectMapper.readTree(settings.baseline().toFile());
+        // Compared as parsed JSON, so number types read back from the file match the ones of this run
+        JsonNode workload = objectMapper.readTree(objectMapper.writeValueAsString(settings.workloadShape()));
+        if (!baseline.path("workload").equals(workload)) {
+            log.warn("Baseline {} was recorded with another workload ({}); not comparing",
+                    settings.baseline(), baseline.path("workload"));
+            return false;
+        }
+
+        boolean regressed = false;
+        log.info(String.format("%-18s %12s %12s", "vs baseline", "req/s", "p99"));
+        for (Map.Entry<String, OperationResult> entry : operations.entrySet()) {
+            JsonNode before = baseline.path("operations").path(entry.getKey());
+            if (before.isMissingNode()) {
+                continue;
+            }
+            double throughputChange = change(before.path("throughput").asDouble(), entry.getValue().throughput());
+            double p99Change = change(before.path("p99Millis").asDouble(), entry.getValue().p99Millis());
+            boolean operationRegressed = throughputChange < -settings.regressionThreshold()
+                    || p99Change > settings.regressionThreshold();
+            regressed |= operationRegressed;
+            log.info(String.format("%-18s %+11.1f%% %+11.1f%%%s", entry.getKey(), throughputChange * 100, p99Change * 100,
+                    operationRegressed ? "  REGRESSION" : ""));
+        }
+        return regressed;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before;
+    }
+}
@@ -0,0 +1,122 @@
+package com.bookreviewhub.backend.benchmark.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Harness settings, given as key=value arguments (several may share one argument, separated by spaces).
+// Arguments starting with "--" are passed to the application unchanged, e.g. --app.books.search.max-results=50.
+record LoadSettings(
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        int accounts,
+        int books,
+        int genres,
+        int reviews,
+        int bcryptStrength,
+        int users,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        Map<String, Integer> mix,
+        Path result,
+        Path baseline,
+        boolean updateBaseline,
+        double regressionThreshold,
+        List<String> applicationArgs
+) {
+    private static final Set<String> KEYS = Set.of(
+            "db-url", "db-username", "db-password", "accounts", "books", "genres", "reviews", "bcrypt-strength",
+            "users", "warmup", "duration", "seed", "mix", "result", "baseline", "update-baseline", "regression-threshold"
+    );
+
+    static LoadSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                if (token.startsWith("--")) {
+                    applicationArgs.add(token);
+                    continue;
+                }
+                int separator = token.indexOf('=');
+                if (separator < 0 || !KEYS.contains(token.substring(0, separator))) {
+                    throw new IllegalArgumentException("Unknown harness setting: " + token + " (known: " + KEYS + ")");
+                }
+                values.put(token.substring(0, separator), token.substring(separator + 1));
+            }
+        }
+
+        LoadSettings settings = new LoadSettings(
+                values.getOrDefault("db-url", "jdbc:mysql://localhost:3306/bookreviewhub_load"
+                        + "?createDatabaseIfNotExist=true&serverTimezone=UTC&useSSL=false&allowPublicKeyRetrieval=true"
+                        + "&rewriteBatchedStatements=true"),
+                values.getOrDefault("db-username", "root"),
+                values.getOrDefault("db-password", ""),
+                Integer.parseInt(values.getOrDefault("accounts", "500")),
+                Integer.parseInt(values.getOrDefault("books", "10000")),
+                Integer.parseInt(values.getOrDefault("genres", "40")),
+                Integer.parseInt(values.getOrDefault("reviews", "50000")),
+                Integer.parseInt(values.getOrDefault("bcrypt-strength", "10")),
+                Integer.parseInt(values.getOrDefault("users", "32")),
+                Duration.parse(values.getOrDefault("warmup", "PT30S")),
+                Duration.parse(values.getOrDefault("duration", "PT2M")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                parseMix(values.getOrDefault("mix", "login:5,browse:60,search:25,review-write:10")),
+                Path.of(values.getOrDefault("result", "target/load-harness/result.json")),
+                Path.of(values.getOrDefault("baseline", "src/jmh/load-baseline.json")),
+                Boolean.parseBoolean(values.getOrDefault("update-baseline", "false")),
+                Double.parseDouble(values.getOrDefault("regression-threshold", "0.10")),
+                List.copyOf(applicationArgs)
+        );
+        if (settings.accounts() < settings.users()) {
+            throw new IllegalArgumentException("Every virtual user needs its own account: accounts < users");
+        }
+        return settings;
+    }
+
+    // e.g. "login:5,browse:60,search:25,review-write:10"; weights are relative and need not add up to 100
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like operation:weight, got: " + entry);
+            }
+            String category = parts[0].trim();
+            if (!LoadOperation.CATEGORIES.contains(category)) {
+                throw new IllegalArgumentException("Unknown mix category: " + category + " (known: " + LoadOperation.CATEGORIES + ")");
+            }
+            mix.put(category, Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The operation mix needs at least one positive weight");
+        }
+        return mix;
+    }
+
+    // The settings that change what is measured; a baseline taken with different ones is not comparable
+    Map<String, Object> workloadShape() {
+        Map<String, Object> shape = new LinkedHashMap<>();
+        shape.put("accounts", accounts);
+        shape.put("books", books);
+        shape.put("genres", genres);
+        shape.put("reviews", reviews);
+        shape.put("bcryptStrength", bcryptStrength);
+        shape.put("users", users);
+        shape.put("duration", duration.toString());
+        shape.put("seed", seed);
+        shape.put("mix", mix);
+        shape.put("applicationArgs", applicationArgs);
+        return shape;
+    }
+}
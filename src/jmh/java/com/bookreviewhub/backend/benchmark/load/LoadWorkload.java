@@ -0,0 +1,273 @@
+package com.bookreviewhub.backend.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop virtual users, each logged in as its own seeded account and sending its next request as soon as the
+// previous one answered. Every user draws from its own seeded Random, so two runs send the same request sequence
+// (up to how many requests fit in the time). Requests started during the warmup are sent but not recorded.
+@Slf4j
+class LoadWorkload {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadSettings settings;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    LoadWorkload(LoadSettings settings, String baseUrl, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    // Latencies of the successful requests of one operation, and how many failed
+    static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        void recordError() {
+            errors++;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i]);
+            }
+            errors += other.errors;
+        }
+
+        int count() {
+            return count;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        // Nearest-rank percentile, in nanoseconds; sorts the samples on first use
+        long percentile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            Arrays.sort(latencies, 0, count);
+            int rank = (int) Math.ceil(quantile * count);
+            return latencies[Math.max(0, rank - 1)];
+        }
+    }
+
+    Map<LoadOperation, Samples> run() throws Exception {
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + settings.warmup().toNanos();
+        long endAt = measureFrom + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            List<Future<Map<LoadOperation, Samples>>> users = new ArrayList<>();
+            for (int user = 1; user <= settings.users(); user++) {
+                VirtualUser virtualUser = new VirtualUser(user, measureFrom, endAt);
+                users.add(executor.submit(virtualUser::run));
+            }
+            Map<LoadOperation, Samples> merged = new EnumMap<>(LoadOperation.class);
+            for (Future<Map<LoadOperation, Samples>> user : users) {
+                user.get().forEach((operation, samples) ->
+                        merged.computeIfAbsent(operation, key -> new Samples()).addAll(samples));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private final class VirtualUser {
+        private final int account;
+        private final long measureFrom;
+        private final long endAt;
+        private final Random random;
+        private final Map<LoadOperation, Samples> samples = new EnumMap<>(LoadOperation.class);
+        // Reviews this user wrote during the run, by current version id
+        private final List<Long> ownReviews = new ArrayList<>();
+        private String token;
+        private String nextCursor;
+
+        VirtualUser(int account, long measureFrom, long endAt) {
+            this.account = account;
+            this.measureFrom = measureFrom;
+            this.endAt = endAt;
+            this.random = new Random(settings.seed() * 31 + account);
+        }
+
+        Map<LoadOperation, Samples> run() throws IOException, InterruptedException {
+            HttpResponse<String> login = send(LoadOperation.LOGIN);
+            if (login.statusCode() != 200) {
+                throw new IllegalStateException("Virtual user " + account + " could not log in: " + login.body());
+            }
+            while (System.nanoTime() < endAt) {
+                LoadOperation operation = nextOperation();
+                long start = System.nanoTime();
+                boolean succeeded;
+                try {
+                    HttpResponse<String> response = send(operation);
+                    succeeded = response.statusCode() / 100 == 2;
+                    if (!succeeded) {
+                        log.debug("{} answered {}: {}", operation, response.statusCode(), response.body());
+                    }
+                } catch (IOException e) {
+                    log.debug("{} failed", operation, e);
+                    succeeded = false;
+                }
+                long latency = System.nanoTime() - start;
+                if (start >= measureFrom) {
+                    Samples operationSamples = samples.computeIfAbsent(operation, key -> new Samples());
+                    if (succeeded) {
+                        operationSamples.record(latency);
+                    } else {
+                        operationSamples.recordError();
+                    }
+                }
+            }
+            return samples;
+        }
+
+        private LoadOperation nextOperation() {
+            int total = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+            int draw = random.nextInt(total);
+            String category = null;
+            for (Map.Entry<String, Integer> entry : settings.mix().entrySet()) {
+                draw -= entry.getValue();
+                if (draw < 0) {
+                    category = entry.getKey();
+                    break;
+                }
+            }
+            return switch (category) {
+                case "login" -> LoadOperation.LOGIN;
+                case "browse" -> switch (random.nextInt(3)) {
+                    case 0 -> LoadOperation.LIST_BOOKS;
+                    case 1 -> LoadOperation.GET_BOOK;
+                    default -> LoadOperation.LIST_BOOK_REVIEWS;
+                };
+                case "search" -> LoadOperation.SEARCH_BOOKS;
+                // Most writes are new reviews; some users go back and edit one of theirs
+                default -> !ownReviews.isEmpty() && random.nextInt(10) < 3 ? LoadOperation.EDIT_REVIEW : LoadOperation.CREATE_REVIEW;
+            };
+        }
+
+        private HttpResponse<String> send(LoadOperation operation) throws IOException, InterruptedException {
+            int book = LoadDatabase.popularBook(random, settings.books());
+            HttpResponse<String> response = switch (operation) {
+                case LOGIN -> post("/api/auth/login", Map.of(
+                        "username", LoadDatabase.username(account),
+                        "password", LoadDatabase.PASSWORD
+                ));
+                // Half of the list views page on from the previous one, like a user scrolling
+                case LIST_BOOKS -> get(nextCursor != null && random.nextBoolean()
+                        ? "/api/books?size=20&cursor=" + encode(nextCursor)
+                        : "/api/books?size=20");
+                case GET_BOOK -> get("/api/books/" + book);
+                case LIST_BOOK_REVIEWS -> get("/api/books/" + book + "/reviews?size=20");
+                case SEARCH_BOOKS -> get("/api/books/search?size=20&q=" + encode(searchQuery()));
+                case CREATE_REVIEW -> post("/api/books/" + book + "/reviews", review());
+                case EDIT_REVIEW -> put("/api/reviews/" + ownReviews.get(random.nextInt(ownReviews.size())), review());
+            };
+            if (response.statusCode() / 100 == 2) {
+                remember(operation, objectMapper.readTree(response.body()).path("data"));
+            }
+            return response;
+        }
+
+        private void remember(LoadOperation operation, JsonNode data) {
+            switch (operation) {
+                case LOGIN -> token = data.path("token").asText();
+                case LIST_BOOKS -> nextCursor = data.path("nextCursor").isTextual() ? data.path("nextCursor").asText() : null;
+                case CREATE_REVIEW -> ownReviews.add(data.path("id").asLong());
+                // An edit is a new version with a new id; the old id no longer accepts edits
+                case EDIT_REVIEW -> {
+                    ownReviews.remove(Long.valueOf(data.path("previousReviewId").asLong()));
+                    ownReviews.add(data.path("id").asLong());
+                }
+                default -> {
+                }
+            }
+        }
+
+        private String searchQuery() {
+            String first = LoadDatabase.TITLE_WORDS.get(random.nextInt(LoadDatabase.TITLE_WORDS.size()));
+            if (random.nextInt(4) > 0) {
+                return first;
+            }
+            return first + " " + LoadDatabase.TITLE_WORDS.get(random.nextInt(LoadDatabase.TITLE_WORDS.size()));
+        }
+
+        private Map<String, Object> review() {
+            return Map.of(
+                    "content", "Load test review by " + LoadDatabase.username(account) + ": "
+                            + LoadDatabase.title(random) + " was worth the time.",
+                    "rating", 1 + random.nextInt(5)
+            );
+        }
+
+        private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+            return httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        private HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+            return httpClient.send(request(path).POST(json(body)).build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        private HttpResponse<String> put(String path, Object body) throws IOException, InterruptedException {
+            return httpClient.send(request(path).PUT(json(body)).build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        // Signed-in users send their token on every request, reads included
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/json");
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder;
+        }
+
+        private HttpRequest.BodyPublisher json(Object body) throws IOException {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,94 @@
+package com.bookreviewhub.backend.application.account.service;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.AccountSecurityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class AccountAdministrationService {
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional
+    public SuccessResponse<Void> banAccount(Long accountId) {
+        UserEntity userEntity = findAccount(accountId);
+        userEntity.setStatus(UserEntity.Status.BANNED);
+        userEntity.setBannedAt(LocalDateTime.now());
+        bumpSecurityVersion(userEntity);
+
+        return buildResponse("Account banned successfully!");
+    }
+
+    @Transactional
+    public SuccessResponse<Void> unbanAccount(Long accountId) {
+        UserEntity userEntity = findAccount(accountId);
+        if (userEntity.getStatus() != UserEntity.Status.BANNED) {
+            throw new IllegalArgumentException("Account is not banned");
+        }
+        userEntity.setStatus(UserEntity.Status.ACTIVE);
+        userEntity.setBannedAt(null);
+        bumpSecurityVersion(userEntity);
+
+        return buildResponse("Account unbanned successfully!");
+    }
+
+    @Transactional
+    public SuccessResponse<Void> deactivateAccount(Long accountId) {
+        UserEntity userEntity = findAccount(accountId);
+        userEntity.setStatus(UserEntity.Status.INACTIVE);
+        userEntity.setDeactivatedAt(LocalDateTime.now());
+        bumpSecurityVersion(userEntity);
+
+        return buildResponse("Account deactivated successfully!");
+    }
+
+    @Transactional
+    public SuccessResponse<Void> changeRole(Long accountId, UserEntity.Role role) {
+        if (role == null) {
+            throw new IllegalArgumentException("Role is required");
+        }
+        UserEntity userEntity = findAccount(accountId);
+        if (userEntity.getRole() == role) {
+            return buildResponse("Account role unchanged");
+        }
+        userEntity.setRole(role);
+        bumpSecurityVersion(userEntity);
+
+        return buildResponse("Account role changed successfully!");
+    }
+
+    private UserEntity findAccount(Long accountId) {
+        return userRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("Account not found"));
+    }
+
+    // Tokens carry the version they were issued with; bumping it revokes every token issued before
+    private void bumpSecurityVersion(UserEntity userEntity) {
+        userEntity.setSecurityVersion(userEntity.getSecurityVersion() + 1);
+        userRepository.stampSecurityChangedAt(userEntity.getId());
+
+        applicationEventPublisher.publishEvent(new AccountSecurityChangedEvent(
+                userEntity.getId(),
+                userEntity.getUsername(),
+                userEntity.getSecurityVersion(),
+                userEntity.getStatus()
+        ));
+    }
+
+    private SuccessResponse<Void> buildResponse(String message) {
+        return SuccessResponse.<Void>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message(message)
+                .data(null)
+                .build();
+    }
+}
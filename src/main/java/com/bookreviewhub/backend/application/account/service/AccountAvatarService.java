@@ -0,0 +1,85 @@
+package com.bookreviewhub.backend.application.account.service;
+
+import com.bookreviewhub.backend.application.upload.dto.response.ImageUploadResponse;
+import com.bookreviewhub.backend.application.upload.service.ImageUploadService;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.infrastructure.review.repository.ReviewRepository;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.storage.ImageStorage;
+import com.bookreviewhub.backend.infrastructure.storage.ImageUploadPipeline;
+import com.bookreviewhub.backend.infrastructure.storage.StoredImage;
+import com.bookreviewhub.backend.infrastructure.user.entity.AccountAvatarEntity;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.user.repository.AccountAvatarRepository;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.AccountProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class AccountAvatarService {
+    private final UserRepository userRepository;
+    private final AccountAvatarRepository accountAvatarRepository;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final ImageUploadService imageUploadService;
+    private final ImageStorage imageStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final BookRepository bookRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${app.cloudinary.avatar.max-file-size:5242880}")
+    private long maxFileSize;
+
+    @Value("${app.cloudinary.avatar.allowed-formats:jpg,jpeg,png,webp}")
+    private List<String> allowedFormats;
+
+    // The body is validated and staged here; the avatar becomes current only once storage has accepted it
+    public SuccessResponse<ImageUploadResponse> uploadAvatar(InputStream body, long contentLength, AuthenticatedAccount account)
+            throws IOException {
+        ImageUploadPipeline.StagedImage stagedImage = imageUploadPipeline.stage(body, contentLength, maxFileSize, allowedFormats);
+        Long accountId = account.id();
+        UUID uploadId = imageUploadPipeline.submit(
+                accountId,
+                "avatar",
+                "users/" + accountId + "/avatar-",
+                stagedImage,
+                storedImage -> recordAvatar(accountId, storedImage)
+        );
+
+        return imageUploadService.accepted("Avatar upload accepted!", uploadId);
+    }
+
+    // The account row lock orders concurrent uploads, so each successful one gets the next version
+    private void recordAvatar(Long accountId, StoredImage storedImage) {
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            UserEntity userEntity = userRepository.findByIdForUpdate(accountId)
+                    .orElseThrow(() -> new IllegalArgumentException("Account not found"));
+            AccountAvatarEntity accountAvatarEntity = accountAvatarRepository.save(AccountAvatarEntity.builder()
+                    .accountId(accountId)
+                    .version(accountAvatarRepository.findMaxVersionByAccountId(accountId) + 1)
+                    .url(storedImage.url())
+                    .source(imageStorage.avatarSource())
+                    .uploadedAt(LocalDateTime.now())
+                    .build());
+            userEntity.setAvatarId(accountAvatarEntity.getId());
+            // Cached details of the books it added or reviewed show the old avatar
+            applicationEventPublisher.publishEvent(new AccountProfileChangedEvent(accountId, Stream.concat(
+                    bookRepository.findLiveIdsAddedBy(accountId).stream(),
+                    reviewRepository.findLiveBookIdsReviewedBy(accountId).stream()
+            ).distinct().toList()));
+        });
+    }
+}
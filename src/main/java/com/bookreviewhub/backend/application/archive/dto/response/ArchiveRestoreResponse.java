@@ -0,0 +1,19 @@
+package com.bookreviewhub.backend.application.archive.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchiveRestoreResponse {
+    private String type;
+    private Long id;
+    // Rows moved back per hot table
+    private Map<String, Integer> restoredRows;
+}
@@ -0,0 +1,45 @@
+package com.bookreviewhub.backend.application.archive.service;
+
+import com.bookreviewhub.backend.application.archive.dto.response.ArchiveRestoreResponse;
+import com.bookreviewhub.backend.infrastructure.archival.ArchivedRowRestorer;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+    private final ArchivedRowRestorer archivedRowRestorer;
+
+    @Transactional
+    public SuccessResponse<ArchiveRestoreResponse> restoreBook(Long bookId) {
+        return buildResponse("book", bookId, archivedRowRestorer.restoreBook(bookId));
+    }
+
+    @Transactional
+    public SuccessResponse<ArchiveRestoreResponse> restoreReview(Long reviewId) {
+        return buildResponse("review", reviewId, archivedRowRestorer.restoreReview(reviewId));
+    }
+
+    @Transactional
+    public SuccessResponse<ArchiveRestoreResponse> restoreGenre(Long genreId) {
+        return buildResponse("genre", genreId, archivedRowRestorer.restoreGenre(genreId));
+    }
+
+    private SuccessResponse<ArchiveRestoreResponse> buildResponse(String type, Long id, Map<String, Integer> restoredRows) {
+        return SuccessResponse.<ArchiveRestoreResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Archived rows restored successfully!")
+                .data(ArchiveRestoreResponse.builder()
+                        .type(type)
+                        .id(id)
+                        .restoredRows(restoredRows)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookreviewhub.backend.application.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityResponse {
+    // null when the corresponding value was not asked for
+    private Boolean usernameAvailable;
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,127 @@
+package com.bookreviewhub.backend.application.auth.service;
+
+import com.bookreviewhub.backend.application.auth.dto.response.AvailabilityResponse;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountIdentifierView;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.config.AccountAvailabilityConfig;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.util.ConcurrentBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Answers "is this username/email free?" from in-memory Bloom filters warmed from accounts.
+// Names that look taken are confirmed against the database; names the filter has never seen are reported free
+// without a query. The answer is eventually consistent: accounts registered on this instance are in the filter at once,
+// accounts registered on other instances only after the next catch-up (app.auth.availability.refresh-interval).
+// A name that was wrongly reported free still fails registration on the unique key.
+@Slf4j
+@Service
+public class AccountAvailabilityService {
+    private final UserRepository userRepository;
+    private final ConcurrentBloomFilter usernames;
+    private final ConcurrentBloomFilter emails;
+
+    // Ids are taken at insert but become visible at commit, so a slow registration can show up behind ids already seen;
+    // each catch-up re-reads this many ids below the highest one seen
+    static final long CATCH_UP_OVERLAP = 1_000;
+
+    // Highest account id already added, so periodic catch-up only reads accounts created on other instances
+    private final AtomicLong lastSeenAccountId = new AtomicLong(0);
+    private volatile boolean ready = false;
+
+    public AccountAvailabilityService(UserRepository userRepository, AccountAvailabilityConfig accountAvailabilityConfig) {
+        this.userRepository = userRepository;
+        this.usernames = new ConcurrentBloomFilter(
+                accountAvailabilityConfig.getExpectedAccounts(),
+                accountAvailabilityConfig.getFalsePositiveRate()
+        );
+        this.emails = new ConcurrentBloomFilter(
+                accountAvailabilityConfig.getExpectedAccounts(),
+                accountAvailabilityConfig.getFalsePositiveRate()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long loaded = loadAccountsAfter(lastSeenAccountId.get());
+        // Until this point every check falls back to the database
+        ready = true;
+        log.info("Account availability index warmed with {} accounts", loaded);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.availability.refresh-interval:PT5S}")
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        if (ready) {
+            loadAccountsAfter(Math.max(0, lastSeenAccountId.get() - CATCH_UP_OVERLAP));
+        }
+    }
+
+    public void recordAccount(String username, String email) {
+        usernames.put(normalize(username));
+        emails.put(normalize(email));
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        if (ready && !usernames.mightContain(normalize(username))) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        if (ready && !emails.mightContain(normalize(email))) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    public SuccessResponse<AvailabilityResponse> checkAvailability(String username, String email) {
+        if (isBlank(username) && isBlank(email)) {
+            throw new IllegalArgumentException("Username or email is required");
+        }
+
+        AvailabilityResponse availabilityResponse = AvailabilityResponse.builder()
+                .usernameAvailable(isBlank(username) ? null : isUsernameAvailable(username))
+                .emailAvailable(isBlank(email) ? null : isEmailAvailable(email))
+                .build();
+
+        return SuccessResponse.<AvailabilityResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Availability checked successfully!")
+                .data(availabilityResponse)
+                .build();
+    }
+
+    private long loadAccountsAfter(long afterId) {
+        long loaded = 0;
+        try (Stream<AccountIdentifierView> identifiers = userRepository.streamIdentifiersAfter(afterId)) {
+            for (AccountIdentifierView identifier : (Iterable<AccountIdentifierView>) identifiers::iterator) {
+                recordAccount(identifier.getUsername(), identifier.getEmail());
+                lastSeenAccountId.accumulateAndGet(identifier.getId(), Math::max);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    // Matches the case-insensitive collation of the unique keys on accounts
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,12 +1,21 @@
 package com.bookreviewhub.backend.application.auth.service;
 
 import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.persistence.touch.TouchColumn;
+import com.bookreviewhub.backend.infrastructure.persistence.touch.TouchWriteBehindBuffer;
 import com.bookreviewhub.backend.infrastructure.security.jwt.JwtService;
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
 import com.bookreviewhub.backend.application.auth.dto.request.RegisterRequest;
 import com.bookreviewhub.backend.application.auth.dto.request.LoginRequest;
 import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.AccountRegisteredEvent;
 import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,6 +25,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 @Service
@@ -24,20 +34,21 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final AccountAvailabilityService accountAvailabilityService;
+    private final TouchWriteBehindBuffer touchWriteBehindBuffer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
 
     public SuccessResponse<Void> register(RegisterRequest registerRequest) {
-        // Check if username or email already exists
-        if (userRepository.findByUsername(registerRequest.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("Username is already taken");
-        }
-        if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("Email is already registered");
-        }
+        // Hash time and database time are recorded separately under auth.register{phase}
+        Timer.Sample hashSample = Timer.start(meterRegistry);
+        String passwordHash = passwordEncoder.encode(registerRequest.getPassword());
+        hashSample.stop(phaseTimer("auth.register", "hash"));
 
         // Create new User entity
         UserEntity userEntity = UserEntity.builder()
                 .username(registerRequest.getUsername())
-                .password(passwordEncoder.encode(registerRequest.getPassword()))
+                .password(passwordHash)
                 .email(registerRequest.getEmail())
                 .role(UserEntity.Role.USER)
                 .firstName(registerRequest.getFirstName())
@@ -47,7 +58,18 @@ public class AuthService {
                 .status(UserEntity.Status.ACTIVE)
                 .build();
 
-        userRepository.save(userEntity);
+        // Single INSERT: the unique keys on username/email are the real guard, so instead of
+        // checking first (two extra round trips, and still racy) the violation is mapped to the right error
+        Timer.Sample dbSample = Timer.start(meterRegistry);
+        try {
+            userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateAccountException(e);
+        } finally {
+            dbSample.stop(phaseTimer("auth.register", "db"));
+        }
+        accountAvailabilityService.recordAccount(userEntity.getUsername(), userEntity.getEmail());
+        applicationEventPublisher.publishEvent(new AccountRegisteredEvent(userEntity.getId()));
 
         return SuccessResponse.<Void>builder()
                 .timestamp(LocalDateTime.now())
@@ -59,16 +81,29 @@ public class AuthService {
 
     private final JwtService jwtService;
 
+    // authenticate covers the account lookup (auth.user.load) and the hash check (auth.password.hashing)
     public SuccessResponse<Map<String, String>> login(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
+        Timer.Sample authenticateSample = Timer.start(meterRegistry);
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            loginRequest.getUsername(),
+                            loginRequest.getPassword()
+                    )
+            );
+        } finally {
+            authenticateSample.stop(phaseTimer("auth.login", "authenticate"));
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtService.generateToken(loginRequest.getUsername());
+        AccountUserDetails accountUserDetails = (AccountUserDetails) authentication.getPrincipal();
+        Timer.Sample tokenSample = Timer.start(meterRegistry);
+        String jwt = jwtService.generateToken(accountUserDetails);
+        tokenSample.stop(phaseTimer("auth.login", "token"));
+
+        // Written in coalesced background batches instead of one UPDATE per login
+        touchWriteBehindBuffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, accountUserDetails.getAccountId(), LocalDateTime.now());
 
         Map<String, String> responseData = new HashMap<>();
         responseData.put("token", jwt);
@@ -80,4 +115,28 @@ public class AuthService {
                 .data(responseData)
                 .build();
     }
+
+    private Timer phaseTimer(String name, String phase) {
+        return Timer.builder(name)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static RuntimeException duplicateAccountException(DataIntegrityViolationException e) {
+        // MySQL reports e.g. "Duplicate entry 'x' for key 'accounts.username'"
+        String violated = e.getCause() instanceof ConstraintViolationException constraintViolation
+                && constraintViolation.getConstraintName() != null
+                ? constraintViolation.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        violated = violated.toLowerCase(Locale.ROOT);
+
+        if (violated.contains("username")) {
+            return new IllegalArgumentException("Username is already taken");
+        }
+        if (violated.contains("email")) {
+            return new IllegalArgumentException("Email is already registered");
+        }
+        return e;
+    }
 }
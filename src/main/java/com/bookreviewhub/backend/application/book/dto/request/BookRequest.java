@@ -0,0 +1,31 @@
+package com.bookreviewhub.backend.application.book.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class BookRequest {
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
+    private String title;
+
+    @NotBlank(message = "Author is required")
+    @Size(max = 255, message = "Author must be at most 255 characters")
+    private String author;
+
+    private Short publishedYear;
+
+    @Size(max = 255, message = "Publisher must be at most 255 characters")
+    private String publisher;
+
+    @Size(max = 511, message = "Cover image URL must be at most 511 characters")
+    private String coverImageUrl;
+
+    private String description;
+
+    // Genres of the book; null leaves the current genres unchanged on update
+    private Set<Long> genreIds;
+}
@@ -0,0 +1,79 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.BookImageEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookDetailsResponse {
+    private Long id;
+    private String title;
+    private String author;
+    private Short publishedYear;
+    private String publisher;
+    private String coverImageUrl;
+    private String description;
+    private AccountSummary addedBy;
+    private List<GenreSummary> genres;
+    private List<ImageSummary> images;
+    private int reviewCount;
+    private BigDecimal averageRating;
+    // Highest-voted current reviews; empty on list endpoints
+    private List<ReviewSummary> topReviews;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class AccountSummary {
+        private Long id;
+        private String username;
+        private String displayName;
+        private String avatarUrl;
+    }
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class GenreSummary {
+        private Long id;
+        private String name;
+    }
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ImageSummary {
+        private Long id;
+        private String imageUrl;
+        private BookImageEntity.Type type;
+        private Long uploadedByAccountId;
+    }
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ReviewSummary {
+        private Long id;
+        private AccountSummary reviewer;
+        private Integer rating;
+        private String content;
+        private int upvotes;
+        private int downvotes;
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookFacetSearchResponse {
+    private List<BookResponse> items;
+    private int page;
+    private int size;
+    private long totalElements;
+    private List<BookFacetResult.FacetCount> genres;
+    private List<BookFacetResult.FacetCount> authors;
+    private List<BookFacetResult.FacetCount> decades;
+}
@@ -0,0 +1,31 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.book.ranking.BookRankingType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookRankingResponse {
+    private BookRankingType type;
+    // Null for the overall list
+    private Long genreId;
+    private List<Item> items;
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        private int rank;
+        // Decayed activity for TRENDING, Bayesian-adjusted average rating for TOP_RATED
+        private double score;
+        private BookResponse book;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookRatingStatsResponse {
+    private Long bookId;
+    private int reviewCount;
+    private BigDecimal averageRating;
+    // Number of reviews per star rating, 1 to 5
+    private Map<Integer, Integer> ratingCounts;
+}
@@ -0,0 +1,27 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookResponse {
+    private Long id;
+    private String title;
+    private String author;
+    private Short publishedYear;
+    private String publisher;
+    private String coverImageUrl;
+    private String description;
+    private Long addedByAccountId;
+    private List<Long> genreIds;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookSearchResponse {
+    private List<Item> items;
+    private int page;
+    private int size;
+    private long totalElements;
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        private Long id;
+        private String title;
+        private String author;
+        private String publisher;
+        private double score;
+    }
+}
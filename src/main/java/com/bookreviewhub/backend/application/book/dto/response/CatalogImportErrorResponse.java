@@ -0,0 +1,16 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogImportErrorResponse {
+    // 1-based position of the record among the records of the file (header row not counted)
+    private long recordNumber;
+    private String message;
+}
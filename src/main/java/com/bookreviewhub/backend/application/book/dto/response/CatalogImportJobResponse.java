@@ -0,0 +1,33 @@
+package com.bookreviewhub.backend.application.book.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogImportJobResponse {
+    private Long id;
+    private CatalogImportJobEntity.Kind kind;
+    private CatalogImportJobEntity.Format format;
+    private CatalogImportJobEntity.Status status;
+    private long fileSize;
+    private long bytesProcessed;
+    // Share of the file read so far, 0 to 100
+    private double progressPercent;
+    // Records committed so far; a resumed job continues after this many
+    private long rowsProcessed;
+    private long rowsImported;
+    private long rowsFailed;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,166 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookDetailsResponse;
+import com.bookreviewhub.backend.infrastructure.cache.CacheInvalidationRelay;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookDetailsView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookGenreNameView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookImageView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookRatingSummaryView;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookGenreRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookImageRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRatingStatsRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.infrastructure.review.projection.TopReviewView;
+import com.bookreviewhub.backend.infrastructure.review.repository.ReviewRepository;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountSummaryView;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Builds book detail responses for a whole batch of books at once.
+// Each related table is read with one IN-list query over the deduplicated ids of the batch, straight into projections,
+// so a page costs the same handful of statements as a single book and no entity graph is ever loaded.
+@Component
+@RequiredArgsConstructor
+public class BookDetailsAssembler {
+    private final BookRepository bookRepository;
+    private final BookImageRepository bookImageRepository;
+    private final BookGenreRepository bookGenreRepository;
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+
+    // Cached per book; book and review writes evict the entry on every instance
+    @Cacheable(cacheNames = CacheInvalidationRelay.BOOKS, key = "#bookId", sync = true)
+    @Transactional(readOnly = true)
+    public Optional<BookDetailsResponse> findDetails(Long bookId, int topReviewsPerBook) {
+        return assembleByIds(List.of(bookId), topReviewsPerBook).stream().findFirst();
+    }
+
+    // Live books only, in the order of the given ids
+    @Transactional(readOnly = true)
+    public List<BookDetailsResponse> assembleByIds(Collection<Long> bookIds, int topReviewsPerBook) {
+        Set<Long> ids = new LinkedHashSet<>(bookIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BookDetailsView> books = indexBy(bookRepository.findDetailsViewsByIdIn(ids), BookDetailsView::getId);
+        return assemble(ids.stream().map(books::get).filter(Objects::nonNull).toList(), topReviewsPerBook);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookDetailsResponse> assemble(List<BookDetailsView> books, int topReviewsPerBook) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> bookIds = books.stream().map(BookDetailsView::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, List<BookImageView>> images = bookImageRepository.findLiveViewsByBookIdIn(bookIds).stream()
+                .collect(Collectors.groupingBy(BookImageView::getBookId));
+        Map<Long, List<BookGenreNameView>> genres = bookGenreRepository.findLiveGenreNamesByBookIdIn(bookIds).stream()
+                .collect(Collectors.groupingBy(BookGenreNameView::getBookId));
+        Map<Long, BookRatingSummaryView> ratings = indexBy(
+                bookRatingStatsRepository.findSummariesByBookIdIn(bookIds), BookRatingSummaryView::getBookId);
+        List<TopReviewView> topReviews = topReviewsPerBook > 0
+                ? reviewRepository.findTopReviewsByBookIdIn(bookIds, topReviewsPerBook)
+                : List.of();
+        Map<Long, List<TopReviewView>> reviews = topReviews.stream().collect(Collectors.groupingBy(TopReviewView::getBookId));
+
+        // Uploaders and reviewers share one lookup, each account read once however often it appears
+        Set<Long> accountIds = Stream.concat(
+                        books.stream().map(BookDetailsView::getAddedByAccountId),
+                        topReviews.stream().map(TopReviewView::getReviewerId))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, BookDetailsResponse.AccountSummary> accounts = accountIds.isEmpty()
+                ? Map.of()
+                : userRepository.findSummariesByIdIn(accountIds).stream()
+                        .collect(Collectors.toMap(AccountSummaryView::getId, BookDetailsAssembler::toAccountSummary));
+
+        return books.stream()
+                .map(book -> toResponse(
+                        book,
+                        accounts,
+                        genres.getOrDefault(book.getId(), List.of()),
+                        images.getOrDefault(book.getId(), List.of()),
+                        ratings.get(book.getId()),
+                        reviews.getOrDefault(book.getId(), List.of())))
+                .toList();
+    }
+
+    private static BookDetailsResponse toResponse(
+            BookDetailsView book,
+            Map<Long, BookDetailsResponse.AccountSummary> accounts,
+            List<BookGenreNameView> genres,
+            List<BookImageView> images,
+            BookRatingSummaryView rating,
+            List<TopReviewView> reviews
+    ) {
+        return BookDetailsResponse.builder()
+                .id(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .publishedYear(book.getPublishedYear())
+                .publisher(book.getPublisher())
+                .coverImageUrl(book.getCoverImageUrl())
+                .description(book.getDescription())
+                .addedBy(book.getAddedByAccountId() == null ? null : accounts.get(book.getAddedByAccountId()))
+                .genres(genres.stream()
+                        .map(genre -> new BookDetailsResponse.GenreSummary(genre.getGenreId(), genre.getName()))
+                        .toList())
+                .images(images.stream()
+                        .map(image -> BookDetailsResponse.ImageSummary.builder()
+                                .id(image.getId())
+                                .imageUrl(image.getImageUrl())
+                                .type(image.getType())
+                                .uploadedByAccountId(image.getUploadedByAccountId())
+                                .build())
+                        .toList())
+                .reviewCount(rating == null ? 0 : rating.getReviewCount())
+                .averageRating(rating == null ? BigDecimal.ZERO : rating.getAverageRating())
+                .topReviews(reviews.stream()
+                        .map(review -> BookDetailsResponse.ReviewSummary.builder()
+                                .id(review.getId())
+                                .reviewer(accounts.get(review.getReviewerId()))
+                                .rating(review.getRating())
+                                .content(review.getContent())
+                                .upvotes(review.getUpvotes())
+                                .downvotes(review.getDownvotes())
+                                .createdAt(review.getCreatedAt())
+                                .build())
+                        .toList())
+                .createdAt(book.getCreatedAt())
+                .updatedAt(book.getUpdatedAt())
+                .build();
+    }
+
+    private static BookDetailsResponse.AccountSummary toAccountSummary(AccountSummaryView account) {
+        String displayName = Stream.of(account.getFirstName(), account.getMiddleName(), account.getLastName())
+                .filter(part -> part != null && !part.isBlank())
+                .collect(Collectors.joining(" "));
+        return BookDetailsResponse.AccountSummary.builder()
+                .id(account.getId())
+                .username(account.getUsername())
+                .displayName(displayName)
+                .avatarUrl(account.getAvatarUrl())
+                .build();
+    }
+
+    private static <T> Map<Long, T> indexBy(List<T> rows, Function<T, Long> key) {
+        return rows.stream().collect(Collectors.toMap(key, Function.identity()));
+    }
+}
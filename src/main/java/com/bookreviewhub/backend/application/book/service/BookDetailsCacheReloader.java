@@ -0,0 +1,29 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.infrastructure.cache.CacheInvalidationRelay;
+import com.bookreviewhub.backend.infrastructure.cache.CacheReloader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Refresh-ahead for cached book details: rebuilds the entry exactly as BookService.getBook first loaded it
+@Component
+@RequiredArgsConstructor
+public class BookDetailsCacheReloader implements CacheReloader {
+    private final BookDetailsAssembler bookDetailsAssembler;
+
+    @Value("${app.books.details.top-reviews:3}")
+    private int topReviews;
+
+    @Override
+    public String cacheName() {
+        return CacheInvalidationRelay.BOOKS;
+    }
+
+    @Override
+    public Object reload(String key) {
+        return bookDetailsAssembler.assembleByIds(List.of(Long.valueOf(key)), topReviews).stream().findFirst();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookFacetSearchResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookEntity;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetIndex;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetQuery;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetResult;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BookFacetService {
+    private final BookFacetIndex bookFacetIndex;
+    private final BookRepository bookRepository;
+
+    @Value("${app.books.facets.max-facet-values:20}")
+    private int maxFacetValues;
+
+    @Value("${app.books.facets.max-page-size:50}")
+    private int maxPageSize;
+
+    // Filtering and counting come from the bitmaps; only the page of books shown is read from the database
+    @Transactional(readOnly = true)
+    public SuccessResponse<BookFacetSearchResponse> filter(BookFacetQuery query, int page, int size) {
+        if (page < 0 || size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page must be >= 0 and size between 1 and " + maxPageSize);
+        }
+        if (query.yearFrom() != null && query.yearTo() != null && query.yearFrom() > query.yearTo()) {
+            throw new IllegalArgumentException("yearFrom must not be after yearTo");
+        }
+
+        BookFacetResult result = bookFacetIndex.query(query, page, size, maxFacetValues);
+        Map<Long, BookEntity> books = bookRepository.findAllById(result.bookIds()).stream()
+                .collect(Collectors.toMap(BookEntity::getId, Function.identity()));
+        // Deleted on another instance and not yet dropped by a rebuild: left out of the page and the total, and
+        // dropped from the index so later pages and counts skip them too
+        List<Long> deleted = books.values().stream()
+                .filter(bookEntity -> bookEntity.getDeletedAt() != null)
+                .map(BookEntity::getId)
+                .toList();
+        if (!deleted.isEmpty()) {
+            deleted.forEach(books::remove);
+            bookFacetIndex.removeBooks(deleted);
+        }
+
+        BookFacetSearchResponse bookFacetSearchResponse = BookFacetSearchResponse.builder()
+                .items(result.bookIds().stream()
+                        .map(books::get)
+                        .filter(Objects::nonNull)
+                        .map(BookFacetService::toResponse)
+                        .toList())
+                .page(page)
+                .size(size)
+                .totalElements(result.totalHits() - deleted.size())
+                .genres(result.genres())
+                .authors(result.authors())
+                .decades(result.decades())
+                .build();
+
+        return SuccessResponse.<BookFacetSearchResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Books filtered successfully!")
+                .data(bookFacetSearchResponse)
+                .build();
+    }
+
+    private static BookResponse toResponse(BookEntity bookEntity) {
+        return BookResponse.builder()
+                .id(bookEntity.getId())
+                .title(bookEntity.getTitle())
+                .author(bookEntity.getAuthor())
+                .publishedYear(bookEntity.getPublishedYear())
+                .publisher(bookEntity.getPublisher())
+                .coverImageUrl(bookEntity.getCoverImageUrl())
+                .addedByAccountId(bookEntity.getAddedByAccountId())
+                .createdAt(bookEntity.getCreatedAt())
+                .updatedAt(bookEntity.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.upload.dto.response.ImageUploadResponse;
+import com.bookreviewhub.backend.application.upload.service.ImageUploadService;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookEntity;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookImageEntity;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookImageRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.storage.ImageUploadPipeline;
+import com.bookreviewhub.backend.infrastructure.storage.StoredImage;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.config.ImageUploadConfig;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.BookChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class BookImageService {
+    private final BookRepository bookRepository;
+    private final BookImageRepository bookImageRepository;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final ImageUploadService imageUploadService;
+    private final ImageUploadConfig imageUploadConfig;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // Permissions are checked before the body is read; the image row is only written once storage has it
+    public SuccessResponse<ImageUploadResponse> uploadImage(
+            Long bookId,
+            BookImageEntity.Type type,
+            InputStream body,
+            long contentLength,
+            AuthenticatedAccount account
+    ) throws IOException {
+        checkCanManage(findBook(bookId), account);
+        ImageUploadPipeline.StagedImage stagedImage = imageUploadPipeline.stage(
+                body,
+                contentLength,
+                imageUploadConfig.getBookImageMaxFileSize(),
+                imageUploadConfig.getBookImageAllowedFormats()
+        );
+        BookImageEntity.Type imageType = type == null ? BookImageEntity.Type.OTHER : type;
+        UUID uploadId = imageUploadPipeline.submit(
+                account.id(),
+                "book-image",
+                "books/" + bookId + "/" + imageType.name().toLowerCase(Locale.ROOT) + "-",
+                stagedImage,
+                storedImage -> recordImage(bookId, imageType, account.id(), storedImage)
+        );
+
+        return imageUploadService.accepted("Book image upload accepted!", uploadId);
+    }
+
+    // The book may have been deleted while the image was uploading; failing here deletes the stored image
+    private void recordImage(Long bookId, BookImageEntity.Type type, Long accountId, StoredImage storedImage) {
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            findBook(bookId);
+            bookImageRepository.save(BookImageEntity.builder()
+                    .bookId(bookId)
+                    .imageUrl(storedImage.url())
+                    .type(type)
+                    .uploadedByAccountId(accountId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            applicationEventPublisher.publishEvent(new BookChangedEvent(bookId, BookChangedEvent.Type.UPDATED));
+        });
+    }
+
+    private BookEntity findBook(Long bookId) {
+        return bookRepository.findByIdAndDeletedAtIsNull(bookId)
+                .orElseThrow(() -> new IllegalArgumentException("Book not found"));
+    }
+
+    private void checkCanManage(BookEntity bookEntity, AuthenticatedAccount account) {
+        boolean isStaff = account.role() == UserEntity.Role.MODERATOR || account.role() == UserEntity.Role.ADMIN;
+        if (!isStaff && !account.id().equals(bookEntity.getAddedByAccountId())) {
+            throw new AccessDeniedException("Not allowed to manage this book");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookRankingResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookEntity;
+import com.bookreviewhub.backend.infrastructure.book.ranking.BookRankingIndex;
+import com.bookreviewhub.backend.infrastructure.book.ranking.BookRankingType;
+import com.bookreviewhub.backend.infrastructure.book.ranking.RankedBook;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.shared.config.BookRankingConfig;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BookRankingService {
+    private final BookRankingIndex bookRankingIndex;
+    private final BookRepository bookRepository;
+    private final BookRankingConfig bookRankingConfig;
+
+    // Ranks come from memory; only the books shown are read from the database
+    @Transactional(readOnly = true)
+    public SuccessResponse<BookRankingResponse> getRanking(BookRankingType type, Long genreId, int size) {
+        if (type == null) {
+            throw new IllegalArgumentException("Ranking type is required");
+        }
+        if (size < 1 || size > bookRankingConfig.getTopK()) {
+            throw new IllegalArgumentException("Size must be between 1 and " + bookRankingConfig.getTopK());
+        }
+
+        List<RankedBook> ranked = bookRankingIndex.top(type, genreId, size);
+        Map<Long, BookEntity> books = bookRepository.findAllById(ranked.stream().map(RankedBook::bookId).toList()).stream()
+                .collect(Collectors.toMap(BookEntity::getId, Function.identity()));
+
+        List<BookRankingResponse.Item> items = new ArrayList<>(ranked.size());
+        for (RankedBook rankedBook : ranked) {
+            BookEntity bookEntity = books.get(rankedBook.bookId());
+            // Deleted on another instance and not yet dropped by a resync
+            if (bookEntity == null || bookEntity.getDeletedAt() != null) {
+                continue;
+            }
+            items.add(BookRankingResponse.Item.builder()
+                    .rank(items.size() + 1)
+                    .score(rankedBook.score())
+                    .book(toResponse(bookEntity))
+                    .build());
+        }
+
+        return SuccessResponse.<BookRankingResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Book ranking fetched successfully!")
+                .data(BookRankingResponse.builder()
+                        .type(type)
+                        .genreId(genreId)
+                        .items(items)
+                        .build())
+                .build();
+    }
+
+    private static BookResponse toResponse(BookEntity bookEntity) {
+        return BookResponse.builder()
+                .id(bookEntity.getId())
+                .title(bookEntity.getTitle())
+                .author(bookEntity.getAuthor())
+                .publishedYear(bookEntity.getPublishedYear())
+                .publisher(bookEntity.getPublisher())
+                .coverImageUrl(bookEntity.getCoverImageUrl())
+                .addedByAccountId(bookEntity.getAddedByAccountId())
+                .createdAt(bookEntity.getCreatedAt())
+                .updatedAt(bookEntity.getUpdatedAt())
+                .build();
+    }
+}
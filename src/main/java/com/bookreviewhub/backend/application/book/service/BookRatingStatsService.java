@@ -0,0 +1,150 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookRatingStatsResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookRatingStatsEntity;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRatingStatsRepository;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps book_rating_stats in step with reviews.
+// Review writes apply a delta in their own transaction, so readers never aggregate the reviews table;
+// the rebuild job recomputes the aggregates from scratch to repair any drift.
+@Slf4j
+@Service
+public class BookRatingStatsService {
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildBatchSize;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public BookRatingStatsService(
+            BookRatingStatsRepository bookRatingStatsRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.reviews.rating-stats.rebuild-batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.bookRatingStatsRepository = bookRatingStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    // Moves one review of a book from oldRating to newRating; null means the review does not count
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyRatingChange(Long bookId, Integer oldRating, Integer newRating) {
+        if (oldRating == null && newRating == null || oldRating != null && oldRating.equals(newRating)) {
+            return;
+        }
+
+        int[] starDeltas = new int[6];
+        int countDelta = 0;
+        int sumDelta = 0;
+        if (oldRating != null) {
+            starDeltas[oldRating]--;
+            countDelta--;
+            sumDelta -= oldRating;
+        }
+        if (newRating != null) {
+            starDeltas[newRating]++;
+            countDelta++;
+            sumDelta += newRating;
+        }
+
+        bookRatingStatsRepository.applyDelta(bookId, countDelta, sumDelta,
+                starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4], starDeltas[5]);
+    }
+
+    @Transactional(readOnly = true)
+    public SuccessResponse<BookRatingStatsResponse> getStats(Long bookId) {
+        BookRatingStatsResponse bookRatingStatsResponse = bookRatingStatsRepository.findById(bookId)
+                .map(BookRatingStatsService::toResponse)
+                .orElseGet(() -> emptyStats(bookId));
+
+        return SuccessResponse.<BookRatingStatsResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Rating stats fetched successfully!")
+                .data(bookRatingStatsResponse)
+                .build();
+    }
+
+    // Disabled unless a cron expression is configured; also triggered on demand by admins
+    @Scheduled(cron = "${app.reviews.rating-stats.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // Works through book ids in ranges, one short transaction per range, so review writes are only
+    // blocked on the books currently being recomputed
+    public int rebuild() {
+        if (!rebuildLock.tryLock()) {
+            throw new IllegalArgumentException("Rating stats rebuild is already running");
+        }
+        try {
+            long maxBookId = bookRatingStatsRepository.findMaxBookId();
+            int rebuilt = 0;
+            for (long from = 1; from <= maxBookId; from += rebuildBatchSize) {
+                long fromBookId = from;
+                long toBookId = from + rebuildBatchSize - 1;
+                Integer changed = transactionTemplate.execute(status ->
+                        bookRatingStatsRepository.rebuildRange(fromBookId, toBookId)
+                                + bookRatingStatsRepository.resetRangeWithoutReviews(fromBookId, toBookId)
+                );
+                rebuilt += changed == null ? 0 : changed;
+            }
+            log.info("Rebuilt rating stats up to book {}, {} rows touched", maxBookId, rebuilt);
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public SuccessResponse<Integer> rebuildNow() {
+        return SuccessResponse.<Integer>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Rating stats rebuilt successfully!")
+                .data(rebuild())
+                .build();
+    }
+
+    private static BookRatingStatsResponse toResponse(BookRatingStatsEntity stats) {
+        Map<Integer, Integer> ratingCounts = new LinkedHashMap<>();
+        ratingCounts.put(1, stats.getRating1Count());
+        ratingCounts.put(2, stats.getRating2Count());
+        ratingCounts.put(3, stats.getRating3Count());
+        ratingCounts.put(4, stats.getRating4Count());
+        ratingCounts.put(5, stats.getRating5Count());
+
+        return BookRatingStatsResponse.builder()
+                .bookId(stats.getBookId())
+                .reviewCount(stats.getReviewCount())
+                .averageRating(stats.getAverageRating())
+                .ratingCounts(ratingCounts)
+                .build();
+    }
+
+    private static BookRatingStatsResponse emptyStats(Long bookId) {
+        Map<Integer, Integer> ratingCounts = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            ratingCounts.put(rating, 0);
+        }
+
+        return BookRatingStatsResponse.builder()
+                .bookId(bookId)
+                .reviewCount(0)
+                .averageRating(BigDecimal.ZERO)
+                .ratingCounts(ratingCounts)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookSearchResponse;
+import com.bookreviewhub.backend.infrastructure.book.search.BookSearchIndex;
+import com.bookreviewhub.backend.infrastructure.book.search.BookSearchResult;
+import com.bookreviewhub.backend.shared.config.BookSearchConfig;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// Served entirely from the in-process index; the database is not queried
+@Service
+@RequiredArgsConstructor
+public class BookSearchService {
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSearchConfig bookSearchConfig;
+
+    public SuccessResponse<BookSearchResponse> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (page < 0 || page > bookSearchConfig.getMaxPage()) {
+            throw new IllegalArgumentException("Page must be between 0 and " + bookSearchConfig.getMaxPage());
+        }
+        if (size < 1 || size > bookSearchConfig.getMaxPageSize()) {
+            throw new IllegalArgumentException("Size must be between 1 and " + bookSearchConfig.getMaxPageSize());
+        }
+
+        BookSearchResult result = bookSearchIndex.search(query, page, size);
+        BookSearchResponse bookSearchResponse = BookSearchResponse.builder()
+                .items(result.hits().stream()
+                        .map(hit -> BookSearchResponse.Item.builder()
+                                .id(hit.bookId())
+                                .title(hit.title())
+                                .author(hit.author())
+                                .publisher(hit.publisher())
+                                .score(hit.score())
+                                .build())
+                        .toList())
+                .page(page)
+                .size(size)
+                .totalElements(result.totalHits())
+                .build();
+
+        return SuccessResponse.<BookSearchResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Books searched successfully!")
+                .data(bookSearchResponse)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.request.BookRequest;
+import com.bookreviewhub.backend.application.book.dto.response.BookDetailsResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookEntity;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookDetailsView;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookGenreRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.infrastructure.genre.repository.GenreRepository;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.BookChangedEvent;
+import com.bookreviewhub.backend.shared.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class BookService {
+    private final BookRepository bookRepository;
+    private final BookGenreRepository bookGenreRepository;
+    private final GenreRepository genreRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BookDetailsAssembler bookDetailsAssembler;
+
+    @Value("${app.books.details.top-reviews:3}")
+    private int topReviews;
+
+    @Transactional(readOnly = true)
+    public SuccessResponse<BookDetailsResponse> getBook(Long bookId) {
+        BookDetailsResponse book = bookDetailsAssembler.findDetails(bookId, topReviews)
+                .orElseThrow(() -> new IllegalArgumentException("Book not found"));
+
+        return SuccessResponse.<BookDetailsResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Book fetched successfully!")
+                .data(book)
+                .build();
+    }
+
+    // Newest books first; cursor pages cost the same however deep they are
+    @Transactional(readOnly = true)
+    public SuccessResponse<CursorPageResponse<BookDetailsResponse>> listBooks(String cursor, int size) {
+        KeysetCursor.checkPageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<BookDetailsView> rows = bookRepository.findPageBefore(position.createdAt(), position.id(), Limit.of(size + 1));
+
+        return SuccessResponse.<CursorPageResponse<BookDetailsResponse>>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Books fetched successfully!")
+                .data(KeysetCursor.toPageBatch(
+                        rows,
+                        size,
+                        book -> new KeysetCursor(book.getCreatedAt(), book.getId()),
+                        page -> bookDetailsAssembler.assemble(page, 0)
+                ))
+                .build();
+    }
+
+    @Transactional
+    public SuccessResponse<BookResponse> createBook(BookRequest bookRequest, AuthenticatedAccount account) {
+        BookEntity bookEntity = BookEntity.builder()
+                .addedByAccountId(account.id())
+                .createdAt(LocalDateTime.now())
+                .build();
+        applyRequest(bookEntity, bookRequest);
+        saveUnique(bookEntity);
+        List<Long> genreIds = assignGenres(bookEntity.getId(), bookRequest.getGenreIds() == null ? Set.of() : bookRequest.getGenreIds());
+
+        applicationEventPublisher.publishEvent(new BookChangedEvent(bookEntity.getId(), BookChangedEvent.Type.CREATED));
+        return buildResponse("Book created successfully!", bookEntity, genreIds);
+    }
+
+    @Transactional
+    public SuccessResponse<BookResponse> updateBook(Long bookId, BookRequest bookRequest, AuthenticatedAccount account) {
+        BookEntity bookEntity = findBook(bookId);
+        checkCanManage(bookEntity, account);
+        applyRequest(bookEntity, bookRequest);
+        saveUnique(bookEntity);
+        List<Long> genreIds = bookRequest.getGenreIds() == null
+                ? bookGenreRepository.findLiveGenreIdsByBookId(bookId)
+                : assignGenres(bookId, bookRequest.getGenreIds());
+
+        applicationEventPublisher.publishEvent(new BookChangedEvent(bookId, BookChangedEvent.Type.UPDATED));
+        return buildResponse("Book updated successfully!", bookEntity, genreIds);
+    }
+
+    @Transactional
+    public SuccessResponse<BookResponse> deleteBook(Long bookId, AuthenticatedAccount account) {
+        BookEntity bookEntity = findBook(bookId);
+        checkCanManage(bookEntity, account);
+        bookEntity.setDeletedAt(LocalDateTime.now());
+
+        applicationEventPublisher.publishEvent(new BookChangedEvent(bookId, BookChangedEvent.Type.DELETED));
+        return buildResponse("Book deleted successfully!", bookEntity, List.of());
+    }
+
+    private BookEntity findBook(Long bookId) {
+        return bookRepository.findByIdAndDeletedAtIsNull(bookId)
+                .orElseThrow(() -> new IllegalArgumentException("Book not found"));
+    }
+
+    // Removed assignments are soft-deleted, so the facet index and history keep the same view of them
+    private List<Long> assignGenres(Long bookId, Set<Long> genreIds) {
+        if (!genreIds.isEmpty() && genreRepository.countByIdInAndDeletedAtIsNull(genreIds) != genreIds.size()) {
+            throw new IllegalArgumentException("Genre not found");
+        }
+        if (genreIds.isEmpty()) {
+            bookGenreRepository.unassignAll(bookId);
+        } else {
+            bookGenreRepository.unassignExcept(bookId, genreIds);
+            genreIds.stream().sorted().forEach(genreId -> bookGenreRepository.assign(bookId, genreId));
+        }
+        return genreIds.stream().sorted().toList();
+    }
+
+    // The uq_title_author key decides duplicates, so there is no check-then-insert race
+    private void saveUnique(BookEntity bookEntity) {
+        try {
+            bookRepository.saveAndFlush(bookEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("A book with this title and author already exists");
+        }
+    }
+
+    // Books can be edited by whoever added them, and by moderators and admins
+    private void checkCanManage(BookEntity bookEntity, AuthenticatedAccount account) {
+        boolean isStaff = account.role() == UserEntity.Role.MODERATOR || account.role() == UserEntity.Role.ADMIN;
+        if (!isStaff && !account.id().equals(bookEntity.getAddedByAccountId())) {
+            throw new AccessDeniedException("Not allowed to manage this book");
+        }
+    }
+
+    private static void applyRequest(BookEntity bookEntity, BookRequest bookRequest) {
+        bookEntity.setTitle(bookRequest.getTitle().trim());
+        bookEntity.setAuthor(bookRequest.getAuthor().trim());
+        bookEntity.setPublishedYear(bookRequest.getPublishedYear());
+        bookEntity.setPublisher(bookRequest.getPublisher());
+        bookEntity.setCoverImageUrl(bookRequest.getCoverImageUrl());
+        bookEntity.setDescription(bookRequest.getDescription());
+    }
+
+    private static BookResponse toResponse(BookEntity bookEntity, List<Long> genreIds) {
+        return BookResponse.builder()
+                .id(bookEntity.getId())
+                .title(bookEntity.getTitle())
+                .author(bookEntity.getAuthor())
+                .publishedYear(bookEntity.getPublishedYear())
+                .publisher(bookEntity.getPublisher())
+                .coverImageUrl(bookEntity.getCoverImageUrl())
+                .description(bookEntity.getDescription())
+                .addedByAccountId(bookEntity.getAddedByAccountId())
+                .genreIds(genreIds)
+                .createdAt(bookEntity.getCreatedAt())
+                .updatedAt(bookEntity.getUpdatedAt())
+                .build();
+    }
+
+    private SuccessResponse<BookResponse> buildResponse(String message, BookEntity bookEntity, List<Long> genreIds) {
+        return SuccessResponse.<BookResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message(message)
+                .data(toResponse(bookEntity, genreIds))
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.CatalogImportErrorResponse;
+import com.bookreviewhub.backend.application.book.dto.response.CatalogImportJobResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import com.bookreviewhub.backend.infrastructure.book.importing.CatalogImportRunner;
+import com.bookreviewhub.backend.infrastructure.book.repository.CatalogImportErrorRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.CatalogImportJobRepository;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.config.CatalogImportConfig;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogImportService {
+    private static final int MAX_ERROR_PAGE_SIZE = 500;
+
+    private final CatalogImportJobRepository catalogImportJobRepository;
+    private final CatalogImportErrorRepository catalogImportErrorRepository;
+    private final CatalogImportRunner catalogImportRunner;
+    private final CatalogImportConfig catalogImportConfig;
+
+    // The file is kept on this instance's disk until the job completes, so failed jobs can be resumed from it
+    public SuccessResponse<CatalogImportJobResponse> startImport(
+            CatalogImportJobEntity.Kind kind,
+            CatalogImportJobEntity.Format format,
+            InputStream body,
+            AuthenticatedAccount account
+    ) throws IOException {
+        if (kind == null || format == null) {
+            throw new IllegalArgumentException("Import kind and format are required");
+        }
+        Path directory = catalogImportConfig.getDirectory().toAbsolutePath();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(UUID.randomUUID() + "." + format.name().toLowerCase(Locale.ROOT));
+        long fileSize;
+        try {
+            fileSize = Files.copy(body, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        CatalogImportJobEntity job = catalogImportJobRepository.save(CatalogImportJobEntity.builder()
+                .kind(kind)
+                .format(format)
+                .filePath(file.toString())
+                .fileSize(fileSize)
+                .createdByAccountId(account.id())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        catalogImportRunner.submit(job.getId());
+
+        return buildResponse(202, "Import queued successfully!", job);
+    }
+
+    public SuccessResponse<CatalogImportJobResponse> getJob(Long jobId) {
+        return buildResponse(200, "Import fetched successfully!", findJob(jobId));
+    }
+
+    public SuccessResponse<CatalogImportJobResponse> resumeJob(Long jobId) {
+        CatalogImportJobEntity job = findJob(jobId);
+        if (!Files.isRegularFile(Path.of(job.getFilePath()))) {
+            throw new IllegalArgumentException("Import file is not available on this instance");
+        }
+        LocalDateTime staleBefore = LocalDateTime.now().minus(catalogImportConfig.getStaleAfter());
+        if (catalogImportJobRepository.requeue(jobId, staleBefore) == 0) {
+            throw new IllegalArgumentException("Only failed or stalled imports can be resumed");
+        }
+        catalogImportRunner.submit(jobId);
+
+        return buildResponse(202, "Import resumed successfully!", findJob(jobId));
+    }
+
+    // Keyset pages of the error report, in file order
+    public SuccessResponse<List<CatalogImportErrorResponse>> listErrors(Long jobId, long afterRecord, int size) {
+        if (size < 1 || size > MAX_ERROR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_ERROR_PAGE_SIZE);
+        }
+        findJob(jobId);
+        List<CatalogImportErrorResponse> errors = catalogImportErrorRepository
+                .findByJobIdAndRecordNumberGreaterThanOrderByRecordNumberAscIdAsc(jobId, afterRecord, Limit.of(size))
+                .stream()
+                .map(error -> CatalogImportErrorResponse.builder()
+                        .recordNumber(error.getRecordNumber())
+                        .message(error.getMessage())
+                        .build())
+                .toList();
+
+        return SuccessResponse.<List<CatalogImportErrorResponse>>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Import errors fetched successfully!")
+                .data(errors)
+                .build();
+    }
+
+    private CatalogImportJobEntity findJob(Long jobId) {
+        return catalogImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Import not found"));
+    }
+
+    private static SuccessResponse<CatalogImportJobResponse> buildResponse(int status, String message, CatalogImportJobEntity job) {
+        double progressPercent = 0;
+        if (job.getStatus() == CatalogImportJobEntity.Status.COMPLETED) {
+            progressPercent = 100;
+        } else if (job.getFileSize() > 0) {
+            progressPercent = Math.min(100, job.getBytesProcessed() * 100.0 / job.getFileSize());
+        }
+        CatalogImportJobResponse catalogImportJobResponse = CatalogImportJobResponse.builder()
+                .id(job.getId())
+                .kind(job.getKind())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .fileSize(job.getFileSize())
+                .bytesProcessed(job.getBytesProcessed())
+                .progressPercent(progressPercent)
+                .rowsProcessed(job.getRowsProcessed())
+                .rowsImported(job.getRowsImported())
+                .rowsFailed(job.getRowsFailed())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+
+        return SuccessResponse.<CatalogImportJobResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(status)
+                .message(message)
+                .data(catalogImportJobResponse)
+                .build();
+    }
+}
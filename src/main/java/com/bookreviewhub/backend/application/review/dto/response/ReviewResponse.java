@@ -0,0 +1,25 @@
+package com.bookreviewhub.backend.application.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewResponse {
+    private Long id;
+    private Long bookId;
+    private Long reviewerId;
+    private String content;
+    private Integer rating;
+    private Long previousReviewId;
+    private Long rootReviewId;
+    private boolean current;
+    private LocalDateTime createdAt;
+    private LocalDateTime deletedAt;
+}
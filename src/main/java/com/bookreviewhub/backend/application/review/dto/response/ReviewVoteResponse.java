@@ -0,0 +1,20 @@
+package com.bookreviewhub.backend.application.review.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.review.vote.VoteType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewVoteResponse {
+    private Long reviewId;
+    private long upvotes;
+    private long downvotes;
+    private long score;
+    // Vote of the current account; null for anonymous requests
+    private VoteType myVote;
+}
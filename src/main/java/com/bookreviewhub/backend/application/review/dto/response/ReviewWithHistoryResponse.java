@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.application.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewWithHistoryResponse {
+    private ReviewResponse review;
+    // Every version of the review, oldest first, including the current one
+    private List<ReviewResponse> history;
+}
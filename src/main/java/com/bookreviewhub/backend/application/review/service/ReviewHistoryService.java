@@ -0,0 +1,89 @@
+package com.bookreviewhub.backend.application.review.service;
+
+import com.bookreviewhub.backend.application.review.dto.response.ReviewResponse;
+import com.bookreviewhub.backend.application.review.dto.response.ReviewWithHistoryResponse;
+import com.bookreviewhub.backend.infrastructure.review.entity.ReviewEntity;
+import com.bookreviewhub.backend.infrastructure.review.repository.ReviewRepository;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Loads review version chains through root_review_id: one query for all chains of a page,
+// however many reviews and versions it holds
+@Service
+@RequiredArgsConstructor
+public class ReviewHistoryService {
+    private final ReviewRepository reviewRepository;
+
+    @Transactional(readOnly = true)
+    public SuccessResponse<List<ReviewResponse>> getHistory(Long reviewId) {
+        ReviewEntity reviewEntity = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("Review not found"));
+        List<ReviewResponse> history = loadHistories(List.of(reviewEntity)).get(reviewEntity.getId()).stream()
+                .map(ReviewService::toResponse)
+                .toList();
+
+        return SuccessResponse.<List<ReviewResponse>>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Review history fetched successfully!")
+                .data(history)
+                .build();
+    }
+
+    // Moderation listing: a page of current reviews with their full histories in two queries
+    @Transactional(readOnly = true)
+    public SuccessResponse<CursorPageResponse<ReviewWithHistoryResponse>> listBookReviewsWithHistory(Long bookId, String cursor, int size) {
+        KeysetCursor.checkPageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ReviewEntity> rows = reviewRepository.findBookPageBefore(bookId, position.createdAt(), position.id(), Limit.of(size + 1));
+        Map<Long, List<ReviewEntity>> histories = loadHistories(rows);
+
+        return SuccessResponse.<CursorPageResponse<ReviewWithHistoryResponse>>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Reviews fetched successfully!")
+                .data(KeysetCursor.toPage(
+                        rows,
+                        size,
+                        review -> new KeysetCursor(review.getCreatedAt(), review.getId()),
+                        review -> ReviewWithHistoryResponse.builder()
+                                .review(ReviewService.toResponse(review))
+                                .history(histories.get(review.getId()).stream().map(ReviewService::toResponse).toList())
+                                .build()
+                ))
+                .build();
+    }
+
+    // Version chains keyed by review id, oldest version first
+    public Map<Long, List<ReviewEntity>> loadHistories(Collection<ReviewEntity> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> rootIds = reviews.stream().map(ReviewHistoryService::rootOf).collect(Collectors.toSet());
+        Map<Long, List<ReviewEntity>> chains = reviewRepository
+                .findByRootReviewIdInOrderByRootReviewIdAscCreatedAtAscIdAsc(rootIds).stream()
+                .collect(Collectors.groupingBy(ReviewEntity::getRootReviewId));
+
+        return reviews.stream().collect(Collectors.toMap(
+                ReviewEntity::getId,
+                review -> chains.getOrDefault(rootOf(review), List.of(review)),
+                (first, second) -> first
+        ));
+    }
+
+    private static Long rootOf(ReviewEntity reviewEntity) {
+        return reviewEntity.getRootReviewId() != null ? reviewEntity.getRootReviewId() : reviewEntity.getId();
+    }
+}
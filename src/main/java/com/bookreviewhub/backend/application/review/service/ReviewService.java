@@ -0,0 +1,197 @@
+package com.bookreviewhub.backend.application.review.service;
+
+import com.bookreviewhub.backend.application.book.service.BookRatingStatsService;
+import com.bookreviewhub.backend.application.review.dto.request.ReviewRequest;
+import com.bookreviewhub.backend.application.review.dto.response.ReviewResponse;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.infrastructure.review.entity.ReviewEntity;
+import com.bookreviewhub.backend.infrastructure.review.repository.ReviewRepository;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.ReviewChangedEvent;
+import com.bookreviewhub.backend.shared.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewService {
+    private final ReviewRepository reviewRepository;
+    private final BookRepository bookRepository;
+    private final BookRatingStatsService bookRatingStatsService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // Cursor pages cost the same however deep they are, unlike OFFSET
+    @Transactional(readOnly = true)
+    public SuccessResponse<CursorPageResponse<ReviewResponse>> listBookReviews(Long bookId, String cursor, int size) {
+        KeysetCursor.checkPageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ReviewEntity> rows = reviewRepository.findBookPageBefore(bookId, position.createdAt(), position.id(), Limit.of(size + 1));
+
+        return buildPageResponse(rows, size);
+    }
+
+    @Transactional(readOnly = true)
+    public SuccessResponse<CursorPageResponse<ReviewResponse>> listReviewerReviews(Long reviewerId, String cursor, int size) {
+        KeysetCursor.checkPageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ReviewEntity> rows = reviewRepository.findReviewerPageBefore(reviewerId, position.createdAt(), position.id(), Limit.of(size + 1));
+
+        return buildPageResponse(rows, size);
+    }
+
+    @Transactional
+    public SuccessResponse<ReviewResponse> createReview(Long bookId, ReviewRequest reviewRequest, AuthenticatedAccount account) {
+        if (!bookRepository.existsByIdAndDeletedAtIsNull(bookId)) {
+            throw new IllegalArgumentException("Book not found");
+        }
+
+        ReviewEntity reviewEntity = reviewRepository.save(ReviewEntity.builder()
+                .content(reviewRequest.getContent())
+                .rating(reviewRequest.getRating())
+                .reviewerId(account.id())
+                .bookId(bookId)
+                .createdAt(LocalDateTime.now())
+                .build());
+        // The id is only known after the insert; the root is written with the same flush
+        reviewEntity.setRootReviewId(reviewEntity.getId());
+
+        bookRatingStatsService.applyRatingChange(bookId, null, reviewEntity.getRating());
+        publish(reviewEntity, ReviewChangedEvent.Type.CREATED, null);
+
+        return buildResponse("Review created successfully!", reviewEntity);
+    }
+
+    // An edit keeps the old version and inserts a new one linked through previous_review_id
+    @Transactional
+    public SuccessResponse<ReviewResponse> editReview(Long reviewId, ReviewRequest reviewRequest, AuthenticatedAccount account) {
+        ReviewEntity current = findCurrentForUpdate(reviewId);
+        if (!current.getReviewerId().equals(account.id())) {
+            throw new AccessDeniedException("Only the author can edit this review");
+        }
+        if (current.getDeletedAt() != null) {
+            throw new IllegalArgumentException("Deleted reviews cannot be edited");
+        }
+
+        ReviewEntity edited = reviewRepository.save(ReviewEntity.builder()
+                .content(reviewRequest.getContent())
+                .rating(reviewRequest.getRating())
+                .reviewerId(current.getReviewerId())
+                .bookId(current.getBookId())
+                .previousReviewId(current.getId())
+                .rootReviewId(current.getRootReviewId() != null ? current.getRootReviewId() : current.getId())
+                .createdAt(LocalDateTime.now())
+                .build());
+        current.setCurrent(false);
+
+        bookRatingStatsService.applyRatingChange(current.getBookId(), current.getRating(), edited.getRating());
+        publish(edited, ReviewChangedEvent.Type.EDITED, current.getRating());
+
+        return buildResponse("Review updated successfully!", edited);
+    }
+
+    @Transactional
+    public SuccessResponse<ReviewResponse> deleteReview(Long reviewId, AuthenticatedAccount account) {
+        ReviewEntity current = findCurrentForUpdate(reviewId);
+        checkCanManage(current, account);
+        if (current.getDeletedAt() != null) {
+            throw new IllegalArgumentException("Review is already deleted");
+        }
+
+        current.setDeletedAt(LocalDateTime.now());
+        bookRatingStatsService.applyRatingChange(current.getBookId(), current.getRating(), null);
+        publish(current, ReviewChangedEvent.Type.DELETED, current.getRating());
+
+        return buildResponse("Review deleted successfully!", current);
+    }
+
+    @Transactional
+    public SuccessResponse<ReviewResponse> restoreReview(Long reviewId, AuthenticatedAccount account) {
+        ReviewEntity current = findCurrentForUpdate(reviewId);
+        checkCanManage(current, account);
+        if (current.getDeletedAt() == null) {
+            throw new IllegalArgumentException("Review is not deleted");
+        }
+
+        current.setDeletedAt(null);
+        bookRatingStatsService.applyRatingChange(current.getBookId(), null, current.getRating());
+        publish(current, ReviewChangedEvent.Type.RESTORED, null);
+
+        return buildResponse("Review restored successfully!", current);
+    }
+
+    // Only the latest version of a review can be changed; older versions are history
+    private ReviewEntity findCurrentForUpdate(Long reviewId) {
+        ReviewEntity reviewEntity = reviewRepository.findByIdForUpdate(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("Review not found"));
+        if (!reviewEntity.isCurrent()) {
+            throw new IllegalArgumentException("Review has a newer version");
+        }
+        return reviewEntity;
+    }
+
+    private void checkCanManage(ReviewEntity reviewEntity, AuthenticatedAccount account) {
+        boolean isStaff = account.role() == UserEntity.Role.MODERATOR || account.role() == UserEntity.Role.ADMIN;
+        if (!isStaff && !reviewEntity.getReviewerId().equals(account.id())) {
+            throw new AccessDeniedException("Not allowed to manage this review");
+        }
+    }
+
+    private void publish(ReviewEntity reviewEntity, ReviewChangedEvent.Type type, Integer previousRating) {
+        applicationEventPublisher.publishEvent(new ReviewChangedEvent(
+                reviewEntity.getId(),
+                reviewEntity.getBookId(),
+                reviewEntity.getReviewerId(),
+                type,
+                reviewEntity.getRating(),
+                previousRating
+        ));
+    }
+
+    static ReviewResponse toResponse(ReviewEntity reviewEntity) {
+        return ReviewResponse.builder()
+                .id(reviewEntity.getId())
+                .bookId(reviewEntity.getBookId())
+                .reviewerId(reviewEntity.getReviewerId())
+                .content(reviewEntity.getContent())
+                .rating(reviewEntity.getRating())
+                .previousReviewId(reviewEntity.getPreviousReviewId())
+                .rootReviewId(reviewEntity.getRootReviewId())
+                .current(reviewEntity.isCurrent())
+                .createdAt(reviewEntity.getCreatedAt())
+                .deletedAt(reviewEntity.getDeletedAt())
+                .build();
+    }
+
+    private SuccessResponse<ReviewResponse> buildResponse(String message, ReviewEntity reviewEntity) {
+        return SuccessResponse.<ReviewResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message(message)
+                .data(toResponse(reviewEntity))
+                .build();
+    }
+
+    private SuccessResponse<CursorPageResponse<ReviewResponse>> buildPageResponse(List<ReviewEntity> rows, int size) {
+        return SuccessResponse.<CursorPageResponse<ReviewResponse>>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Reviews fetched successfully!")
+                .data(KeysetCursor.toPage(
+                        rows,
+                        size,
+                        review -> new KeysetCursor(review.getCreatedAt(), review.getId()),
+                        ReviewService::toResponse
+                ))
+                .build();
+    }
+}
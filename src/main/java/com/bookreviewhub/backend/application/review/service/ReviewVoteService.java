@@ -0,0 +1,79 @@
+package com.bookreviewhub.backend.application.review.service;
+
+import com.bookreviewhub.backend.application.review.dto.response.ReviewVoteResponse;
+import com.bookreviewhub.backend.infrastructure.review.vote.CastVote;
+import com.bookreviewhub.backend.infrastructure.review.vote.ReviewVoteBuffer;
+import com.bookreviewhub.backend.infrastructure.review.vote.VoteTotals;
+import com.bookreviewhub.backend.infrastructure.review.vote.VoteType;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import com.bookreviewhub.backend.shared.event.ReviewVotedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// Votes and scores are served from ReviewVoteBuffer; nothing here touches the database on the hot path
+@Service
+@RequiredArgsConstructor
+public class ReviewVoteService {
+    private final ReviewVoteBuffer reviewVoteBuffer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SuccessResponse<ReviewVoteResponse> vote(Long reviewId, VoteType voteType, AuthenticatedAccount account) {
+        if (voteType == null || voteType == VoteType.NONE) {
+            throw new IllegalArgumentException("Vote type must be UPVOTE or DOWNVOTE");
+        }
+        publishChange(reviewId, reviewVoteBuffer.vote(reviewId, account.id(), voteType), voteType);
+
+        return buildResponse("Vote recorded successfully!", reviewId, voteType);
+    }
+
+    public SuccessResponse<ReviewVoteResponse> retractVote(Long reviewId, AuthenticatedAccount account) {
+        publishChange(reviewId, reviewVoteBuffer.vote(reviewId, account.id(), VoteType.NONE), VoteType.NONE);
+
+        return buildResponse("Vote removed successfully!", reviewId, VoteType.NONE);
+    }
+
+    public SuccessResponse<ReviewVoteResponse> getVotes(Long reviewId, AuthenticatedAccount account) {
+        VoteType myVote = account == null ? null : reviewVoteBuffer.currentVote(reviewId, account.id());
+
+        return buildResponse("Votes fetched successfully!", reviewId, myVote);
+    }
+
+    // Votes are not written in a transaction, so listeners run right away
+    private void publishChange(Long reviewId, CastVote previous, VoteType current) {
+        if (previous.type() == current) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(new ReviewVotedEvent(
+                reviewId,
+                countOf(current, VoteType.UPVOTE) - countOf(previous.type(), VoteType.UPVOTE),
+                countOf(current, VoteType.DOWNVOTE) - countOf(previous.type(), VoteType.DOWNVOTE),
+                previous.type() == VoteType.UPVOTE ? previous.castAt() : null
+        ));
+    }
+
+    private static int countOf(VoteType voteType, VoteType counted) {
+        return voteType == counted ? 1 : 0;
+    }
+
+    private SuccessResponse<ReviewVoteResponse> buildResponse(String message, Long reviewId, VoteType myVote) {
+        VoteTotals totals = reviewVoteBuffer.totals(reviewId);
+        ReviewVoteResponse reviewVoteResponse = ReviewVoteResponse.builder()
+                .reviewId(reviewId)
+                .upvotes(totals.upvotes())
+                .downvotes(totals.downvotes())
+                .score(totals.score())
+                .myVote(myVote)
+                .build();
+
+        return SuccessResponse.<ReviewVoteResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message(message)
+                .data(reviewVoteResponse)
+                .build();
+    }
+}
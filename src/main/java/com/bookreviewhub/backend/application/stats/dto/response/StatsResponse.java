@@ -0,0 +1,34 @@
+package com.bookreviewhub.backend.application.stats.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.stats.StatsMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    // Last day covered by the rollups; later days in the range (other than today) show as zero until rolled up
+    private LocalDate rolledUpThrough;
+    private Map<StatsMetric, Long> totals;
+    // Only days with activity are listed
+    private List<DayStats> days;
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class DayStats {
+        private LocalDate day;
+        private Map<StatsMetric, Long> counts;
+    }
+}
@@ -0,0 +1,100 @@
+package com.bookreviewhub.backend.application.stats.service;
+
+import com.bookreviewhub.backend.application.stats.dto.response.StatsResponse;
+import com.bookreviewhub.backend.infrastructure.stats.DailyStatsRollup;
+import com.bookreviewhub.backend.infrastructure.stats.StatsMetric;
+import com.bookreviewhub.backend.infrastructure.stats.TodayStatsCounters;
+import com.bookreviewhub.backend.shared.config.StatsConfig;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class StatsService {
+    private final DailyStatsRollup dailyStatsRollup;
+    private final TodayStatsCounters todayStatsCounters;
+    private final StatsConfig statsConfig;
+
+    // Closed days are read from stats_daily (at most one row per day and metric); today comes from the live counters
+    public SuccessResponse<StatsResponse> getStats(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        if (to == null || to.isAfter(today)) {
+            to = today;
+        }
+        if (from == null) {
+            from = to.minusDays(29);
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Stats range must start on or before its end");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= statsConfig.getMaxRangeDays()) {
+            throw new IllegalArgumentException("Stats range must not exceed " + statsConfig.getMaxRangeDays() + " days");
+        }
+
+        Map<LocalDate, Map<StatsMetric, Long>> countsByDay = new TreeMap<>();
+        for (DailyStatsRollup.DailyTotal total : dailyStatsRollup.findTotals(from, to)) {
+            countsByDay.computeIfAbsent(total.day(), day -> emptyCounts()).put(total.metric(), total.total());
+        }
+        if (!to.isBefore(today)) {
+            Map<StatsMetric, Long> todayCounts = todayStatsCounters.snapshot(today);
+            if (todayCounts != null) {
+                countsByDay.put(today, todayCounts);
+            }
+        }
+
+        Map<StatsMetric, Long> totals = emptyCounts();
+        List<StatsResponse.DayStats> days = new ArrayList<>(countsByDay.size());
+        countsByDay.forEach((day, counts) -> {
+            counts.forEach((metric, count) -> totals.merge(metric, count, Long::sum));
+            days.add(StatsResponse.DayStats.builder()
+                    .day(day)
+                    .counts(counts)
+                    .build());
+        });
+
+        return SuccessResponse.<StatsResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(200)
+                .message("Stats fetched successfully!")
+                .data(StatsResponse.builder()
+                        .from(from)
+                        .to(to)
+                        .rolledUpThrough(dailyStatsRollup.findRolledUpThrough())
+                        .totals(totals)
+                        .days(days)
+                        .build())
+                .build();
+    }
+
+    public SuccessResponse<Void> backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Backfill range is required");
+        }
+        dailyStatsRollup.backfill(from, to);
+
+        return SuccessResponse.<Void>builder()
+                .timestamp(LocalDateTime.now())
+                .status(202)
+                .message("Stats backfill queued successfully!")
+                .data(null)
+                .build();
+    }
+
+    private static Map<StatsMetric, Long> emptyCounts() {
+        Map<StatsMetric, Long> counts = new EnumMap<>(StatsMetric.class);
+        for (StatsMetric metric : StatsMetric.values()) {
+            counts.put(metric, 0L);
+        }
+        return counts;
+    }
+}
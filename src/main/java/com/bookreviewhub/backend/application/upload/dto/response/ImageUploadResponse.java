@@ -0,0 +1,23 @@
+package com.bookreviewhub.backend.application.upload.dto.response;
+
+import com.bookreviewhub.backend.infrastructure.storage.ImageUploadPipeline;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageUploadResponse {
+    private UUID uploadId;
+    private ImageUploadPipeline.State state;
+    // Public URL of the image, once stored
+    private String url;
+    private String error;
+    private LocalDateTime updatedAt;
+}
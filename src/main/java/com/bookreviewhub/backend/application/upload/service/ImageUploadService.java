@@ -0,0 +1,57 @@
+package com.bookreviewhub.backend.application.upload.service;
+
+import com.bookreviewhub.backend.application.upload.dto.response.ImageUploadResponse;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.storage.ImageUploadPipeline;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ImageUploadService {
+    private final ImageUploadPipeline imageUploadPipeline;
+
+    // Upload outcomes are kept in memory on the instance that accepted the upload, for app.uploads.status-ttl
+    public SuccessResponse<ImageUploadResponse> getStatus(UUID uploadId, AuthenticatedAccount account) {
+        ImageUploadPipeline.UploadStatus status = imageUploadPipeline.status(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found or expired"));
+        boolean isStaff = account.role() == UserEntity.Role.MODERATOR || account.role() == UserEntity.Role.ADMIN;
+        if (!isStaff && !account.id().equals(status.accountId())) {
+            throw new AccessDeniedException("Not allowed to view this upload");
+        }
+        return buildResponse(200, "Upload status retrieved successfully!", status);
+    }
+
+    public SuccessResponse<ImageUploadResponse> accepted(String message, UUID uploadId) {
+        ImageUploadPipeline.UploadStatus status = imageUploadPipeline.status(uploadId)
+                .orElseThrow(() -> new IllegalStateException("Upload " + uploadId + " is not tracked"));
+        return buildResponse(202, message, status);
+    }
+
+    private static SuccessResponse<ImageUploadResponse> buildResponse(
+            int httpStatus,
+            String message,
+            ImageUploadPipeline.UploadStatus status
+    ) {
+        ImageUploadResponse imageUploadResponse = ImageUploadResponse.builder()
+                .uploadId(status.uploadId())
+                .state(status.state())
+                .url(status.url())
+                .error(status.error())
+                .updatedAt(status.updatedAt())
+                .build();
+
+        return SuccessResponse.<ImageUploadResponse>builder()
+                .timestamp(LocalDateTime.now())
+                .status(httpStatus)
+                .message(message)
+                .data(imageUploadResponse)
+                .build();
+    }
+}
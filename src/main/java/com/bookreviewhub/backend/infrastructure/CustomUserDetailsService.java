@@ -1,30 +1,59 @@
 package com.bookreviewhub.backend.infrastructure;
 
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
+import com.bookreviewhub.backend.infrastructure.user.cache.AccountUserDetailsCache;
 import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
 import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Collections;
-
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final AccountUserDetailsCache accountUserDetailsCache;
+    private final MeterRegistry meterRegistry;
 
+    // Only cache misses reach the database; those are timed as auth.user.load
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException{
-        UserEntity userEntity = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        return accountUserDetailsCache.getByUsername(username, () -> {
+            Timer.Sample loadSample = Timer.start(meterRegistry);
+            try {
+                UserEntity userEntity = userRepository.findByUsername(username)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+                return new AccountUserDetails(userEntity);
+            } finally {
+                loadSample.stop(Timer.builder("auth.user.load")
+                        .description("Account lookups for login that missed the user details cache")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        }).copy();
+    }
+
+    public AccountUserDetails loadUserByAccountId(Long accountId) throws UsernameNotFoundException {
+        return accountUserDetailsCache.getByAccountId(accountId, id -> {
+            UserEntity userEntity = userRepository.findById(id)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
+            return new AccountUserDetails(userEntity);
+        }).copy();
+    }
+
+    // Called by the authentication manager after a successful login when the stored hash
+    // was produced with a different BCrypt cost than the configured one
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByUsername(user.getUsername(), newPassword);
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(userEntity.getUsername())
-                .password(userEntity.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userEntity.getRole().name())))
-                .build();
+        AccountUserDetails accountUserDetails = (AccountUserDetails) user;
+        accountUserDetailsCache.invalidate(accountUserDetails.getAccountId(), accountUserDetails.getUsername());
+        return loadUserByUsername(user.getUsername());
     }
 }
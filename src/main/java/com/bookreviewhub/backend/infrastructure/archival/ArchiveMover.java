@@ -0,0 +1,89 @@
+package com.bookreviewhub.backend.infrastructure.archival;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Set-based moves between a hot table and its archive twin. Callers run them inside their own transaction,
+// so the copy and the delete commit together.
+@Component
+@RequiredArgsConstructor
+class ArchiveMover {
+    private final JdbcTemplate jdbcTemplate;
+
+    // Moves the hot rows matching condition (unqualified columns) into the archive; returns the rows moved
+    int archive(ArchivedTable table, String condition, List<Object> args, Timestamp archivedAt) {
+        String columns = String.join(", ", table.getColumns());
+        if (table.isKeyReusable()) {
+            // An older copy of a re-created link row is superseded by the one being archived now
+            String keys = String.join(", ", table.getKeyColumns());
+            jdbcTemplate.update(
+                    "DELETE FROM " + table.getArchiveTable() + " WHERE (" + keys + ") IN ("
+                            + "SELECT " + keys + " FROM " + table.getTable() + " WHERE " + condition + ")",
+                    args.toArray()
+            );
+        }
+        List<Object> copyArgs = new ArrayList<>(args.size() + 1);
+        copyArgs.add(archivedAt);
+        copyArgs.addAll(args);
+        int copied = jdbcTemplate.update(
+                "INSERT INTO " + table.getArchiveTable() + " (" + columns + ", archived_at) "
+                        + "SELECT " + columns + ", ? FROM " + table.getTable() + " WHERE " + condition,
+                copyArgs.toArray()
+        );
+        int deleted = jdbcTemplate.update("DELETE FROM " + table.getTable() + " WHERE " + condition, args.toArray());
+        if (copied != deleted) {
+            // A row appeared or vanished between the two statements; roll back rather than lose it
+            throw new IllegalStateException("Archiving " + table.getTable() + " copied " + copied + " rows but deleted " + deleted);
+        }
+        return deleted;
+    }
+
+    // Moves the archived rows matching condition (columns qualified with "a.") back into the hot table, skipping
+    // keys the hot table already holds again; returns the rows restored. Archived copies of such keys are dropped.
+    int restore(ArchivedTable table, String condition, List<Object> args) {
+        // Mirror the ON DELETE SET NULL the hot table would have applied while the row was archived
+        for (String column : table.getAccountReferences()) {
+            jdbcTemplate.update(
+                    "UPDATE " + table.getArchiveTable() + " a SET a." + column + " = NULL WHERE " + condition
+                            + " AND a." + column + " IS NOT NULL"
+                            + " AND NOT EXISTS (SELECT 1 FROM accounts x WHERE x.id = a." + column + ")",
+                    args.toArray()
+            );
+        }
+        String keyMatch = table.getKeyColumns().stream()
+                .map(column -> "h." + column + " = a." + column)
+                .collect(Collectors.joining(" AND "));
+        String hotHasKey = "EXISTS (SELECT 1 FROM " + table.getTable() + " h WHERE " + keyMatch + ")";
+        // Key order inserts earlier review versions before the versions pointing at them
+        int restored = jdbcTemplate.update(
+                "INSERT INTO " + table.getTable() + " (" + String.join(", ", table.getColumns()) + ") "
+                        + "SELECT " + table.getColumns().stream().map(column -> "a." + column).collect(Collectors.joining(", "))
+                        + " FROM " + table.getArchiveTable() + " a WHERE " + condition + " AND NOT " + hotHasKey
+                        + " ORDER BY " + table.getKeyColumns().stream().map(column -> "a." + column).collect(Collectors.joining(", ")),
+                args.toArray()
+        );
+        jdbcTemplate.update(
+                "DELETE a FROM " + table.getArchiveTable() + " a WHERE " + condition + " AND " + hotHasKey,
+                args.toArray()
+        );
+        return restored;
+    }
+
+    // "col IN (?, ?)" or "(col1, col2) IN ((?, ?), (?, ?))" for a batch of keys
+    static String keyCondition(String prefix, List<String> keyColumns, int count) {
+        String tuple = keyColumns.size() == 1
+                ? "?"
+                : keyColumns.stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+        String columns = keyColumns.size() == 1
+                ? prefix + keyColumns.get(0)
+                : keyColumns.stream().map(column -> prefix + column).collect(Collectors.joining(", ", "(", ")"));
+        return columns + " IN (" + String.join(", ", Collections.nCopies(count, tuple)) + ")";
+    }
+}
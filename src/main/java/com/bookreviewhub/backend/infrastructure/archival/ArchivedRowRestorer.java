@@ -0,0 +1,120 @@
+package com.bookreviewhub.backend.infrastructure.archival;
+
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRatingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Moves archived rows back into the hot tables, parents before children. Restored rows keep their deleted_at,
+// so they come back exactly as they were archived: still soft-deleted until someone undeletes them.
+// Rows whose parent or reviewer no longer exists stay archived. Callers provide the transaction.
+@Component
+@RequiredArgsConstructor
+public class ArchivedRowRestorer {
+    private static final String REVIEWER_EXISTS = " AND EXISTS (SELECT 1 FROM accounts x WHERE x.id = a.reviewer_id)";
+    private static final String VOTER_EXISTS = " AND EXISTS (SELECT 1 FROM accounts x WHERE x.id = a.account_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveMover archiveMover;
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+
+    // The book and everything archived under it; also brings back rows archived on their own under a live book
+    public Map<String, Integer> restoreBook(Long bookId) {
+        boolean archived = exists("SELECT COUNT(*) FROM books_archive WHERE id = ?", bookId);
+        if (!archived && !exists("SELECT COUNT(*) FROM books WHERE id = ?", bookId)) {
+            throw new IllegalArgumentException("Book not found: " + bookId);
+        }
+        if (archived && exists("""
+                SELECT COUNT(*) FROM books_archive a
+                JOIN books b ON b.title = a.title AND b.author = a.author
+                WHERE a.id = ?
+                """, bookId)) {
+            throw new IllegalArgumentException("Another book with the same title and author exists");
+        }
+
+        Map<String, Integer> restored = new LinkedHashMap<>();
+        restore(restored, ArchivedTable.BOOKS, "a.id = ?", bookId);
+        restore(restored, ArchivedTable.BOOK_IMAGES, "a.book_id = ?", bookId);
+        restore(restored, ArchivedTable.BOOK_GENRES,
+                "a.book_id = ? AND EXISTS (SELECT 1 FROM genres g WHERE g.id = a.genre_id)", bookId);
+        restore(restored, ArchivedTable.REVIEWS, "a.book_id = ?" + REVIEWER_EXISTS, bookId);
+        restore(restored, ArchivedTable.REVIEW_VOTES,
+                "a.review_id IN (SELECT id FROM reviews WHERE book_id = ?)" + VOTER_EXISTS, bookId);
+
+        rebuildVoteTotals("book_id = ?", bookId);
+        rebuildRatingStats(bookId);
+        return restored;
+    }
+
+    // Every version of the review's chain, with their votes; the book must be in the hot table
+    public Map<String, Integer> restoreReview(Long reviewId) {
+        List<Map<String, Object>> chain = jdbcTemplate.queryForList(
+                "SELECT root_review_id, book_id FROM reviews_archive WHERE id = ?", reviewId);
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("Review is not archived: " + reviewId);
+        }
+        Object rootId = chain.get(0).get("root_review_id");
+        Long bookId = ((Number) chain.get(0).get("book_id")).longValue();
+        if (!exists("SELECT COUNT(*) FROM books WHERE id = ?", bookId)) {
+            throw new IllegalArgumentException("The review's book is archived; restore book " + bookId + " first");
+        }
+
+        Map<String, Integer> restored = new LinkedHashMap<>();
+        restore(restored, ArchivedTable.REVIEWS, "a.root_review_id = ?" + REVIEWER_EXISTS, rootId);
+        restore(restored, ArchivedTable.REVIEW_VOTES,
+                "a.review_id IN (SELECT id FROM reviews WHERE root_review_id = ?)" + VOTER_EXISTS, rootId);
+
+        rebuildVoteTotals("root_review_id = ?", rootId);
+        rebuildRatingStats(bookId);
+        return restored;
+    }
+
+    // The genre and its links to books that are in the hot table
+    public Map<String, Integer> restoreGenre(Long genreId) {
+        if (!exists("SELECT COUNT(*) FROM genres_archive WHERE id = ?", genreId)) {
+            throw new IllegalArgumentException("Genre is not archived: " + genreId);
+        }
+        if (exists("SELECT COUNT(*) FROM genres_archive a JOIN genres g ON g.name = a.name WHERE a.id = ?", genreId)) {
+            throw new IllegalArgumentException("Another genre with the same name exists");
+        }
+
+        Map<String, Integer> restored = new LinkedHashMap<>();
+        restore(restored, ArchivedTable.GENRES, "a.id = ?", genreId);
+        restore(restored, ArchivedTable.BOOK_GENRES,
+                "a.genre_id = ? AND EXISTS (SELECT 1 FROM books b WHERE b.id = a.book_id)", genreId);
+        return restored;
+    }
+
+    private void restore(Map<String, Integer> restored, ArchivedTable table, String condition, Object arg) {
+        restored.put(table.getTable(), archiveMover.restore(table, condition, List.of(arg)));
+    }
+
+    // Vote totals of restored reviews were dropped with them by ON DELETE CASCADE
+    private void rebuildVoteTotals(String reviewCondition, Object arg) {
+        jdbcTemplate.update("""
+                INSERT INTO review_vote_totals (review_id, upvotes, downvotes)
+                SELECT * FROM (
+                    SELECT v.review_id, SUM(v.vote_type = 'UPVOTE') AS upvotes, SUM(v.vote_type = 'DOWNVOTE') AS downvotes
+                    FROM review_votes v
+                    WHERE v.deleted_at IS NULL
+                      AND v.review_id IN (SELECT id FROM reviews WHERE %s)
+                    GROUP BY v.review_id
+                ) AS live
+                ON DUPLICATE KEY UPDATE upvotes = live.upvotes, downvotes = live.downvotes
+                """.formatted(reviewCondition), arg);
+    }
+
+    private void rebuildRatingStats(Long bookId) {
+        bookRatingStatsRepository.rebuildRange(bookId, bookId);
+        bookRatingStatsRepository.resetRangeWithoutReviews(bookId, bookId);
+    }
+
+    private boolean exists(String countSql, Object arg) {
+        Long count = jdbcTemplate.queryForObject(countSql, Long.class, arg);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bookreviewhub.backend.infrastructure.archival;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// Hot tables with a *_archive twin (V14), their key and the columns copied between the two.
+// A column added to a hot table must be added to its archive table and here.
+@Getter
+public enum ArchivedTable {
+    BOOKS("books", List.of("id"), List.of(
+            "id", "title", "author", "published_year", "publisher", "cover_image_url", "description",
+            "added_by_account_id", "created_at", "updated_at", "deleted_at"
+    ), List.of("added_by_account_id"), false),
+    BOOK_IMAGES("book_images", List.of("id"), List.of(
+            "id", "book_id", "image_url", "type", "uploaded_by_account_id", "created_at", "updated_at", "deleted_at"
+    ), List.of("uploaded_by_account_id"), false),
+    GENRES("genres", List.of("id"), List.of(
+            "id", "name", "added_by_account_id", "created_at", "updated_at", "deleted_at"
+    ), List.of("added_by_account_id"), false),
+    BOOK_GENRES("book_genres", List.of("book_id", "genre_id"), List.of(
+            "book_id", "genre_id", "deleted_at"
+    ), List.of(), true),
+    REVIEWS("reviews", List.of("id"), List.of(
+            "id", "content", "rating", "reviewer_id", "book_id", "previous_review_id", "root_review_id", "is_current",
+            "created_at", "deleted_at"
+    ), List.of(), false),
+    REVIEW_VOTES("review_votes", List.of("review_id", "account_id"), List.of(
+            "review_id", "account_id", "vote_type", "created_at", "deleted_at"
+    ), List.of(), true);
+
+    private final String table;
+    private final String archiveTable;
+    private final List<String> keyColumns;
+    private final List<String> columns;
+    // Account references the hot table sets to NULL when the account is deleted, so restores must do the same
+    private final List<String> accountReferences;
+    // Link rows can be re-created under the same key after their archived copy was written
+    private final boolean keyReusable;
+
+    ArchivedTable(String table, List<String> keyColumns, List<String> columns, List<String> accountReferences, boolean keyReusable) {
+        this.table = table;
+        this.archiveTable = table + "_archive";
+        this.keyColumns = keyColumns;
+        this.columns = columns;
+        this.accountReferences = accountReferences;
+        this.keyReusable = keyReusable;
+    }
+}
@@ -0,0 +1,222 @@
+package com.bookreviewhub.backend.infrastructure.archival;
+
+import com.bookreviewhub.backend.shared.config.ArchivalConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Moves rows soft-deleted longer than app.archival.retention into the *_archive tables, so hot tables and their
+// indexes only grow with live data. Each table is walked in (deleted_at, key) order through idx_deleted_at, one small
+// transaction per batch. Candidates are taken FOR UPDATE SKIP LOCKED: a concurrent restore of the same row waits
+// for the batch, and several instances can archive side by side without picking the same rows.
+// Children go first and parents take their remaining children along, so no ON DELETE CASCADE ever drops an
+// unarchived row; only derived rows (rating stats, vote totals, trending scores) cascade away with their parent.
+@Slf4j
+@Component
+public class SoftDeleteArchiver {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveMover archiveMover;
+    private final ArchivalConfig archivalConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Unit> units;
+    private final Map<ArchivedTable, Counter> archivedRows = new EnumMap<>(ArchivedTable.class);
+    private final Map<ArchivedTable, AtomicLong> lagSeconds = new EnumMap<>(ArchivedTable.class);
+
+    // Archives the rows of one batch of candidate keys, in one transaction
+    @FunctionalInterface
+    private interface BatchMove {
+        void move(String keyCondition, List<Object> keyArgs, Timestamp archivedAt);
+    }
+
+    // A hot table walked for candidates, an extra filter on them, and what archiving a candidate moves
+    private record Unit(ArchivedTable table, String filter, BatchMove move) {
+    }
+
+    public SoftDeleteArchiver(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ArchiveMover archiveMover,
+            ArchivalConfig archivalConfig,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveMover = archiveMover;
+        this.archivalConfig = archivalConfig;
+        this.meterRegistry = meterRegistry;
+        this.units = List.of(
+                new Unit(ArchivedTable.BOOK_IMAGES, "", (keys, args, at) -> move(ArchivedTable.BOOK_IMAGES, keys, args, at)),
+                new Unit(ArchivedTable.BOOK_GENRES, "", (keys, args, at) -> move(ArchivedTable.BOOK_GENRES, keys, args, at)),
+                new Unit(ArchivedTable.REVIEW_VOTES, "", (keys, args, at) -> move(ArchivedTable.REVIEW_VOTES, keys, args, at)),
+                // A deleted review is its deleted head version; the whole chain and its votes go together
+                new Unit(ArchivedTable.REVIEWS, " AND is_current = TRUE", this::moveReviewChains),
+                new Unit(ArchivedTable.GENRES, "", this::moveGenres),
+                new Unit(ArchivedTable.BOOKS, "", this::moveBooks)
+        );
+        for (ArchivedTable table : ArchivedTable.values()) {
+            archivedRows.put(table, Counter.builder("archival.rows")
+                    .description("Rows moved from a hot table to its archive table")
+                    .tag("table", table.getTable())
+                    .register(meterRegistry));
+        }
+        for (Unit unit : units) {
+            AtomicLong lag = new AtomicLong();
+            lagSeconds.put(unit.table(), lag);
+            Gauge.builder("archival.lag", lag, AtomicLong::get)
+                    .description("How long the oldest archivable row has been past the retention, as of the last run")
+                    .tag("table", unit.table().getTable())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.archival.interval:PT1H}",
+            initialDelayString = "${app.archival.initial-delay:PT5M}"
+    )
+    public void archiveExpired() {
+        if (!archivalConfig.isEnabled()) {
+            return;
+        }
+        Instant deadline = Instant.now().plus(archivalConfig.getMaxRunDuration());
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(archivalConfig.getRetention()));
+        for (Unit unit : units) {
+            if (!archiveUnit(unit, cutoff, deadline)) {
+                log.info("Archival stopped at {} after {}; the next run continues", unit.table().getTable(),
+                        archivalConfig.getMaxRunDuration());
+                break;
+            }
+        }
+        units.forEach(unit -> updateLag(unit, cutoff));
+    }
+
+    // False when the run ran out of time before the table was drained
+    private boolean archiveUnit(Unit unit, Timestamp cutoff, Instant deadline) {
+        Timer batchTimer = Timer.builder("archival.batches")
+                .description("Archival transactions, one per batch of soft-deleted rows")
+                .tag("table", unit.table().getTable())
+                .register(meterRegistry);
+        Object[] cursor = null;
+        while (Instant.now().isBefore(deadline)) {
+            Object[] after = cursor;
+            List<Object[]> batch = batchTimer.record(() -> transactionTemplate.execute(status -> archiveBatch(unit, cutoff, after)));
+            if (batch == null || batch.size() < archivalConfig.getBatchSize()) {
+                return true;
+            }
+            cursor = batch.get(batch.size() - 1);
+            if (!pause()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // Returns the candidate rows (deleted_at followed by the key), whose last row is the next cursor
+    private List<Object[]> archiveBatch(Unit unit, Timestamp cutoff, Object[] after) {
+        ArchivedTable table = unit.table();
+        List<String> keyColumns = table.getKeyColumns();
+        List<String> cursorColumnList = new ArrayList<>(keyColumns.size() + 1);
+        cursorColumnList.add("deleted_at");
+        cursorColumnList.addAll(keyColumns);
+        String cursorColumns = String.join(", ", cursorColumnList);
+
+        List<Object> args = new ArrayList<>();
+        args.add(cutoff);
+        String keyset = "";
+        if (after != null) {
+            keyset = " AND (" + cursorColumns + ") > (" + String.join(", ", Collections.nCopies(after.length, "?")) + ")";
+            args.addAll(Arrays.asList(after));
+        }
+        args.add(archivalConfig.getBatchSize());
+        List<Object[]> candidates = jdbcTemplate.query(
+                "SELECT " + cursorColumns + " FROM " + table.getTable()
+                        + " WHERE deleted_at < ?" + unit.filter() + keyset
+                        + " ORDER BY " + cursorColumns + " LIMIT ? FOR UPDATE SKIP LOCKED",
+                (resultSet, rowNumber) -> {
+                    Object[] row = new Object[keyColumns.size() + 1];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = resultSet.getObject(i + 1);
+                    }
+                    return row;
+                },
+                args.toArray()
+        );
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Object> keyArgs = new ArrayList<>(candidates.size() * keyColumns.size());
+        candidates.forEach(row -> keyArgs.addAll(Arrays.asList(row).subList(1, row.length)));
+        unit.move().move(ArchiveMover.keyCondition("", keyColumns, candidates.size()), keyArgs, new Timestamp(System.currentTimeMillis()));
+        return candidates;
+    }
+
+    private void move(ArchivedTable table, String condition, List<Object> args, Timestamp archivedAt) {
+        int moved = archiveMover.archive(table, condition, args, archivedAt);
+        archivedRows.get(table).increment(moved);
+    }
+
+    private void moveReviewChains(String headCondition, List<Object> headArgs, Timestamp archivedAt) {
+        List<Object> rootArgs = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT root_review_id FROM reviews WHERE " + headCondition, Object.class, headArgs.toArray()));
+        String roots = ArchiveMover.keyCondition("", List.of("root_review_id"), rootArgs.size());
+        move(ArchivedTable.REVIEW_VOTES, "review_id IN (SELECT id FROM reviews WHERE " + roots + ")", rootArgs, archivedAt);
+        move(ArchivedTable.REVIEWS, roots, rootArgs, archivedAt);
+    }
+
+    // Links to a deleted genre are dead whether or not they were deleted themselves
+    private void moveGenres(String genreCondition, List<Object> genreArgs, Timestamp archivedAt) {
+        String genres = ArchiveMover.keyCondition("", List.of("genre_id"), genreArgs.size());
+        move(ArchivedTable.BOOK_GENRES, genres, genreArgs, archivedAt);
+        move(ArchivedTable.GENRES, genreCondition, genreArgs, archivedAt);
+    }
+
+    // Everything hanging off a deleted book goes with it, live or not
+    private void moveBooks(String bookCondition, List<Object> bookArgs, Timestamp archivedAt) {
+        String books = ArchiveMover.keyCondition("", List.of("book_id"), bookArgs.size());
+        move(ArchivedTable.REVIEW_VOTES, "review_id IN (SELECT id FROM reviews WHERE " + books + ")", bookArgs, archivedAt);
+        move(ArchivedTable.REVIEWS, books, bookArgs, archivedAt);
+        move(ArchivedTable.BOOK_IMAGES, books, bookArgs, archivedAt);
+        move(ArchivedTable.BOOK_GENRES, books, bookArgs, archivedAt);
+        move(ArchivedTable.BOOKS, bookCondition, bookArgs, archivedAt);
+    }
+
+    // MIN(deleted_at) is read from idx_deleted_at
+    private void updateLag(Unit unit, Timestamp cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(deleted_at) FROM " + unit.table().getTable() + " WHERE deleted_at < ?" + unit.filter(),
+                Timestamp.class, cutoff);
+        long lag = oldest == null ? 0 : Duration.between(oldest.toInstant(), cutoff.toInstant()).toSeconds();
+        lagSeconds.get(unit.table()).set(Math.max(0, lag));
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(archivalConfig.getBatchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
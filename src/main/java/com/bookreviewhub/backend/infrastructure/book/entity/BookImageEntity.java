@@ -0,0 +1,57 @@
+package com.bookreviewhub.backend.infrastructure.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_images")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImageEntity {
+    public enum Type {
+        COVER, ILLUSTRATION, AUTHOR, OTHER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "image_url", nullable = false, length = 1024)
+    private String imageUrl;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    private Type type = Type.OTHER;
+
+    @Column(name = "uploaded_by_account_id")
+    private Long uploadedByAccountId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Maintained by the trg_book_images_before_update trigger
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+}
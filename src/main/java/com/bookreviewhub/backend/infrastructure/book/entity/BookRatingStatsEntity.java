@@ -0,0 +1,51 @@
+package com.bookreviewhub.backend.infrastructure.book.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Read-only mapping; rows are only written through the atomic upserts in BookRatingStatsRepository
+@Entity
+@Immutable
+@Table(name = "book_rating_stats")
+@Getter
+@NoArgsConstructor
+public class BookRatingStatsEntity {
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private int ratingSum;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private int rating1Count;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private int rating2Count;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private int rating3Count;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private int rating4Count;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private int rating5Count;
+
+    @Column(name = "average_rating", nullable = false, precision = 3, scale = 2)
+    private BigDecimal averageRating;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,161 @@
+package com.bookreviewhub.backend.infrastructure.book.facet;
+
+import com.bookreviewhub.backend.infrastructure.book.projection.BookFacetView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookGenreView;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookGenreRepository;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.infrastructure.genre.entity.GenreEntity;
+import com.bookreviewhub.backend.infrastructure.genre.repository.GenreRepository;
+import com.bookreviewhub.backend.shared.event.BookChangedEvent;
+import com.bookreviewhub.backend.shared.event.CatalogImportedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// In-memory facet index over live books and live genre assignments, answering filter-plus-count
+// requests with bitmap operations instead of joins and GROUP BYs.
+// Book ids are stored as ints in the bitmaps, which covers any realistic catalog size.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookFacetIndex {
+    private final BookRepository bookRepository;
+    private final BookGenreRepository bookGenreRepository;
+    private final GenreRepository genreRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetState state = new FacetState(Map.of());
+
+    // Books changed while a rebuild was reading, re-applied once the new state is swapped in
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // Also picks up genre and assignment changes made on other instances
+    @Scheduled(initialDelayString = "${app.books.facets.rebuild-interval:PT30M}", fixedDelayString = "${app.books.facets.rebuild-interval:PT30M}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.bookId());
+        }
+        refresh(event.bookId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        rebuild();
+    }
+
+    public BookFacetResult query(BookFacetQuery query, int page, int size, int maxFacetValues) {
+        lock.readLock().lock();
+        try {
+            return state.query(query, page, size, maxFacetValues);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // For books a reader found soft-deleted before this instance heard of it (deleted on another instance)
+    public void removeBooks(Collection<Long> bookIds) {
+        lock.writeLock().lock();
+        try {
+            bookIds.stream().filter(BookFacetIndex::fitsBitmap).forEach(bookId -> state.removeBook(bookId.intValue()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Rebuilt off to the side and swapped in, so queries keep using the old state meanwhile
+    private void rebuild() {
+        rebuilding = true;
+        try {
+            Map<Long, String> genreNames = genreRepository.findAllByDeletedAtIsNull().stream()
+                    .collect(Collectors.toMap(GenreEntity::getId, GenreEntity::getName));
+            FacetState rebuilt = new FacetState(genreNames);
+
+            try (Stream<BookFacetView> books = bookRepository.streamFacetViews()) {
+                books.forEach(book -> {
+                    if (fitsBitmap(book.getId())) {
+                        rebuilt.putBook(book.getId().intValue(), book.getAuthor(), book.getPublishedYear(), List.of());
+                    }
+                });
+            }
+            try (Stream<BookGenreView> assignments = bookGenreRepository.streamLiveAssignments()) {
+                assignments.forEach(assignment -> {
+                    if (fitsBitmap(assignment.getBookId())) {
+                        rebuilt.addGenre(assignment.getBookId().intValue(), assignment.getGenreId());
+                    }
+                });
+            }
+            rebuilt.seal();
+
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Book facet index built with {} books and {} genres", rebuilt.size(), genreNames.size());
+        } finally {
+            rebuilding = false;
+        }
+
+        Set<Long> missed = Set.copyOf(changedDuringRebuild);
+        changedDuringRebuild.removeAll(missed);
+        missed.forEach(this::refresh);
+    }
+
+    private void refresh(Long bookId) {
+        if (!fitsBitmap(bookId)) {
+            return;
+        }
+        Optional<BookFacetView> book = bookRepository.findFacetViewById(bookId);
+        List<Long> genreIds = book.isPresent() ? bookGenreRepository.findLiveGenreIdsByBookId(bookId) : List.of();
+
+        lock.writeLock().lock();
+        try {
+            if (book.isPresent()) {
+                state.putBook(bookId.intValue(), book.get().getAuthor(), book.get().getPublishedYear(), genreIds);
+            } else {
+                state.removeBook(bookId.intValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean fitsBitmap(Long bookId) {
+        if (bookId > Integer.MAX_VALUE) {
+            log.warn("Book {} is outside the facet index id range and is not indexed", bookId);
+            return false;
+        }
+        return true;
+    }
+}
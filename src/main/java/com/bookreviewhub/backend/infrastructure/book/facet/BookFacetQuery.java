@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.infrastructure.book.facet;
+
+import java.util.Set;
+
+// Genres combine with ANY (OR) or ALL (AND), excluded genres are subtracted (NOT),
+// authors combine with OR, and the year range is inclusive on both ends
+public record BookFacetQuery(
+        Set<Long> genreIds,
+        GenreMatch genreMatch,
+        Set<Long> excludedGenreIds,
+        Set<String> authors,
+        Integer yearFrom,
+        Integer yearTo
+) {
+    public enum GenreMatch {
+        ANY, ALL
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookreviewhub.backend.infrastructure.book.facet;
+
+import java.util.List;
+
+public record BookFacetResult(
+        List<Long> bookIds,
+        long totalHits,
+        List<FacetCount> genres,
+        List<FacetCount> authors,
+        List<FacetCount> decades
+) {
+    public record FacetCount(String value, String label, long count) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.bookreviewhub.backend.infrastructure.book.facet;
+
+import com.bookreviewhub.backend.infrastructure.book.search.TextNormalizer;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+// Bitmaps of book ids per genre, author and published year. Not thread-safe; BookFacetIndex guards it.
+// Per-book author and year are kept in paged arrays indexed by book id, so an update can undo the old
+// memberships without a per-book object.
+final class FacetState {
+    // Above this many results, author counts only consider the most prolific authors instead of every result
+    private static final int AUTHOR_SCAN_LIMIT = 50_000;
+    private static final int TOP_AUTHOR_CANDIDATES = 200;
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byGenre = new HashMap<>();
+    private final Map<Long, String> genreNames;
+    private final TreeMap<Integer, RoaringBitmap> byYear = new TreeMap<>();
+
+    private final Map<String, Integer> authorOrdinals = new HashMap<>();
+    private final List<String> authorNames = new ArrayList<>();
+    private final List<RoaringBitmap> byAuthor = new ArrayList<>();
+    private int[] largestAuthors = new int[0];
+
+    // 1-based author ordinal and published year per book id; 0 means none
+    private final BookValues bookAuthor = new BookValues();
+    private final BookValues bookYear = new BookValues();
+
+    FacetState(Map<Long, String> genreNames) {
+        this.genreNames = genreNames;
+    }
+
+    void putBook(int bookId, String author, Short publishedYear, Collection<Long> genreIds) {
+        removeBook(bookId);
+        live.add(bookId);
+
+        if (author != null && !author.isBlank()) {
+            String key = TextNormalizer.fold(author.trim());
+            int ordinal = authorOrdinals.computeIfAbsent(key, k -> {
+                authorNames.add(author.trim());
+                byAuthor.add(new RoaringBitmap());
+                return authorNames.size() - 1;
+            });
+            byAuthor.get(ordinal).add(bookId);
+            bookAuthor.set(bookId, ordinal + 1);
+        }
+        if (publishedYear != null) {
+            byYear.computeIfAbsent(publishedYear.intValue(), year -> new RoaringBitmap()).add(bookId);
+            bookYear.set(bookId, publishedYear);
+        }
+        for (Long genreId : genreIds) {
+            // Assignments to genres that are gone (or not loaded yet) are ignored until the next rebuild
+            if (genreNames.containsKey(genreId)) {
+                byGenre.computeIfAbsent(genreId, id -> new RoaringBitmap()).add(bookId);
+            }
+        }
+    }
+
+    void addGenre(int bookId, Long genreId) {
+        if (live.contains(bookId) && genreNames.containsKey(genreId)) {
+            byGenre.computeIfAbsent(genreId, id -> new RoaringBitmap()).add(bookId);
+        }
+    }
+
+    void removeBook(int bookId) {
+        if (!live.contains(bookId)) {
+            return;
+        }
+        live.remove(bookId);
+        int author = bookAuthor.get(bookId);
+        if (author != 0) {
+            byAuthor.get(author - 1).remove(bookId);
+            bookAuthor.set(bookId, 0);
+        }
+        int year = bookYear.get(bookId);
+        if (year != 0) {
+            RoaringBitmap years = byYear.get(year);
+            if (years != null) {
+                years.remove(bookId);
+            }
+            bookYear.set(bookId, 0);
+        }
+        // Genres are few, so checking each one is cheaper than keeping a per-book genre list
+        byGenre.values().forEach(bitmap -> bitmap.remove(bookId));
+    }
+
+    void seal() {
+        live.runOptimize();
+        byGenre.values().forEach(RoaringBitmap::runOptimize);
+        byYear.values().forEach(RoaringBitmap::runOptimize);
+        byAuthor.forEach(RoaringBitmap::runOptimize);
+        largestAuthors = IntStream.range(0, byAuthor.size())
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer ordinal) -> byAuthor.get(ordinal).getCardinality()).reversed())
+                .limit(TOP_AUTHOR_CANDIDATES)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    int size() {
+        return live.getCardinality();
+    }
+
+    BookFacetResult query(BookFacetQuery query, int page, int size, int maxFacetValues) {
+        RoaringBitmap base = live;
+        if (!query.excludedGenreIds().isEmpty()) {
+            base = RoaringBitmap.andNot(live, union(query.excludedGenreIds().stream().map(byGenre::get).toList()));
+        }
+
+        RoaringBitmap genreFilter = genreFilter(query);
+        RoaringBitmap authorFilter = query.authors().isEmpty() ? null : union(query.authors().stream()
+                .map(author -> authorOrdinals.get(TextNormalizer.fold(author.trim())))
+                .filter(Objects::nonNull)
+                .map(byAuthor::get)
+                .toList());
+        RoaringBitmap yearFilter = query.yearFrom() == null && query.yearTo() == null ? null : union(byYear.subMap(
+                query.yearFrom() == null ? Integer.MIN_VALUE : query.yearFrom(), true,
+                query.yearTo() == null ? Integer.MAX_VALUE : query.yearTo(), true
+        ).values());
+
+        RoaringBitmap result = intersect(base, genreFilter, authorFilter, yearFilter);
+
+        // Each facet is counted with every filter except its own, so users see what widening that facet gives
+        return new BookFacetResult(
+                page(result, page, size),
+                result.getLongCardinality(),
+                genreCounts(intersect(base, authorFilter, yearFilter), maxFacetValues),
+                authorCounts(intersect(base, genreFilter, yearFilter), maxFacetValues),
+                decadeCounts(intersect(base, genreFilter, authorFilter))
+        );
+    }
+
+    private RoaringBitmap genreFilter(BookFacetQuery query) {
+        if (query.genreIds().isEmpty()) {
+            return null;
+        }
+        List<RoaringBitmap> bitmaps = query.genreIds().stream()
+                .map(genreId -> byGenre.getOrDefault(genreId, new RoaringBitmap()))
+                .toList();
+        return query.genreMatch() == BookFacetQuery.GenreMatch.ALL
+                ? FastAggregation.and(bitmaps.iterator())
+                : FastAggregation.or(bitmaps.iterator());
+    }
+
+    private List<BookFacetResult.FacetCount> genreCounts(RoaringBitmap context, int maxFacetValues) {
+        List<BookFacetResult.FacetCount> counts = new ArrayList<>();
+        byGenre.forEach((genreId, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(context, bitmap);
+            if (count > 0) {
+                counts.add(new BookFacetResult.FacetCount(String.valueOf(genreId), genreNames.get(genreId), count));
+            }
+        });
+        return top(counts, maxFacetValues);
+    }
+
+    private List<BookFacetResult.FacetCount> authorCounts(RoaringBitmap context, int maxFacetValues) {
+        List<BookFacetResult.FacetCount> counts = new ArrayList<>();
+        if (context.getCardinality() <= AUTHOR_SCAN_LIMIT) {
+            int[] perAuthor = new int[authorNames.size()];
+            IntIterator ids = context.getIntIterator();
+            while (ids.hasNext()) {
+                int ordinal = bookAuthor.get(ids.next());
+                if (ordinal != 0) {
+                    perAuthor[ordinal - 1]++;
+                }
+            }
+            for (int ordinal = 0; ordinal < perAuthor.length; ordinal++) {
+                if (perAuthor[ordinal] > 0) {
+                    counts.add(authorCount(ordinal, perAuthor[ordinal]));
+                }
+            }
+        } else {
+            for (int ordinal : largestAuthors) {
+                int count = RoaringBitmap.andCardinality(context, byAuthor.get(ordinal));
+                if (count > 0) {
+                    counts.add(authorCount(ordinal, count));
+                }
+            }
+        }
+        return top(counts, maxFacetValues);
+    }
+
+    private BookFacetResult.FacetCount authorCount(int ordinal, int count) {
+        return new BookFacetResult.FacetCount(authorNames.get(ordinal), authorNames.get(ordinal), count);
+    }
+
+    private List<BookFacetResult.FacetCount> decadeCounts(RoaringBitmap context) {
+        Map<Integer, Integer> perDecade = new TreeMap<>(Comparator.reverseOrder());
+        byYear.forEach((year, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(context, bitmap);
+            if (count > 0) {
+                perDecade.merge(year / 10 * 10, count, Integer::sum);
+            }
+        });
+        List<BookFacetResult.FacetCount> counts = new ArrayList<>();
+        perDecade.forEach((decade, count) ->
+                counts.add(new BookFacetResult.FacetCount(decade + "-" + (decade + 9), decade + "s", count)));
+        return counts;
+    }
+
+    // Newest (highest id) first
+    private static List<Long> page(RoaringBitmap result, int page, int size) {
+        int cardinality = result.getCardinality();
+        List<Long> bookIds = new ArrayList<>(size);
+        for (long rank = cardinality - 1L - (long) page * size; rank >= 0 && bookIds.size() < size; rank--) {
+            bookIds.add(Integer.toUnsignedLong(result.select((int) rank)));
+        }
+        return bookIds;
+    }
+
+    private static RoaringBitmap union(Collection<RoaringBitmap> bitmaps) {
+        List<RoaringBitmap> present = bitmaps.stream().filter(Objects::nonNull).toList();
+        return present.isEmpty() ? new RoaringBitmap() : FastAggregation.or(present.iterator());
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private static List<BookFacetResult.FacetCount> top(List<BookFacetResult.FacetCount> counts, int limit) {
+        return counts.stream()
+                .sorted(Comparator.comparingLong(BookFacetResult.FacetCount::count).reversed()
+                        .thenComparing(BookFacetResult.FacetCount::label))
+                .limit(limit)
+                .toList();
+    }
+
+    // Int per book id in fixed-size pages allocated on first write, so memory follows the ids in use:
+    // a single outlying id costs one page, not an array up to it
+    static final class BookValues {
+        private static final int PAGE_BITS = 12;
+        private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+        private static final int MAX_PAGES = (Integer.MAX_VALUE >>> PAGE_BITS) + 1;
+
+        private int[][] pages = new int[16][];
+
+        int get(int bookId) {
+            int page = bookId >>> PAGE_BITS;
+            return page < pages.length && pages[page] != null ? pages[page][bookId & PAGE_MASK] : 0;
+        }
+
+        void set(int bookId, int value) {
+            int page = bookId >>> PAGE_BITS;
+            if (page >= pages.length || pages[page] == null) {
+                if (value == 0) {
+                    return;
+                }
+                if (page >= pages.length) {
+                    pages = Arrays.copyOf(pages, Math.min(MAX_PAGES, Math.max(page + 1, pages.length * 2)));
+                }
+                pages[page] = new int[1 << PAGE_BITS];
+            }
+            pages[page][bookId & PAGE_MASK] = value;
+        }
+
+        int allocatedPages() {
+            return (int) Arrays.stream(pages).filter(Objects::nonNull).count();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import com.bookreviewhub.backend.infrastructure.book.repository.CatalogImportJobRepository;
+import com.bookreviewhub.backend.shared.config.CatalogImportConfig;
+import com.bookreviewhub.backend.shared.event.CatalogImportedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Runs import jobs one at a time on a dedicated thread. Each batch of records is written and checkpointed in one
+// transaction, so a job that fails or dies part-way resumes right after its last committed batch.
+@Slf4j
+@Component
+public class CatalogImportRunner implements DisposableBean {
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final int LOG_EVERY_BATCHES = 100;
+
+    private final CatalogImportJobRepository catalogImportJobRepository;
+    private final CatalogImportWriter catalogImportWriter;
+    private final CatalogImportConfig catalogImportConfig;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final Timer batchTimer;
+
+    // State of the job being run; only touched by the import thread
+    private static class JobRun {
+        private final CatalogImportJobEntity job;
+        private final GenreDictionary genreDictionary;
+        private long processed;
+        private long failed;
+        private int batches;
+
+        JobRun(CatalogImportJobEntity job, GenreDictionary genreDictionary) {
+            this.job = job;
+            this.genreDictionary = genreDictionary;
+            this.processed = job.getRowsProcessed();
+            this.failed = job.getRowsFailed();
+        }
+    }
+
+    public CatalogImportRunner(
+            CatalogImportJobRepository catalogImportJobRepository,
+            CatalogImportWriter catalogImportWriter,
+            CatalogImportConfig catalogImportConfig,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.catalogImportJobRepository = catalogImportJobRepository;
+        this.catalogImportWriter = catalogImportWriter;
+        this.catalogImportConfig = catalogImportConfig;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistry;
+        // Queued jobs are rows in catalog_import_jobs, so an unbounded queue of job ids costs next to nothing
+        this.threadPoolExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("catalog-import-")
+        );
+        this.batchTimer = Timer.builder("imports.catalog.batch")
+                .description("Time spent writing and checkpointing one import batch")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long jobId) {
+        threadPoolExecutor.execute(() -> run(jobId));
+    }
+
+    private void run(Long jobId) {
+        if (catalogImportJobRepository.claim(jobId) == 0) {
+            return;
+        }
+        CatalogImportJobEntity job = catalogImportJobRepository.findById(jobId).orElseThrow();
+        Path file = Path.of(job.getFilePath());
+        log.info("Catalog import {} ({} {}) started at record {}", jobId, job.getKind(), job.getFormat(), job.getRowsProcessed() + 1);
+
+        try (ImportRecordReader reader = ImportRecordReader.open(file, job.getFormat())) {
+            JobRun run = new JobRun(job, GenreDictionary.load(jdbcTemplate, job.getCreatedByAccountId()));
+            reader.skip(run.processed);
+
+            List<ImportRecord> batch = new ArrayList<>(catalogImportConfig.getBatchSize());
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                batch.add(record);
+                if (batch.size() == catalogImportConfig.getBatchSize()) {
+                    writeBatch(run, batch, reader.bytesRead());
+                    batch.clear();
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(run, batch, reader.bytesRead());
+            }
+
+            catalogImportJobRepository.finish(jobId, CatalogImportJobEntity.Status.COMPLETED.name(), null);
+            log.info("Catalog import {} completed: {} records, {} failed", jobId, run.processed, run.failed);
+            deleteFile(file);
+        } catch (InterruptedException e) {
+            fail(jobId, "Import stopped by shutdown; resume it to continue from the last checkpoint", e);
+        } catch (IOException | RuntimeException e) {
+            fail(jobId, NestedExceptionUtils.getMostSpecificCause(e).getMessage(), e);
+        } finally {
+            // Batches committed before a failure are visible too
+            applicationEventPublisher.publishEvent(new CatalogImportedEvent(jobId));
+        }
+    }
+
+    private void writeBatch(JobRun run, List<ImportRecord> batch, long bytesRead) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CatalogImportJobEntity job = run.job;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                CatalogImportWriter.BatchResult result = catalogImportWriter.write(
+                        job.getKind(), batch, job.getCreatedByAccountId(), run.genreDictionary);
+                recordBatch(run, batch.size(), result, bytesRead);
+            });
+        } catch (DataAccessException batchFailure) {
+            // A record the database refuses fails the whole JDBC batch, so the batch is redone record by record
+            log.debug("Catalog import {} batch ending at record {} failed, retrying record by record",
+                    job.getId(), run.processed + batch.size(), batchFailure);
+            run.genreDictionary.reload();
+            int imported = 0;
+            List<CatalogImportWriter.RecordError> errors = new ArrayList<>();
+            for (ImportRecord record : batch) {
+                try {
+                    CatalogImportWriter.BatchResult single = transactionTemplate.execute(status -> catalogImportWriter.write(
+                            job.getKind(), List.of(record), job.getCreatedByAccountId(), run.genreDictionary));
+                    imported += single.imported();
+                    errors.addAll(single.errors());
+                } catch (DataAccessException recordFailure) {
+                    run.genreDictionary.reload();
+                    errors.add(new CatalogImportWriter.RecordError(
+                            record.number(), NestedExceptionUtils.getMostSpecificCause(recordFailure).getMessage()));
+                }
+            }
+            CatalogImportWriter.BatchResult result = new CatalogImportWriter.BatchResult(imported, errors);
+            transactionTemplate.executeWithoutResult(status -> recordBatch(run, batch.size(), result, bytesRead));
+        }
+        sample.stop(batchTimer);
+
+        run.batches++;
+        if (run.batches % LOG_EVERY_BATCHES == 0) {
+            log.info("Catalog import {}: {} records processed, {} failed", job.getId(), run.processed, run.failed);
+        }
+    }
+
+    // Runs inside the batch transaction: the checkpoint only moves if the batch's writes commit
+    private void recordBatch(JobRun run, int batchSize, CatalogImportWriter.BatchResult result, long bytesRead) {
+        List<CatalogImportWriter.RecordError> errors = result.errors();
+        long recordable = Math.max(0, catalogImportConfig.getMaxRecordedErrors() - run.failed);
+        List<CatalogImportWriter.RecordError> recorded = errors.subList(0, (int) Math.min(errors.size(), recordable));
+        if (!recorded.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO catalog_import_errors (job_id, record_number, message) VALUES (?, ?, ?)",
+                    recorded,
+                    recorded.size(),
+                    (statement, error) -> {
+                        statement.setLong(1, run.job.getId());
+                        statement.setLong(2, error.recordNumber());
+                        statement.setString(3, truncate(error.message()));
+                    }
+            );
+        }
+        catalogImportJobRepository.recordProgress(
+                run.job.getId(), run.processed + batchSize, result.imported(), errors.size(), bytesRead);
+
+        run.processed += batchSize;
+        run.failed += errors.size();
+        counter(run.job.getKind(), "imported").increment(result.imported());
+        counter(run.job.getKind(), "failed").increment(errors.size());
+    }
+
+    private Counter counter(CatalogImportJobEntity.Kind kind, String result) {
+        return Counter.builder("imports.catalog.records")
+                .description("Import records written or rejected")
+                .tags("kind", kind.name(), "result", result)
+                .register(meterRegistry);
+    }
+
+    private void fail(Long jobId, String message, Exception cause) {
+        log.warn("Catalog import {} failed: {}", jobId, message, cause);
+        catalogImportJobRepository.finish(jobId, CatalogImportJobEntity.Status.FAILED.name(), truncate(message));
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    // Interrupts the running job, which stops after its current batch and stays resumable
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,353 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import com.bookreviewhub.backend.infrastructure.book.search.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Writes one batch of import records with a handful of JDBC batch statements, whatever the batch size:
+// books upsert on uq_title_author, genres on genres.name, links on the book_genres primary key.
+// Upserts make a batch safe to write twice, which is what lets an interrupted job resume from its last checkpoint.
+// Rows a moderator soft-deleted are never restored by an import; their records are reported as errors on the job.
+@Component
+@RequiredArgsConstructor
+public class CatalogImportWriter {
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_COVER_URL_LENGTH = 511;
+    // Range of the MySQL YEAR column
+    private static final int MIN_YEAR = 1901;
+    private static final int MAX_YEAR = 2155;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record RecordError(long recordNumber, String message) {
+    }
+
+    public record BatchResult(int imported, List<RecordError> errors) {
+    }
+
+    private record BookRow(ImportRecord record, String title, String author, Integer publishedYear, String publisher,
+                           String coverImageUrl, String description, List<String> genres) {
+    }
+
+    private record LinkRow(ImportRecord record, String title, String author, String genre) {
+    }
+
+    private record LinkCandidate(ImportRecord record, long bookId, long genreId, String genre) {
+    }
+
+    private record ExistingRow(long id, boolean deleted) {
+    }
+
+    public BatchResult write(
+            CatalogImportJobEntity.Kind kind,
+            List<ImportRecord> records,
+            Long accountId,
+            GenreDictionary genreDictionary
+    ) {
+        return switch (kind) {
+            case GENRES -> writeGenres(records, genreDictionary);
+            case BOOKS -> writeBooks(records, accountId, genreDictionary);
+            case BOOK_GENRES -> writeBookGenres(records, genreDictionary);
+        };
+    }
+
+    private BatchResult writeGenres(List<ImportRecord> records, GenreDictionary genreDictionary) {
+        List<RecordError> errors = new ArrayList<>();
+        Map<ImportRecord, String> names = new LinkedHashMap<>();
+        for (ImportRecord record : records) {
+            String name = record.field("name");
+            String problem = record.parseError() != null ? record.parseError() : checkText("name", name, true);
+            if (problem != null) {
+                errors.add(new RecordError(record.number(), problem));
+            } else {
+                names.put(record, name);
+            }
+        }
+        Map<String, Long> genreIds = genreDictionary.resolve(names.values());
+        int imported = 0;
+        for (Map.Entry<ImportRecord, String> entry : names.entrySet()) {
+            if (genreIds.containsKey(GenreDictionary.key(entry.getValue()))) {
+                imported++;
+            } else {
+                errors.add(new RecordError(entry.getKey().number(), notRestored("Genre", entry.getValue())));
+            }
+        }
+        return new BatchResult(imported, errors);
+    }
+
+    private BatchResult writeBooks(List<ImportRecord> records, Long accountId, GenreDictionary genreDictionary) {
+        List<RecordError> errors = new ArrayList<>();
+        List<BookRow> parsed = new ArrayList<>();
+        for (ImportRecord record : records) {
+            try {
+                parsed.add(parseBook(record));
+            } catch (IllegalArgumentException e) {
+                errors.add(new RecordError(record.number(), e.getMessage()));
+            }
+        }
+        if (parsed.isEmpty()) {
+            return new BatchResult(0, errors);
+        }
+
+        // Books a moderator removed stay removed; the record is reported instead of written
+        List<BookRow> books = new ArrayList<>();
+        List<ExistingRow> existing = findBooks(titleAuthors(parsed));
+        for (int i = 0; i < parsed.size(); i++) {
+            BookRow book = parsed.get(i);
+            if (existing.get(i) != null && existing.get(i).deleted()) {
+                errors.add(new RecordError(book.record().number(), notRestored("Book", book.title() + " by " + book.author())));
+            } else {
+                books.add(book);
+            }
+        }
+        if (books.isEmpty()) {
+            return new BatchResult(0, errors);
+        }
+
+        // Fields missing from the record keep their current value
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT INTO books (title, author, published_year, publisher, cover_image_url, description, added_by_account_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?) AS new
+                ON DUPLICATE KEY UPDATE
+                    published_year = COALESCE(new.published_year, books.published_year),
+                    publisher = COALESCE(new.publisher, books.publisher),
+                    cover_image_url = COALESCE(new.cover_image_url, books.cover_image_url),
+                    description = COALESCE(new.description, books.description)
+                """,
+                books,
+                books.size(),
+                (statement, book) -> {
+                    statement.setString(1, book.title());
+                    statement.setString(2, book.author());
+                    if (book.publishedYear() == null) {
+                        statement.setNull(3, Types.SMALLINT);
+                    } else {
+                        statement.setInt(3, book.publishedYear());
+                    }
+                    statement.setString(4, book.publisher());
+                    statement.setString(5, book.coverImageUrl());
+                    statement.setString(6, book.description());
+                    statement.setObject(7, accountId);
+                }
+        );
+
+        List<BookRow> withGenres = books.stream().filter(book -> !book.genres().isEmpty()).toList();
+        if (!withGenres.isEmpty()) {
+            List<ExistingRow> bookIds = findBooks(titleAuthors(withGenres));
+            Set<String> genreNames = new LinkedHashSet<>();
+            withGenres.forEach(book -> genreNames.addAll(book.genres()));
+            Map<String, Long> genreIds = genreDictionary.resolve(genreNames);
+
+            List<LinkCandidate> links = new ArrayList<>();
+            for (int i = 0; i < withGenres.size(); i++) {
+                BookRow book = withGenres.get(i);
+                ExistingRow row = bookIds.get(i);
+                if (row == null || row.deleted()) {
+                    errors.add(new RecordError(book.record().number(), "Book could not be found after it was written"));
+                    continue;
+                }
+                for (String genre : book.genres()) {
+                    Long genreId = genreIds.get(GenreDictionary.key(genre));
+                    if (genreId == null) {
+                        errors.add(new RecordError(book.record().number(), notRestored("Genre", genre)));
+                    } else {
+                        links.add(new LinkCandidate(book.record(), row.id(), genreId, genre));
+                    }
+                }
+            }
+            insertLinks(links, errors);
+        }
+        return new BatchResult(books.size(), errors);
+    }
+
+    private BatchResult writeBookGenres(List<ImportRecord> records, GenreDictionary genreDictionary) {
+        List<RecordError> errors = new ArrayList<>();
+        List<LinkRow> rows = new ArrayList<>();
+        for (ImportRecord record : records) {
+            String title = record.field("title");
+            String author = record.field("author");
+            String genre = record.field("genre");
+            String problem = firstProblem(
+                    record.parseError(),
+                    checkText("title", title, true),
+                    checkText("author", author, true),
+                    checkText("genre", genre, true)
+            );
+            if (problem != null) {
+                errors.add(new RecordError(record.number(), problem));
+            } else {
+                rows.add(new LinkRow(record, title, author, genre));
+            }
+        }
+        if (rows.isEmpty()) {
+            return new BatchResult(0, errors);
+        }
+
+        List<ExistingRow> bookIds = findBooks(rows.stream().map(row -> new String[]{row.title(), row.author()}).toList());
+        Map<String, Long> genreIds = genreDictionary.resolve(rows.stream().map(LinkRow::genre).toList());
+        List<LinkCandidate> links = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            LinkRow row = rows.get(i);
+            ExistingRow book = bookIds.get(i);
+            Long genreId = genreIds.get(GenreDictionary.key(row.genre()));
+            if (book == null) {
+                errors.add(new RecordError(row.record().number(), "Book not found: " + row.title() + " by " + row.author()));
+            } else if (book.deleted()) {
+                errors.add(new RecordError(row.record().number(), notRestored("Book", row.title() + " by " + row.author())));
+            } else if (genreId == null) {
+                errors.add(new RecordError(row.record().number(), notRestored("Genre", row.genre())));
+            } else {
+                links.add(new LinkCandidate(row.record(), book.id(), genreId, row.genre()));
+            }
+        }
+        return new BatchResult(insertLinks(links, errors), errors);
+    }
+
+    private BookRow parseBook(ImportRecord record) {
+        String title = record.field("title");
+        String author = record.field("author");
+        String publisher = record.field("publisher");
+        String coverImageUrl = record.field("cover_image_url");
+        String problem = firstProblem(
+                record.parseError(),
+                checkText("title", title, true),
+                checkText("author", author, true),
+                checkText("publisher", publisher, false),
+                coverImageUrl != null && coverImageUrl.length() > MAX_COVER_URL_LENGTH
+                        ? "cover_image_url is longer than " + MAX_COVER_URL_LENGTH + " characters"
+                        : null
+        );
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+
+        Integer publishedYear = null;
+        String year = record.field("published_year");
+        if (year != null) {
+            try {
+                publishedYear = Integer.valueOf(year);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("published_year is not a number: " + year);
+            }
+            if (publishedYear < MIN_YEAR || publishedYear > MAX_YEAR) {
+                throw new IllegalArgumentException("published_year must be between " + MIN_YEAR + " and " + MAX_YEAR);
+            }
+        }
+
+        List<String> genres = new ArrayList<>();
+        String genreList = record.field("genres");
+        if (genreList != null) {
+            for (String genre : genreList.split("\\" + ImportRecordReader.LIST_SEPARATOR)) {
+                if (!genre.isBlank()) {
+                    String genreProblem = checkText("genre", genre.trim(), true);
+                    if (genreProblem != null) {
+                        throw new IllegalArgumentException(genreProblem);
+                    }
+                    genres.add(genre.trim());
+                }
+            }
+        }
+        return new BookRow(record, title, author, publishedYear, publisher, coverImageUrl, record.field("description"), genres);
+    }
+
+    // Rows matching each (title, author) pair, in the order given (null where there is none), in one query on uq_title_author
+    private List<ExistingRow> findBooks(List<String[]> titleAuthors) {
+        Object[] parameters = titleAuthors.stream().flatMap(Arrays::stream).toArray();
+        Map<String, ExistingRow> rows = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, title, author, deleted_at FROM books WHERE (title, author) IN ("
+                        + String.join(", ", Collections.nCopies(titleAuthors.size(), "(?, ?)")) + ")",
+                resultSet -> {
+                    rows.put(
+                            bookKey(resultSet.getString("title"), resultSet.getString("author")),
+                            new ExistingRow(resultSet.getLong("id"), resultSet.getTimestamp("deleted_at") != null)
+                    );
+                },
+                parameters
+        );
+        return titleAuthors.stream().map(titleAuthor -> rows.get(bookKey(titleAuthor[0], titleAuthor[1]))).toList();
+    }
+
+    // Links a moderator removed stay removed and are reported; returns how many links were written
+    private int insertLinks(List<LinkCandidate> candidates, List<RecordError> errors) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<String> removed = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT book_id, genre_id FROM book_genres WHERE deleted_at IS NOT NULL AND (book_id, genre_id) IN ("
+                        + String.join(", ", Collections.nCopies(candidates.size(), "(?, ?)")) + ")",
+                resultSet -> {
+                    removed.add(resultSet.getLong("book_id") + ":" + resultSet.getLong("genre_id"));
+                },
+                candidates.stream().flatMap(link -> Stream.of(link.bookId(), link.genreId())).toArray()
+        );
+        List<LinkCandidate> links = new ArrayList<>();
+        for (LinkCandidate link : candidates) {
+            if (removed.contains(link.bookId() + ":" + link.genreId())) {
+                errors.add(new RecordError(link.record().number(), notRestored("Genre link", link.genre())));
+            } else {
+                links.add(link);
+            }
+        }
+        if (links.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO book_genres (book_id, genre_id) VALUES (?, ?) ON DUPLICATE KEY UPDATE book_id = book_id",
+                links,
+                links.size(),
+                (statement, link) -> {
+                    statement.setLong(1, link.bookId());
+                    statement.setLong(2, link.genreId());
+                }
+        );
+        return links.size();
+    }
+
+    private static List<String[]> titleAuthors(List<BookRow> books) {
+        return books.stream().map(book -> new String[]{book.title(), book.author()}).toList();
+    }
+
+    // Folds case and accents like the (accent-insensitive) collation of uq_title_author, so a stored title that
+    // differs from the record's only in those still finds the record
+    private static String bookKey(String title, String author) {
+        return TextNormalizer.fold(title) + '\u0000' + TextNormalizer.fold(author);
+    }
+
+    private static String notRestored(String kind, String name) {
+        return kind + " was removed and is not restored by an import: " + name;
+    }
+
+    private static String checkText(String field, String value, boolean required) {
+        if (value == null) {
+            return required ? field + " is required" : null;
+        }
+        return value.length() > MAX_TEXT_LENGTH ? field + " is longer than " + MAX_TEXT_LENGTH + " characters" : null;
+    }
+
+    private static String firstProblem(String... problems) {
+        for (String problem : problems) {
+            if (problem != null) {
+                return problem;
+            }
+        }
+        return null;
+    }
+}
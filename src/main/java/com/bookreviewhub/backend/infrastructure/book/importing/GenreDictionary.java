@@ -0,0 +1,99 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import com.bookreviewhub.backend.infrastructure.book.search.TextNormalizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Genre name to id map held for the duration of one import, so records resolve their genres without a query each.
+// Names are matched case- and accent-insensitively, like the unique index on genres.name; unknown names are upserted
+// in one batch. Genres a moderator removed stay removed and never resolve.
+public class GenreDictionary {
+    private final JdbcTemplate jdbcTemplate;
+    private final Long accountId;
+    private final Map<String, Long> idsByName = new HashMap<>();
+    private final Set<String> removed = new HashSet<>();
+
+    private GenreDictionary(JdbcTemplate jdbcTemplate, Long accountId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountId = accountId;
+    }
+
+    public static GenreDictionary load(JdbcTemplate jdbcTemplate, Long accountId) {
+        GenreDictionary genreDictionary = new GenreDictionary(jdbcTemplate, accountId);
+        genreDictionary.reload();
+        return genreDictionary;
+    }
+
+    // Also called after a rolled-back batch, whose newly inserted genres no longer exist
+    public void reload() {
+        idsByName.clear();
+        removed.clear();
+        jdbcTemplate.query("SELECT id, name, deleted_at FROM genres", this::remember);
+    }
+
+    // Ids of the given genre names, creating genres that do not exist yet; removed genres are left out
+    public Map<String, Long> resolve(Collection<String> names) {
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = key(name);
+            if (!idsByName.containsKey(key) && !removed.contains(key)) {
+                missing.putIfAbsent(key, name.trim());
+            }
+        }
+        if (!missing.isEmpty()) {
+            upsert(new ArrayList<>(missing.values()));
+        }
+
+        Map<String, Long> resolved = new HashMap<>();
+        for (String name : names) {
+            Long id = idsByName.get(key(name));
+            if (id != null) {
+                resolved.put(key(name), id);
+            }
+        }
+        return resolved;
+    }
+
+    public static String key(String name) {
+        return TextNormalizer.fold(name.trim());
+    }
+
+    private void upsert(List<String> names) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO genres (name, added_by_account_id) VALUES (?, ?) ON DUPLICATE KEY UPDATE id = id",
+                names,
+                names.size(),
+                (statement, name) -> {
+                    statement.setString(1, name);
+                    statement.setObject(2, accountId);
+                }
+        );
+        // Generated keys are not reliable for batched upserts, so the ids are read back in one query
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        jdbcTemplate.query(
+                "SELECT id, name, deleted_at FROM genres WHERE name IN (" + placeholders + ")",
+                this::remember,
+                names.toArray()
+        );
+    }
+
+    private void remember(ResultSet resultSet) throws SQLException {
+        String key = key(resultSet.getString("name"));
+        if (resultSet.getTimestamp("deleted_at") == null) {
+            idsByName.put(key, resultSet.getLong("id"));
+        } else {
+            removed.add(key);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import java.util.Map;
+
+// One record of an import file: its 1-based position among the file's records and its fields by lower-case name.
+// A record that could not be parsed carries the parse error instead of fields.
+public record ImportRecord(long number, Map<String, String> fields, String parseError) {
+
+    // Trimmed value of a field, or null when it is missing or blank
+    public String field(String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+}
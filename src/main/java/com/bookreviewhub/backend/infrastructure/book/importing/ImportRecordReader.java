@@ -0,0 +1,176 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Reads an import file one record at a time, so memory use does not depend on the size of the file.
+// CSV files need a header row; JSON-lines files hold one object per line, where a list value is joined with '|'.
+public class ImportRecordReader implements Closeable {
+    public static final String LIST_SEPARATOR = "|";
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private final CountingInputStream input;
+    private final CatalogImportJobEntity.Format format;
+    private final MappingIterator<Map<String, String>> csvRecords;
+    private final BufferedReader jsonLines;
+    private long number = 0;
+
+    private ImportRecordReader(CountingInputStream input, CatalogImportJobEntity.Format format) throws IOException {
+        this.input = input;
+        this.format = format;
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        if (format == CatalogImportJobEntity.Format.CSV) {
+            this.csvRecords = CSV_MAPPER.readerFor(Map.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(reader);
+            this.jsonLines = null;
+        } else {
+            this.csvRecords = null;
+            this.jsonLines = new BufferedReader(reader);
+        }
+    }
+
+    public static ImportRecordReader open(Path file, CatalogImportJobEntity.Format format) throws IOException {
+        InputStream input = Files.newInputStream(file);
+        try {
+            return new ImportRecordReader(new CountingInputStream(input), format);
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    // Next record, or null at the end of the file. A malformed JSON line becomes a record with a parse error;
+    // malformed CSV cannot be resynchronised, so it fails the read with the number of the offending record.
+    public ImportRecord next() throws IOException {
+        return format == CatalogImportJobEntity.Format.CSV ? nextCsv() : nextJsonLine();
+    }
+
+    // Skips records already committed by an earlier run of the same job
+    public void skip(long records) throws IOException {
+        for (long skipped = 0; skipped < records; skipped++) {
+            if (next() == null) {
+                return;
+            }
+        }
+    }
+
+    // Bytes consumed from the file so far (read-ahead included), for progress reporting
+    public long bytesRead() {
+        return input.count;
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        try {
+            if (!csvRecords.hasNextValue()) {
+                return null;
+            }
+            Map<String, String> values = csvRecords.nextValue();
+            number++;
+            return new ImportRecord(number, normalize(values), null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed CSV at record " + (number + 1) + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private ImportRecord nextJsonLine() throws IOException {
+        String line;
+        do {
+            line = jsonLines.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        number++;
+
+        try {
+            Map<?, ?> values = JSON_MAPPER.readValue(line, Map.class);
+            return new ImportRecord(number, normalize(values), null);
+        } catch (JsonProcessingException e) {
+            return new ImportRecord(number, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, String> normalize(Map<?, ?> values) {
+        Map<String, String> fields = new HashMap<>(values.size() * 2);
+        values.forEach((name, value) -> {
+            if (name != null && value != null) {
+                fields.put(name.toString().trim().toLowerCase(Locale.ROOT), toText(value));
+            }
+        });
+        return fields;
+    }
+
+    private static String toText(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR));
+        }
+        return value.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (csvRecords != null) {
+            csvRecords.close();
+        }
+        if (jsonLines != null) {
+            jsonLines.close();
+        }
+        input.close();
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        CountingInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            long skipped = super.skip(length);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+import java.time.LocalDateTime;
+
+public interface BookDetailsView {
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    Short getPublishedYear();
+
+    String getPublisher();
+
+    String getCoverImageUrl();
+
+    String getDescription();
+
+    Long getAddedByAccountId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,9 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+public interface BookFacetView {
+    Long getId();
+
+    String getAuthor();
+
+    Short getPublishedYear();
+}
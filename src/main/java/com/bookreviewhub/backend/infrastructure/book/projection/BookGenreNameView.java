@@ -0,0 +1,9 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+public interface BookGenreNameView {
+    Long getBookId();
+
+    Long getGenreId();
+
+    String getName();
+}
@@ -0,0 +1,7 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+public interface BookGenreView {
+    Long getBookId();
+
+    Long getGenreId();
+}
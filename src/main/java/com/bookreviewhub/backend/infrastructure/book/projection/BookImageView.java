@@ -0,0 +1,15 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.BookImageEntity;
+
+public interface BookImageView {
+    Long getId();
+
+    Long getBookId();
+
+    String getImageUrl();
+
+    BookImageEntity.Type getType();
+
+    Long getUploadedByAccountId();
+}
@@ -0,0 +1,11 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+import java.math.BigDecimal;
+
+public interface BookRatingSummaryView {
+    Long getBookId();
+
+    int getReviewCount();
+
+    BigDecimal getAverageRating();
+}
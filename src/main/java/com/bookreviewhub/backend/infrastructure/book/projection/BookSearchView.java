@@ -0,0 +1,21 @@
+package com.bookreviewhub.backend.infrastructure.book.projection;
+
+import java.time.LocalDateTime;
+
+public interface BookSearchView {
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getPublisher();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getDeletedAt();
+}
@@ -0,0 +1,337 @@
+package com.bookreviewhub.backend.infrastructure.book.ranking;
+
+import com.bookreviewhub.backend.infrastructure.book.projection.BookGenreView;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookGenreRepository;
+import com.bookreviewhub.backend.shared.config.BookRankingConfig;
+import com.bookreviewhub.backend.shared.event.BookChangedEvent;
+import com.bookreviewhub.backend.shared.event.CatalogImportedEvent;
+import com.bookreviewhub.backend.shared.event.ReviewChangedEvent;
+import com.bookreviewhub.backend.shared.event.ReviewVotedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// In-memory "trending" and "top rated" lists, overall and per genre, served without touching the database.
+// Local review and vote events update the scores incrementally; a periodic resync replays recent activity from
+// the database to pick up other instances and deleted reviews. Trending scores are snapshotted to
+// book_trending_scores, so a restart loads the snapshot and replays only the activity since.
+@Slf4j
+@Component
+public class BookRankingIndex {
+    private static final String UPSERT_SCORE_SQL = """
+            INSERT INTO book_trending_scores (book_id, score, scored_at)
+            VALUES (?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE score = new.score, scored_at = new.scored_at
+            """;
+    private static final int SNAPSHOT_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookGenreRepository bookGenreRepository;
+    private final BookRankingConfig bookRankingConfig;
+
+    // A review never moves to another book, so its book id can be cached for good
+    private final Cache<Long, Long> bookIdByReview = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private RankingState state;
+    private volatile boolean ready = false;
+
+    // Changes applied while a rebuild was reading, re-applied to the rebuilt state before it is swapped in.
+    // Ratings and genres are absolute values, so re-applying them is safe; trending activity the rebuild had
+    // already read is counted twice until the next resync.
+    private boolean rebuilding = false;
+    private final List<Consumer<RankingState>> changedDuringRebuild = new ArrayList<>();
+
+    public BookRankingIndex(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            BookGenreRepository bookGenreRepository,
+            BookRankingConfig bookRankingConfig
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bookGenreRepository = bookGenreRepository;
+        this.bookRankingConfig = bookRankingConfig;
+        this.state = new RankingState(bookRankingConfig, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        rebuild(true);
+    }
+
+    @Scheduled(initialDelayString = "${app.books.rankings.resync-interval:PT1H}", fixedDelayString = "${app.books.rankings.resync-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void resync() {
+        rebuild(false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        rebuild(true);
+    }
+
+    // The book's rating tally is read back from book_rating_stats, which the review's transaction has just updated;
+    // deleted reviews keep their trending weight until the next resync
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        long now = System.currentTimeMillis();
+        boolean ratingChanged = event.rating() != null || event.previousRating() != null;
+        long[] rating = ratingChanged ? findRating(event.bookId()) : null;
+
+        lock.writeLock().lock();
+        try {
+            if (event.type() == ReviewChangedEvent.Type.CREATED) {
+                apply(ranking -> ranking.addTrending(event.bookId(), bookRankingConfig.getReviewWeight(), now));
+            }
+            if (rating != null) {
+                apply(ranking -> ranking.setRating(event.bookId(), rating[0], rating[1]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Only upvotes count towards trending; a retracted upvote takes back only what it still contributes,
+    // its weight decayed from when it was cast
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewVoted(ReviewVotedEvent event) {
+        if (event.upvoteDelta() == 0) {
+            return;
+        }
+        Long bookId = bookIdByReview.get(event.reviewId(), this::findBookIdOfReview);
+        if (bookId == null) {
+            return;
+        }
+        long at = event.upvoteDelta() < 0 && event.retractedUpvoteCastAt() != null
+                ? event.retractedUpvoteCastAt().toEpochMilli()
+                : System.currentTimeMillis();
+        double weight = event.upvoteDelta() * bookRankingConfig.getUpvoteWeight();
+
+        lock.writeLock().lock();
+        try {
+            apply(ranking -> ranking.addTrending(bookId, weight, at));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        List<Long> genreIds = event.type() == BookChangedEvent.Type.DELETED
+                ? null
+                : bookGenreRepository.findLiveGenreIdsByBookId(event.bookId());
+
+        lock.writeLock().lock();
+        try {
+            if (genreIds == null) {
+                apply(ranking -> ranking.removeBook(event.bookId()));
+            } else {
+                apply(ranking -> ranking.setGenres(event.bookId(), genreIds));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // genreId null means the overall list; trending scores are decayed to now
+    public List<RankedBook> top(BookRankingType type, Long genreId, int limit) {
+        lock.readLock().lock();
+        try {
+            return state.top(type, genreId, limit, System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Also where the lists are rebuilt from the full score maps, so a dropped score is corrected within one interval
+    @Scheduled(initialDelayString = "${app.books.rankings.snapshot-interval:PT5M}", fixedDelayString = "${app.books.rankings.snapshot-interval:PT5M}")
+    public void snapshot() {
+        if (!ready) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<Long, Double> scores;
+        lock.writeLock().lock();
+        try {
+            state.rebase(now, bookRankingConfig.getMinTrendingScore());
+            state.rebuildLists();
+            scores = state.trendingScores();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Timestamp scoredAt = new Timestamp(now);
+        List<Map.Entry<Long, Double>> rows = new ArrayList<>(scores.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SCORE_SQL, rows, SNAPSHOT_BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.getKey());
+                    ps.setDouble(2, row.getValue());
+                    ps.setTimestamp(3, scoredAt);
+                });
+                jdbcTemplate.update("DELETE FROM book_trending_scores WHERE scored_at < ?", scoredAt);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to snapshot {} trending scores, retrying on next interval", rows.size(), e);
+        }
+    }
+
+    // Built off to the side and swapped in, so requests keep using the old lists meanwhile
+    private void rebuild(boolean fromSnapshot) {
+        rebuildLock.lock();
+        try {
+            setRebuilding(true);
+            RankingState rebuilt;
+            try {
+                rebuilt = load(fromSnapshot);
+            } catch (RuntimeException e) {
+                setRebuilding(false);
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild.forEach(change -> change.accept(rebuilt));
+                rebuilt.rebuildLists();
+                state = rebuilt;
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("Book rankings built with {} trending and {} rated books", rebuilt.trendingCount(), rebuilt.ratedCount());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setRebuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = value;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private RankingState load(boolean fromSnapshot) {
+        long now = System.currentTimeMillis();
+        RankingState loaded = new RankingState(bookRankingConfig, now);
+
+        Map<Long, List<Long>> genresByBook = new HashMap<>();
+        try (Stream<BookGenreView> assignments = bookGenreRepository.streamLiveAssignments()) {
+            assignments.forEach(assignment ->
+                    genresByBook.computeIfAbsent(assignment.getBookId(), bookId -> new ArrayList<>()).add(assignment.getGenreId()));
+        }
+        genresByBook.forEach(loaded::setGenres);
+
+        stream("""
+                SELECT s.book_id, s.review_count, s.rating_sum
+                FROM book_rating_stats s
+                JOIN books b ON b.id = s.book_id AND b.deleted_at IS NULL
+                WHERE s.review_count > 0
+                """, null, resultSet -> loaded.setRating(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3)));
+
+        // Activity older than the replay window has decayed to almost nothing
+        long replayFrom = now - bookRankingConfig.getTrendingHalfLife().toMillis() * bookRankingConfig.getReplayHalfLives();
+        if (fromSnapshot) {
+            long[] snapshotAt = {replayFrom};
+            stream("""
+                    SELECT s.book_id, s.score, s.scored_at
+                    FROM book_trending_scores s
+                    JOIN books b ON b.id = s.book_id AND b.deleted_at IS NULL
+                    """, null, resultSet -> {
+                long scoredAt = resultSet.getTimestamp(3).getTime();
+                loaded.addTrending(resultSet.getLong(1), resultSet.getDouble(2), scoredAt);
+                snapshotAt[0] = Math.max(snapshotAt[0], scoredAt);
+            });
+            replayFrom = snapshotAt[0];
+        }
+
+        Timestamp since = new Timestamp(replayFrom);
+        double reviewWeight = bookRankingConfig.getReviewWeight();
+        double upvoteWeight = bookRankingConfig.getUpvoteWeight();
+        stream("""
+                SELECT r.book_id, r.created_at
+                FROM reviews r
+                JOIN books b ON b.id = r.book_id AND b.deleted_at IS NULL
+                WHERE r.created_at > ? AND r.previous_review_id IS NULL AND r.deleted_at IS NULL
+                """, since, resultSet -> loaded.addTrending(resultSet.getLong(1), reviewWeight, resultSet.getTimestamp(2).getTime()));
+        stream("""
+                SELECT r.book_id, v.created_at
+                FROM review_votes v
+                JOIN reviews r ON r.id = v.review_id
+                JOIN books b ON b.id = r.book_id AND b.deleted_at IS NULL
+                WHERE v.created_at > ? AND v.vote_type = 'UPVOTE' AND v.deleted_at IS NULL
+                """, since, resultSet -> loaded.addTrending(resultSet.getLong(1), upvoteWeight, resultSet.getTimestamp(2).getTime()));
+
+        loaded.rebase(System.currentTimeMillis(), bookRankingConfig.getMinTrendingScore());
+        return loaded;
+    }
+
+    // Fetch size MIN_VALUE makes MySQL stream rows instead of buffering the whole result
+    private void stream(String sql, Timestamp since, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            if (since != null) {
+                statement.setTimestamp(1, since);
+            }
+            return statement;
+        }, handler);
+    }
+
+    // Caller holds the write lock
+    private void apply(Consumer<RankingState> change) {
+        change.accept(state);
+        if (rebuilding) {
+            changedDuringRebuild.add(change);
+        }
+    }
+
+    private long[] findRating(Long bookId) {
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT review_count, rating_sum FROM book_rating_stats WHERE book_id = ?",
+                (resultSet, rowNum) -> new long[]{resultSet.getLong(1), resultSet.getLong(2)},
+                bookId
+        );
+        return rows.isEmpty() ? new long[2] : rows.get(0);
+    }
+
+    private Long findBookIdOfReview(Long reviewId) {
+        List<Long> rows = jdbcTemplate.queryForList("SELECT book_id FROM reviews WHERE id = ?", Long.class, reviewId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
@@ -0,0 +1,6 @@
+package com.bookreviewhub.backend.infrastructure.book.ranking;
+
+// TRENDING ranks by time-decayed review and upvote activity, TOP_RATED by Bayesian-adjusted average rating
+public enum BookRankingType {
+    TRENDING, TOP_RATED
+}
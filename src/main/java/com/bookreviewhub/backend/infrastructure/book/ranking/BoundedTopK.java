@@ -0,0 +1,48 @@
+package com.bookreviewhub.backend.infrastructure.book.ranking;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// The best `capacity` books of one list, best first; ties go to the lower book id so the order is stable.
+// Offering a book that does not beat the current last one is a single comparison. A member whose score drops
+// keeps its place until the list is rebuilt, since the books it might fall behind are not tracked here.
+final class BoundedTopK {
+    private static final Comparator<RankedBook> ORDER = Comparator.<RankedBook>comparingDouble(RankedBook::score)
+            .reversed()
+            .thenComparingLong(RankedBook::bookId);
+
+    private final int capacity;
+    private final TreeSet<RankedBook> ranked = new TreeSet<>(ORDER);
+    private final Map<Long, RankedBook> members = new HashMap<>();
+
+    BoundedTopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(long bookId, double score) {
+        remove(bookId);
+        RankedBook candidate = new RankedBook(bookId, score);
+        if (ranked.size() >= capacity) {
+            if (ORDER.compare(candidate, ranked.last()) >= 0) {
+                return;
+            }
+            members.remove(ranked.pollLast().bookId());
+        }
+        ranked.add(candidate);
+        members.put(bookId, candidate);
+    }
+
+    void remove(long bookId) {
+        RankedBook previous = members.remove(bookId);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+    }
+
+    List<RankedBook> top(int limit) {
+        return ranked.stream().limit(limit).toList();
+    }
+}
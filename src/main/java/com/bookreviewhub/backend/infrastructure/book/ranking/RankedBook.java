@@ -0,0 +1,4 @@
+package com.bookreviewhub.backend.infrastructure.book.ranking;
+
+public record RankedBook(long bookId, double score) {
+}
@@ -0,0 +1,164 @@
+package com.bookreviewhub.backend.infrastructure.book.ranking;
+
+import com.bookreviewhub.backend.shared.config.BookRankingConfig;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Scores of every ranked book, and the top-K lists built from them. Not thread-safe; BookRankingIndex guards it.
+// Trending scores are kept relative to a reference instant: activity of weight w at time t adds
+// w * e^(lambda * (t - reference)), so all scores decay at the same rate and time passing never reorders a list.
+// rebase() moves the reference forward before the exponents grow large.
+final class RankingState {
+    // List key of the overall lists; genre ids start at 1
+    private static final long ALL_GENRES = 0L;
+
+    private final double decayPerMilli;
+    private final double priorWeight;
+    private final int topK;
+    private long referenceMillis;
+
+    private final Map<Long, Double> trending = new HashMap<>();
+    // Review count and rating sum per book
+    private final Map<Long, long[]> ratings = new HashMap<>();
+    private long ratingCount;
+    private long ratingSum;
+    private final Map<Long, List<Long>> genresByBook = new HashMap<>();
+
+    private final Map<Long, BoundedTopK> trendingLists = new HashMap<>();
+    private final Map<Long, BoundedTopK> topRatedLists = new HashMap<>();
+
+    RankingState(BookRankingConfig config, long nowMillis) {
+        this.decayPerMilli = Math.log(2) / config.getTrendingHalfLife().toMillis();
+        this.priorWeight = config.getRatingPriorWeight();
+        this.topK = config.getTopK();
+        this.referenceMillis = nowMillis;
+    }
+
+    // Negative weights take activity back (a retracted upvote, at the time it was cast); a book that reaches zero
+    // leaves the lists
+    void addTrending(long bookId, double weight, long atMillis) {
+        double score = trending.merge(bookId, weight * Math.exp(decayPerMilli * (atMillis - referenceMillis)), Double::sum);
+        if (score <= 0) {
+            trending.remove(bookId);
+            removeFromLists(trendingLists, bookId);
+        } else {
+            offerToLists(trendingLists, bookId, score);
+        }
+    }
+
+    // Review count and rating sum of a book, as in book_rating_stats; the catalog-wide mean moves with them
+    void setRating(long bookId, long count, long sum) {
+        long[] previous = count > 0 ? ratings.put(bookId, new long[]{count, sum}) : ratings.remove(bookId);
+        if (previous != null) {
+            ratingCount -= previous[0];
+            ratingSum -= previous[1];
+        }
+        if (count > 0) {
+            ratingCount += count;
+            ratingSum += sum;
+            offerToLists(topRatedLists, bookId, bayesianRating(count, sum));
+        } else {
+            removeFromLists(topRatedLists, bookId);
+        }
+    }
+
+    void setGenres(long bookId, List<Long> genreIds) {
+        removeFromLists(trendingLists, bookId);
+        removeFromLists(topRatedLists, bookId);
+        if (genreIds.isEmpty()) {
+            genresByBook.remove(bookId);
+        } else {
+            genresByBook.put(bookId, List.copyOf(genreIds));
+        }
+
+        Double score = trending.get(bookId);
+        if (score != null) {
+            offerToLists(trendingLists, bookId, score);
+        }
+        long[] rating = ratings.get(bookId);
+        if (rating != null) {
+            offerToLists(topRatedLists, bookId, bayesianRating(rating[0], rating[1]));
+        }
+    }
+
+    void removeBook(long bookId) {
+        removeFromLists(trendingLists, bookId);
+        removeFromLists(topRatedLists, bookId);
+        trending.remove(bookId);
+        setRating(bookId, 0, 0);
+        genresByBook.remove(bookId);
+    }
+
+    // Decays every trending score to now and drops the ones that have faded away
+    void rebase(long nowMillis, double minScore) {
+        double factor = Math.exp(-decayPerMilli * (nowMillis - referenceMillis));
+        trending.replaceAll((bookId, score) -> score * factor);
+        trending.values().removeIf(score -> score < minScore);
+        referenceMillis = nowMillis;
+    }
+
+    // Refills every list from the full score maps: members whose score dropped are replaced by the books
+    // that overtook them, and top-rated scores pick up the latest catalog-wide mean
+    void rebuildLists() {
+        trendingLists.clear();
+        topRatedLists.clear();
+        trending.forEach((bookId, score) -> offerToLists(trendingLists, bookId, score));
+        ratings.forEach((bookId, rating) -> offerToLists(topRatedLists, bookId, bayesianRating(rating[0], rating[1])));
+    }
+
+    List<RankedBook> top(BookRankingType type, Long genreId, int limit, long nowMillis) {
+        Map<Long, BoundedTopK> lists = type == BookRankingType.TRENDING ? trendingLists : topRatedLists;
+        BoundedTopK list = lists.get(genreId == null ? ALL_GENRES : genreId);
+        if (list == null) {
+            return List.of();
+        }
+        List<RankedBook> top = list.top(limit);
+        if (type == BookRankingType.TOP_RATED) {
+            return top;
+        }
+        double factor = Math.exp(-decayPerMilli * (nowMillis - referenceMillis));
+        return top.stream()
+                .map(book -> new RankedBook(book.bookId(), book.score() * factor))
+                .toList();
+    }
+
+    // Trending scores decayed to the reference instant, which rebase() has just moved to now
+    Map<Long, Double> trendingScores() {
+        return Map.copyOf(trending);
+    }
+
+    int trendingCount() {
+        return trending.size();
+    }
+
+    int ratedCount() {
+        return ratings.size();
+    }
+
+    private double bayesianRating(long count, long sum) {
+        double mean = ratingCount == 0 ? 0 : (double) ratingSum / ratingCount;
+        return (priorWeight * mean + sum) / (priorWeight + count);
+    }
+
+    private void offerToLists(Map<Long, BoundedTopK> lists, long bookId, double score) {
+        lists.computeIfAbsent(ALL_GENRES, key -> new BoundedTopK(topK)).offer(bookId, score);
+        for (Long genreId : genresByBook.getOrDefault(bookId, List.of())) {
+            lists.computeIfAbsent(genreId, key -> new BoundedTopK(topK)).offer(bookId, score);
+        }
+    }
+
+    private void removeFromLists(Map<Long, BoundedTopK> lists, long bookId) {
+        BoundedTopK all = lists.get(ALL_GENRES);
+        if (all != null) {
+            all.remove(bookId);
+        }
+        for (Long genreId : genresByBook.getOrDefault(bookId, List.of())) {
+            BoundedTopK list = lists.get(genreId);
+            if (list != null) {
+                list.remove(bookId);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.bookreviewhub.backend.infrastructure.book.repository;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.BookGenreEntity;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookGenreNameView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookGenreView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface BookGenreRepository extends JpaRepository<BookGenreEntity, BookGenreEntity.BookGenreId> {
+    // Live assignments of live genres (fetch size MIN_VALUE makes MySQL stream rows)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select bg.bookId as bookId, bg.genreId as genreId
+            from BookGenreEntity bg, GenreEntity g
+            where g.id = bg.genreId and bg.deletedAt is null and g.deletedAt is null
+            """)
+    Stream<BookGenreView> streamLiveAssignments();
+
+    @Query("""
+            select bg.genreId
+            from BookGenreEntity bg, GenreEntity g
+            where bg.bookId = :bookId and g.id = bg.genreId and bg.deletedAt is null and g.deletedAt is null
+            """)
+    List<Long> findLiveGenreIdsByBookId(@Param("bookId") Long bookId);
+
+    @Query("""
+            select bg.bookId as bookId, g.id as genreId, g.name as name
+            from BookGenreEntity bg, GenreEntity g
+            where bg.bookId in :bookIds and g.id = bg.genreId and bg.deletedAt is null and g.deletedAt is null
+            order by g.name
+            """)
+    List<BookGenreNameView> findLiveGenreNamesByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    // Re-assigning a previously removed genre revives its row
+    @Modifying
+    @Query(value = """
+            INSERT INTO book_genres (book_id, genre_id, deleted_at)
+            VALUES (:bookId, :genreId, NULL)
+            ON DUPLICATE KEY UPDATE deleted_at = NULL
+            """, nativeQuery = true)
+    void assign(@Param("bookId") Long bookId, @Param("genreId") Long genreId);
+
+    @Modifying
+    @Query("""
+            update BookGenreEntity bg set bg.deletedAt = CURRENT_TIMESTAMP
+            where bg.bookId = :bookId and bg.deletedAt is null and bg.genreId not in :keptGenreIds
+            """)
+    int unassignExcept(@Param("bookId") Long bookId, @Param("keptGenreIds") Collection<Long> keptGenreIds);
+
+    @Modifying
+    @Query("""
+            update BookGenreEntity bg set bg.deletedAt = CURRENT_TIMESTAMP
+            where bg.bookId = :bookId and bg.deletedAt is null
+            """)
+    int unassignAll(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,24 @@
+package com.bookreviewhub.backend.infrastructure.book.repository;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.BookImageEntity;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookImageView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookImageRepository extends JpaRepository<BookImageEntity, Long> {
+    // Live images of a set of books, in upload order (served by idx_book_id)
+    @Query("""
+            select i.id as id, i.bookId as bookId, i.imageUrl as imageUrl, i.type as type,
+                   i.uploadedByAccountId as uploadedByAccountId
+            from BookImageEntity i
+            where i.bookId in :bookIds and i.deletedAt is null
+            order by i.bookId, i.id
+            """)
+    List<BookImageView> findLiveViewsByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+}
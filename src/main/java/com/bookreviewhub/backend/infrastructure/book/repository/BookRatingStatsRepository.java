@@ -0,0 +1,107 @@
+package com.bookreviewhub.backend.infrastructure.book.repository;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.BookRatingStatsEntity;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookRatingSummaryView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookRatingStatsRepository extends JpaRepository<BookRatingStatsEntity, Long> {
+    // Single atomic upsert, so concurrent review writes on the same book never lose an update.
+    // The average is assigned first, from the old values plus the delta, so it does not depend on whether the
+    // database evaluates later assignments against updated columns (MySQL) or the original row. The sum is cast so
+    // the division is decimal rather than integer on every database.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO book_rating_stats (book_id, review_count, rating_sum,
+                    rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, average_rating, updated_at)
+            VALUES (:bookId, :countDelta, :sumDelta, :delta1, :delta2, :delta3, :delta4, :delta5,
+                    CASE WHEN :countDelta > 0 THEN CAST(:sumDelta AS DECIMAL(10, 2)) / :countDelta ELSE 0 END, NOW())
+            ON DUPLICATE KEY UPDATE
+                average_rating = CASE WHEN review_count + :countDelta > 0
+                    THEN CAST(rating_sum + :sumDelta AS DECIMAL(10, 2)) / (review_count + :countDelta) ELSE 0 END,
+                review_count = review_count + :countDelta,
+                rating_sum = rating_sum + :sumDelta,
+                rating_1_count = rating_1_count + :delta1,
+                rating_2_count = rating_2_count + :delta2,
+                rating_3_count = rating_3_count + :delta3,
+                rating_4_count = rating_4_count + :delta4,
+                rating_5_count = rating_5_count + :delta5,
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void applyDelta(
+            @Param("bookId") Long bookId,
+            @Param("countDelta") int countDelta,
+            @Param("sumDelta") int sumDelta,
+            @Param("delta1") int delta1,
+            @Param("delta2") int delta2,
+            @Param("delta3") int delta3,
+            @Param("delta4") int delta4,
+            @Param("delta5") int delta5
+    );
+
+    // Recomputes the aggregates of a range of books from the live, current reviews
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO book_rating_stats (book_id, review_count, rating_sum,
+                    rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, average_rating, updated_at)
+            SELECT * FROM (
+                SELECT r.book_id, COUNT(*) AS review_count, SUM(r.rating) AS rating_sum,
+                       SUM(r.rating = 1) AS rating_1_count, SUM(r.rating = 2) AS rating_2_count,
+                       SUM(r.rating = 3) AS rating_3_count, SUM(r.rating = 4) AS rating_4_count,
+                       SUM(r.rating = 5) AS rating_5_count, AVG(r.rating) AS average_rating, NOW() AS updated_at
+                FROM reviews r
+                WHERE r.book_id BETWEEN :fromBookId AND :toBookId
+                  AND r.deleted_at IS NULL
+                  AND r.rating IS NOT NULL
+                  AND r.is_current = TRUE
+                GROUP BY r.book_id
+            ) AS live
+            ON DUPLICATE KEY UPDATE
+                review_count = live.review_count,
+                rating_sum = live.rating_sum,
+                rating_1_count = live.rating_1_count,
+                rating_2_count = live.rating_2_count,
+                rating_3_count = live.rating_3_count,
+                rating_4_count = live.rating_4_count,
+                rating_5_count = live.rating_5_count,
+                average_rating = live.average_rating,
+                updated_at = live.updated_at
+            """, nativeQuery = true)
+    int rebuildRange(@Param("fromBookId") Long fromBookId, @Param("toBookId") Long toBookId);
+
+    // Books whose last live review went away keep their row, reset to zero
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE book_rating_stats s
+            SET s.review_count = 0, s.rating_sum = 0,
+                s.rating_1_count = 0, s.rating_2_count = 0, s.rating_3_count = 0, s.rating_4_count = 0, s.rating_5_count = 0,
+                s.average_rating = 0, s.updated_at = NOW()
+            WHERE s.book_id BETWEEN :fromBookId AND :toBookId
+              AND s.review_count <> 0
+              AND NOT EXISTS (
+                  SELECT 1 FROM reviews r
+                  WHERE r.book_id = s.book_id
+                    AND r.deleted_at IS NULL
+                    AND r.rating IS NOT NULL
+                    AND r.is_current = TRUE
+              )
+            """, nativeQuery = true)
+    int resetRangeWithoutReviews(@Param("fromBookId") Long fromBookId, @Param("toBookId") Long toBookId);
+
+    @Query("""
+            select s.bookId as bookId, s.reviewCount as reviewCount, s.averageRating as averageRating
+            from BookRatingStatsEntity s
+            where s.bookId in :bookIds
+            """)
+    List<BookRatingSummaryView> findSummariesByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM books", nativeQuery = true)
+    long findMaxBookId();
+}
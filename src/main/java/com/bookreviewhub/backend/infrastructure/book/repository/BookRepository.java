@@ -0,0 +1,98 @@
+package com.bookreviewhub.backend.infrastructure.book.repository;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.BookEntity;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookDetailsView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookFacetView;
+import com.bookreviewhub.backend.infrastructure.book.projection.BookSearchView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface BookRepository extends JpaRepository<BookEntity, Long> {
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+
+    Optional<BookEntity> findByIdAndDeletedAtIsNull(Long id);
+
+    // Keyset page of live books, newest first (served by idx_deleted_created_id)
+    @Query("""
+            select b.id as id, b.title as title, b.author as author, b.publishedYear as publishedYear,
+                   b.publisher as publisher, b.coverImageUrl as coverImageUrl, b.description as description,
+                   b.addedByAccountId as addedByAccountId, b.createdAt as createdAt, b.updatedAt as updatedAt
+            from BookEntity b
+            where b.deletedAt is null
+              and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BookDetailsView> findPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            select b.id as id, b.title as title, b.author as author, b.publishedYear as publishedYear,
+                   b.publisher as publisher, b.coverImageUrl as coverImageUrl, b.description as description,
+                   b.addedByAccountId as addedByAccountId, b.createdAt as createdAt, b.updatedAt as updatedAt
+            from BookEntity b
+            where b.id in :ids and b.deletedAt is null
+            """)
+    List<BookDetailsView> findDetailsViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Streams every live book for a full search index build (fetch size MIN_VALUE makes MySQL stream rows)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select b.id as id, b.title as title, b.author as author, b.publisher as publisher,
+                   b.description as description, b.createdAt as createdAt, b.updatedAt as updatedAt,
+                   b.deletedAt as deletedAt
+            from BookEntity b
+            where b.deletedAt is null
+            """)
+    Stream<BookSearchView> streamSearchViews();
+
+    // Books inserted, updated or soft-deleted since the given time (served by idx_created_at and idx_updated_at)
+    @Query("""
+            select b.id as id, b.title as title, b.author as author, b.publisher as publisher,
+                   b.description as description, b.createdAt as createdAt, b.updatedAt as updatedAt,
+                   b.deletedAt as deletedAt
+            from BookEntity b
+            where b.updatedAt >= :since or b.createdAt >= :since
+            """)
+    List<BookSearchView> findSearchViewsChangedSince(@Param("since") LocalDateTime since);
+
+    @Query("""
+            select b.id as id, b.title as title, b.author as author, b.publisher as publisher,
+                   b.description as description, b.createdAt as createdAt, b.updatedAt as updatedAt,
+                   b.deletedAt as deletedAt
+            from BookEntity b
+            where b.id = :id
+            """)
+    Optional<BookSearchView> findSearchViewById(@Param("id") Long id);
+
+    // Streams the facet fields of every live book (fetch size MIN_VALUE makes MySQL stream rows)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select b.id as id, b.author as author, b.publishedYear as publishedYear
+            from BookEntity b
+            where b.deletedAt is null
+            """)
+    Stream<BookFacetView> streamFacetViews();
+
+    @Query("""
+            select b.id as id, b.author as author, b.publishedYear as publishedYear
+            from BookEntity b
+            where b.id = :id and b.deletedAt is null
+            """)
+    Optional<BookFacetView> findFacetViewById(@Param("id") Long id);
+
+    @Query("select b.id from BookEntity b where b.addedByAccountId = :accountId and b.deletedAt is null")
+    List<Long> findLiveIdsAddedBy(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.infrastructure.book.repository;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportErrorEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogImportErrorRepository extends JpaRepository<CatalogImportErrorEntity, Long> {
+    // Keyset page of a job's error report in file order (served by idx_job_record)
+    List<CatalogImportErrorEntity> findByJobIdAndRecordNumberGreaterThanOrderByRecordNumberAscIdAsc(
+            Long jobId,
+            Long afterRecordNumber,
+            Limit limit
+    );
+}
@@ -0,0 +1,64 @@
+package com.bookreviewhub.backend.infrastructure.book.repository;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CatalogImportJobRepository extends JpaRepository<CatalogImportJobEntity, Long> {
+    // Only a queued job can be claimed, so two workers never run the same job
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE catalog_import_jobs
+            SET status = 'RUNNING', started_at = COALESCE(started_at, NOW()), updated_at = NOW(),
+                finished_at = NULL, error_message = NULL
+            WHERE id = :id AND status = 'QUEUED'
+            """, nativeQuery = true)
+    int claim(@Param("id") Long id);
+
+    // Failed jobs, and running jobs whose worker stopped heartbeating, go back to the queue
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE catalog_import_jobs
+            SET status = 'QUEUED', updated_at = NOW()
+            WHERE id = :id
+              AND (status = 'FAILED' OR (status = 'RUNNING' AND updated_at < :staleBefore))
+            """, nativeQuery = true)
+    int requeue(@Param("id") Long id, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query(value = """
+            UPDATE catalog_import_jobs
+            SET rows_processed = :rowsProcessed,
+                rows_imported = rows_imported + :importedDelta,
+                rows_failed = rows_failed + :failedDelta,
+                bytes_processed = :bytesProcessed,
+                updated_at = NOW()
+            WHERE id = :id
+            """, nativeQuery = true)
+    int recordProgress(
+            @Param("id") Long id,
+            @Param("rowsProcessed") long rowsProcessed,
+            @Param("importedDelta") int importedDelta,
+            @Param("failedDelta") int failedDelta,
+            @Param("bytesProcessed") long bytesProcessed
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE catalog_import_jobs
+            SET status = :status, error_message = :errorMessage, updated_at = NOW(),
+                finished_at = IF(:status = 'COMPLETED', NOW(), NULL)
+            WHERE id = :id
+            """, nativeQuery = true)
+    int finish(@Param("id") Long id, @Param("status") String status, @Param("errorMessage") String errorMessage);
+}
@@ -0,0 +1,10 @@
+package com.bookreviewhub.backend.infrastructure.book.search;
+
+public record BookSearchHit(
+        Long bookId,
+        String title,
+        String author,
+        String publisher,
+        double score
+) {
+}
@@ -0,0 +1,382 @@
+package com.bookreviewhub.backend.infrastructure.book.search;
+
+import com.bookreviewhub.backend.infrastructure.book.projection.BookSearchView;
+import com.bookreviewhub.backend.shared.config.BookSearchConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over live books, ranked with BM25 on field-weighted term frequencies.
+// Queries match every token (falling back to any token when nothing matches them all); the last token
+// also matches as a prefix for autocomplete, and tokens missing from the dictionary match close misspellings.
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+    private static final int SNAPSHOT_MAGIC = 0x42534958;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float AUTHOR_WEIGHT = 2f;
+    private static final float PUBLISHER_WEIGHT = 1f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final double PREFIX_MULTIPLIER = 0.9;
+    private static final double TYPO_MULTIPLIER = 0.7;
+    private static final int MAX_QUERY_TOKENS = 10;
+    private static final int MAX_PREFIX_CANDIDATES = 2_000;
+
+    private final BookSearchConfig bookSearchConfig;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedBook> documents = new HashMap<>();
+    // Sorted, so prefix and typo candidates are range scans
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private double totalLength = 0;
+    // Database time up to which every change is indexed, saved with the snapshot to resume catch-up from.
+    // Only catch-ups and rebuilds move it: they read the database clock, which also stamps updated_at
+    private LocalDateTime watermark;
+
+    public void index(BookSearchView book) {
+        if (book.getDeletedAt() != null) {
+            remove(book.getId());
+            return;
+        }
+
+        IndexedBook indexedBook = analyze(book);
+        lock.writeLock().lock();
+        try {
+            removeDocument(book.getId());
+            addDocument(indexedBook);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            watermark = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Never moves back, so a slow catch-up finishing after a later one cannot skip the changes in between
+    public void advanceWatermark(LocalDateTime readAt) {
+        lock.writeLock().lock();
+        try {
+            if (watermark == null || readAt.isAfter(watermark)) {
+                watermark = readAt;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public LocalDateTime getWatermark() {
+        lock.readLock().lock();
+        try {
+            return watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public BookSearchResult search(String query, int page, int size) {
+        List<String> queryTokens = TextNormalizer.distinctTokens(query, MAX_QUERY_TOKENS);
+        if (queryTokens.isEmpty()) {
+            return new BookSearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new BookSearchResult(List.of(), 0);
+            }
+            double averageLength = totalLength / documents.size();
+
+            Map<Long, Match> matches = new HashMap<>();
+            for (int i = 0; i < queryTokens.size(); i++) {
+                boolean lastToken = i == queryTokens.size() - 1;
+                // A document is scored by its best expansion of each token, so prefixes never add up
+                Map<Long, Double> tokenScores = new HashMap<>();
+                expand(queryTokens.get(i), lastToken).forEach((term, multiplier) -> {
+                    Map<Long, Float> termPostings = postings.get(term);
+                    double idf = idf(termPostings.size());
+                    termPostings.forEach((bookId, frequency) -> {
+                        double score = multiplier * idf * bm25(frequency, documents.get(bookId).length(), averageLength);
+                        tokenScores.merge(bookId, score, Math::max);
+                    });
+                });
+                tokenScores.forEach((bookId, score) -> matches.computeIfAbsent(bookId, id -> new Match()).add(score));
+            }
+
+            int required = queryTokens.size();
+            boolean anyFullMatch = matches.values().stream().anyMatch(match -> match.matchedTokens == required);
+            List<Map.Entry<Long, Match>> candidates = matches.entrySet().stream()
+                    .filter(entry -> !anyFullMatch || entry.getValue().matchedTokens == required)
+                    .toList();
+
+            return new BookSearchResult(topHits(candidates, page, size), candidates.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Saves the analyzed documents; postings are rebuilt from them on load, which is far cheaper than re-reading books
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeUTF(watermark == null ? "" : watermark.toString());
+            out.writeInt(documents.size());
+            for (IndexedBook book : documents.values()) {
+                out.writeLong(book.id());
+                out.writeUTF(book.title());
+                out.writeUTF(book.author());
+                out.writeUTF(book.publisher() == null ? "" : book.publisher());
+                out.writeFloat(book.length());
+                out.writeInt(book.termFrequencies().size());
+                for (Map.Entry<String, Float> term : book.termFrequencies().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeFloat(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void readSnapshot(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported book search snapshot");
+        }
+        String savedWatermark = in.readUTF();
+        int count = in.readInt();
+        List<IndexedBook> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = in.readLong();
+            String title = in.readUTF();
+            String author = in.readUTF();
+            String publisher = in.readUTF();
+            float length = in.readFloat();
+            int termCount = in.readInt();
+            Map<String, Float> termFrequencies = new HashMap<>(termCount * 2);
+            for (int t = 0; t < termCount; t++) {
+                termFrequencies.put(in.readUTF(), in.readFloat());
+            }
+            books.add(new IndexedBook(id, title, author, publisher.isEmpty() ? null : publisher, length, termFrequencies));
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            books.forEach(this::addDocument);
+            watermark = savedWatermark.isEmpty() ? null : LocalDateTime.parse(savedWatermark);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IndexedBook analyze(BookSearchView book) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = addField(termFrequencies, book.getTitle(), TITLE_WEIGHT)
+                + addField(termFrequencies, book.getAuthor(), AUTHOR_WEIGHT)
+                + addField(termFrequencies, book.getPublisher(), PUBLISHER_WEIGHT)
+                + addField(termFrequencies, book.getDescription(), DESCRIPTION_WEIGHT);
+        return new IndexedBook(book.getId(), book.getTitle(), book.getAuthor(), book.getPublisher(),
+                Math.max(length, 1f), termFrequencies);
+    }
+
+    private static float addField(Map<String, Float> termFrequencies, String text, float weight) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        tokens.forEach(token -> termFrequencies.merge(token, weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    private void addDocument(IndexedBook book) {
+        documents.put(book.id(), book);
+        totalLength += book.length();
+        book.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(book.id(), frequency));
+    }
+
+    private void removeDocument(Long bookId) {
+        IndexedBook previous = documents.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        previous.termFrequencies().keySet().forEach(term -> {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(bookId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    // Dictionary terms a query token stands for, with their score multiplier
+    private Map<String, Double> expand(String token, boolean lastToken) {
+        Map<String, Double> expansions = new HashMap<>();
+        boolean exact = postings.containsKey(token);
+        if (exact) {
+            expansions.put(token, 1.0);
+        }
+
+        if (lastToken && token.length() >= 2) {
+            NavigableMap<String, Map<Long, Float>> prefixed = postings.subMap(token, false, token + Character.MAX_VALUE, false);
+            prefixed.entrySet().stream()
+                    .limit(MAX_PREFIX_CANDIDATES)
+                    .sorted(Comparator.comparingInt((Map.Entry<String, Map<Long, Float>> entry) -> entry.getValue().size()).reversed())
+                    .limit(bookSearchConfig.getMaxPrefixExpansions())
+                    .forEach(entry -> expansions.put(entry.getKey(), PREFIX_MULTIPLIER));
+        }
+
+        if (!exact && token.length() >= 4) {
+            int maxDistance = token.length() >= 8 ? 2 : 1;
+            // Typos in the first letter are not corrected; that keeps the scan to one slice of the dictionary
+            String first = token.substring(0, 1);
+            for (String term : postings.subMap(first, true, first + Character.MAX_VALUE, false).keySet()) {
+                if (Math.abs(term.length() - token.length()) <= maxDistance
+                        && editDistance(token, term, maxDistance) <= maxDistance) {
+                    expansions.putIfAbsent(term, TYPO_MULTIPLIER);
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double bm25(float frequency, float length, double averageLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private List<BookSearchHit> topHits(List<Map.Entry<Long, Match>> candidates, int page, int size) {
+        long offset = (long) page * size;
+        if (offset >= candidates.size()) {
+            return List.of();
+        }
+        // Never more than the candidates, so a far page cannot size the queue past them
+        int wanted = (int) Math.min(offset + size, candidates.size());
+        Comparator<Map.Entry<Long, Match>> ranking = Comparator
+                .comparingDouble((Map.Entry<Long, Match> entry) -> entry.getValue().score)
+                .reversed()
+                .thenComparing(Map.Entry::getKey);
+
+        // Keeps only the best "wanted" candidates instead of sorting them all
+        PriorityQueue<Map.Entry<Long, Match>> best = new PriorityQueue<>(wanted + 1, ranking.reversed());
+        for (Map.Entry<Long, Match> candidate : candidates) {
+            best.add(candidate);
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Match>> ranked = new ArrayList<>(best);
+        ranked.sort(ranking);
+        return ranked.stream()
+                .skip(offset)
+                .map(entry -> {
+                    IndexedBook book = documents.get(entry.getKey());
+                    return new BookSearchHit(book.id(), book.title(), book.author(), book.publisher(), entry.getValue().score);
+                })
+                .toList();
+    }
+
+    // Optimal string alignment distance, giving up as soon as it exceeds maxDistance
+    private static int editDistance(String a, String b, int maxDistance) {
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private record IndexedBook(
+            Long id,
+            String title,
+            String author,
+            String publisher,
+            float length,
+            Map<String, Float> termFrequencies
+    ) {
+    }
+
+    private static final class Match {
+        private double score;
+        private int matchedTokens;
+
+        private void add(double tokenScore) {
+            score += tokenScore;
+            matchedTokens++;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.bookreviewhub.backend.infrastructure.book.search;
+
+import com.bookreviewhub.backend.infrastructure.book.projection.BookSearchView;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import com.bookreviewhub.backend.shared.config.BookSearchConfig;
+import com.bookreviewhub.backend.shared.event.BookChangedEvent;
+import com.bookreviewhub.backend.shared.event.CatalogImportedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Keeps BookSearchIndex in step with the books table.
+// Starts from the local snapshot when there is one and only reads books changed since it was saved;
+// local writes are applied after commit, and a periodic catch-up picks up writes from other instances.
+// The catch-up watermark is the database clock read before each pass, never a time taken from a book or event.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexer implements SmartLifecycle {
+    // Covers rows whose updated_at was stamped before a slow commit became visible, and created_at values stamped
+    // by an application clock slightly behind the database
+    private static final long CATCH_UP_OVERLAP_SECONDS = 5;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSearchConfig bookSearchConfig;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+    private volatile boolean running = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (restoreSnapshot()) {
+            catchUp();
+        } else {
+            rebuild();
+        }
+        ready = true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.books.search.catch-up-interval:PT1M}")
+    @Transactional(readOnly = true)
+    public void scheduledCatchUp() {
+        if (ready) {
+            catchUp();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.books.search.snapshot-interval:PT10M}")
+    public void scheduledSnapshot() {
+        if (ready && dirty.getAndSet(false)) {
+            saveSnapshot();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        bookRepository.findSearchViewById(event.bookId()).ifPresentOrElse(
+                bookSearchIndex::index,
+                () -> bookSearchIndex.remove(event.bookId())
+        );
+        dirty.set(true);
+    }
+
+    // A bulk import can change more books than a catch-up should hold in memory, so the index is rebuilt by streaming
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        if (ready) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime readAt = databaseNow();
+        bookSearchIndex.clear();
+        try (Stream<BookSearchView> books = bookRepository.streamSearchViews()) {
+            books.forEach(bookSearchIndex::index);
+        }
+        bookSearchIndex.advanceWatermark(readAt);
+        dirty.set(true);
+        log.info("Book search index built with {} books", bookSearchIndex.size());
+    }
+
+    private void catchUp() {
+        LocalDateTime watermark = bookSearchIndex.getWatermark();
+        if (watermark == null) {
+            rebuild();
+            return;
+        }
+
+        // Read first, so changes committed while the query runs are picked up by the next pass
+        LocalDateTime readAt = databaseNow();
+        List<BookSearchView> changed = bookRepository.findSearchViewsChangedSince(watermark.minusSeconds(CATCH_UP_OVERLAP_SECONDS));
+        changed.forEach(bookSearchIndex::index);
+        bookSearchIndex.advanceWatermark(readAt);
+        if (!changed.isEmpty()) {
+            dirty.set(true);
+        }
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT NOW(3)", LocalDateTime.class);
+    }
+
+    private boolean restoreSnapshot() {
+        Path path = Path.of(bookSearchConfig.getSnapshotPath());
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            bookSearchIndex.readSnapshot(in);
+            log.info("Book search index restored from {} with {} books", path, bookSearchIndex.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable book search snapshot {}", path, e);
+            bookSearchIndex.clear();
+            return false;
+        }
+    }
+
+    // Written to a temporary file first, so a crash mid-write never leaves a truncated snapshot behind
+    private void saveSnapshot() {
+        Path path = Path.of(bookSearchConfig.getSnapshotPath()).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            Path temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+                bookSearchIndex.writeSnapshot(out);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to save book search snapshot to {}", path, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (ready) {
+            saveSnapshot();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,9 @@
+package com.bookreviewhub.backend.infrastructure.book.search;
+
+import java.util.List;
+
+public record BookSearchResult(
+        List<BookSearchHit> hits,
+        long totalHits
+) {
+}
@@ -0,0 +1,215 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import com.bookreviewhub.backend.infrastructure.review.vote.ReviewVoteBuffer;
+import com.bookreviewhub.backend.infrastructure.user.cache.AccountUserDetailsCache;
+import com.bookreviewhub.backend.shared.config.TwoTierCacheConfig;
+import com.bookreviewhub.backend.shared.event.AccountProfileChangedEvent;
+import com.bookreviewhub.backend.shared.event.AccountSecurityChangedEvent;
+import com.bookreviewhub.backend.shared.event.BookChangedEvent;
+import com.bookreviewhub.backend.shared.event.CatalogImportedEvent;
+import com.bookreviewhub.backend.shared.event.ReviewChangedEvent;
+import com.bookreviewhub.backend.shared.event.ReviewVotesFlushedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Turns book, review, vote, account and avatar writes into cache invalidations for every instance.
+// Keys are recorded in cache_invalidations inside the writing transaction and evicted locally after commit;
+// other instances poll the table, so a stale entry lives at most one poll interval after the commit.
+// The rows also version every key for conditional requests (CacheKeyVersions).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationRelay {
+    public static final String BOOKS = "books";
+    // Relayed to AccountUserDetailsCache and the vote totals of ReviewVoteBuffer, not to a two-tier cache
+    public static final String USERS = "users";
+    public static final String REVIEWS = "reviews";
+    // Key that clears a whole cache, for writes too large to list key by key
+    public static final String ALL_KEYS = "*";
+
+    // Covers rows whose created_at was stamped before a slow commit became visible
+    private static final long POLL_OVERLAP_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TwoTierCacheManager cacheManager;
+    private final TwoTierCacheConfig twoTierCacheConfig;
+    private final CacheKeyVersions cacheKeyVersions;
+    private final AccountUserDetailsCache accountUserDetailsCache;
+    private final ReviewVoteBuffer reviewVoteBuffer;
+
+    private final ReentrantLock pollLock = new ReentrantLock();
+    // Rows already applied inside the overlap window, so they are not evicted again on every poll
+    private final Map<Long, LocalDateTime> recentlyApplied = new HashMap<>();
+    private LocalDateTime watermark;
+
+    private record Invalidation(String cacheName, String key) {
+    }
+
+    @TransactionalEventListener(
+            phase = TransactionPhase.BEFORE_COMMIT,
+            fallbackExecution = true,
+            classes = {
+                    BookChangedEvent.class, ReviewChangedEvent.class, ReviewVotesFlushedEvent.class,
+                    AccountSecurityChangedEvent.class, AccountProfileChangedEvent.class, CatalogImportedEvent.class
+            }
+    )
+    public void recordInvalidations(Object event) {
+        List<Invalidation> invalidations = invalidationsOf(event);
+        invalidations.forEach(invalidation -> cacheKeyVersions.markPending(invalidation.cacheName(), invalidation.key()));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cache_invalidations (cache_name, cache_key) VALUES (?, ?)",
+                invalidations,
+                invalidations.size(),
+                (statement, invalidation) -> {
+                    statement.setString(1, invalidation.cacheName());
+                    statement.setString(2, invalidation.key());
+                }
+        );
+    }
+
+    @TransactionalEventListener(
+            fallbackExecution = true,
+            classes = {
+                    BookChangedEvent.class, ReviewChangedEvent.class, ReviewVotesFlushedEvent.class,
+                    AccountSecurityChangedEvent.class, AccountProfileChangedEvent.class, CatalogImportedEvent.class
+            }
+    )
+    public void evictAfterCommit(Object event) {
+        invalidationsOf(event).forEach(invalidation -> {
+            cacheKeyVersions.markPending(invalidation.cacheName(), invalidation.key());
+            cacheManager.evict(invalidation.cacheName(), invalidation.key());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation-poll-interval:PT2S}")
+    public void pollRemoteInvalidations() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            if (watermark == null) {
+                // Nothing is cached before the first poll, so only later invalidations need evicting;
+                // versions still start from every retained row
+                watermark = jdbcTemplate.queryForObject("SELECT NOW(3)", LocalDateTime.class);
+                jdbcTemplate.query(
+                        """
+                        SELECT cache_name, cache_key, MAX(id) AS id, MAX(created_at) AS created_at
+                        FROM cache_invalidations
+                        GROUP BY cache_name, cache_key
+                        """,
+                        (RowCallbackHandler) resultSet -> cacheKeyVersions.apply(
+                                resultSet.getLong("id"),
+                                resultSet.getTimestamp("created_at").toInstant(),
+                                resultSet.getString("cache_name"),
+                                resultSet.getString("cache_key")
+                        )
+                );
+                cacheKeyVersions.start(findOldestRetained());
+                return;
+            }
+
+            LocalDateTime since = watermark.minusSeconds(POLL_OVERLAP_SECONDS);
+            jdbcTemplate.query(
+                    "SELECT id, cache_name, cache_key, created_at FROM cache_invalidations WHERE created_at >= ?",
+                    resultSet -> {
+                        long id = resultSet.getLong("id");
+                        LocalDateTime createdAt = resultSet.getTimestamp("created_at").toLocalDateTime();
+                        if (recentlyApplied.putIfAbsent(id, createdAt) == null) {
+                            String cacheName = resultSet.getString("cache_name");
+                            String key = resultSet.getString("cache_key");
+                            // Evict first, so a request that sees the new version cannot be served the old entry
+                            cacheManager.evictLocal(cacheName, key);
+                            if (USERS.equals(cacheName)) {
+                                evictAccount(key);
+                            } else if (REVIEWS.equals(cacheName) && !ALL_KEYS.equals(key)) {
+                                reviewVoteBuffer.evictTotals(Long.valueOf(key));
+                            }
+                            cacheKeyVersions.apply(id, resultSet.getTimestamp("created_at").toInstant(), cacheName, key);
+                        }
+                        if (createdAt.isAfter(watermark)) {
+                            watermark = createdAt;
+                        }
+                    },
+                    Timestamp.valueOf(since)
+            );
+            LocalDateTime windowStart = watermark.minusSeconds(POLL_OVERLAP_SECONDS);
+            recentlyApplied.values().removeIf(createdAt -> createdAt.isBefore(windowStart));
+            cacheKeyVersions.expirePending(Instant.now().minusSeconds(POLL_OVERLAP_SECONDS));
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation-purge-interval:PT10M}")
+    public void purgeOldInvalidations() {
+        // The newest row always stays, so the oldest retained row never moves back and version floors only grow
+        Long newestId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidations", Long.class);
+        if (newestId == null) {
+            return;
+        }
+        int purged = jdbcTemplate.update(
+                "DELETE FROM cache_invalidations WHERE created_at < ? AND id < ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(twoTierCacheConfig.getInvalidationRetention())),
+                newestId
+        );
+        if (purged > 0) {
+            log.debug("Purged {} cache invalidation rows", purged);
+            cacheKeyVersions.raiseFloor(findOldestRetained());
+        }
+    }
+
+    // Accounts are cached outside the two-tier caches, in front of the login and token paths
+    private void evictAccount(String key) {
+        if (ALL_KEYS.equals(key)) {
+            accountUserDetailsCache.invalidateAll();
+        } else {
+            accountUserDetailsCache.invalidateAccount(Long.valueOf(key));
+        }
+    }
+
+    private CacheKeyVersions.Version findOldestRetained() {
+        return jdbcTemplate.query(
+                "SELECT id, created_at FROM cache_invalidations ORDER BY id LIMIT 1",
+                resultSet -> resultSet.next()
+                        ? new CacheKeyVersions.Version(resultSet.getLong("id"), resultSet.getTimestamp("created_at").toInstant())
+                        : null
+        );
+    }
+
+    // A review change also changes the top reviews and rating shown with its book; vote totals reorder the top reviews,
+    // and the books showing an account carry its avatar
+    private static List<Invalidation> invalidationsOf(Object event) {
+        return switch (event) {
+            case BookChangedEvent book -> List.of(new Invalidation(BOOKS, String.valueOf(book.bookId())));
+            case ReviewChangedEvent review -> List.of(
+                    new Invalidation(REVIEWS, String.valueOf(review.reviewId())),
+                    new Invalidation(BOOKS, String.valueOf(review.bookId()))
+            );
+            case ReviewVotesFlushedEvent votes -> Stream.concat(
+                            votes.reviewIds().stream().map(reviewId -> new Invalidation(REVIEWS, String.valueOf(reviewId))),
+                            votes.bookIds().stream().map(bookId -> new Invalidation(BOOKS, String.valueOf(bookId))))
+                    .toList();
+            case AccountProfileChangedEvent profile -> profile.bookIds().stream()
+                    .map(bookId -> new Invalidation(BOOKS, String.valueOf(bookId)))
+                    .toList();
+            case AccountSecurityChangedEvent account -> List.of(new Invalidation(USERS, String.valueOf(account.accountId())));
+            case CatalogImportedEvent ignored -> List.of(new Invalidation(BOOKS, ALL_KEYS));
+            default -> List.of();
+        };
+    }
+}
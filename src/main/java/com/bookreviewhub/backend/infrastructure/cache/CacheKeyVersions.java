@@ -0,0 +1,92 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Version stamp of every cache key, taken from the newest cache_invalidations row that named it.
+// Row ids and created_at come from the database, so every instance derives the same stamp for the same state.
+// Keys without a row since the oldest retained one share that row as a floor: whatever changed them was purged earlier.
+// Fed by CacheInvalidationRelay; lookups never touch the database.
+@Component
+public class CacheKeyVersions {
+    // No invalidation was ever recorded; changedAt is unknown
+    private static final Version NONE = new Version(0, null);
+
+    public record Version(long id, Instant changedAt) {
+        private Version newer(Version other) {
+            return other == null || id >= other.id ? this : other;
+        }
+    }
+
+    private final Map<String, Version> keys = new ConcurrentHashMap<>();
+    private final Map<String, Version> latestByCache = new ConcurrentHashMap<>();
+    // Keys changed by a local commit whose row the relay has not read back yet
+    private final Map<String, Instant> pending = new ConcurrentHashMap<>();
+    private volatile Version floor;
+
+    public Optional<Version> of(String cacheName, String key) {
+        Version current = floor;
+        if (current == null || isPending(cacheName, key)) {
+            return Optional.empty();
+        }
+        return Optional.of(current
+                .newer(keys.get(entry(cacheName, key)))
+                .newer(keys.get(entry(cacheName, CacheInvalidationRelay.ALL_KEYS))));
+    }
+
+    // Newest change to any key of the cache, for listings built from many entries
+    public Optional<Version> latestOf(String cacheName) {
+        Version current = floor;
+        String prefix = cacheName + ':';
+        if (current == null || pending.keySet().stream().anyMatch(entry -> entry.startsWith(prefix))) {
+            return Optional.empty();
+        }
+        return Optional.of(current.newer(latestByCache.get(cacheName)));
+    }
+
+    // Called before commit and again before the local eviction, so no request pairs the old stamp with the reloaded value
+    void markPending(String cacheName, String key) {
+        pending.put(entry(cacheName, key), Instant.now());
+    }
+
+    void apply(long id, Instant changedAt, String cacheName, String key) {
+        Version version = new Version(id, changedAt);
+        keys.merge(entry(cacheName, key), version, Version::newer);
+        latestByCache.merge(cacheName, version, Version::newer);
+        pending.remove(entry(cacheName, key));
+    }
+
+    // Pending marks of transactions that rolled back never get a row
+    void expirePending(Instant markedBefore) {
+        pending.values().removeIf(markedAt -> markedAt.isBefore(markedBefore));
+    }
+
+    // Stamps are served once the rows present at startup have been applied on top of this floor
+    void start(Version oldestRetained) {
+        floor = oldestRetained == null ? NONE : oldestRetained;
+    }
+
+    // The oldest retained row, or null when the table is empty; keys it dominates are dropped from memory
+    void raiseFloor(Version oldestRetained) {
+        if (floor == null) {
+            return;
+        }
+        Version next = (oldestRetained == null ? NONE : oldestRetained).newer(floor);
+        floor = next;
+        keys.values().removeIf(version -> version.id() <= next.id());
+    }
+
+    private boolean isPending(String cacheName, String key) {
+        return !pending.isEmpty()
+                && (pending.containsKey(entry(cacheName, key))
+                || pending.containsKey(entry(cacheName, CacheInvalidationRelay.ALL_KEYS)));
+    }
+
+    private static String entry(String cacheName, String key) {
+        return cacheName + ':' + key;
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+// Reloads one entry of a TwoTierCache in the background for refresh-ahead; a null result drops the entry
+public interface CacheReloader {
+    String cacheName();
+
+    Object reload(String key);
+}
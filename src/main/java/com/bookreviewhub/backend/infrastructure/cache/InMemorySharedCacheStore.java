@@ -0,0 +1,47 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Process-local stand-in for a shared store, for single-instance runs and tests.
+// Expired entries are dropped when they are next read.
+public class InMemorySharedCacheStore implements SharedCacheStore {
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+
+    private final Map<String, Map<String, Entry>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, String key) {
+        Map<String, Entry> entries = caches.get(cacheName);
+        Entry entry = entries == null ? null : entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() >= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration ttl) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        Map<String, Entry> entries = caches.get(cacheName);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import java.time.Duration;
+
+// Shared (L2) tier of TwoTierCache, seen by every instance.
+// Implementations must be safe for concurrent use; a missing or expired entry reads as null.
+public interface SharedCacheStore {
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,174 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import com.bookreviewhub.backend.shared.config.TwoTierCacheConfig;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+// Spring Cache with a size- and TTL-bounded Caffeine L1 in front of an optional SharedCacheStore L2.
+// Keys are stored in their string form, so invalidations relayed from other instances (which only carry
+// the string) find the same entries. Null results are never cached.
+// Refresh-ahead only runs for caches with a CacheReloader; the valueLoader of a read belongs to that call
+// (and its caller's transaction), so it is never kept to be run again later.
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final LoadingCache<String, Object> local;
+    private final SharedCacheStore shared;
+    private final Duration sharedTtl;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public TwoTierCache(
+            String name,
+            TwoTierCacheConfig config,
+            SharedCacheStore shared,
+            CacheReloader reloader,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        super(false);
+        this.name = name;
+        this.shared = shared;
+        this.sharedTtl = config.getSharedTtl();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                .expireAfterWrite(config.getLocalTtl())
+                // Reloads block on the database, so they run on the application task executor, not the common pool
+                .executor(refreshExecutor)
+                .recordStats();
+        if (reloader != null) {
+            builder.refreshAfterWrite(config.getRefreshAfter());
+        }
+        this.local = builder.build(new CacheLoader<>() {
+            @Override
+            public Object load(String key) {
+                return null;
+            }
+
+            // Returning null drops the entry, so the next read is an ordinary miss
+            @Override
+            public Object reload(String key, Object oldValue) {
+                Object value = reloader.reload(key);
+                if (value != null) {
+                    writeShared(key, value);
+                }
+                return value;
+            }
+        });
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions and cache.size for the L1 tier
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+        this.sharedHits = Counter.builder("cache.shared.gets")
+                .description("Reads of the shared (L2) cache tier")
+                .tags("cache", name, "result", "hit")
+                .register(meterRegistry);
+        this.sharedMisses = Counter.builder("cache.shared.gets")
+                .description("Reads of the shared (L2) cache tier")
+                .tags("cache", name, "result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = String.valueOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        value = readShared(cacheKey);
+        if (value != null) {
+            local.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    // Concurrent misses for the same key share one load
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(String.valueOf(key), cacheKey -> {
+            Object value = readShared(cacheKey);
+            if (value == null) {
+                try {
+                    value = valueLoader.call();
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                if (value != null) {
+                    writeShared(cacheKey, value);
+                }
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = String.valueOf(key);
+        if (value == null) {
+            evict(cacheKey);
+            return;
+        }
+        local.put(cacheKey, value);
+        writeShared(cacheKey, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        local.invalidate(cacheKey);
+        if (shared != null) {
+            shared.evict(name, cacheKey);
+        }
+    }
+
+    // For invalidations relayed from another instance, which has already evicted the shared entry
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (shared != null) {
+            shared.clear(name);
+        }
+    }
+
+    private Object readShared(String key) {
+        if (shared == null) {
+            return null;
+        }
+        Object value = shared.get(name, key);
+        (value == null ? sharedMisses : sharedHits).increment();
+        return value;
+    }
+
+    private void writeShared(String key, Object value) {
+        if (shared != null) {
+            shared.put(name, key, value, sharedTtl);
+        }
+    }
+}
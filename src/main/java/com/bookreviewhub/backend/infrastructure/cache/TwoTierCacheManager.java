@@ -0,0 +1,52 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Fixed set of TwoTierCaches; asking for an unknown name is a configuration error, not a new cache
+public class TwoTierCacheManager implements CacheManager {
+    private final Map<String, TwoTierCache> caches;
+
+    public TwoTierCacheManager(Collection<TwoTierCache> caches) {
+        this.caches = caches.stream().collect(Collectors.toUnmodifiableMap(TwoTierCache::getName, Function.identity()));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    public void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (CacheInvalidationRelay.ALL_KEYS.equals(key)) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    public void evict(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (CacheInvalidationRelay.ALL_KEYS.equals(key)) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
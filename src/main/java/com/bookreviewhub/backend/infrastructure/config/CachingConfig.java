@@ -0,0 +1,52 @@
+package com.bookreviewhub.backend.infrastructure.config;
+
+import com.bookreviewhub.backend.infrastructure.cache.CacheReloader;
+import com.bookreviewhub.backend.infrastructure.cache.InMemorySharedCacheStore;
+import com.bookreviewhub.backend.infrastructure.cache.SharedCacheStore;
+import com.bookreviewhub.backend.infrastructure.cache.TwoTierCache;
+import com.bookreviewhub.backend.infrastructure.cache.TwoTierCacheManager;
+import com.bookreviewhub.backend.shared.config.TwoTierCacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableCaching
+public class CachingConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(
+            TwoTierCacheConfig twoTierCacheConfig,
+            ObjectProvider<SharedCacheStore> sharedCacheStore,
+            ObjectProvider<CacheReloader> cacheReloaders,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        SharedCacheStore shared = twoTierCacheConfig.isSharedEnabled() ? sharedCacheStore.getIfAvailable() : null;
+        // Caches without a reloader have no refresh-ahead; their entries are simply reloaded after local-ttl
+        Map<String, CacheReloader> reloaders = cacheReloaders.orderedStream()
+                .collect(Collectors.toMap(CacheReloader::cacheName, Function.identity()));
+        return new TwoTierCacheManager(twoTierCacheConfig.getNames().stream()
+                .map(name -> new TwoTierCache(
+                        name, twoTierCacheConfig, shared, reloaders.get(name), refreshExecutor, meterRegistry))
+                .toList());
+    }
+
+    // Stand-in used when the shared tier is enabled but no real store (e.g. Redis) is provided
+    @Bean
+    @ConditionalOnMissingBean(SharedCacheStore.class)
+    @ConditionalOnProperty(prefix = "app.cache", name = "shared-enabled", havingValue = "true")
+    public SharedCacheStore sharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+}
@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.infrastructure.config;
+
+import com.bookreviewhub.backend.infrastructure.http.ConditionalCatalogReadInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class ConditionalGetConfig implements WebMvcConfigurer {
+    private final ConditionalCatalogReadInterceptor conditionalCatalogReadInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalCatalogReadInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,99 @@
+package com.bookreviewhub.backend.infrastructure.config;
+
+import com.bookreviewhub.backend.infrastructure.persistence.routing.ReadYourWritesTracker;
+import com.bookreviewhub.backend.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.bookreviewhub.backend.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.config.ReplicaRoutingConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+
+// Replaces the single auto-configured pool with a primary pool, a replica pool and a router in front of them.
+// Both pools are beans of their own, so Hikari metrics (hikaricp.*) and health checks are reported per pool name.
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties, ReplicaRoutingConfig replicaRoutingConfig) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaRoutingConfig.getReplicaUrl());
+        dataSource.setUsername(replicaRoutingConfig.getReplicaUsername());
+        dataSource.setPassword(replicaRoutingConfig.getReplicaPassword());
+        dataSource.setMaximumPoolSize(replicaRoutingConfig.getReplicaMaxPoolSize());
+        dataSource.setMinimumIdle(replicaRoutingConfig.getReplicaMinIdle());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaRoutingConfig replicaRoutingConfig,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(
+                new JdbcTemplate(primaryDataSource),
+                new JdbcTemplate(replicaDataSource),
+                replicaRoutingConfig.getMaxLag(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaRoutingConfig replicaRoutingConfig) {
+        return new ReadYourWritesTracker(
+                replicaRoutingConfig.getReadYourWritesWindow(),
+                replicaRoutingConfig.getReadYourWritesMaxAccounts(),
+                DataSourceRoutingConfig::currentAccountId
+        );
+    }
+
+    // The application's DataSource; JPA, Flyway and JdbcTemplate all go through the router
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry
+        );
+        router.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(router);
+    }
+
+    private static Long currentAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedAccount account
+                ? account.id()
+                : null;
+    }
+}
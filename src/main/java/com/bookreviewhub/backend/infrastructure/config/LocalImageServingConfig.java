@@ -0,0 +1,27 @@
+package com.bookreviewhub.backend.infrastructure.config;
+
+import com.bookreviewhub.backend.shared.config.ImageUploadConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+// Serves images written by LocalFileSystemImageStorage; keys embed the upload id, so files never change in place
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.uploads.storage", havingValue = "local", matchIfMissing = true)
+public class LocalImageServingConfig implements WebMvcConfigurer {
+    private final ImageUploadConfig imageUploadConfig;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String publicPath = imageUploadConfig.getLocalPublicPath().replaceAll("/+$", "");
+        registry.addResourceHandler(publicPath + "/**")
+                .addResourceLocations(imageUploadConfig.getLocalDirectory().toAbsolutePath().normalize().toUri().toString())
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+}
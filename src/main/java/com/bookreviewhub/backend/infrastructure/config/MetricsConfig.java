@@ -0,0 +1,21 @@
+package com.bookreviewhub.backend.infrastructure.config;
+
+import com.bookreviewhub.backend.infrastructure.observability.DbTimingPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Metrics that Spring Boot does not collect on its own. Boot already reports http.server.requests,
+// spring.data.repository.invocations (per repository and method) and hikaricp.* (pool wait and saturation);
+// everything is scraped from /actuator/prometheus.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.observability", name = "db-timing-enabled", havingValue = "true", matchIfMissing = true)
+    public static DbTimingPostProcessor dbTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DbTimingPostProcessor(meterRegistry);
+    }
+}
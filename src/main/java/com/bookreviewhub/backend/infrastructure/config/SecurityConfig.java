@@ -3,16 +3,21 @@ package com.bookreviewhub.backend.infrastructure.config;
 import com.bookreviewhub.backend.infrastructure.security.handler.CustomAccessDeniedHandler;
 import com.bookreviewhub.backend.infrastructure.security.handler.CustomAuthenticationEntryPoint;
 import com.bookreviewhub.backend.infrastructure.security.filter.JwtAuthenticationFilter;
+import com.bookreviewhub.backend.infrastructure.security.password.OffloadingPasswordEncoder;
+import com.bookreviewhub.backend.infrastructure.security.password.PasswordHashingExecutor;
+import com.bookreviewhub.backend.infrastructure.security.ratelimit.RateLimitFilter;
+import com.bookreviewhub.backend.shared.config.PasswordHashingConfig;
 import com.bookreviewhub.backend.infrastructure.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,6 +30,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class SecurityConfig implements WebMvcConfigurer {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
@@ -52,6 +58,22 @@ public class SecurityConfig implements WebMvcConfigurer {
                 .authorizeHttpRequests(auth -> auth
                         // Permit public access to authentication APIs
                         .requestMatchers("/api/auth/**").permitAll()
+                        // Health probes and Prometheus scrapes carry no token; they are served on the internal management port only
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        // Images served by the local storage backend are public, like their Cloudinary URLs
+                        .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
+                        // Catalog reads are anonymous, so a CDN in front of them can serve one copy to everyone;
+                        // the numeric id keeps /search, /filter and /rankings behind authentication
+                        .requestMatchers(HttpMethod.GET,
+                                "/api/books",
+                                "/api/books/{bookId:\\d+}",
+                                "/api/books/{bookId:\\d+}/rating-stats",
+                                "/api/books/{bookId:\\d+}/reviews"
+                        ).permitAll()
+                        // Account administration is restricted to admins (role comes from the token claims)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        // Moderation screens are shared by moderators and admins
+                        .requestMatchers("/api/moderation/**").hasAnyRole("MODERATOR", "ADMIN")
                         // Secure all other endpoints
                         .anyRequest().authenticated()
                 )
@@ -62,6 +84,8 @@ public class SecurityConfig implements WebMvcConfigurer {
                 )
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Throttle right after authentication, keyed by the account it established or the client IP
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 // Register the custom user details service for authentication
                 .userDetailsService(customUserDetailsService);
 
@@ -73,8 +97,12 @@ public class SecurityConfig implements WebMvcConfigurer {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    // BCrypt runs on its own bounded pool, which caps concurrent hashes and rejects bursts beyond its queue
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingConfig passwordHashingConfig,
+            PasswordHashingExecutor passwordHashingExecutor
+    ) {
+        return new OffloadingPasswordEncoder(passwordHashingConfig.getBcryptStrength(), passwordHashingExecutor);
     }
 }
@@ -0,0 +1,32 @@
+package com.bookreviewhub.backend.infrastructure.config;
+
+import com.bookreviewhub.backend.infrastructure.persistence.pool.ConnectionPermitPostProcessor;
+import com.bookreviewhub.backend.infrastructure.runtime.VirtualThreadPinningMonitor;
+import com.bookreviewhub.backend.shared.config.VirtualThreadsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Extras for spring.threads.virtual.enabled=true, which already moves Tomcat request handling,
+// applicationTaskExecutor (cache refreshes) and @Scheduled jobs onto virtual threads.
+// BCrypt stays on its platform pool in PasswordHashingExecutor: it is CPU bound and gains nothing.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.threads.virtual", name = "connection-permits", havingValue = "true", matchIfMissing = true)
+    public static ConnectionPermitPostProcessor connectionPermitPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionPermitPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.threads.virtual", name = "pinning-detection", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadsConfig virtualThreadsConfig, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(virtualThreadsConfig, meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bookreviewhub.backend.infrastructure.genre.repository;
+
+import com.bookreviewhub.backend.infrastructure.genre.entity.GenreEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GenreRepository extends JpaRepository<GenreEntity, Long> {
+    List<GenreEntity> findAllByDeletedAtIsNull();
+
+    long countByIdInAndDeletedAtIsNull(Collection<Long> ids);
+}
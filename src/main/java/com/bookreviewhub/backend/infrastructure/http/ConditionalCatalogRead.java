@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.infrastructure.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a public catalog read whose body only changes when its book's cache key is invalidated.
+// ConditionalCatalogReadInterceptor answers revalidations of it before the controller runs.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalCatalogRead {
+    // Path variable holding the book id; empty for listings, which change with any book
+    String bookIdVariable() default "";
+
+    // The body also shows data no invalidation covers, so its validators roll over periodically
+    boolean hasUnversionedContent() default false;
+}
@@ -0,0 +1,80 @@
+package com.bookreviewhub.backend.infrastructure.http;
+
+import com.bookreviewhub.backend.infrastructure.cache.CacheInvalidationRelay;
+import com.bookreviewhub.backend.infrastructure.cache.CacheKeyVersions;
+import com.bookreviewhub.backend.shared.config.HttpCachingConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+// Sets validators and shared-cache headers on @ConditionalCatalogRead handlers, and answers a matching
+// If-None-Match / If-Modified-Since with 304 before the controller runs, so a revalidation costs no query.
+// ETags are weak: bodies carry a response timestamp, so equal versions are equivalent but not byte-identical.
+@Component
+@RequiredArgsConstructor
+public class ConditionalCatalogReadInterceptor implements HandlerInterceptor {
+    private final CacheKeyVersions cacheKeyVersions;
+    private final HttpCachingConfig httpCachingConfig;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!httpCachingConfig.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalCatalogRead read = handlerMethod.getMethodAnnotation(ConditionalCatalogRead.class);
+        if (read == null || !(HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()))) {
+            return true;
+        }
+
+        // Browsers revalidate every time; a CDN serves its copy for s-maxage
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(Duration.ZERO)
+                .cachePublic()
+                .sMaxAge(httpCachingConfig.getSharedMaxAge())
+                .staleWhileRevalidate(httpCachingConfig.getStaleWhileRevalidate())
+                .getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        Optional<CacheKeyVersions.Version> version = versionOf(read, request);
+        if (version.isEmpty()) {
+            // A local change is still on its way into cache_invalidations; serve without validators
+            return true;
+        }
+
+        String tag = "v" + version.get().id();
+        long lastModified = version.get().changedAt() == null ? -1 : version.get().changedAt().toEpochMilli();
+        if (read.hasUnversionedContent()) {
+            long windowMillis = httpCachingConfig.getUnversionedContentWindow().toMillis();
+            long window = Instant.now().toEpochMilli() / windowMillis;
+            tag += "-" + window;
+            lastModified = Math.max(lastModified, window * windowMillis);
+        }
+        return !new ServletWebRequest(request, response).checkNotModified("W/\"" + tag + "\"", lastModified);
+    }
+
+    private Optional<CacheKeyVersions.Version> versionOf(ConditionalCatalogRead read, HttpServletRequest request) {
+        if (read.bookIdVariable().isEmpty()) {
+            return cacheKeyVersions.latestOf(CacheInvalidationRelay.BOOKS);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String bookId = variables == null ? null : variables.get(read.bookIdVariable());
+        // Keys are the string form of the Long id, so "007" must not share the stamp of "7"
+        if (bookId == null || !bookId.matches("[1-9][0-9]{0,18}")) {
+            return Optional.empty();
+        }
+        return cacheKeyVersions.of(CacheInvalidationRelay.BOOKS, bookId);
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookreviewhub.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Times every statement executed on connections of the wrapped DataSource, whether it comes from Hibernate,
+// a Spring Data repository or a JdbcTemplate: db.statements{kind=query|update|batch}, plus the per-request
+// tally in RequestDbStats. Connections and statements are JDK proxies; unwrap() still reaches the driver.
+public class DbTimingDataSource extends DelegatingDataSource {
+    private final Timer queries;
+    private final Timer updates;
+    private final Timer batches;
+
+    public DbTimingDataSource(DataSource target, MeterRegistry meterRegistry) {
+        super(target);
+        this.queries = timer(meterRegistry, "query");
+        this.updates = timer(meterRegistry, "update");
+        this.batches = timer(meterRegistry, "batch");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object identity = identityMethod(proxy, method, args);
+                    if (identity != null) {
+                        return identity;
+                    }
+                    Object result = invoke(connection, method, args);
+                    return result instanceof Statement statement ? wrapStatement(statement, (Connection) proxy) : result;
+                }
+        );
+    }
+
+    private Statement wrapStatement(Statement statement, Connection connection) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Object identity = identityMethod(proxy, method, args);
+                    if (identity != null) {
+                        return identity;
+                    }
+                    if (method.getName().equals("getConnection")) {
+                        return connection;
+                    }
+                    Timer timer = timerFor(method.getName());
+                    if (timer == null) {
+                        return invoke(statement, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        timer.record(elapsed, TimeUnit.NANOSECONDS);
+                        RequestDbStats.record(elapsed);
+                    }
+                }
+        );
+    }
+
+    // executeQuery, executeUpdate/executeLargeUpdate, executeBatch/executeLargeBatch; plain execute counts as a query
+    private Timer timerFor(String methodName) {
+        if (!methodName.startsWith("execute")) {
+            return null;
+        }
+        if (methodName.endsWith("Batch")) {
+            return batches;
+        }
+        return methodName.endsWith("Update") ? updates : queries;
+    }
+
+    // Proxies must not delegate equality to the target, or a proxy would not equal itself
+    private static Object identityMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> args.length == 1 ? proxy == args[0] : null;
+            case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+            default -> null;
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String kind) {
+        return Timer.builder("db.statements")
+                .description("JDBC statement executions")
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
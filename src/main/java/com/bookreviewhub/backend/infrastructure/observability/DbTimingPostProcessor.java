@@ -0,0 +1,34 @@
+package com.bookreviewhub.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// Wraps the application's DataSource (the bean JPA, Flyway and JdbcTemplate use) in a DbTimingDataSource.
+// Runs after every other DataSource post-processor, so it wraps whatever they produced.
+public class DbTimingPostProcessor implements BeanPostProcessor, Ordered {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DbTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+            return bean;
+        }
+        return new DbTimingDataSource(dataSource, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookreviewhub.backend.infrastructure.observability;
+
+// Database work done on the current request thread, collected by DbTimingDataSource and reported by
+// RequestSummaryFilter. Statements run on other threads (background jobs, write-behind flushes) are not
+// attributed to any request.
+final class RequestDbStats {
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private RequestDbStats() {
+    }
+
+    static RequestDbStats start() {
+        RequestDbStats stats = new RequestDbStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        RequestDbStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+}
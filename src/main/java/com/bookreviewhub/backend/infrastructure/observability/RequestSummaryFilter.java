@@ -0,0 +1,142 @@
+package com.bookreviewhub.backend.infrastructure.observability;
+
+import com.bookreviewhub.backend.shared.config.ObservabilityConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Records the database work of every request (http.server.requests.db.statements and http.server.requests.db,
+// by method and route pattern). With the request summary switched on, it also sends a Server-Timing header
+// and logs one line per request, for diagnosing a slow endpoint without turning on SQL logging.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestSummaryFilter extends OncePerRequestFilter {
+    private final ObservabilityConfig observabilityConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestDbStats stats = RequestDbStats.start();
+        HttpServletResponse response = observabilityConfig.isRequestSummaryEnabled()
+                ? new ServerTimingResponse(httpServletResponse, stats, start)
+                : httpServletResponse;
+        try {
+            filterChain.doFilter(httpServletRequest, response);
+        } finally {
+            RequestDbStats.clear();
+            record(httpServletRequest, httpServletResponse, stats, System.nanoTime() - start);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestDbStats stats, long totalNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("JDBC statements executed per request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("http.server.requests.db")
+                .description("Time per request spent executing JDBC statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        if (observabilityConfig.isRequestSummaryEnabled()
+                && totalNanos >= observabilityConfig.getRequestSummaryMinDuration().toNanos()) {
+            log.info("{} {} -> {} in {} ms: {} statements, {} ms in db",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    millis(totalNanos), stats.statements(), millis(stats.nanos()));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    // Headers must be set before the body commits the response, which happens inside the chain,
+    // so the header is added when the body is first written (the handler's queries are done by then)
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+        private final RequestDbStats stats;
+        private final long start;
+        private boolean headerAdded = false;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestDbStats stats, long start) {
+            super(response);
+            this.stats = stats;
+            this.start = start;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+
+        private void addServerTiming() {
+            if (headerAdded || isCommitted()) {
+                return;
+            }
+            headerAdded = true;
+            setHeader("Server-Timing", "db;dur=" + millis(stats.nanos()) + ";desc=\"" + stats.statements() + " statements\", "
+                    + "app;dur=" + millis(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookreviewhub.backend.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+// Wraps every Hikari pool bean in a ConnectionPermitDataSource sized to the pool.
+// Registered by ThreadingConfig only when virtual threads are on. Runs first, while the bean is still the pool.
+public class ConnectionPermitPostProcessor implements BeanPostProcessor, Ordered {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionPermitPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource hikariDataSource)) {
+            return bean;
+        }
+
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(
+                hikariDataSource,
+                hikariDataSource.getMaximumPoolSize(),
+                hikariDataSource.getConnectionTimeout()
+        );
+        String pool = hikariDataSource.getPoolName() != null ? hikariDataSource.getPoolName() : beanName;
+        meterRegistry.ifAvailable(registry -> Gauge.builder("datasource.permits.waiting", dataSource, ConnectionPermitDataSource::queueLength)
+                .description("Threads queued for a connection permit")
+                .tag("pool", pool)
+                .register(registry));
+        return dataSource;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
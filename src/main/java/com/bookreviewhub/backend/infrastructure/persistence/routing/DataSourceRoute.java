@@ -0,0 +1,5 @@
+package com.bookreviewhub.backend.infrastructure.persistence.routing;
+
+public enum DataSourceRoute {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,35 @@
+package com.bookreviewhub.backend.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Remembers which accounts committed a write recently, so their reads skip a replica that may not have it yet.
+// Only this instance's writes are known; a client bounced to another instance right after a write may read
+// from a replica up to the lag limit behind.
+public class ReadYourWritesTracker {
+    private final Cache<Long, Boolean> recentWriters;
+    private final Supplier<Long> currentAccountId;
+
+    public ReadYourWritesTracker(Duration window, long maxAccounts, Supplier<Long> currentAccountId) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterWrite(window)
+                .build();
+        this.currentAccountId = currentAccountId;
+    }
+
+    public void recordWrite() {
+        Long accountId = currentAccountId.get();
+        if (accountId != null) {
+            recentWriters.put(accountId, Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently() {
+        Long accountId = currentAccountId.get();
+        return accountId != null && recentWriters.getIfPresent(accountId) != null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.bookreviewhub.backend.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Measures replication lag through the replication_heartbeat row: the primary restamps it on every check,
+// and the lag is how far the replica's copy is behind the primary's. Works with any replication setup and
+// needs no replication privileges. The replica counts as unusable when it cannot be read or lags too far.
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean {
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean usable = false;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Replication lag seen through the heartbeat row; -1 when the replica is unreachable")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.check-interval:PT1S}")
+    public void check() {
+        LocalDateTime primaryBeat;
+        try {
+            primaryBeat = primary.queryForObject(READ_HEARTBEAT, LocalDateTime.class);
+            primary.update("UPDATE replication_heartbeat SET beat_at = NOW(3) WHERE id = 1");
+        } catch (DataAccessException e) {
+            // Without a primary beat there is nothing to compare against, so keep the last verdict
+            log.warn("Could not stamp the replication heartbeat on the primary", e);
+            return;
+        }
+
+        LocalDateTime replicaBeat;
+        try {
+            replicaBeat = replica.queryForObject(READ_HEARTBEAT, LocalDateTime.class);
+        } catch (DataAccessException e) {
+            if (usable) {
+                log.warn("Replica unreachable, routing reads to the primary", e);
+            }
+            lagMillis = -1;
+            usable = false;
+            return;
+        }
+
+        lagMillis = Math.max(0, Duration.between(replicaBeat, primaryBeat).toMillis());
+        boolean nowUsable = lagMillis <= maxLag.toMillis();
+        if (nowUsable != usable) {
+            log.info("Replica {} (lag {} ms)", nowUsable ? "back in rotation" : "taken out of rotation", lagMillis);
+        }
+        usable = nowUsable;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bookreviewhub.backend.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+// Sends read-only transactions to the replica and everything else to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy, so the connection is only picked once the transaction's
+// read-only flag is known. Reads still go to the primary right after the same account wrote,
+// and whenever the replica is unreachable or lagging.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DataSource primary;
+    private final DataSource replica;
+
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter readYourWritesReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.primary = primary;
+        this.replica = replica;
+
+        this.writes = routed(meterRegistry, DataSourceRoute.PRIMARY, "write");
+        this.replicaReads = routed(meterRegistry, DataSourceRoute.REPLICA, "read");
+        this.readYourWritesReads = routed(meterRegistry, DataSourceRoute.PRIMARY, "read-your-writes");
+        this.fallbackReads = routed(meterRegistry, DataSourceRoute.PRIMARY, "replica-unavailable");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        super.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            recordWriteOnCommit();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (readYourWritesTracker.wroteRecently()) {
+            readYourWritesReads.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!replicaLagMonitor.isUsable()) {
+            fallbackReads.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    // The read-your-writes window starts when the write becomes visible, not when it begins
+    private void recordWriteOnCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite();
+                }
+            });
+        } else {
+            readYourWritesTracker.recordWrite();
+        }
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, DataSourceRoute route, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the read/write router")
+                .tags("route", route.name().toLowerCase(Locale.ROOT), "reason", reason)
+                .register(meterRegistry);
+    }
+}
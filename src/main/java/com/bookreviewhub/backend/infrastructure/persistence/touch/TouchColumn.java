@@ -0,0 +1,23 @@
+package com.bookreviewhub.backend.infrastructure.persistence.touch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// High-frequency "last seen" style timestamp columns written through TouchWriteBehindBuffer.
+// Add a constant here to route another touch column through the same coalescing flusher.
+@Getter
+@RequiredArgsConstructor
+public enum TouchColumn {
+    ACCOUNT_LAST_LOGIN_AT("accounts", "id", "last_login_at");
+
+    private final String table;
+    private final String idColumn;
+    private final String column;
+
+    // Only moves the timestamp forward, so late or duplicate flushes (e.g. from another instance) are harmless
+    // and rows that are already up to date are not rewritten (nor fire their update trigger)
+    String updateSql() {
+        return "UPDATE " + table + " SET " + column + " = ? WHERE " + idColumn + " = ? AND ("
+                + column + " IS NULL OR " + column + " < ?)";
+    }
+}
@@ -0,0 +1,179 @@
+package com.bookreviewhub.backend.infrastructure.persistence.touch;
+
+import com.bookreviewhub.backend.shared.config.TouchWriteBehindConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Write-behind buffer for touch columns such as accounts.last_login_at.
+// Request threads only record the touch in memory; repeated touches of the same row are coalesced
+// and a background flusher writes them in JDBC batches, ordered by id for consistent lock ordering.
+@Slf4j
+@Component
+public class TouchWriteBehindBuffer implements SmartLifecycle {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TouchWriteBehindConfig touchWriteBehindConfig;
+    private final int batchSize;
+
+    private final Map<TouchColumn, ConcurrentHashMap<Long, LocalDateTime>> pendingByColumn = new EnumMap<>(TouchColumn.class);
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean(false);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Executor earlyFlushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "touch-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter flushedRowsCounter;
+    private final Timer flushTimer;
+    private volatile boolean running = false;
+
+    public TouchWriteBehindBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            TouchWriteBehindConfig touchWriteBehindConfig,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.touchWriteBehindConfig = touchWriteBehindConfig;
+        this.batchSize = batchSize;
+        for (TouchColumn touchColumn : TouchColumn.values()) {
+            pendingByColumn.put(touchColumn, new ConcurrentHashMap<>());
+        }
+
+        Gauge.builder("persistence.touch.pending", pendingCount, AtomicInteger::get)
+                .description("Touches recorded in memory and not yet written")
+                .register(meterRegistry);
+        this.flushedRowsCounter = Counter.builder("persistence.touch.flushed")
+                .description("Touch rows written to the database")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("persistence.touch.flush")
+                .description("Time spent writing one round of touches")
+                .register(meterRegistry);
+    }
+
+    public void touch(TouchColumn touchColumn, Long id, LocalDateTime touchedAt) {
+        if (id == null) {
+            return;
+        }
+        boolean[] added = new boolean[1];
+        pendingByColumn.get(touchColumn).compute(id, (key, current) -> {
+            if (current == null) {
+                added[0] = true;
+                return touchedAt;
+            }
+            return touchedAt.isAfter(current) ? touchedAt : current;
+        });
+
+        if (added[0]
+                && pendingCount.incrementAndGet() >= touchWriteBehindConfig.getMaxPending()
+                && earlyFlushRequested.compareAndSet(false, true)) {
+            // Bound how much a crash could lose instead of waiting for the next scheduled flush
+            earlyFlushExecutor.execute(() -> {
+                earlyFlushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.persistence.touch-write-behind.flush-interval:PT5S}")
+    public void flush() {
+        // A flush already in progress will pick up whatever is pending
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> pendingByColumn.forEach(this::flushColumn));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushColumn(TouchColumn touchColumn, ConcurrentHashMap<Long, LocalDateTime> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> drained = new ArrayList<>();
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            // Only removed if not touched again meanwhile; a newer touch stays for the next round
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        pendingCount.addAndGet(-drained.size());
+        drained.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+        String sql = touchColumn.updateSql();
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<Long, LocalDateTime>> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, entry) -> {
+                    Timestamp touchedAt = Timestamp.valueOf(entry.getValue());
+                    ps.setTimestamp(1, touchedAt);
+                    ps.setLong(2, entry.getKey());
+                    ps.setTimestamp(3, touchedAt);
+                }));
+                flushedRowsCounter.increment(chunk.size());
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} touches of {}.{}, retrying on next flush",
+                        chunk.size(), touchColumn.getTable(), touchColumn.getColumn(), e);
+                chunk.forEach(entry -> touch(touchColumn, entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // Drain everything on graceful shutdown
+    @Override
+    public void stop() {
+        running = false;
+        flushLock.lock();
+        try {
+            pendingByColumn.forEach(this::flushColumn);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server has finished in-flight requests, and before the DataSource is closed
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,62 @@
+package com.bookreviewhub.backend.infrastructure.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+// Reviews are versioned: an edit inserts a new row pointing to the previous version through previous_review_id
+// and marks the previous version as no longer current
+@Entity
+@Table(name = "reviews")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @JdbcTypeCode(SqlTypes.TINYINT)
+    private Integer rating;
+
+    @Column(name = "reviewer_id", nullable = false)
+    private Long reviewerId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "previous_review_id")
+    private Long previousReviewId;
+
+    // First version of the chain; equals id for an original review
+    @Column(name = "root_review_id")
+    private Long rootReviewId;
+
+    // False once an edit has superseded this version
+    @Builder.Default
+    @Column(name = "is_current", nullable = false)
+    private boolean current = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+}
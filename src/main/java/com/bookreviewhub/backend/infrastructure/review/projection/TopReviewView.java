@@ -0,0 +1,21 @@
+package com.bookreviewhub.backend.infrastructure.review.projection;
+
+import java.time.LocalDateTime;
+
+public interface TopReviewView {
+    Long getId();
+
+    Long getBookId();
+
+    Long getReviewerId();
+
+    Integer getRating();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    int getUpvotes();
+
+    int getDownvotes();
+}
@@ -0,0 +1,85 @@
+package com.bookreviewhub.backend.infrastructure.review.repository;
+
+import com.bookreviewhub.backend.infrastructure.review.entity.ReviewEntity;
+import com.bookreviewhub.backend.infrastructure.review.projection.TopReviewView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
+    // Whole version chains for a set of roots, oldest first (served by idx_root_created_id)
+    List<ReviewEntity> findByRootReviewIdInOrderByRootReviewIdAscCreatedAtAscIdAsc(Collection<Long> rootReviewIds);
+
+    // Serializes concurrent writes to the same review, so each change is counted once in the rating stats
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReviewEntity r WHERE r.id = :id")
+    Optional<ReviewEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // Keyset page of the current, live reviews of a book, newest first (served by idx_book_current_deleted_created_id)
+    @Query("""
+            select r from ReviewEntity r
+            where r.bookId = :bookId
+              and r.current = true
+              and r.deletedAt is null
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReviewEntity> findBookPageBefore(
+            @Param("bookId") Long bookId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Keyset page of the current, live reviews by a reviewer, newest first (served by idx_reviewer_current_deleted_created_id)
+    @Query("""
+            select r from ReviewEntity r
+            where r.reviewerId = :reviewerId
+              and r.current = true
+              and r.deletedAt is null
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReviewEntity> findReviewerPageBefore(
+            @Param("reviewerId") Long reviewerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Highest-scored current, live reviews of each book, newest first on ties, in one windowed pass
+    @Query(value = """
+            SELECT ranked.id AS id, ranked.book_id AS bookId, ranked.reviewer_id AS reviewerId, ranked.rating AS rating,
+                   ranked.content AS content, ranked.created_at AS createdAt,
+                   ranked.upvotes AS upvotes, ranked.downvotes AS downvotes
+            FROM (
+                SELECT r.id, r.book_id, r.reviewer_id, r.rating, r.content, r.created_at,
+                       COALESCE(t.upvotes, 0) AS upvotes, COALESCE(t.downvotes, 0) AS downvotes,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY r.book_id
+                           ORDER BY COALESCE(t.upvotes, 0) - COALESCE(t.downvotes, 0) DESC, r.created_at DESC, r.id DESC
+                       ) AS vote_rank
+                FROM reviews r
+                LEFT JOIN review_vote_totals t ON t.review_id = r.id
+                WHERE r.book_id IN (:bookIds)
+                  AND r.is_current = TRUE
+                  AND r.deleted_at IS NULL
+            ) AS ranked
+            WHERE ranked.vote_rank <= :perBook
+            ORDER BY ranked.book_id, ranked.vote_rank
+            """, nativeQuery = true)
+    List<TopReviewView> findTopReviewsByBookIdIn(@Param("bookIds") Collection<Long> bookIds, @Param("perBook") int perBook);
+
+    @Query("select distinct r.bookId from ReviewEntity r where r.reviewerId = :reviewerId and r.current = true and r.deletedAt is null")
+    List<Long> findLiveBookIdsReviewedBy(@Param("reviewerId") Long reviewerId);
+}
@@ -0,0 +1,8 @@
+package com.bookreviewhub.backend.infrastructure.review.vote;
+
+import java.time.Instant;
+
+// An account's vote on a review and when it was cast (review_votes.created_at)
+public record CastVote(VoteType type, Instant castAt) {
+    public static final CastVote NONE = new CastVote(VoteType.NONE, null);
+}
@@ -0,0 +1,450 @@
+package com.bookreviewhub.backend.infrastructure.review.vote;
+
+import com.bookreviewhub.backend.shared.config.ReviewVoteConfig;
+import com.bookreviewhub.backend.shared.event.ReviewVotesFlushedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Review votes are accepted in memory and written in periodic batches.
+// Per-review totals live in LongAdder tallies, so a viral review never serializes voters on one InnoDB row;
+// each (review, account) pair is guarded by a lock stripe for dedupe and flips.
+// Vote rows and total deltas of a flush are written in one transaction, ordered by id; other instances drop their
+// cached totals of the flushed reviews through CacheInvalidationRelay.
+@Slf4j
+@Component
+public class ReviewVoteBuffer implements SmartLifecycle {
+    private static final String UPSERT_VOTE_SQL = """
+            INSERT INTO review_votes (review_id, account_id, vote_type, created_at, deleted_at)
+            VALUES (?, ?, ?, ?, NULL) AS new
+            ON DUPLICATE KEY UPDATE
+                created_at = IF(review_votes.deleted_at IS NULL AND review_votes.vote_type = new.vote_type,
+                                review_votes.created_at, new.created_at),
+                vote_type = new.vote_type,
+                deleted_at = NULL
+            """;
+    private static final String RETRACT_VOTE_SQL =
+            "UPDATE review_votes SET deleted_at = ? WHERE review_id = ? AND account_id = ? AND deleted_at IS NULL";
+    private static final String APPLY_TOTALS_SQL = """
+            INSERT INTO review_vote_totals (review_id, upvotes, downvotes, updated_at)
+            VALUES (?, ?, ?, NOW()) AS new
+            ON DUPLICATE KEY UPDATE
+                upvotes = review_vote_totals.upvotes + new.upvotes,
+                downvotes = review_vote_totals.downvotes + new.downvotes,
+                updated_at = new.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewVoteConfig reviewVoteConfig;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int batchSize;
+
+    private final ReentrantLock[] stripes;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Readers share it; a flush holds it exclusively while its deltas move from in flight to persisted,
+    // including the commit itself, so no reader can count a delta both in a loaded total and in flight
+    private final ReentrantReadWriteLock totalsLock = new ReentrantReadWriteLock();
+
+    // Latest vote per (review, account) not yet written; overrides persistedVotes
+    private final ConcurrentHashMap<VoteKey, CastVote> pendingVotes = new ConcurrentHashMap<>();
+    // Unwritten total deltas per review; drained with sumThenReset so concurrent increments are never lost
+    private final ConcurrentHashMap<Long, Tally> pendingTallies = new ConcurrentHashMap<>();
+    // Deltas drained by a flush whose transaction has not committed yet
+    private final ConcurrentHashMap<Long, VoteTotals> inflightTallies = new ConcurrentHashMap<>();
+
+    private final Cache<VoteKey, CastVote> persistedVotes;
+    private final Cache<Long, VoteTotals> persistedTotals;
+
+    private final Counter flushedVotesCounter;
+    private volatile boolean running = false;
+
+    public ReviewVoteBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ReviewVoteConfig reviewVoteConfig,
+            ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.reviewVoteConfig = reviewVoteConfig;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.batchSize = batchSize;
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, reviewVoteConfig.getStripes() - 1)) << 1;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        this.persistedVotes = Caffeine.newBuilder()
+                .maximumSize(reviewVoteConfig.getVoteCacheSize())
+                .build();
+        this.persistedTotals = Caffeine.newBuilder()
+                .maximumSize(reviewVoteConfig.getTotalsCacheSize())
+                .expireAfterWrite(reviewVoteConfig.getTotalsCacheTtl())
+                .build();
+
+        Gauge.builder("reviews.votes.pending", pendingVotes, Map::size)
+                .description("Votes accepted in memory and not yet written")
+                .register(meterRegistry);
+        this.flushedVotesCounter = Counter.builder("reviews.votes.flushed")
+                .description("Vote rows written to the database")
+                .register(meterRegistry);
+    }
+
+    // Sets the account's vote on a review and returns the vote it replaced
+    public CastVote vote(Long reviewId, Long accountId, VoteType voteType) {
+        VoteKey key = new VoteKey(reviewId, accountId);
+        // Loads outside the stripe lock, so a cache miss never holds up other voters on the stripe
+        CastVote loaded = currentVote(key);
+
+        ReentrantLock stripe = stripeFor(key);
+        stripe.lock();
+        try {
+            CastVote previous = pendingVotes.get(key);
+            if (previous == null) {
+                previous = persistedVotes.asMap().getOrDefault(key, loaded);
+            }
+            if (previous.type() == voteType) {
+                return previous;
+            }
+
+            pendingVotes.put(key, new CastVote(voteType, Instant.now()));
+            Tally tally = pendingTallies.computeIfAbsent(reviewId, id -> new Tally());
+            tally.apply(previous.type(), -1);
+            tally.apply(voteType, 1);
+            return previous;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public VoteType currentVote(Long reviewId, Long accountId) {
+        return currentVote(new VoteKey(reviewId, accountId)).type();
+    }
+
+    // Persisted totals plus everything accepted since
+    public VoteTotals totals(Long reviewId) {
+        totalsLock.readLock().lock();
+        try {
+            VoteTotals totals = persistedTotals.get(reviewId, this::loadTotals);
+            VoteTotals inflight = inflightTallies.get(reviewId);
+            if (inflight != null) {
+                totals = totals.plus(inflight.upvotes(), inflight.downvotes());
+            }
+            Tally pending = pendingTallies.get(reviewId);
+            if (pending != null) {
+                totals = totals.plus(pending.upvotes.sum(), pending.downvotes.sum());
+            }
+            return totals;
+        } finally {
+            totalsLock.readLock().unlock();
+        }
+    }
+
+    // Drops a cached total written by another instance; the next read loads it again
+    public void evictTotals(Long reviewId) {
+        persistedTotals.invalidate(reviewId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reviews.votes.flush-interval:PT2S}")
+    public void flush() {
+        // A flush already in progress will pick up whatever is pending
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        if (pendingVotes.isEmpty() && pendingTallies.isEmpty()) {
+            return;
+        }
+
+        // Entries stay pending until committed, so readers never fall back to a stale persisted vote
+        List<Map.Entry<VoteKey, CastVote>> votes = new ArrayList<>();
+        pendingVotes.forEach((key, voteType) -> votes.add(Map.entry(key, voteType)));
+        votes.sort(Map.Entry.comparingByKey(Comparator.comparing(VoteKey::reviewId).thenComparing(VoteKey::accountId)));
+
+        List<Map.Entry<Long, VoteTotals>> deltas = new ArrayList<>();
+        totalsLock.writeLock().lock();
+        try {
+            pendingTallies.forEach((reviewId, tally) -> {
+                VoteTotals delta = new VoteTotals(tally.upvotes.sumThenReset(), tally.downvotes.sumThenReset());
+                if (delta.upvotes() != 0 || delta.downvotes() != 0) {
+                    inflightTallies.merge(reviewId, delta, (a, b) -> a.plus(b.upvotes(), b.downvotes()));
+                    deltas.add(Map.entry(reviewId, delta));
+                }
+            });
+        } finally {
+            totalsLock.writeLock().unlock();
+        }
+        deltas.sort(Map.Entry.comparingByKey());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                writeVotes(votes);
+                writeTotals(deltas);
+                if (!deltas.isEmpty()) {
+                    List<Long> reviewIds = deltas.stream().map(Map.Entry::getKey).toList();
+                    applicationEventPublisher.publishEvent(new ReviewVotesFlushedEvent(reviewIds, findBookIds(reviewIds)));
+                }
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        totalsLock.writeLock().lock();
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (!totalsLock.writeLock().isHeldByCurrentThread()) {
+                            return;
+                        }
+                        try {
+                            if (status == STATUS_COMMITTED) {
+                                persistTotals(deltas);
+                            }
+                        } finally {
+                            totalsLock.writeLock().unlock();
+                        }
+                    }
+                });
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} votes, retrying on next flush", votes.size(), e);
+            totalsLock.writeLock().lock();
+            try {
+                deltas.forEach(entry -> {
+                    pendingTallies.computeIfAbsent(entry.getKey(), id -> new Tally()).add(entry.getValue());
+                    inflightTallies.remove(entry.getKey());
+                });
+            } finally {
+                totalsLock.writeLock().unlock();
+            }
+            return;
+        }
+
+        for (Map.Entry<VoteKey, CastVote> entry : votes) {
+            persistedVotes.put(entry.getKey(), entry.getValue());
+            // Only removed if not changed again meanwhile; a newer vote stays for the next round
+            pendingVotes.remove(entry.getKey(), entry.getValue());
+        }
+        flushedVotesCounter.increment(votes.size());
+    }
+
+    // Cached totals were loaded before the commit (readers are held off until now), so the deltas are added once
+    private void persistTotals(List<Map.Entry<Long, VoteTotals>> deltas) {
+        for (Map.Entry<Long, VoteTotals> entry : deltas) {
+            VoteTotals delta = entry.getValue();
+            persistedTotals.asMap().computeIfPresent(entry.getKey(),
+                    (reviewId, totals) -> totals.plus(delta.upvotes(), delta.downvotes()));
+            inflightTallies.remove(entry.getKey());
+        }
+    }
+
+    private void writeVotes(List<Map.Entry<VoteKey, CastVote>> votes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<VoteKey, CastVote>> casts = votes.stream().filter(entry -> entry.getValue().type() != VoteType.NONE).toList();
+        List<Map.Entry<VoteKey, CastVote>> retractions = votes.stream().filter(entry -> entry.getValue().type() == VoteType.NONE).toList();
+
+        // Stamped with when the vote was accepted, the time trending counted it from
+        jdbcTemplate.batchUpdate(UPSERT_VOTE_SQL, casts, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getKey().reviewId());
+            ps.setLong(2, entry.getKey().accountId());
+            ps.setString(3, entry.getValue().type().name());
+            ps.setTimestamp(4, Timestamp.from(entry.getValue().castAt()));
+        });
+        jdbcTemplate.batchUpdate(RETRACT_VOTE_SQL, retractions, batchSize, (ps, entry) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, entry.getKey().reviewId());
+            ps.setLong(3, entry.getKey().accountId());
+        });
+    }
+
+    // Books whose top reviews may have been reordered by the flushed totals
+    private List<Long> findBookIds(List<Long> reviewIds) {
+        String placeholders = String.join(",", Collections.nCopies(reviewIds.size(), "?"));
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT book_id FROM reviews WHERE id IN (" + placeholders + ")", Long.class, reviewIds.toArray());
+    }
+
+    private void writeTotals(List<Map.Entry<Long, VoteTotals>> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_TOTALS_SQL, deltas, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setLong(2, entry.getValue().upvotes());
+            ps.setLong(3, entry.getValue().downvotes());
+        });
+    }
+
+    // Recomputes review_vote_totals from review_votes after a restart, repairing drift left by crashes
+    // or by several instances voting on the same pair; runs under the flush lock so no deltas interleave
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            flushPending();
+            Long maxReviewId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM reviews", Long.class);
+            int step = reviewVoteConfig.getReconcileBatchSize();
+            for (long from = 1; maxReviewId != null && from <= maxReviewId; from += step) {
+                long fromReviewId = from;
+                long toReviewId = from + step - 1;
+                transactionTemplate.executeWithoutResult(status -> reconcileRange(fromReviewId, toReviewId));
+            }
+            persistedTotals.invalidateAll();
+            log.info("Reconciled review vote totals up to review {}", maxReviewId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile review vote totals", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void reconcileRange(long fromReviewId, long toReviewId) {
+        jdbcTemplate.update("""
+                INSERT INTO review_vote_totals (review_id, upvotes, downvotes, updated_at)
+                SELECT * FROM (
+                    SELECT v.review_id, SUM(v.vote_type = 'UPVOTE') AS upvotes,
+                           SUM(v.vote_type = 'DOWNVOTE') AS downvotes, NOW() AS updated_at
+                    FROM review_votes v
+                    WHERE v.review_id BETWEEN ? AND ?
+                      AND v.deleted_at IS NULL
+                    GROUP BY v.review_id
+                ) AS live
+                ON DUPLICATE KEY UPDATE
+                    upvotes = live.upvotes,
+                    downvotes = live.downvotes,
+                    updated_at = live.updated_at
+                """, fromReviewId, toReviewId);
+        jdbcTemplate.update("""
+                UPDATE review_vote_totals t
+                SET t.upvotes = 0, t.downvotes = 0, t.updated_at = NOW()
+                WHERE t.review_id BETWEEN ? AND ?
+                  AND (t.upvotes <> 0 OR t.downvotes <> 0)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM review_votes v
+                      WHERE v.review_id = t.review_id AND v.deleted_at IS NULL
+                  )
+                """, fromReviewId, toReviewId);
+    }
+
+    private CastVote currentVote(VoteKey key) {
+        CastVote pending = pendingVotes.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        return persistedVotes.get(key, this::loadVote);
+    }
+
+    // Also rejects votes on missing or deleted reviews
+    private CastVote loadVote(VoteKey key) {
+        List<CastVote> rows = jdbcTemplate.query("""
+                SELECT v.vote_type, v.created_at
+                FROM reviews r
+                LEFT JOIN review_votes v ON v.review_id = r.id AND v.account_id = ? AND v.deleted_at IS NULL
+                WHERE r.id = ? AND r.deleted_at IS NULL
+                """, (rs, rowNum) -> rs.getString(1) == null
+                ? null
+                : new CastVote(VoteType.valueOf(rs.getString(1)), rs.getTimestamp(2).toInstant()), key.accountId(), key.reviewId());
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Review not found");
+        }
+        return rows.get(0) == null ? CastVote.NONE : rows.get(0);
+    }
+
+    private VoteTotals loadTotals(Long reviewId) {
+        List<VoteTotals> rows = jdbcTemplate.query(
+                "SELECT upvotes, downvotes FROM review_vote_totals WHERE review_id = ?",
+                (rs, rowNum) -> new VoteTotals(rs.getLong(1), rs.getLong(2)),
+                reviewId
+        );
+        return rows.isEmpty() ? VoteTotals.EMPTY : rows.get(0);
+    }
+
+    private ReentrantLock stripeFor(VoteKey key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // Drain everything on graceful shutdown
+    @Override
+    public void stop() {
+        running = false;
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server has finished in-flight requests, and before the DataSource is closed
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private record VoteKey(Long reviewId, Long accountId) {
+    }
+
+    private static final class Tally {
+        private final LongAdder upvotes = new LongAdder();
+        private final LongAdder downvotes = new LongAdder();
+
+        private void apply(VoteType voteType, int delta) {
+            if (voteType == VoteType.UPVOTE) {
+                upvotes.add(delta);
+            } else if (voteType == VoteType.DOWNVOTE) {
+                downvotes.add(delta);
+            }
+        }
+
+        private void add(VoteTotals totals) {
+            upvotes.add(totals.upvotes());
+            downvotes.add(totals.downvotes());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookreviewhub.backend.infrastructure.review.vote;
+
+public record VoteTotals(long upvotes, long downvotes) {
+    public static final VoteTotals EMPTY = new VoteTotals(0, 0);
+
+    public VoteTotals plus(long upvoteDelta, long downvoteDelta) {
+        return new VoteTotals(upvotes + upvoteDelta, downvotes + downvoteDelta);
+    }
+
+    public long score() {
+        return upvotes - downvotes;
+    }
+}
@@ -0,0 +1,6 @@
+package com.bookreviewhub.backend.infrastructure.review.vote;
+
+// NONE is a retracted (or never cast) vote; it is stored as a soft-deleted review_votes row
+public enum VoteType {
+    UPVOTE, DOWNVOTE, NONE
+}
@@ -0,0 +1,75 @@
+package com.bookreviewhub.backend.infrastructure.runtime;
+
+import com.bookreviewhub.backend.shared.config.VirtualThreadsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Streams the JFR jdk.VirtualThreadPinned event in-process: a virtual thread that blocks while pinned to its
+// carrier (typically inside synchronized, or in native code) holds a platform thread for the whole wait.
+// Every occurrence is counted; each distinct pinning site is logged once with its stack.
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private final VirtualThreadsConfig virtualThreadsConfig;
+    private final Counter pinnedCounter;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadsConfig virtualThreadsConfig, MeterRegistry meterRegistry) {
+        this.virtualThreadsConfig = virtualThreadsConfig;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(virtualThreadsConfig.getPinningThreshold())
+                .withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        if (event.getStackTrace() == null) {
+            return;
+        }
+
+        List<RecordedFrame> frames = event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(virtualThreadsConfig.getPinnedStackDepth())
+                .toList();
+        String stack = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n    at "));
+        if (reportedSites.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms\n    at {}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+}
@@ -1,6 +1,12 @@
 package com.bookreviewhub.backend.infrastructure.security.filter;
 
+import com.bookreviewhub.backend.infrastructure.security.jwt.AccountTokenRevocationRegistry;
 import com.bookreviewhub.backend.infrastructure.security.jwt.JwtService;
+import com.bookreviewhub.backend.infrastructure.security.jwt.VerifiedToken;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,8 +14,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -19,7 +23,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final AccountTokenRevocationRegistry accountTokenRevocationRegistry;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -29,7 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = httpServletRequest.getHeader("Authorization");
         final String jwt;
-        final String username;
+        final VerifiedToken verifiedToken;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(httpServletRequest, httpServletResponse);
@@ -37,40 +42,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
+        Timer.Sample verifySample = Timer.start(meterRegistry);
         try {
-            username = jwtService.extractUsername(jwt);
-        } catch (Exception e) {
-            if (!httpServletResponse.isCommitted()) {
-                httpServletResponse.setStatus(httpServletResponse.SC_UNAUTHORIZED);
-                httpServletResponse.setContentType("application/json");
-                httpServletResponse.getWriter().write("{\"error\": \"Invalid JWT token\"}");
-            }
+            // Single verification per request (signature + expiry), served from cache for known tokens
+            verifiedToken = jwtService.verifyToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            verifySample.stop(phaseTimer("verify", "invalid"));
+            writeUnauthorized(httpServletResponse, "Invalid JWT token");
             return;
         }
 
-        if (
-                username != null &&
-                SecurityContextHolder.getContext().getAuthentication() == null
-        ) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!verifiedToken.hasAccountClaims()) {
+            verifySample.stop(phaseTimer("verify", "invalid"));
+            writeUnauthorized(httpServletResponse, "Invalid JWT token");
+            return;
+        }
+        verifySample.stop(phaseTimer("verify", "valid"));
+
+        // Reject tokens of accounts banned, deactivated or re-roled after the token was issued
+        Timer.Sample revocationSample = Timer.start(meterRegistry);
+        boolean current = accountTokenRevocationRegistry.isTokenCurrent(verifiedToken.accountId(), verifiedToken.securityVersion());
+        revocationSample.stop(phaseTimer("revocation", current ? "valid" : "revoked"));
+        if (!current) {
+            writeUnauthorized(httpServletResponse, "JWT token has been revoked");
+            return;
+        }
 
-            if (jwtService.isTokenValid(jwt)) {
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-            } else {
-                if (!httpServletResponse.isCommitted()) {
-                    httpServletResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    httpServletResponse.setContentType("application/json");
-                    httpServletResponse.getWriter().write("{\"error\": \"Invalid or expired JWT token\"}");
-                }
-                return;
-            }
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Authorities come from the signed claims, so no account lookup is needed per request
+            AuthenticatedAccount authenticatedAccount = verifiedToken.toAuthenticatedAccount();
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                    authenticatedAccount,
+                    null,
+                    authenticatedAccount.authorities()
+            );
+            SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
         }
 
         filterChain.doFilter(httpServletRequest, httpServletResponse);
     }
+
+    // Parsing and signature checks are the verify phase; there is no user-load phase, the principal comes from the claims
+    private Timer phaseTimer(String phase, String outcome) {
+        return Timer.builder("auth.jwt.filter")
+                .description("Time spent authenticating a bearer token, per phase")
+                .tags("phase", phase, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void writeUnauthorized(HttpServletResponse httpServletResponse, String message) throws IOException {
+        if (!httpServletResponse.isCommitted()) {
+            httpServletResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            httpServletResponse.setContentType("application/json");
+            httpServletResponse.getWriter().write("{\"error\": \"" + message + "\"}");
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.bookreviewhub.backend.infrastructure.security.jwt;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountSecurityView;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.event.AccountSecurityChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory table of accounts whose security version was bumped (ban, deactivation, role change).
+// Only those accounts are tracked, so a token of any other account is current by definition.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountTokenRevocationRegistry {
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // Overlap between refreshes so changes stamped before, but committed after, the previous refresh are not missed
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, SecurityState> securityStates = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefreshedAt = BEGINNING;
+
+    private record SecurityState(int securityVersion, UserEntity.Status status) {
+    }
+
+    @PostConstruct
+    public void loadSecurityStates() {
+        refresh();
+        log.info("Loaded security state of {} accounts for token revocation", securityStates.size());
+    }
+
+    // Picks up changes made by other instances
+    @Scheduled(
+            fixedDelayString = "${app.security.token-revocation.refresh-interval:PT30S}",
+            initialDelayString = "${app.security.token-revocation.refresh-interval:PT30S}"
+    )
+    public void refresh() {
+        // Database time, like the security_changed_at stamps, so clock skew between instances cannot skip a change
+        LocalDateTime refreshStartedAt = jdbcTemplate.queryForObject("SELECT NOW(3)", LocalDateTime.class);
+        List<AccountSecurityView> changed = userRepository.findSecurityChangedSince(
+                lastRefreshedAt.minusSeconds(REFRESH_OVERLAP_SECONDS)
+        );
+        changed.forEach(view -> record(view.getId(), view.getSecurityVersion(), view.getStatus()));
+        lastRefreshedAt = refreshStartedAt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountSecurityChanged(AccountSecurityChangedEvent event) {
+        record(event.accountId(), event.securityVersion(), event.status());
+    }
+
+    public boolean isTokenCurrent(long accountId, int tokenSecurityVersion) {
+        SecurityState state = securityStates.get(accountId);
+        return state == null
+                || (state.status() == UserEntity.Status.ACTIVE && tokenSecurityVersion >= state.securityVersion());
+    }
+
+    private void record(Long accountId, int securityVersion, UserEntity.Status status) {
+        SecurityState newState = new SecurityState(securityVersion, status != null ? status : UserEntity.Status.ACTIVE);
+        // Never let a stale refresh overwrite a newer version received through an event
+        securityStates.merge(accountId, newState, (current, incoming) ->
+                incoming.securityVersion() >= current.securityVersion() ? incoming : current
+        );
+    }
+}
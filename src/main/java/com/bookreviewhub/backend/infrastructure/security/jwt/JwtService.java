@@ -1,6 +1,11 @@
 package com.bookreviewhub.backend.infrastructure.security.jwt;
 
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
 import com.bookreviewhub.backend.shared.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,45 +13,90 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Clock;
 import java.util.Date;
 
 @Service
 public class JwtService {
+    static final String CLAIM_ACCOUNT_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_SECURITY_VERSION = "sv";
+
     private final JwtConfig jwtConfig;
+    private final Clock clock;
+
+    // The key and the parser are immutable and thread-safe, so they are built once instead of per call
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    // Tokens that already passed signature verification (null when the cache is disabled)
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     @Autowired
     public JwtService(JwtConfig jwtConfig) {
-        this.jwtConfig = jwtConfig;
+        this(jwtConfig, Clock.systemUTC(), Ticker.systemTicker());
     }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes());
+    // The clock decides token expiry and the ticker cache expiry; tests move both together
+    JwtService(JwtConfig jwtConfig, Clock clock, Ticker ticker) {
+        this.jwtConfig = jwtConfig;
+        this.clock = clock;
+        this.signingKey = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = jwtConfig.getVerificationCacheSize() > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(jwtConfig.getVerificationCacheSize())
+                        .expireAfter(new VerifiedTokenExpiry(jwtConfig.getVerificationCacheTtl(), clock))
+                        .ticker(ticker)
+                        .build()
+                : null;
     }
 
-    public String generateToken(String username) {
+    // Everything needed to authorize a request is carried in the token, so the filter never loads the account
+    public String generateToken(AccountUserDetails accountUserDetails) {
         return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtConfig.getExpiration().toMillis()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setSubject(accountUserDetails.getUsername())
+                .claim(CLAIM_ACCOUNT_ID, accountUserDetails.getAccountId())
+                .claim(CLAIM_ROLE, accountUserDetails.getRole().name())
+                .claim(CLAIM_SECURITY_VERSION, accountUserDetails.getSecurityVersion())
+                .setIssuedAt(Date.from(clock.instant()))
+                .setExpiration(Date.from(clock.instant().plus(jwtConfig.getExpiration())))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Verifies signature and expiry once and returns the claims; tokens seen before skip the HMAC work.
+    // Throws JwtException for malformed, tampered or expired tokens and IllegalArgumentException for empty ones.
+    public VerifiedToken verifyToken(String token) {
+        if (verifiedTokens == null) {
+            return VerifiedToken.from(jwtParser.parseClaimsJws(token).getBody());
+        }
+
+        // Eviction at "exp" is not exact (expired entries can linger until the cache's next maintenance), so a hit
+        // past its expiry is dropped and parsed again, which rejects it
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && (cached.expiresAt() == null || clock.instant().isBefore(cached.expiresAt()))) {
+            return cached;
+        }
+        if (cached != null) {
+            verifiedTokens.invalidate(token);
+        }
+
+        VerifiedToken verifiedToken = VerifiedToken.from(jwtParser.parseClaimsJws(token).getBody());
+        verifiedTokens.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verifyToken(token).username();
     }
 
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            verifyToken(token);
             return true;
         } catch (Exception e) {
             return false;
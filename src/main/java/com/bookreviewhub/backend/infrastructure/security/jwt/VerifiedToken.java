@@ -0,0 +1,40 @@
+package com.bookreviewhub.backend.infrastructure.security.jwt;
+
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+// Immutable view of a token whose signature and expiry have already been checked.
+// Safe to share between threads, which is what lets JwtService cache it.
+public record VerifiedToken(
+        String username,
+        Long accountId,
+        UserEntity.Role role,
+        int securityVersion,
+        Instant expiresAt
+) {
+    static VerifiedToken from(Claims claims) {
+        Number accountId = claims.get(JwtService.CLAIM_ACCOUNT_ID, Number.class);
+        String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+        Number securityVersion = claims.get(JwtService.CLAIM_SECURITY_VERSION, Number.class);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                accountId != null ? accountId.longValue() : null,
+                role != null ? UserEntity.Role.valueOf(role) : null,
+                securityVersion != null ? securityVersion.intValue() : 0,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    // Tokens issued before account claims were added cannot be authorized statelessly
+    public boolean hasAccountClaims() {
+        return username != null && accountId != null && role != null;
+    }
+
+    public AuthenticatedAccount toAuthenticatedAccount() {
+        return new AuthenticatedAccount(accountId, username, role);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bookreviewhub.backend.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.time.Duration;
+
+// Keeps a verified token in the cache for the configured TTL, but never past the token's own "exp" claim
+class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+    private final long maxTtlNanos;
+    private final Clock clock;
+
+    VerifiedTokenExpiry(Duration maxTtl, Clock clock) {
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.clock = clock;
+    }
+
+    @Override
+    public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+        if (verifiedToken.expiresAt() == null) {
+            return maxTtlNanos;
+        }
+        long untilExpiry = Duration.between(clock.instant(), verifiedToken.expiresAt()).toNanos();
+        return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+        return expireAfterCreate(token, verifiedToken, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
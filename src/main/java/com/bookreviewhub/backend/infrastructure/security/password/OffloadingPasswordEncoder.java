@@ -0,0 +1,43 @@
+package com.bookreviewhub.backend.infrastructure.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt encoder whose hashing runs on PasswordHashingExecutor; the calling thread waits for the result
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final int strength;
+
+    public OffloadingPasswordEncoder(int strength, PasswordHashingExecutor passwordHashingExecutor) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.strength = strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Unlike BCryptPasswordEncoder (which only upgrades), any cost different from the configured one
+    // triggers a rehash on the next successful login, so lowering the cost also takes effect
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -0,0 +1,117 @@
+package com.bookreviewhub.backend.infrastructure.security.password;
+
+import com.bookreviewhub.backend.shared.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Admission control for BCrypt: a bounded pool caps how many hashes run at once, so a login burst cannot take every
+// core. The calling request thread still waits for its hash (queueing included, up to the timeout); when both the
+// threads and the queue are busy, callers are rejected immediately instead of piling up.
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    private static final List<String> OPERATIONS = List.of("encode", "matches");
+
+    private final PasswordHashingConfig passwordHashingConfig;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+    // Per operation: time waiting in the queue, and time spent hashing
+    private final Map<String, Timer> queueWaitTimers;
+    private final Map<String, Timer> hashingTimers;
+
+    public PasswordHashingExecutor(PasswordHashingConfig passwordHashingConfig, MeterRegistry meterRegistry) {
+        this.passwordHashingConfig = passwordHashingConfig;
+        this.meterRegistry = meterRegistry;
+        this.threadPoolExecutor = new ThreadPoolExecutor(
+                passwordHashingConfig.getThreads(),
+                passwordHashingConfig.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashingConfig.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // Queue depth, active threads and completed tasks under executor.* with name=password-hashing
+        new ExecutorServiceMetrics(threadPoolExecutor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+        this.queueWaitTimers = timers("auth.password.hashing.queue.wait", meterRegistry);
+        this.hashingTimers = timers("auth.password.hashing", meterRegistry);
+    }
+
+    private static Map<String, Timer> timers(String name, MeterRegistry meterRegistry) {
+        return OPERATIONS.stream().collect(Collectors.toUnmodifiableMap(
+                operation -> operation,
+                operation -> Timer.builder(name)
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        ));
+    }
+
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer queueWaitTimer = queueWaitTimers.get(operation);
+        Timer hashingTimer = hashingTimers.get(operation);
+        if (queueWaitTimer == null) {
+            throw new IllegalArgumentException("Unknown password hashing operation: " + operation);
+        }
+
+        Timer.Sample queuedSample = Timer.start(meterRegistry);
+        Future<T> future;
+        try {
+            future = threadPoolExecutor.submit(() -> {
+                // Time spent waiting in the queue vs. time spent hashing, recorded separately
+                queuedSample.stop(queueWaitTimer);
+                return hashingTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("Too many concurrent authentication requests, please retry later");
+        }
+
+        try {
+            return future.get(passwordHashingConfig.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("Authentication timed out, please retry later");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw reject("Authentication was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private PasswordHashingRejectedException reject(String message) {
+        rejectedCounter.increment();
+        return new PasswordHashingRejectedException(message, passwordHashingConfig.getRetryAfter());
+    }
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookreviewhub.backend.infrastructure.security.password;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+// Thrown when the password hashing pool is saturated; mapped to 503 with a Retry-After header
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookreviewhub.backend.infrastructure.security.principal;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+// Full UserDetails used on the login path; carries what the access token needs besides the username
+@Getter
+public class AccountUserDetails extends User {
+    private final Long accountId;
+    private final UserEntity.Role role;
+    private final int securityVersion;
+
+    public AccountUserDetails(UserEntity userEntity) {
+        super(
+                userEntity.getUsername(),
+                userEntity.getPassword(),
+                userEntity.getStatus() != UserEntity.Status.INACTIVE,
+                true,
+                true,
+                userEntity.getStatus() != UserEntity.Status.BANNED,
+                AuthenticatedAccount.authoritiesOf(roleOf(userEntity))
+        );
+        this.accountId = userEntity.getId();
+        this.role = roleOf(userEntity);
+        this.securityVersion = userEntity.getSecurityVersion();
+    }
+
+    private AccountUserDetails(AccountUserDetails source) {
+        super(
+                source.getUsername(),
+                source.getPassword(),
+                source.isEnabled(),
+                source.isAccountNonExpired(),
+                source.isCredentialsNonExpired(),
+                source.isAccountNonLocked(),
+                source.getAuthorities()
+        );
+        this.accountId = source.accountId;
+        this.role = source.role;
+        this.securityVersion = source.securityVersion;
+    }
+
+    // The authentication manager erases credentials on the principal it returns,
+    // so cached instances are never handed out directly
+    public AccountUserDetails copy() {
+        return new AccountUserDetails(this);
+    }
+
+    private static UserEntity.Role roleOf(UserEntity userEntity) {
+        return userEntity.getRole() != null ? userEntity.getRole() : UserEntity.Role.USER;
+    }
+}
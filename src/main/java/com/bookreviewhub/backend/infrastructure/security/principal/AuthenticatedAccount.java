@@ -0,0 +1,40 @@
+package com.bookreviewhub.backend.infrastructure.security.principal;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Principal built from access token claims alone, without loading the account from the database
+public record AuthenticatedAccount(
+        Long id,
+        String username,
+        UserEntity.Role role
+) implements AuthenticatedPrincipal {
+    // Authority lists are immutable, so one instance per role is shared by every request
+    private static final Map<UserEntity.Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserEntity.Role.class);
+
+    static {
+        Arrays.stream(UserEntity.Role.values()).forEach(role ->
+                AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())))
+        );
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(UserEntity.Role role) {
+        return AUTHORITIES.get(role);
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return authoritiesOf(role);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookreviewhub.backend.infrastructure.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket in its GCRA form: each client is one "theoretical arrival time" advanced by a CAS,
+// so checks never lock. A request is let through while the TAT stays within burst emission intervals of now.
+// Clients live in a size-bounded Caffeine cache that forgets them once idle.
+public class GcraRateLimiter {
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final Cache<String, AtomicLong> arrivals;
+
+    public GcraRateLimiter(long limit, Duration period, int burst, long maxKeys, Duration idleEviction) {
+        if (limit <= 0 || burst <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit, period and burst must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / limit);
+        this.capacityNanos = emissionIntervalNanos * burst;
+        // Evicting a client earlier than a full refill would hand it a fresh burst
+        long idleNanos = Math.max(idleEviction.toNanos(), capacityNanos);
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(idleNanos))
+                .build();
+    }
+
+    // 0 when the request is allowed, otherwise the nanoseconds until it would be
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong arrival = arrivals.get(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long tat = arrival.get();
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long keyCount() {
+        return arrivals.estimatedSize();
+    }
+}
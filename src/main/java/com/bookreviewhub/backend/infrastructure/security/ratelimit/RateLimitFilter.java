@@ -0,0 +1,138 @@
+package com.bookreviewhub.backend.infrastructure.security.ratelimit;
+
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.config.RateLimitConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Runs right after JwtAuthenticationFilter, so authenticated calls are limited per account and anonymous ones
+// (login, registration, public catalog reads) per client IP. Behind a proxy, set server.forward-headers-strategy
+// so the remote address is the client's.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private record Policy(
+            List<PathPattern> paths,
+            Set<String> methods,
+            GcraRateLimiter limiter,
+            Counter allowed,
+            Counter rejected
+    ) {
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && paths.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+    }
+
+    private final boolean enabled;
+    private final List<Policy> policies;
+
+    public RateLimitFilter(RateLimitConfig rateLimitConfig, MeterRegistry meterRegistry) {
+        this.enabled = rateLimitConfig.isEnabled();
+        this.policies = rateLimitConfig.getPolicies().entrySet().stream()
+                .map(entry -> toPolicy(entry.getKey(), entry.getValue(), rateLimitConfig, meterRegistry))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!enabled || policies.isEmpty()) {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+            return;
+        }
+
+        String method = httpServletRequest.getMethod();
+        PathContainer path = PathContainer.parsePath(
+                httpServletRequest.getRequestURI().substring(httpServletRequest.getContextPath().length())
+        );
+        long now = System.nanoTime();
+        String client = null;
+        for (Policy policy : policies) {
+            if (!policy.matches(method, path)) {
+                continue;
+            }
+            if (client == null) {
+                client = clientOf(httpServletRequest);
+            }
+            long waitNanos = policy.limiter().tryAcquire(client, now);
+            if (waitNanos > 0) {
+                policy.rejected().increment();
+                writeTooManyRequests(httpServletResponse, waitNanos);
+                return;
+            }
+            policy.allowed().increment();
+        }
+
+        filterChain.doFilter(httpServletRequest, httpServletResponse);
+    }
+
+    private static String clientOf(HttpServletRequest httpServletRequest) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedAccount account) {
+            return "account:" + account.id();
+        }
+        return "ip:" + httpServletRequest.getRemoteAddr();
+    }
+
+    private static Policy toPolicy(String name, RateLimitConfig.Policy config, RateLimitConfig rateLimitConfig, MeterRegistry meterRegistry) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        GcraRateLimiter limiter = new GcraRateLimiter(
+                config.getLimit(),
+                config.getPeriod(),
+                config.getBurst(),
+                rateLimitConfig.getMaxKeys(),
+                rateLimitConfig.getIdleEviction()
+        );
+        Gauge.builder("rate.limit.clients", limiter, GcraRateLimiter::keyCount)
+                .description("Clients currently tracked by a rate limit policy")
+                .tag("policy", name)
+                .register(meterRegistry);
+        return new Policy(
+                config.getPaths().stream().map(parser::parse).toList(),
+                config.getMethods().stream().map(value -> value.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                limiter,
+                requestCounter(meterRegistry, name, "allowed"),
+                requestCounter(meterRegistry, name, "rejected")
+        );
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String policy, String outcome) {
+        return Counter.builder("rate.limit.requests")
+                .description("Requests checked against a rate limit policy")
+                .tags("policy", policy, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void writeTooManyRequests(HttpServletResponse httpServletResponse, long waitNanos) throws IOException {
+        if (!httpServletResponse.isCommitted()) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            httpServletResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            httpServletResponse.setContentType("application/json");
+            httpServletResponse.getWriter().write("{\"error\": \"Too many requests\"}");
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.bookreviewhub.backend.infrastructure.stats;
+
+import com.bookreviewhub.backend.shared.config.StatsConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Maintains stats_daily: one row per closed day and metric. The scheduled job only reads days after the
+// watermark, and a day is always recomputed as a whole (count, then replace its rows), so re-running any range is safe.
+@Slf4j
+@Component
+public class DailyStatsRollup implements DisposableBean {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StatsConfig statsConfig;
+
+    private final ReentrantLock rollupLock = new ReentrantLock();
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("stats-backfill-"));
+
+    public record DailyTotal(LocalDate day, StatsMetric metric, long total) {
+    }
+
+    public DailyStatsRollup(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, StatsConfig statsConfig) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.statsConfig = statsConfig;
+    }
+
+    // The first run on an empty watermark backfills from the oldest row, one chunk per transaction
+    @Scheduled(fixedDelayString = "${app.stats.rollup-interval:PT15M}")
+    public void rollUpClosedDays() {
+        if (!rollupLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDate lastClosedDay = lastClosedDay();
+            boolean more;
+            do {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> rollUpNextChunk(lastClosedDay)));
+            } while (more);
+        } finally {
+            rollupLock.unlock();
+        }
+    }
+
+    // Recomputes a range of closed days in the background, e.g. after a bulk import or a data repair
+    public void backfill(LocalDate from, LocalDate to) {
+        LocalDate lastClosedDay = lastClosedDay();
+        if (from.isAfter(to) || to.isAfter(lastClosedDay)) {
+            throw new IllegalArgumentException("Backfill range must end on or before " + lastClosedDay);
+        }
+        backfillExecutor.execute(() -> {
+            rollupLock.lock();
+            try {
+                for (LocalDate chunkStart = from; !chunkStart.isAfter(to); chunkStart = chunkStart.plusDays(statsConfig.getChunkDays())) {
+                    LocalDate start = chunkStart;
+                    LocalDate end = min(start.plusDays(statsConfig.getChunkDays() - 1L), to);
+                    transactionTemplate.executeWithoutResult(status -> rollUp(start, end));
+                }
+                log.info("Stats backfilled from {} to {}", from, to);
+            } catch (RuntimeException e) {
+                log.warn("Stats backfill from {} to {} failed", from, to, e);
+            } finally {
+                rollupLock.unlock();
+            }
+        });
+    }
+
+    public List<DailyTotal> findTotals(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT day, metric, total FROM stats_daily WHERE day BETWEEN ? AND ? ORDER BY day",
+                (resultSet, rowNum) -> new DailyTotal(
+                        resultSet.getDate("day").toLocalDate(),
+                        StatsMetric.valueOf(resultSet.getString("metric")),
+                        resultSet.getLong("total")
+                ),
+                Date.valueOf(from),
+                Date.valueOf(to)
+        );
+    }
+
+    public LocalDate findRolledUpThrough() {
+        Date rolledUpThrough = jdbcTemplate.queryForObject(
+                "SELECT rolled_up_through FROM stats_rollup_watermark WHERE id = 1", Date.class);
+        return rolledUpThrough == null ? null : rolledUpThrough.toLocalDate();
+    }
+
+    // Locking the watermark row makes instances running the same schedule take turns
+    private boolean rollUpNextChunk(LocalDate lastClosedDay) {
+        Date rolledUpThrough = jdbcTemplate.queryForObject(
+                "SELECT rolled_up_through FROM stats_rollup_watermark WHERE id = 1 FOR UPDATE", Date.class);
+        LocalDate from = rolledUpThrough == null ? findEarliestDay() : rolledUpThrough.toLocalDate().plusDays(1);
+        if (from == null) {
+            from = lastClosedDay.plusDays(1);
+        }
+        if (from.isAfter(lastClosedDay)) {
+            if (rolledUpThrough == null) {
+                advanceWatermark(lastClosedDay);
+            }
+            return false;
+        }
+
+        LocalDate to = min(from.plusDays(statsConfig.getChunkDays() - 1L), lastClosedDay);
+        rollUp(from, to);
+        advanceWatermark(to);
+        return to.isBefore(lastClosedDay);
+    }
+
+    // Counts are plain reads from the transaction's snapshot, collected before anything is written: an
+    // INSERT ... SELECT would take shared next-key locks on the counted index ranges and stall signups, books,
+    // reviews and votes inserted into them until the chunk commits. Days without rows end up with no stats_daily
+    // row, which reads as zero.
+    private void rollUp(LocalDate from, LocalDate to) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        List<DailyTotal> totals = new ArrayList<>();
+        for (StatsMetric metric : StatsMetric.values()) {
+            String counts = dailyCounts(metric.getTable(), metric);
+            List<Object> args = new ArrayList<>(List.of(start, end));
+            if (metric.getArchiveTable() != null) {
+                counts += " UNION ALL " + dailyCounts(metric.getArchiveTable(), metric);
+                args.addAll(List.of(start, end));
+            }
+            totals.addAll(jdbcTemplate.query(
+                    "SELECT day, SUM(total) AS total FROM (" + counts + ") AS counts GROUP BY day",
+                    (resultSet, rowNum) -> new DailyTotal(resultSet.getDate("day").toLocalDate(), metric, resultSet.getLong("total")),
+                    args.toArray()
+            ));
+        }
+
+        jdbcTemplate.update("DELETE FROM stats_daily WHERE day BETWEEN ? AND ?", Date.valueOf(from), Date.valueOf(to));
+        if (totals.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO stats_daily (day, metric, total) VALUES (?, ?, ?)",
+                totals,
+                totals.size(),
+                (preparedStatement, total) -> {
+                    preparedStatement.setDate(1, Date.valueOf(total.day()));
+                    preparedStatement.setString(2, total.metric().name());
+                    preparedStatement.setLong(3, total.total());
+                }
+        );
+    }
+
+    private static String dailyCounts(String table, StatsMetric metric) {
+        return "SELECT DATE(created_at) AS day, COUNT(*) AS total FROM " + table
+                + " WHERE created_at >= ? AND created_at < ?" + metric.getCondition()
+                + " GROUP BY DATE(created_at)";
+    }
+
+    private void advanceWatermark(LocalDate day) {
+        jdbcTemplate.update("UPDATE stats_rollup_watermark SET rolled_up_through = ? WHERE id = 1", Date.valueOf(day));
+    }
+
+    // MIN(created_at) is answered from the idx_created_at indexes without scanning
+    private LocalDate findEarliestDay() {
+        LocalDate earliest = null;
+        List<String> tables = new ArrayList<>();
+        for (StatsMetric metric : StatsMetric.values()) {
+            tables.add(metric.getTable());
+            if (metric.getArchiveTable() != null) {
+                tables.add(metric.getArchiveTable());
+            }
+        }
+        for (String table : tables) {
+            Timestamp first = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + table, Timestamp.class);
+            if (first != null) {
+                earliest = earliest == null ? first.toLocalDateTime().toLocalDate() : min(earliest, first.toLocalDateTime().toLocalDate());
+            }
+        }
+        return earliest;
+    }
+
+    private LocalDate lastClosedDay() {
+        return LocalDateTime.now().minus(statsConfig.getCloseGrace()).toLocalDate().minusDays(1);
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    @Override
+    public void destroy() {
+        backfillExecutor.shutdownNow();
+    }
+}
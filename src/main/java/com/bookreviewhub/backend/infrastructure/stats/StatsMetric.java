@@ -0,0 +1,24 @@
+package com.bookreviewhub.backend.infrastructure.stats;
+
+import lombok.Getter;
+
+// What the dashboard counts per day, and the rows behind each count. Every table has an index on created_at,
+// so a day range is an index range scan. Reviews count first versions only; edits are new rows of the same review.
+// Rows moved to an archive table by SoftDeleteArchiver are still counted there; accounts are never archived.
+@Getter
+public enum StatsMetric {
+    SIGNUPS("accounts", null, ""),
+    BOOKS("books", "books_archive", ""),
+    REVIEWS("reviews", "reviews_archive", " AND previous_review_id IS NULL"),
+    VOTES("review_votes", "review_votes_archive", "");
+
+    private final String table;
+    private final String archiveTable;
+    private final String condition;
+
+    StatsMetric(String table, String archiveTable, String condition) {
+        this.table = table;
+        this.archiveTable = archiveTable;
+        this.condition = condition;
+    }
+}
@@ -0,0 +1,61 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.AccountAvatarEntity;
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+// Uploads staged images to Cloudinary; keys become public ids under the configured environment folder
+@Component
+@ConditionalOnProperty(name = "app.uploads.storage", havingValue = "cloudinary")
+public class CloudinaryImageStorage implements ImageStorage {
+    private final Cloudinary cloudinary;
+    private final String folder;
+    private final int uploadTimeoutSeconds;
+
+    public CloudinaryImageStorage(
+            @Value("${app.cloudinary.cloud-name}") String cloudName,
+            @Value("${app.cloudinary.api-key}") String apiKey,
+            @Value("${app.cloudinary.api-secret}") String apiSecret,
+            @Value("${app.cloudinary.environment}") String environment,
+            @Value("${app.cloudinary.upload-timeout:60}") int uploadTimeoutSeconds
+    ) {
+        this.cloudinary = new Cloudinary(ObjectUtils.asMap(
+                "cloud_name", cloudName,
+                "api_key", apiKey,
+                "api_secret", apiSecret,
+                "secure", true
+        ));
+        this.folder = "book-review-hub/" + environment + "/";
+        this.uploadTimeoutSeconds = uploadTimeoutSeconds;
+    }
+
+    @Override
+    public StoredImage store(String key, Path stagedFile, ImageFormat format) throws IOException {
+        String publicId = folder + key;
+        // The SDK streams the file from disk; overwrite keeps a retried attempt idempotent
+        Map<?, ?> result = cloudinary.uploader().upload(stagedFile.toFile(), ObjectUtils.asMap(
+                "public_id", publicId,
+                "overwrite", true,
+                "resource_type", "image",
+                "timeout", uploadTimeoutSeconds
+        ));
+        return new StoredImage(publicId, (String) result.get("secure_url"));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        cloudinary.uploader().destroy(key, ObjectUtils.emptyMap());
+    }
+
+    @Override
+    public AccountAvatarEntity.Source avatarSource() {
+        return AccountAvatarEntity.Source.CLOUDINARY;
+    }
+}
@@ -0,0 +1,65 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+// Image formats recognised from their leading magic bytes, so the declared Content-Type and file name are never trusted
+@Getter
+public enum ImageFormat {
+    JPEG("image/jpeg", "jpg", List.of("jpg", "jpeg")),
+    PNG("image/png", "png", List.of("png")),
+    GIF("image/gif", "gif", List.of("gif")),
+    WEBP("image/webp", "webp", List.of("webp"));
+
+    // Bytes needed to tell every supported format apart (RIFF....WEBP is the longest signature)
+    public static final int HEADER_LENGTH = 12;
+
+    private final String contentType;
+    private final String extension;
+    private final List<String> names;
+
+    ImageFormat(String contentType, String extension, List<String> names) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.names = names;
+    }
+
+    // True when any of the configured format names (e.g. "jpg,png") designates this format
+    public boolean isAllowedBy(Collection<String> allowedFormats) {
+        return allowedFormats.stream()
+                .map(format -> format.trim().toLowerCase(Locale.ROOT))
+                .anyMatch(names::contains);
+    }
+
+    public static Optional<ImageFormat> detect(byte[] header, int length) {
+        if (startsWith(header, length, 0, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(header, length, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(header, length, 0, 'G', 'I', 'F', '8')) {
+            return Optional.of(GIF);
+        }
+        if (startsWith(header, length, 0, 'R', 'I', 'F', 'F') && startsWith(header, length, 8, 'W', 'E', 'B', 'P')) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, int... signature) {
+        if (length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.AccountAvatarEntity;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Backend that uploaded images are written to. Implementations are called from the upload workers, never from
+// request threads, and must be safe to call again with the same key after a failed attempt.
+public interface ImageStorage {
+    // Stores the staged file under the given key (without extension); the staged file is left in place
+    StoredImage store(String key, Path stagedFile, ImageFormat format) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // Recorded in account_avatars.source for avatars stored by this backend
+    AccountAvatarEntity.Source avatarSource();
+}
@@ -0,0 +1,286 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import com.bookreviewhub.backend.shared.config.ImageUploadConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Streams upload request bodies to a staging file, validating format and size as the bytes arrive, then hands
+// them to a small bounded pool that writes them to ImageStorage with retries. Request threads never hold a whole
+// image in memory and never wait on the storage backend; callers poll the upload status instead.
+@Slf4j
+@Component
+public class ImageUploadPipeline implements DisposableBean {
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    public enum State {
+        PENDING, STORED, FAILED
+    }
+
+    public record StagedImage(Path file, ImageFormat format, long size) {
+    }
+
+    public record UploadStatus(UUID uploadId, Long accountId, State state, String url, String error, LocalDateTime updatedAt) {
+    }
+
+    private final ImageUploadConfig imageUploadConfig;
+    private final ImageStorage imageStorage;
+    private final MeterRegistry meterRegistry;
+    private final Path stagingDirectory;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final Cache<UUID, UploadStatus> statuses;
+    private final Counter rejectedCounter;
+    private final Counter retriesCounter;
+
+    public ImageUploadPipeline(ImageUploadConfig imageUploadConfig, ImageStorage imageStorage, MeterRegistry meterRegistry) {
+        this.imageUploadConfig = imageUploadConfig;
+        this.imageStorage = imageStorage;
+        this.meterRegistry = meterRegistry;
+        this.stagingDirectory = imageUploadConfig.getStagingDirectory();
+        try {
+            Files.createDirectories(stagingDirectory);
+            // Left by a previous run that stopped before storing them; their statuses died with it
+            clearStaging(stagingDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare upload staging directory " + stagingDirectory, e);
+        }
+
+        this.threadPoolExecutor = new ThreadPoolExecutor(
+                imageUploadConfig.getConcurrency(),
+                imageUploadConfig.getConcurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(imageUploadConfig.getQueueCapacity()),
+                new CustomizableThreadFactory("image-upload-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(imageUploadConfig.getStatusTtl())
+                .build();
+
+        // Queue depth, active uploads and completed uploads under executor.* with name=image-uploads
+        new ExecutorServiceMetrics(threadPoolExecutor, "image-uploads", Tags.empty()).bindTo(meterRegistry);
+        this.rejectedCounter = Counter.builder("uploads.images.rejected")
+                .description("Image uploads rejected because the upload queue was full")
+                .register(meterRegistry);
+        this.retriesCounter = Counter.builder("uploads.images.retries")
+                .description("Storage attempts retried after a failure")
+                .register(meterRegistry);
+    }
+
+    // Rejects on the declared length and on the first bytes before anything is written; bodies without a
+    // Content-Length (chunked) are cut off as soon as they cross the limit
+    public StagedImage stage(InputStream body, long declaredLength, long maxFileSize, Collection<String> allowedFormats)
+            throws IOException {
+        if (declaredLength > maxFileSize) {
+            throw tooLarge(maxFileSize);
+        }
+        byte[] header = body.readNBytes(ImageFormat.HEADER_LENGTH);
+        if (header.length == 0) {
+            throw new IllegalArgumentException("Image is empty");
+        }
+        ImageFormat format = ImageFormat.detect(header, header.length)
+                .filter(detected -> detected.isAllowedBy(allowedFormats))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unsupported image format, allowed formats: " + String.join(", ", allowedFormats)));
+
+        Path stagedFile = Files.createTempFile(stagingDirectory, "upload-", "." + format.getExtension());
+        try (OutputStream output = Files.newOutputStream(stagedFile)) {
+            output.write(header);
+            long size = header.length;
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                size += read;
+                if (size > maxFileSize) {
+                    throw tooLarge(maxFileSize);
+                }
+                output.write(buffer, 0, read);
+            }
+            return new StagedImage(stagedFile, format, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedFile);
+            throw e;
+        }
+    }
+
+    // Queues the staged image for storage under keyPrefix + uploadId. onStored runs on the upload worker once the
+    // image is stored (typically the database write); if it throws, the stored image is deleted again.
+    public UUID submit(Long accountId, String kind, String keyPrefix, StagedImage stagedImage, Consumer<StoredImage> onStored) {
+        UUID uploadId = UUID.randomUUID();
+        statuses.put(uploadId, new UploadStatus(uploadId, accountId, State.PENDING, null, null, LocalDateTime.now()));
+        try {
+            threadPoolExecutor.execute(new UploadTask(uploadId, accountId, kind, keyPrefix + uploadId, stagedImage, onStored));
+        } catch (RejectedExecutionException e) {
+            statuses.invalidate(uploadId);
+            discard(stagedImage);
+            rejectedCounter.increment();
+            throw new ImageUploadRejectedException(
+                    "Too many uploads in progress, please retry later", imageUploadConfig.getRetryAfter());
+        }
+        return uploadId;
+    }
+
+    public Optional<UploadStatus> status(UUID uploadId) {
+        return Optional.ofNullable(statuses.getIfPresent(uploadId));
+    }
+
+    // A queued upload; its own type so shutdown can tell which queued uploads never started
+    private final class UploadTask implements Runnable {
+        private final UUID uploadId;
+        private final Long accountId;
+        private final String kind;
+        private final String key;
+        private final StagedImage stagedImage;
+        private final Consumer<StoredImage> onStored;
+        private final Timer.Sample sample = Timer.start(meterRegistry);
+
+        private UploadTask(UUID uploadId, Long accountId, String kind, String key, StagedImage stagedImage,
+                           Consumer<StoredImage> onStored) {
+            this.uploadId = uploadId;
+            this.accountId = accountId;
+            this.kind = kind;
+            this.key = key;
+            this.stagedImage = stagedImage;
+            this.onStored = onStored;
+        }
+
+        @Override
+        public void run() {
+            store(uploadId, accountId, kind, key, stagedImage, onStored, sample);
+        }
+
+        private void abandon() {
+            finish(uploadId, accountId, kind, State.FAILED, null, "Upload was cancelled by a server shutdown, please retry", sample);
+            discard(stagedImage);
+        }
+    }
+
+    private void store(UUID uploadId, Long accountId, String kind, String key, StagedImage stagedImage,
+                       Consumer<StoredImage> onStored, Timer.Sample sample) {
+        StoredImage storedImage = null;
+        try {
+            storedImage = storeWithRetries(key, stagedImage);
+            onStored.accept(storedImage);
+            finish(uploadId, accountId, kind, State.STORED, storedImage.url(), null, sample);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(uploadId, accountId, kind, State.FAILED, null, "Upload was interrupted", sample);
+        } catch (Exception e) {
+            log.warn("Image upload {} ({}) failed", uploadId, kind, e);
+            if (storedImage != null) {
+                deleteQuietly(storedImage);
+            }
+            String error = e instanceof IllegalArgumentException ? e.getMessage() : "Image could not be stored, please retry";
+            finish(uploadId, accountId, kind, State.FAILED, null, error, sample);
+        } finally {
+            discard(stagedImage);
+        }
+    }
+
+    private StoredImage storeWithRetries(String key, StagedImage stagedImage) throws IOException, InterruptedException {
+        Duration backoff = imageUploadConfig.getRetryBackoff();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return imageStorage.store(key, stagedImage.file(), stagedImage.format());
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= imageUploadConfig.getMaxAttempts()) {
+                    throw e;
+                }
+                retriesCounter.increment();
+                log.debug("Storage attempt {} for {} failed, retrying in {}", attempt, key, backoff, e);
+                Thread.sleep(backoff.toMillis());
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void finish(UUID uploadId, Long accountId, String kind, State state, String url, String error, Timer.Sample sample) {
+        statuses.put(uploadId, new UploadStatus(uploadId, accountId, state, url, error, LocalDateTime.now()));
+        sample.stop(Timer.builder("uploads.images")
+                .description("Time from queueing an image upload to its outcome")
+                .tags("kind", kind, "result", state.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+    }
+
+    private void deleteQuietly(StoredImage storedImage) {
+        try {
+            imageStorage.delete(storedImage.key());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not delete orphaned image {}", storedImage.key(), e);
+        }
+    }
+
+    private static void discard(StagedImage stagedImage) {
+        try {
+            Files.deleteIfExists(stagedImage.file());
+        } catch (IOException e) {
+            log.warn("Could not delete staged upload {}", stagedImage.file(), e);
+        }
+    }
+
+    private static void clearStaging(Path stagingDirectory) throws IOException {
+        try (var leftovers = Files.newDirectoryStream(stagingDirectory, "upload-*")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+    }
+
+    private static IllegalArgumentException tooLarge(long maxFileSize) {
+        return new IllegalArgumentException("Image exceeds the maximum size of " + maxFileSize + " bytes");
+    }
+
+    // Lets queued and running uploads finish within the timeout, then fails the queued ones and interrupts the
+    // running ones (which fail themselves), waiting once more for those to record their outcome
+    @Override
+    public void destroy() {
+        long timeoutMillis = imageUploadConfig.getShutdownTimeout().toMillis();
+        threadPoolExecutor.shutdown();
+        try {
+            if (threadPoolExecutor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Runnable> neverStarted = threadPoolExecutor.shutdownNow();
+        log.warn("Image upload pool did not drain within {}, failing {} queued uploads",
+                imageUploadConfig.getShutdownTimeout(), neverStarted.size());
+        neverStarted.forEach(task -> ((UploadTask) task).abandon());
+        try {
+            if (!threadPoolExecutor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Image uploads still running after shutdown, their staged files are cleared at the next start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+// Thrown when the upload queue is full; mapped to 503 with a Retry-After header
+@Getter
+public class ImageUploadRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ImageUploadRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
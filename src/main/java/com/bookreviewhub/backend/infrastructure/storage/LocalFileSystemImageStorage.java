@@ -0,0 +1,60 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.AccountAvatarEntity;
+import com.bookreviewhub.backend.shared.config.ImageUploadConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// Stores images under app.uploads.local-directory and serves them from app.uploads.local-public-path.
+// Files are copied next to their target and renamed into place, so readers never see a partial image.
+@Component
+@ConditionalOnProperty(name = "app.uploads.storage", havingValue = "local", matchIfMissing = true)
+public class LocalFileSystemImageStorage implements ImageStorage {
+    private final Path root;
+    private final String publicPath;
+
+    public LocalFileSystemImageStorage(ImageUploadConfig imageUploadConfig) {
+        this.root = imageUploadConfig.getLocalDirectory().toAbsolutePath().normalize();
+        this.publicPath = imageUploadConfig.getLocalPublicPath().replaceAll("/+$", "");
+    }
+
+    @Override
+    public StoredImage store(String key, Path stagedFile, ImageFormat format) throws IOException {
+        String storedKey = key + "." + format.getExtension();
+        Path target = resolve(storedKey);
+        Files.createDirectories(target.getParent());
+
+        Path partial = Files.createTempFile(target.getParent(), ".upload-", ".part");
+        try {
+            Files.copy(stagedFile, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        return new StoredImage(storedKey, publicPath + "/" + storedKey);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public AccountAvatarEntity.Source avatarSource() {
+        return AccountAvatarEntity.Source.LOCAL;
+    }
+
+    // Keys are built by the services, but never let one escape the storage root
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,5 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+// Where a stored image ended up: the backend-specific key (used to delete it) and its public URL
+public record StoredImage(String key, String url) {
+}
@@ -0,0 +1,86 @@
+package com.bookreviewhub.backend.infrastructure.user.cache;
+
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
+import com.bookreviewhub.backend.shared.config.UserDetailsCacheConfig;
+import com.bookreviewhub.backend.shared.event.AccountSecurityChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Size- and TTL-bounded cache of accounts in front of CustomUserDetailsService, keyed by username and account id.
+// Entries are dropped as soon as a status or role change is committed on this instance; other instances drop them
+// when CacheInvalidationRelay polls the change, so they serve a stale entry for at most one poll interval.
+// A rehash on login is evicted here only: other instances keep the old hash, which still matches the same password.
+@Component
+public class AccountUserDetailsCache {
+    private final Cache<String, AccountUserDetails> byUsername;
+    private final Cache<Long, AccountUserDetails> byAccountId;
+
+    public AccountUserDetailsCache(UserDetailsCacheConfig userDetailsCacheConfig, MeterRegistry meterRegistry) {
+        this.byUsername = newCache(userDetailsCacheConfig);
+        this.byAccountId = newCache(userDetailsCacheConfig);
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions and cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, byUsername, "account-user-details-by-username");
+        CaffeineCacheMetrics.monitor(meterRegistry, byAccountId, "account-user-details-by-id");
+    }
+
+    private static <K> Cache<K, AccountUserDetails> newCache(UserDetailsCacheConfig userDetailsCacheConfig) {
+        return Caffeine.newBuilder()
+                .maximumSize(userDetailsCacheConfig.getMaxSize())
+                .expireAfterWrite(userDetailsCacheConfig.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    // Concurrent misses for the same username share a single database lookup
+    public AccountUserDetails getByUsername(String username, Supplier<AccountUserDetails> loader) {
+        AccountUserDetails accountUserDetails = byUsername.get(usernameKey(username), key -> loader.get());
+        byAccountId.put(accountUserDetails.getAccountId(), accountUserDetails);
+        return accountUserDetails;
+    }
+
+    public AccountUserDetails getByAccountId(Long accountId, Function<Long, AccountUserDetails> loader) {
+        AccountUserDetails accountUserDetails = byAccountId.get(accountId, loader);
+        byUsername.put(usernameKey(accountUserDetails.getUsername()), accountUserDetails);
+        return accountUserDetails;
+    }
+
+    public void invalidate(Long accountId, String username) {
+        if (accountId != null) {
+            byAccountId.invalidate(accountId);
+        }
+        if (username != null) {
+            byUsername.invalidate(usernameKey(username));
+        }
+    }
+
+    // Remote invalidations only carry the account id; the username entry may outlive the id entry, so it is looked up
+    public void invalidateAccount(Long accountId) {
+        byAccountId.invalidate(accountId);
+        byUsername.asMap().values().removeIf(accountUserDetails -> accountId.equals(accountUserDetails.getAccountId()));
+    }
+
+    public void invalidateAll() {
+        byAccountId.invalidateAll();
+        byUsername.invalidateAll();
+    }
+
+    // After commit, so a concurrent load cannot re-cache the row as it was before the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountSecurityChanged(AccountSecurityChangedEvent event) {
+        invalidate(event.accountId(), event.username());
+    }
+
+    // Usernames are compared case-insensitively by the accounts collation
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.bookreviewhub.backend.infrastructure.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "accounts")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEntity {
+    public enum Role {
+        USER, MODERATOR, ADMIN
+    }
+
+    public enum Provider {
+        LOCAL, GOOGLE, FACEBOOK
+    }
+
+    public enum Status {
+        ACTIVE, INACTIVE, BANNED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String username;
+
+    @Column(name = "hashed_password", nullable = false)
+    private String password;
+
+    @Column(nullable = false, unique = true)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    private Role role;
+
+    @Column(name = "first_name", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "middle_name", length = 50)
+    private String middleName;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    private String lastName;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    private Provider provider = Provider.LOCAL;
+
+    @Column(name = "provider_id")
+    private String providerId;
+
+    @Column(name = "avatar_id")
+    private Long avatarId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
+    // Maintained by the trg_accounts_before_update trigger
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // Carried in access tokens; bumped on ban, deactivation and role changes to revoke older tokens
+    @Builder.Default
+    @Column(name = "security_version", nullable = false)
+    private int securityVersion = 0;
+
+    // Written by UserRepository.stampSecurityChangedAt with the database clock
+    @Column(name = "security_changed_at", insertable = false, updatable = false)
+    private LocalDateTime securityChangedAt;
+
+    @Column(name = "banned_at")
+    private LocalDateTime bannedAt;
+
+    @Column(name = "deactivated_at")
+    private LocalDateTime deactivatedAt;
+}
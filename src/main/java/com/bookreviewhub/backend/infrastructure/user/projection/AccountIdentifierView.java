@@ -0,0 +1,9 @@
+package com.bookreviewhub.backend.infrastructure.user.projection;
+
+public interface AccountIdentifierView {
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,11 @@
+package com.bookreviewhub.backend.infrastructure.user.projection;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+
+public interface AccountSecurityView {
+    Long getId();
+
+    int getSecurityVersion();
+
+    UserEntity.Status getStatus();
+}
@@ -0,0 +1,15 @@
+package com.bookreviewhub.backend.infrastructure.user.projection;
+
+public interface AccountSummaryView {
+    Long getId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getMiddleName();
+
+    String getLastName();
+
+    String getAvatarUrl();
+}
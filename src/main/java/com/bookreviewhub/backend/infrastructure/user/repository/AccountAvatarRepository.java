@@ -0,0 +1,14 @@
+package com.bookreviewhub.backend.infrastructure.user.repository;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.AccountAvatarEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountAvatarRepository extends JpaRepository<AccountAvatarEntity, Long> {
+    // Highest avatar version of an account, deleted avatars included (versions are never reused)
+    @Query("select coalesce(max(a.version), 0) from AccountAvatarEntity a where a.accountId = :accountId")
+    int findMaxVersionByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,78 @@
+package com.bookreviewhub.backend.infrastructure.user.repository;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountIdentifierView;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountSecurityView;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountSummaryView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface UserRepository extends JpaRepository<UserEntity, Long> {
+    Optional<UserEntity> findByUsername(String username);
+
+    Optional<UserEntity> findByEmail(String email);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    // Serializes avatar changes of one account, so concurrent uploads never claim the same avatar version
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UserEntity u WHERE u.id = :id")
+    Optional<UserEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // Accounts whose tokens may have been revoked (served by idx_security_changed_at)
+    @Query("""
+            select u.id as id, u.securityVersion as securityVersion, u.status as status
+            from UserEntity u
+            where u.securityChangedAt >= :since
+            """)
+    List<AccountSecurityView> findSecurityChangedSince(@Param("since") LocalDateTime since);
+
+    // Stamped with the database clock, the one every instance polls against (a bumped version flushes first)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accounts SET security_changed_at = NOW(3) WHERE id = :id", nativeQuery = true)
+    void stampSecurityChangedAt(@Param("id") Long id);
+
+    // Streams identifiers of accounts created after the given id (fetch size MIN_VALUE makes MySQL stream rows)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            select u.id as id, u.username as username, u.email as email
+            from UserEntity u
+            where u.id > :afterId
+            order by u.id
+            """)
+    Stream<AccountIdentifierView> streamIdentifiersAfter(@Param("afterId") Long afterId);
+
+    // Public profile fields with the current avatar, for embedding accounts in other responses
+    @Query("""
+            select u.id as id, u.username as username, u.firstName as firstName, u.middleName as middleName,
+                   u.lastName as lastName, a.url as avatarUrl
+            from UserEntity u
+            left join AccountAvatarEntity a on a.id = u.avatarId and a.deletedAt is null
+            where u.id in :ids
+            """)
+    List<AccountSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.password = :password where u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
+}
@@ -0,0 +1,35 @@
+package com.bookreviewhub.backend.presentation.account.controller;
+
+import com.bookreviewhub.backend.application.account.service.AccountAvatarService;
+import com.bookreviewhub.backend.application.upload.dto.response.ImageUploadResponse;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+public class AccountController {
+
+    private final AccountAvatarService accountAvatarService;
+
+    // The image is the raw request body (not multipart), so it is streamed instead of buffered by the servlet container
+    @PutMapping(value = "/me/avatar", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessResponse<ImageUploadResponse> uploadAvatar(
+            HttpServletRequest request,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) throws IOException {
+        return accountAvatarService.uploadAvatar(request.getInputStream(), request.getContentLengthLong(), account);
+    }
+}
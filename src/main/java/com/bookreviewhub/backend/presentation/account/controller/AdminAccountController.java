@@ -0,0 +1,42 @@
+package com.bookreviewhub.backend.presentation.account.controller;
+
+import com.bookreviewhub.backend.application.account.service.AccountAdministrationService;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/accounts")
+@RequiredArgsConstructor
+public class AdminAccountController {
+
+    private final AccountAdministrationService accountAdministrationService;
+
+    @PutMapping("/{accountId}/ban")
+    public SuccessResponse<Void> ban(@PathVariable Long accountId) {
+        return accountAdministrationService.banAccount(accountId);
+    }
+
+    @PutMapping("/{accountId}/unban")
+    public SuccessResponse<Void> unban(@PathVariable Long accountId) {
+        return accountAdministrationService.unbanAccount(accountId);
+    }
+
+    @PutMapping("/{accountId}/deactivate")
+    public SuccessResponse<Void> deactivate(@PathVariable Long accountId) {
+        return accountAdministrationService.deactivateAccount(accountId);
+    }
+
+    @PutMapping("/{accountId}/role")
+    public SuccessResponse<Void> changeRole(
+            @PathVariable Long accountId,
+            @RequestParam UserEntity.Role role
+    ) {
+        return accountAdministrationService.changeRole(accountId, role);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookreviewhub.backend.presentation.archive.controller;
+
+import com.bookreviewhub.backend.application.archive.dto.response.ArchiveRestoreResponse;
+import com.bookreviewhub.backend.application.archive.service.ArchiveService;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Brings archived rows back into the hot tables; they return still soft-deleted, ready for the usual undelete
+@RestController
+@RequestMapping("/api/admin/archive")
+@RequiredArgsConstructor
+public class AdminArchiveController {
+
+    private final ArchiveService archiveService;
+
+    @PostMapping("/books/{bookId}/restore")
+    public SuccessResponse<ArchiveRestoreResponse> restoreBook(@PathVariable Long bookId) {
+        return archiveService.restoreBook(bookId);
+    }
+
+    @PostMapping("/reviews/{reviewId}/restore")
+    public SuccessResponse<ArchiveRestoreResponse> restoreReview(@PathVariable Long reviewId) {
+        return archiveService.restoreReview(reviewId);
+    }
+
+    @PostMapping("/genres/{genreId}/restore")
+    public SuccessResponse<ArchiveRestoreResponse> restoreGenre(@PathVariable Long genreId) {
+        return archiveService.restoreGenre(genreId);
+    }
+}
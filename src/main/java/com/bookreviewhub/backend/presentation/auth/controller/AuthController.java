@@ -2,14 +2,16 @@ package com.bookreviewhub.backend.presentation.auth.controller;
 
 import com.bookreviewhub.backend.application.auth.dto.request.RegisterRequest;
 import com.bookreviewhub.backend.application.auth.dto.request.LoginRequest;
-import com.bookreviewhub.backend.application.auth.dto.response.AuthResponse;
+import com.bookreviewhub.backend.application.auth.dto.response.AvailabilityResponse;
+import com.bookreviewhub.backend.application.auth.service.AccountAvailabilityService;
 import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
 import com.bookreviewhub.backend.application.auth.service.AuthService;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PostMapping;
 
@@ -21,21 +23,24 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final AccountAvailabilityService accountAvailabilityService;
 
     @PostMapping("/register")
-    public SuccessResponse<Void> register(
-            @RequestBody RegisterRequest registerRequest,
-            HttpServletRequest httpServletRequest
-    ) {
-        String path = httpServletRequest.getRequestURI();
-        return authService.register(registerRequest, path);
+    public SuccessResponse<Void> register(@RequestBody RegisterRequest registerRequest) {
+        return authService.register(registerRequest);
     }
 
     @PostMapping("/login")
-    public SuccessResponse<AuthResponse> login(
-            @Valid @RequestBody LoginRequest loginRequest,
-            HttpServletRequest httpServletRequest) {
-        String path = httpServletRequest.getRequestURI();
-        return authService.login(loginRequest, path);
+    public SuccessResponse<Map<String, String>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.login(loginRequest);
+    }
+
+    // Cheap enough to call on every keystroke of the sign-up form
+    @GetMapping("/availability")
+    public SuccessResponse<AvailabilityResponse> checkAvailability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email
+    ) {
+        return accountAvailabilityService.checkAvailability(username, email);
     }
 }
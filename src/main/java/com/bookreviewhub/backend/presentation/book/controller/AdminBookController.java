@@ -0,0 +1,21 @@
+package com.bookreviewhub.backend.presentation.book.controller;
+
+import com.bookreviewhub.backend.application.book.service.BookRatingStatsService;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/books")
+@RequiredArgsConstructor
+public class AdminBookController {
+
+    private final BookRatingStatsService bookRatingStatsService;
+
+    @PostMapping("/rating-stats/rebuild")
+    public SuccessResponse<Integer> rebuildRatingStats() {
+        return bookRatingStatsService.rebuildNow();
+    }
+}
@@ -0,0 +1,62 @@
+package com.bookreviewhub.backend.presentation.book.controller;
+
+import com.bookreviewhub.backend.application.book.dto.response.CatalogImportErrorResponse;
+import com.bookreviewhub.backend.application.book.dto.response.CatalogImportJobResponse;
+import com.bookreviewhub.backend.application.book.service.CatalogImportService;
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/imports")
+@RequiredArgsConstructor
+public class AdminCatalogImportController {
+
+    private final CatalogImportService catalogImportService;
+
+    // The file is the raw request body (text/csv or application/x-ndjson), streamed to disk without buffering
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessResponse<CatalogImportJobResponse> start(
+            @RequestParam CatalogImportJobEntity.Kind kind,
+            @RequestParam CatalogImportJobEntity.Format format,
+            HttpServletRequest request,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) throws IOException {
+        return catalogImportService.startImport(kind, format, request.getInputStream(), account);
+    }
+
+    @GetMapping("/{jobId}")
+    public SuccessResponse<CatalogImportJobResponse> getJob(@PathVariable Long jobId) {
+        return catalogImportService.getJob(jobId);
+    }
+
+    @PostMapping("/{jobId}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessResponse<CatalogImportJobResponse> resume(@PathVariable Long jobId) {
+        return catalogImportService.resumeJob(jobId);
+    }
+
+    @GetMapping("/{jobId}/errors")
+    public SuccessResponse<List<CatalogImportErrorResponse>> listErrors(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") long afterRecord,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return catalogImportService.listErrors(jobId, afterRecord, size);
+    }
+}
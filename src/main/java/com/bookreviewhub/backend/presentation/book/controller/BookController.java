@@ -0,0 +1,148 @@
+package com.bookreviewhub.backend.presentation.book.controller;
+
+import com.bookreviewhub.backend.application.book.dto.request.BookRequest;
+import com.bookreviewhub.backend.application.book.dto.response.BookDetailsResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookFacetSearchResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookRankingResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookRatingStatsResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookSearchResponse;
+import com.bookreviewhub.backend.application.book.service.BookFacetService;
+import com.bookreviewhub.backend.application.book.service.BookImageService;
+import com.bookreviewhub.backend.application.book.service.BookRankingService;
+import com.bookreviewhub.backend.application.book.service.BookRatingStatsService;
+import com.bookreviewhub.backend.application.book.service.BookSearchService;
+import com.bookreviewhub.backend.application.book.service.BookService;
+import com.bookreviewhub.backend.application.upload.dto.response.ImageUploadResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookImageEntity;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetQuery;
+import com.bookreviewhub.backend.infrastructure.book.ranking.BookRankingType;
+import com.bookreviewhub.backend.infrastructure.http.ConditionalCatalogRead;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookController {
+
+    private final BookService bookService;
+    private final BookSearchService bookSearchService;
+    private final BookFacetService bookFacetService;
+    private final BookRankingService bookRankingService;
+    private final BookRatingStatsService bookRatingStatsService;
+    private final BookImageService bookImageService;
+
+    @GetMapping
+    @ConditionalCatalogRead(hasUnversionedContent = true)
+    public SuccessResponse<CursorPageResponse<BookDetailsResponse>> listBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookService.listBooks(cursor, size);
+    }
+
+    @GetMapping("/search")
+    public SuccessResponse<BookSearchResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookSearchService.search(query, page, size);
+    }
+
+    @GetMapping("/filter")
+    public SuccessResponse<BookFacetSearchResponse> filter(
+            @RequestParam(required = false, defaultValue = "") Set<Long> genreIds,
+            @RequestParam(defaultValue = "ANY") BookFacetQuery.GenreMatch genreMatch,
+            @RequestParam(required = false, defaultValue = "") Set<Long> excludedGenreIds,
+            @RequestParam(required = false, defaultValue = "") Set<String> authors,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        BookFacetQuery query = new BookFacetQuery(genreIds, genreMatch, excludedGenreIds, authors, yearFrom, yearTo);
+        return bookFacetService.filter(query, page, size);
+    }
+
+    // e.g. ?type=TRENDING for trending this week, ?type=TOP_RATED&genreId=3 for top rated in a genre
+    @GetMapping("/rankings")
+    public SuccessResponse<BookRankingResponse> ranking(
+            @RequestParam BookRankingType type,
+            @RequestParam(required = false) Long genreId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookRankingService.getRanking(type, genreId, size);
+    }
+
+    @GetMapping("/{bookId}")
+    @ConditionalCatalogRead(bookIdVariable = "bookId", hasUnversionedContent = true)
+    public SuccessResponse<BookDetailsResponse> getBook(@PathVariable Long bookId) {
+        return bookService.getBook(bookId);
+    }
+
+    @PostMapping
+    public SuccessResponse<BookResponse> create(
+            @Valid @RequestBody BookRequest bookRequest,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return bookService.createBook(bookRequest, account);
+    }
+
+    @PutMapping("/{bookId}")
+    public SuccessResponse<BookResponse> update(
+            @PathVariable Long bookId,
+            @Valid @RequestBody BookRequest bookRequest,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return bookService.updateBook(bookId, bookRequest, account);
+    }
+
+    @DeleteMapping("/{bookId}")
+    public SuccessResponse<BookResponse> delete(
+            @PathVariable Long bookId,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return bookService.deleteBook(bookId, account);
+    }
+
+    // Stats rebuilds correct drift without an invalidation
+    @GetMapping("/{bookId}/rating-stats")
+    @ConditionalCatalogRead(bookIdVariable = "bookId", hasUnversionedContent = true)
+    public SuccessResponse<BookRatingStatsResponse> getRatingStats(@PathVariable Long bookId) {
+        return bookRatingStatsService.getStats(bookId);
+    }
+
+    // The image is the raw request body (not multipart), so it is streamed instead of buffered by the servlet container
+    @PostMapping(value = "/{bookId}/images", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessResponse<ImageUploadResponse> uploadImage(
+            @PathVariable Long bookId,
+            @RequestParam(defaultValue = "OTHER") BookImageEntity.Type type,
+            HttpServletRequest request,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) throws IOException {
+        return bookImageService.uploadImage(bookId, type, request.getInputStream(), request.getContentLengthLong(), account);
+    }
+}
@@ -1,11 +1,15 @@
 package com.bookreviewhub.backend.presentation.common.exception;
 
+import com.bookreviewhub.backend.infrastructure.security.password.PasswordHashingRejectedException;
+import com.bookreviewhub.backend.infrastructure.storage.ImageUploadRejectedException;
 import com.bookreviewhub.backend.shared.dto.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -39,6 +43,31 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(), request.getRequestURI());
     }
 
+    // Password hashing pool saturated: fail fast so the client backs off instead of tying up a worker
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingRejected(PasswordHashingRejectedException ex, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request.getRequestURI()));
+    }
+
+    // Upload queue full: the body has already been discarded, so the client must send it again later
+    @ExceptionHandler(ImageUploadRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleImageUploadRejected(ImageUploadRejectedException ex, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request.getRequestURI()));
+    }
+
+    // The authentication provider wraps failures raised while looking up the user
+    @ExceptionHandler(InternalAuthenticationServiceException.class)
+    public ResponseEntity<ErrorResponse> handleInternalAuthentication(InternalAuthenticationServiceException ex, HttpServletRequest request) {
+        if (ex.getCause() instanceof PasswordHashingRejectedException rejected) {
+            return handlePasswordHashingRejected(rejected, request);
+        }
+        return handleGeneral(ex, request);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
         return buildErrorResponse(HttpStatus.FORBIDDEN, "Access denied", request.getRequestURI());
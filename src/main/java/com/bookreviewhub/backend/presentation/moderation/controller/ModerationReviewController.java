@@ -0,0 +1,29 @@
+package com.bookreviewhub.backend.presentation.moderation.controller;
+
+import com.bookreviewhub.backend.application.review.dto.response.ReviewWithHistoryResponse;
+import com.bookreviewhub.backend.application.review.service.ReviewHistoryService;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/moderation")
+@RequiredArgsConstructor
+public class ModerationReviewController {
+
+    private final ReviewHistoryService reviewHistoryService;
+
+    @GetMapping("/books/{bookId}/reviews")
+    public SuccessResponse<CursorPageResponse<ReviewWithHistoryResponse>> listBookReviewsWithHistory(
+            @PathVariable Long bookId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return reviewHistoryService.listBookReviewsWithHistory(bookId, cursor, size);
+    }
+}
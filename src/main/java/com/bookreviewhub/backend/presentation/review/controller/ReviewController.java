@@ -0,0 +1,120 @@
+package com.bookreviewhub.backend.presentation.review.controller;
+
+import com.bookreviewhub.backend.application.review.dto.request.ReviewRequest;
+import com.bookreviewhub.backend.application.review.dto.response.ReviewResponse;
+import com.bookreviewhub.backend.application.review.dto.response.ReviewVoteResponse;
+import com.bookreviewhub.backend.application.review.service.ReviewHistoryService;
+import com.bookreviewhub.backend.application.review.service.ReviewService;
+import com.bookreviewhub.backend.application.review.service.ReviewVoteService;
+import com.bookreviewhub.backend.infrastructure.http.ConditionalCatalogRead;
+import com.bookreviewhub.backend.infrastructure.review.vote.VoteType;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+    private final ReviewHistoryService reviewHistoryService;
+    private final ReviewVoteService reviewVoteService;
+
+    @GetMapping("/books/{bookId}/reviews")
+    @ConditionalCatalogRead(bookIdVariable = "bookId")
+    public SuccessResponse<CursorPageResponse<ReviewResponse>> listBookReviews(
+            @PathVariable Long bookId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return reviewService.listBookReviews(bookId, cursor, size);
+    }
+
+    @GetMapping("/accounts/{accountId}/reviews")
+    public SuccessResponse<CursorPageResponse<ReviewResponse>> listReviewerReviews(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return reviewService.listReviewerReviews(accountId, cursor, size);
+    }
+
+    @GetMapping("/reviews/{reviewId}/history")
+    public SuccessResponse<List<ReviewResponse>> getHistory(@PathVariable Long reviewId) {
+        return reviewHistoryService.getHistory(reviewId);
+    }
+
+    @PostMapping("/books/{bookId}/reviews")
+    public SuccessResponse<ReviewResponse> create(
+            @PathVariable Long bookId,
+            @Valid @RequestBody ReviewRequest reviewRequest,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewService.createReview(bookId, reviewRequest, account);
+    }
+
+    @PutMapping("/reviews/{reviewId}")
+    public SuccessResponse<ReviewResponse> edit(
+            @PathVariable Long reviewId,
+            @Valid @RequestBody ReviewRequest reviewRequest,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewService.editReview(reviewId, reviewRequest, account);
+    }
+
+    @DeleteMapping("/reviews/{reviewId}")
+    public SuccessResponse<ReviewResponse> delete(
+            @PathVariable Long reviewId,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewService.deleteReview(reviewId, account);
+    }
+
+    @PutMapping("/reviews/{reviewId}/restore")
+    public SuccessResponse<ReviewResponse> restore(
+            @PathVariable Long reviewId,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewService.restoreReview(reviewId, account);
+    }
+
+    @GetMapping("/reviews/{reviewId}/votes")
+    public SuccessResponse<ReviewVoteResponse> getVotes(
+            @PathVariable Long reviewId,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewVoteService.getVotes(reviewId, account);
+    }
+
+    @PutMapping("/reviews/{reviewId}/votes")
+    public SuccessResponse<ReviewVoteResponse> vote(
+            @PathVariable Long reviewId,
+            @RequestParam VoteType type,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewVoteService.vote(reviewId, type, account);
+    }
+
+    @DeleteMapping("/reviews/{reviewId}/votes")
+    public SuccessResponse<ReviewVoteResponse> retractVote(
+            @PathVariable Long reviewId,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return reviewVoteService.retractVote(reviewId, account);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookreviewhub.backend.presentation.stats.controller;
+
+import com.bookreviewhub.backend.application.stats.dto.response.StatsResponse;
+import com.bookreviewhub.backend.application.stats.service.StatsService;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final StatsService statsService;
+
+    // Defaults to the last 30 days, including today
+    @GetMapping
+    public SuccessResponse<StatsResponse> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return statsService.getStats(from, to);
+    }
+
+    @PostMapping("/backfill")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SuccessResponse<Void> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return statsService.backfill(from, to);
+    }
+}
@@ -0,0 +1,30 @@
+package com.bookreviewhub.backend.presentation.upload.controller;
+
+import com.bookreviewhub.backend.application.upload.dto.response.ImageUploadResponse;
+import com.bookreviewhub.backend.application.upload.service.ImageUploadService;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.shared.dto.response.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final ImageUploadService imageUploadService;
+
+    @GetMapping("/{uploadId}")
+    public SuccessResponse<ImageUploadResponse> getStatus(
+            @PathVariable UUID uploadId,
+            @AuthenticationPrincipal AuthenticatedAccount account
+    ) {
+        return imageUploadService.getStatus(uploadId, account);
+    }
+}
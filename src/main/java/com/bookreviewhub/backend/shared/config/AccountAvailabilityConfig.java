@@ -0,0 +1,18 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.auth.availability")
+public class AccountAvailabilityConfig {
+    // Number of accounts the Bloom filters are sized for; beyond that the false positive rate degrades
+    private long expectedAccounts = 1_000_000;
+
+    // Share of "taken?" answers that still need a database check for names that are actually free
+    private double falsePositiveRate = 0.01;
+}
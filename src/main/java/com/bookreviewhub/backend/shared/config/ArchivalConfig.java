@@ -0,0 +1,28 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.archival")
+public class ArchivalConfig {
+    // Move soft-deleted rows to the *_archive tables once they have been deleted for longer than the retention
+    private boolean enabled = true;
+
+    private Duration retention = Duration.ofDays(30);
+
+    // Soft-deleted rows picked per transaction; for books and genres this counts the parents, not their children
+    private int batchSize = 200;
+
+    // Pause between two batches, so archival never holds locks or I/O for long stretches
+    private Duration batchPause = Duration.ofMillis(100);
+
+    // A run stops after this long and picks up where the index says on the next one
+    private Duration maxRunDuration = Duration.ofMinutes(10);
+}
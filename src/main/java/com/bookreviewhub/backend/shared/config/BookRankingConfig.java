@@ -0,0 +1,33 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.books.rankings")
+public class BookRankingConfig {
+    // Time after which a review or vote counts half as much towards trending
+    private Duration trendingHalfLife = Duration.ofDays(2);
+
+    // Activity older than this many half-lives (under 4% of its weight) is not replayed on a cold start
+    private int replayHalfLives = 5;
+
+    // Trending weight of a new review and of an upvote
+    private double reviewWeight = 3.0;
+    private double upvoteWeight = 1.0;
+
+    // Bayesian prior: every book starts with this many imaginary reviews at the catalog-wide mean rating
+    private double ratingPriorWeight = 10.0;
+
+    // Books kept per list (overall and per genre)
+    private int topK = 100;
+
+    // Books whose trending score decayed below this are dropped from memory and from the snapshot
+    private double minTrendingScore = 0.01;
+}
@@ -0,0 +1,32 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.books.search")
+public class BookSearchConfig {
+    // Local file the index is saved to, so a restart only has to catch up on recent changes
+    private String snapshotPath = "data/book-search.snapshot";
+
+    // How often the index is saved when it has changed
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+
+    // How often books changed on other instances are picked up
+    private Duration catchUpInterval = Duration.ofMinutes(1);
+
+    // Dictionary terms a trailing prefix may expand to (most frequent first)
+    private int maxPrefixExpansions = 50;
+
+    // Largest page a search may ask for
+    private int maxPageSize = 50;
+
+    // Deepest page a search may ask for; relevance drops off long before it
+    private int maxPage = 100;
+}
@@ -0,0 +1,27 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.imports")
+public class CatalogImportConfig {
+    // Where uploaded import files are kept until their job completes (needed to resume a failed job)
+    private Path directory = Path.of("data", "imports");
+
+    // Records written per JDBC batch and per transaction; the checkpoint advances once per batch
+    private int batchSize = 1000;
+
+    // Errors recorded per job; later failures are still counted but not stored
+    private int maxRecordedErrors = 10_000;
+
+    // A RUNNING job not heartbeated for this long is assumed dead and may be resumed
+    private Duration staleAfter = Duration.ofMinutes(5);
+}
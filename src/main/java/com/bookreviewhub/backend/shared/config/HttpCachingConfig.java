@@ -0,0 +1,26 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.http.caching")
+public class HttpCachingConfig {
+    // Validators and shared-cache headers on catalog reads; revalidations are answered from cache key versions
+    private boolean enabled = true;
+
+    // How long a shared cache (CDN) may serve a catalog response without revalidating
+    private Duration sharedMaxAge = Duration.ofSeconds(30);
+
+    // How long a shared cache may keep serving a stale response while it revalidates in the background
+    private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+    // Validators of responses with unversioned parts (top review order, reviewer profiles) roll over this often
+    private Duration unversionedContentWindow = Duration.ofMinutes(5);
+}
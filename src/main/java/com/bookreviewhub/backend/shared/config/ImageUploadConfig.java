@@ -0,0 +1,54 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.uploads")
+public class ImageUploadConfig {
+    // Storage backend for uploaded images: local (filesystem) or cloudinary
+    private String storage = "local";
+
+    // Root directory of the local storage backend
+    private Path localDirectory = Path.of("data", "uploads");
+
+    // URL prefix under which the local storage backend serves its files
+    private String localPublicPath = "/uploads";
+
+    // Where request bodies are spooled while they wait for (and retry) the storage upload. Owned by one running
+    // instance: files left in it are deleted at startup.
+    private Path stagingDirectory = Path.of(System.getProperty("java.io.tmpdir"), "book-review-hub-uploads");
+
+    // Uploads sent to storage at the same time
+    private int concurrency = 4;
+
+    // Staged uploads allowed to wait for a worker before new ones are rejected
+    private int queueCapacity = 64;
+
+    // Storage attempts per upload, the first one included
+    private int maxAttempts = 3;
+
+    // Delay before the first retry, doubled for every further attempt
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    // Value of the Retry-After header sent when the upload queue is full
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    // How long shutdown waits for queued and running uploads before failing the rest
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    // How long the outcome of an upload stays available to GET /api/uploads/{uploadId}
+    private Duration statusTtl = Duration.ofHours(1);
+
+    // Size and format limits of book images (avatars use app.cloudinary.avatar.*)
+    private long bookImageMaxFileSize = 10 * 1024 * 1024;
+    private List<String> bookImageAllowedFormats = List.of("jpg", "jpeg", "png", "webp");
+}
@@ -14,4 +14,10 @@ import java.time.Duration;
 public class JwtConfig {
     private String secret;
     private Duration expiration;
+
+    // Maximum number of verified tokens kept in memory (0 disables the cache)
+    private long verificationCacheSize = 10_000;
+
+    // Upper bound on how long a verified token stays cached (never longer than its own expiry)
+    private Duration verificationCacheTtl = Duration.ofMinutes(5);
 }
@@ -0,0 +1,23 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.observability")
+public class ObservabilityConfig {
+    // Times every JDBC statement (db.statements) and counts database work per request
+    private boolean dbTimingEnabled = true;
+
+    // Adds a Server-Timing header (db time, statement count, app time) and a log line to every request
+    private boolean requestSummaryEnabled = false;
+
+    // Requests faster than this are not logged by the request summary (the header is always added)
+    private Duration requestSummaryMinDuration = Duration.ZERO;
+}
@@ -0,0 +1,29 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+public class PasswordHashingConfig {
+    // BCrypt cost factor (log2 rounds); existing hashes with another cost are rehashed on next login
+    private int bcryptStrength = 10;
+
+    // Threads dedicated to hashing; hashing is CPU bound, so more threads than cores only adds queueing
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Hash requests allowed to wait for a thread before new ones are rejected
+    private int queueCapacity = 64;
+
+    // Maximum time a request waits for its hash (queueing included) before giving up
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // Value of the Retry-After header sent when hashing is saturated
+    private Duration retryAfter = Duration.ofSeconds(2);
+}
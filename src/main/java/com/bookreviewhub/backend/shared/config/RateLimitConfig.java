@@ -0,0 +1,48 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.rate-limit")
+public class RateLimitConfig {
+    // Throttle requests per account (or per client IP when anonymous) before they reach the controllers
+    private boolean enabled = true;
+
+    // Named policies; a request is checked against every policy whose paths and methods it matches
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    // Upper bound on the clients tracked per policy; the least recently seen are dropped first
+    private long maxKeys = 100_000;
+
+    // Clients idle for this long are forgotten (never before their bucket has refilled)
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // Path patterns, e.g. /api/auth/** or /api/books/*/reviews
+        private List<String> paths = List.of();
+
+        // HTTP methods the policy applies to; empty means all
+        private Set<String> methods = Set.of();
+
+        // Sustained rate: limit requests per period
+        private long limit = 60;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        // Requests a fresh client may send at once before the sustained rate applies
+        private int burst = 10;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingConfig {
+    // Off: a single pool to spring.datasource.url, as before
+    private boolean enabled = false;
+
+    private String replicaUrl;
+    private String replicaUsername;
+    private String replicaPassword;
+    private int replicaMaxPoolSize = 20;
+    private int replicaMinIdle = 5;
+
+    // Read-only transactions of an account that wrote within this window still go to the primary
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    // Accounts tracked for read-your-writes at once; the oldest writes are forgotten first
+    private long readYourWritesMaxAccounts = 100_000;
+
+    // Above this replication lag, reads fall back to the primary until the replica catches up
+    private Duration maxLag = Duration.ofSeconds(2);
+}
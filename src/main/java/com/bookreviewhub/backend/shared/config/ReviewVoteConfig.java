@@ -0,0 +1,32 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.reviews.votes")
+public class ReviewVoteConfig {
+    // How often pending votes and total deltas are written to the database
+    private Duration flushInterval = Duration.ofSeconds(2);
+
+    // Lock stripes serializing votes of the same account on the same review (rounded up to a power of two)
+    private int stripes = 256;
+
+    // Persisted votes (account, review) kept in memory for dedupe and flip detection
+    private long voteCacheSize = 200_000;
+
+    // Persisted totals kept in memory; pending deltas are added on read
+    private long totalsCacheSize = 50_000;
+
+    // Safety net for cached totals; flushes on other instances evict them through the invalidation relay
+    private Duration totalsCacheTtl = Duration.ofMinutes(5);
+
+    // Reviews recomputed per transaction by the reconciliation pass
+    private int reconcileBatchSize = 1000;
+}
@@ -0,0 +1,23 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.stats")
+public class StatsConfig {
+    // Wait after midnight before a day is rolled up, so rows committed late for that day are included
+    private Duration closeGrace = Duration.ofMinutes(5);
+
+    // Days rolled up per transaction during catch-up and backfill; the watermark advances once per chunk
+    private int chunkDays = 31;
+
+    // Longest date range one dashboard request may cover
+    private int maxRangeDays = 3660;
+}
@@ -0,0 +1,20 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.persistence.touch-write-behind")
+public class TouchWriteBehindConfig {
+    // How often pending touches are written to the database
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    // Pending rows that trigger an early flush; together with the interval this bounds what a crash can lose
+    private int maxPending = 10_000;
+}
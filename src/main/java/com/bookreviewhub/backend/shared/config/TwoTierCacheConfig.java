@@ -0,0 +1,35 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoTierCacheConfig {
+    // Caches available to @Cacheable; accounts and vote totals have their own caches in front of them
+    private List<String> names = List.of("books");
+
+    // Maximum number of entries kept in each local (L1) cache
+    private long localMaxSize = 10_000;
+
+    // Hard upper bound on how long an entry stays in L1
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    // Entries older than this are reloaded in the background on their next read, while the old value is served
+    private Duration refreshAfter = Duration.ofMinutes(2);
+
+    // Shared (L2) tier behind the SharedCacheStore interface; off by default
+    private boolean sharedEnabled = false;
+
+    private Duration sharedTtl = Duration.ofMinutes(30);
+
+    // How long invalidation rows are kept for other instances to pick up
+    private Duration invalidationRetention = Duration.ofHours(1);
+}
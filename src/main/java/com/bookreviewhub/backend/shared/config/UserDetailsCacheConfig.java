@@ -0,0 +1,20 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.user-details-cache")
+public class UserDetailsCacheConfig {
+    // Maximum number of accounts kept per key (username, account id)
+    private long maxSize = 10_000;
+
+    // Safety net in case an invalidation is missed (e.g. a change made directly in the database)
+    private Duration ttl = Duration.ofMinutes(10);
+}
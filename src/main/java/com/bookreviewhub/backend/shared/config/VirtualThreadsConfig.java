@@ -0,0 +1,25 @@
+package com.bookreviewhub.backend.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Only used when spring.threads.virtual.enabled=true
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.threads.virtual")
+public class VirtualThreadsConfig {
+    // Caps threads asking each connection pool for a connection at the pool size; the rest wait in FIFO order
+    private boolean connectionPermits = true;
+
+    // Report virtual threads pinned to their carrier (e.g. blocking inside synchronized) for at least this long
+    private boolean pinningDetection = true;
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    // Stack frames logged per pinning site
+    private int pinnedStackDepth = 8;
+}
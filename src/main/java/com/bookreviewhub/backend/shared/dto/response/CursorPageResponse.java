@@ -0,0 +1,19 @@
+package com.bookreviewhub.backend.shared.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    // Pass back as "cursor" to get the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -2,8 +2,10 @@ package com.bookreviewhub.backend.shared.dto.response;
 
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -13,4 +15,20 @@ public class ErrorResponse {
     private String error;
     private String message;
     private String path;
+    private Map<String, String> errors;
+
+    public static ErrorResponse of(HttpStatus status, String message, String path) {
+        return of(status, message, path, null);
+    }
+
+    public static ErrorResponse of(HttpStatus status, String message, String path, Map<String, String> errors) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(path)
+                .errors(errors)
+                .build();
+    }
 }
@@ -0,0 +1,10 @@
+package com.bookreviewhub.backend.shared.event;
+
+import java.util.List;
+
+// Published when what is shown next to an account (its avatar) changes; lists the books whose details show the account
+public record AccountProfileChangedEvent(
+        Long accountId,
+        List<Long> bookIds
+) {
+}
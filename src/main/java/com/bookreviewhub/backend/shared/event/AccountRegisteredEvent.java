@@ -0,0 +1,7 @@
+package com.bookreviewhub.backend.shared.event;
+
+// Published after a new account has been stored
+public record AccountRegisteredEvent(
+        Long accountId
+) {
+}
@@ -0,0 +1,12 @@
+package com.bookreviewhub.backend.shared.event;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+
+// Published when anything that affects authentication of an account changes (status, role)
+public record AccountSecurityChangedEvent(
+        Long accountId,
+        String username,
+        int securityVersion,
+        UserEntity.Status status
+) {
+}
@@ -0,0 +1,11 @@
+package com.bookreviewhub.backend.shared.event;
+
+// Published inside the transaction of every book write
+public record BookChangedEvent(
+        Long bookId,
+        Type type
+) {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
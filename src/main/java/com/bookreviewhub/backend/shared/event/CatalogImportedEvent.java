@@ -0,0 +1,7 @@
+package com.bookreviewhub.backend.shared.event;
+
+// Published once a bulk import has written its last batch; per-book events are not published for imports
+public record CatalogImportedEvent(
+        Long jobId
+) {
+}
@@ -0,0 +1,15 @@
+package com.bookreviewhub.backend.shared.event;
+
+// Published inside the transaction of every review write; rating is null for reviews without one
+public record ReviewChangedEvent(
+        Long reviewId,
+        Long bookId,
+        Long reviewerId,
+        Type type,
+        Integer rating,
+        Integer previousRating
+) {
+    public enum Type {
+        CREATED, EDITED, DELETED, RESTORED
+    }
+}
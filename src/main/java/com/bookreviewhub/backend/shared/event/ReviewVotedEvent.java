@@ -0,0 +1,13 @@
+package com.bookreviewhub.backend.shared.event;
+
+import java.time.Instant;
+
+// Published when an account's vote on a review changes; deltas are -1, 0 or 1.
+// retractedUpvoteCastAt is when the upvote taken back was cast, set only when upvoteDelta is -1.
+public record ReviewVotedEvent(
+        Long reviewId,
+        int upvoteDelta,
+        int downvoteDelta,
+        Instant retractedUpvoteCastAt
+) {
+}
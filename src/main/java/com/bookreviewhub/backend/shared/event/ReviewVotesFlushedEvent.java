@@ -0,0 +1,11 @@
+package com.bookreviewhub.backend.shared.event;
+
+import java.util.List;
+
+// Published inside the transaction that writes a batch of buffered votes; lists the reviews whose totals changed
+// and the books those reviews belong to
+public record ReviewVotesFlushedEvent(
+        List<Long> reviewIds,
+        List<Long> bookIds
+) {
+}
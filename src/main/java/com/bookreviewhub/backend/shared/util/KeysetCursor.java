@@ -0,0 +1,72 @@
+package com.bookreviewhub.backend.shared.util;
+
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Position in a (created_at DESC, id DESC) ordering, exchanged with clients as an opaque token
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Sorts after every real row, so the first page uses the same query as the others
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Rows are fetched with a limit of size + 1; the extra row only tells whether another page exists
+    public static <E, T> CursorPageResponse<T> toPage(
+            List<E> rows,
+            int size,
+            Function<E, KeysetCursor> cursorOf,
+            Function<E, T> mapper
+    ) {
+        return toPageBatch(rows, size, cursorOf, page -> page.stream().map(mapper).toList());
+    }
+
+    // Same as toPage, but the rows of the page are mapped together, so related data can be loaded in one go
+    public static <E, T> CursorPageResponse<T> toPageBatch(
+            List<E> rows,
+            int size,
+            Function<E, KeysetCursor> cursorOf,
+            Function<List<E>, List<T>> mapper
+    ) {
+        boolean hasMore = rows.size() > size;
+        List<E> page = hasMore ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .items(mapper.apply(page))
+                .nextCursor(hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+}
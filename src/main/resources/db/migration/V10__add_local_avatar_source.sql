@@ -0,0 +1,3 @@
+/* ACCOUNT_AVATARS: avatars written by the local filesystem storage backend */
+ALTER TABLE account_avatars
+    MODIFY COLUMN source ENUM('CLOUDINARY', 'DICEBEAR', 'OAUTH2', 'LOCAL') NOT NULL DEFAULT 'CLOUDINARY';
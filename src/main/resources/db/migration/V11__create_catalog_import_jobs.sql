@@ -0,0 +1,37 @@
+/* CATALOG_IMPORT_JOBS: bulk book/genre imports, with the checkpoint they resume from */
+CREATE TABLE IF NOT EXISTS catalog_import_jobs (
+    id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    kind ENUM('GENRES', 'BOOKS', 'BOOK_GENRES') NOT NULL,
+    format ENUM('CSV', 'JSONL') NOT NULL,
+    file_path VARCHAR(1023) NOT NULL,
+    file_size BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    status ENUM('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'QUEUED',
+    /* Records committed so far; a resumed job skips this many records of the file */
+    rows_processed BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    rows_imported BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    rows_failed BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    bytes_processed BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000) DEFAULT NULL,
+    created_by_account_id BIGINT UNSIGNED,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    started_at DATETIME DEFAULT NULL,
+    /* Restamped with every committed batch, so a job whose worker died can be told apart from a slow one */
+    updated_at DATETIME DEFAULT NULL,
+    finished_at DATETIME DEFAULT NULL,
+
+    FOREIGN KEY (created_by_account_id) REFERENCES accounts(id) ON DELETE SET NULL,
+
+    INDEX idx_created_at (created_at)
+);
+
+/* CATALOG_IMPORT_ERRORS: per-record error report of an import job */
+CREATE TABLE IF NOT EXISTS catalog_import_errors (
+    id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT UNSIGNED NOT NULL,
+    record_number BIGINT UNSIGNED NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+
+    FOREIGN KEY (job_id) REFERENCES catalog_import_jobs(id) ON DELETE CASCADE,
+
+    INDEX idx_job_record (job_id, record_number)
+);
@@ -0,0 +1,20 @@
+/* STATS_DAILY: rows created per day and metric, rolled up once the day is over */
+CREATE TABLE IF NOT EXISTS stats_daily (
+    day DATE NOT NULL,
+    metric ENUM('SIGNUPS', 'BOOKS', 'REVIEWS', 'VOTES') NOT NULL,
+    total INT UNSIGNED NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (day, metric)
+);
+
+/* STATS_ROLLUP_WATERMARK: single row holding the last day rolled up; locked while a rollup runs */
+CREATE TABLE IF NOT EXISTS stats_rollup_watermark (
+    id TINYINT UNSIGNED PRIMARY KEY,
+    rolled_up_through DATE DEFAULT NULL
+);
+
+INSERT INTO stats_rollup_watermark (id, rolled_up_through) VALUES (1, NULL);
+
+/* Reviews were the only counted table without a created_at index */
+ALTER TABLE reviews
+    ADD INDEX idx_created_at (created_at);
@@ -0,0 +1,9 @@
+/* BOOK_TRENDING_SCORES: periodic snapshot of the in-memory trending scores, so a restart does not replay */
+/* the whole trending window; a score is its decayed value at scored_at, and books that decayed away are dropped */
+CREATE TABLE IF NOT EXISTS book_trending_scores (
+    book_id BIGINT UNSIGNED PRIMARY KEY,
+    score DOUBLE NOT NULL,
+    scored_at DATETIME(3) NOT NULL,
+
+    FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
+);
@@ -0,0 +1,111 @@
+/* ARCHIVE TABLES: rows soft-deleted longer than the retention period, moved out of the hot tables by SoftDeleteArchiver */
+/* Same columns as their source plus archived_at; no foreign keys, and no unique constraints beyond the source key, */
+/* so a book deleted and re-created under the same title can be archived twice */
+
+CREATE TABLE IF NOT EXISTS books_archive (
+    id BIGINT UNSIGNED PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    published_year YEAR,
+    publisher VARCHAR(255),
+    cover_image_url VARCHAR(511) DEFAULT NULL,
+    description TEXT,
+    added_by_account_id BIGINT UNSIGNED,
+    created_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_created_at (created_at),
+    INDEX idx_archived_at (archived_at)
+);
+
+CREATE TABLE IF NOT EXISTS book_images_archive (
+    id BIGINT UNSIGNED PRIMARY KEY,
+    book_id BIGINT UNSIGNED NOT NULL,
+    image_url VARCHAR(1024) NOT NULL,
+    type ENUM('COVER', 'ILLUSTRATION', 'AUTHOR', 'OTHER') DEFAULT 'OTHER',
+    uploaded_by_account_id BIGINT UNSIGNED,
+    created_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_book_id (book_id),
+    INDEX idx_archived_at (archived_at)
+);
+
+CREATE TABLE IF NOT EXISTS genres_archive (
+    id BIGINT UNSIGNED PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    added_by_account_id BIGINT UNSIGNED,
+    created_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_archived_at (archived_at)
+);
+
+CREATE TABLE IF NOT EXISTS book_genres_archive (
+    book_id BIGINT UNSIGNED NOT NULL,
+    genre_id BIGINT UNSIGNED NOT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    PRIMARY KEY (book_id, genre_id),
+    INDEX idx_genre_id (genre_id),
+    INDEX idx_archived_at (archived_at)
+);
+
+CREATE TABLE IF NOT EXISTS reviews_archive (
+    id BIGINT UNSIGNED PRIMARY KEY,
+    content TEXT,
+    rating TINYINT UNSIGNED,
+    reviewer_id BIGINT UNSIGNED NOT NULL,
+    book_id BIGINT UNSIGNED NOT NULL,
+    previous_review_id BIGINT UNSIGNED DEFAULT NULL,
+    root_review_id BIGINT UNSIGNED DEFAULT NULL,
+    is_current BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_book_id (book_id),
+    INDEX idx_root_review_id (root_review_id),
+    INDEX idx_created_at (created_at),
+    INDEX idx_archived_at (archived_at)
+);
+
+CREATE TABLE IF NOT EXISTS review_votes_archive (
+    review_id BIGINT UNSIGNED NOT NULL,
+    account_id BIGINT UNSIGNED NOT NULL,
+    vote_type ENUM('UPVOTE', 'DOWNVOTE'),
+    created_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    PRIMARY KEY (review_id, account_id),
+    INDEX idx_created_at (created_at),
+    INDEX idx_archived_at (archived_at)
+);
+
+/* Archival walks each hot table in (deleted_at, primary key) order; InnoDB appends the primary key to these indexes */
+/* books.idx_deleted_created_id orders ties by created_at, so it cannot serve that keyset */
+ALTER TABLE books
+    ADD INDEX idx_deleted_at (deleted_at);
+
+ALTER TABLE book_images
+    ADD INDEX idx_deleted_at (deleted_at);
+
+ALTER TABLE genres
+    ADD INDEX idx_deleted_at (deleted_at);
+
+ALTER TABLE book_genres
+    ADD INDEX idx_deleted_at (deleted_at);
+
+ALTER TABLE reviews
+    ADD INDEX idx_deleted_at (deleted_at);
+
+ALTER TABLE review_votes
+    ADD INDEX idx_deleted_at (deleted_at);
@@ -0,0 +1,4 @@
+/* ACCOUNTS: security_changed_at is now stamped with NOW(3) by the database, and token revocation polls it */
+/* against the database clock; millisecond precision keeps a change from being rounded past a refresh watermark */
+ALTER TABLE accounts
+    MODIFY COLUMN security_changed_at DATETIME(3) DEFAULT NULL;
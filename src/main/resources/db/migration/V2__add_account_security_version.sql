@@ -0,0 +1,12 @@
+/* ACCOUNTS: security version stamp carried in access tokens */
+/* Bumped whenever an account is banned, deactivated or has its role changed, so older tokens stop being accepted */
+ALTER TABLE accounts
+    ADD COLUMN security_version INT UNSIGNED NOT NULL DEFAULT 0 AFTER status,
+    ADD COLUMN security_changed_at DATETIME DEFAULT NULL AFTER security_version,
+    ADD INDEX idx_security_changed_at (security_changed_at);
+
+/* Accounts that are already banned or inactive must not be able to use tokens issued before this migration */
+UPDATE accounts
+SET security_version = 1,
+    security_changed_at = COALESCE(banned_at, deactivated_at, NOW())
+WHERE status <> 'ACTIVE';
@@ -0,0 +1,35 @@
+/* BOOK_RATING_STATS: per-book rating aggregates maintained incrementally on review writes */
+/* Only live (not soft-deleted) and current (not superseded through previous_review_id) reviews are counted */
+CREATE TABLE IF NOT EXISTS book_rating_stats (
+    book_id BIGINT UNSIGNED PRIMARY KEY,
+    review_count INT NOT NULL DEFAULT 0,
+    rating_sum INT NOT NULL DEFAULT 0,
+    rating_1_count INT NOT NULL DEFAULT 0,
+    rating_2_count INT NOT NULL DEFAULT 0,
+    rating_3_count INT NOT NULL DEFAULT 0,
+    rating_4_count INT NOT NULL DEFAULT 0,
+    rating_5_count INT NOT NULL DEFAULT 0,
+    average_rating DECIMAL(3, 2) NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE,
+
+    INDEX idx_average_rating (average_rating)
+);
+
+/* Initial build from existing reviews */
+INSERT INTO book_rating_stats (book_id, review_count, rating_sum, rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, average_rating)
+SELECT r.book_id,
+       COUNT(*),
+       SUM(r.rating),
+       SUM(r.rating = 1),
+       SUM(r.rating = 2),
+       SUM(r.rating = 3),
+       SUM(r.rating = 4),
+       SUM(r.rating = 5),
+       AVG(r.rating)
+FROM reviews r
+WHERE r.deleted_at IS NULL
+  AND r.rating IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM reviews n WHERE n.previous_review_id = r.id)
+GROUP BY r.book_id;
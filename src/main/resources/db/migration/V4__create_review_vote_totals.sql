@@ -0,0 +1,18 @@
+/* REVIEW_VOTE_TOTALS: denormalized up/down vote totals per review, written in batches with the vote rows */
+CREATE TABLE IF NOT EXISTS review_vote_totals (
+    review_id BIGINT UNSIGNED PRIMARY KEY,
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (review_id) REFERENCES reviews(id) ON DELETE CASCADE
+);
+
+/* Initial build from existing votes */
+INSERT INTO review_vote_totals (review_id, upvotes, downvotes)
+SELECT v.review_id,
+       SUM(v.vote_type = 'UPVOTE'),
+       SUM(v.vote_type = 'DOWNVOTE')
+FROM review_votes v
+WHERE v.deleted_at IS NULL
+GROUP BY v.review_id;
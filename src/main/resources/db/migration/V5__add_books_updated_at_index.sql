@@ -0,0 +1,3 @@
+/* BOOKS: lets the search index catch up on changed books without scanning the table */
+ALTER TABLE books
+    ADD INDEX idx_updated_at (updated_at);
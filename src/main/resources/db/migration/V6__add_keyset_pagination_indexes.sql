@@ -0,0 +1,14 @@
+/* Composite indexes for keyset (cursor) pagination: newest first, ties broken on id */
+/* Each query seeks straight to the cursor position instead of sorting and skipping rows */
+
+/* Reviews of a book */
+ALTER TABLE reviews
+    ADD INDEX idx_book_deleted_created_id (book_id, deleted_at, created_at, id);
+
+/* Reviews by a reviewer */
+ALTER TABLE reviews
+    ADD INDEX idx_reviewer_deleted_created_id (reviewer_id, deleted_at, created_at, id);
+
+/* Catalog listing */
+ALTER TABLE books
+    ADD INDEX idx_deleted_created_id (deleted_at, created_at, id);
@@ -0,0 +1,38 @@
+/* REVIEWS: version chain helpers */
+/* root_review_id: first version of the chain, so a whole history is one indexed lookup */
+/* is_current: marks the head version, so listings skip superseded rows without a self-join */
+ALTER TABLE reviews
+    ADD COLUMN root_review_id BIGINT UNSIGNED DEFAULT NULL AFTER previous_review_id,
+    ADD COLUMN is_current BOOLEAN NOT NULL DEFAULT TRUE AFTER root_review_id;
+
+/* Backfill roots by walking every chain from its first version */
+UPDATE reviews r
+JOIN (
+    WITH RECURSIVE chain (id, root_id) AS (
+        SELECT id, id FROM reviews WHERE previous_review_id IS NULL
+        UNION ALL
+        SELECT next.id, chain.root_id
+        FROM reviews next
+        JOIN chain ON next.previous_review_id = chain.id
+    )
+    SELECT id, root_id FROM chain
+) AS resolved ON resolved.id = r.id
+SET r.root_review_id = resolved.root_id;
+
+/* Chains whose first version was hard-deleted (previous_review_id set to NULL by the FK) start at the orphan */
+UPDATE reviews SET root_review_id = id WHERE root_review_id IS NULL;
+
+/* Every version that has a successor is superseded */
+UPDATE reviews r
+JOIN reviews successor ON successor.previous_review_id = r.id
+SET r.is_current = FALSE;
+
+ALTER TABLE reviews
+    ADD INDEX idx_root_created_id (root_review_id, created_at, id);
+
+/* Keyset pagination indexes now filter on the head flag instead of probing for successors */
+ALTER TABLE reviews
+    DROP INDEX idx_book_deleted_created_id,
+    DROP INDEX idx_reviewer_deleted_created_id,
+    ADD INDEX idx_book_current_deleted_created_id (book_id, is_current, deleted_at, created_at, id),
+    ADD INDEX idx_reviewer_current_deleted_created_id (reviewer_id, is_current, deleted_at, created_at, id);
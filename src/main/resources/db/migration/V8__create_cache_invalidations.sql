@@ -0,0 +1,10 @@
+/* CACHE_INVALIDATIONS: cache keys to drop, written in the same transaction as the change that made them stale */
+/* Every instance polls recent rows and evicts the keys from its local cache; old rows are purged */
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(255) NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    INDEX idx_created_at (created_at)
+);
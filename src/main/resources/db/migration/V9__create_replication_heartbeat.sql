@@ -0,0 +1,7 @@
+/* REPLICATION_HEARTBEAT: single row restamped on the primary, read back from the replica to measure lag */
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id TINYINT UNSIGNED PRIMARY KEY,
+    beat_at DATETIME(3) NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, NOW(3));
@@ -0,0 +1,94 @@
+package com.bookreviewhub.backend.application.auth.service;
+
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountIdentifierView;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.config.AccountAvailabilityConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountAvailabilityServiceTests {
+
+	// Committed accounts as the database would return them
+	private final List<Account> accounts = new CopyOnWriteArrayList<>();
+	private AccountAvailabilityService service;
+
+	private record Account(Long getId, String getUsername, String getEmail) implements AccountIdentifierView {
+	}
+
+	@BeforeEach
+	void setUp() {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.existsByUsername(anyString())).thenAnswer(invocation -> accounts.stream()
+				.anyMatch(account -> account.getUsername().equalsIgnoreCase(invocation.getArgument(0))));
+		when(userRepository.existsByEmail(anyString())).thenAnswer(invocation -> accounts.stream()
+				.anyMatch(account -> account.getEmail().equalsIgnoreCase(invocation.getArgument(0))));
+		when(userRepository.streamIdentifiersAfter(anyLong())).thenAnswer(invocation -> accounts.stream()
+				.filter(account -> account.getId() > invocation.<Long>getArgument(0))
+				.sorted(Comparator.comparing(Account::getId))
+				.map(AccountIdentifierView.class::cast));
+
+		service = new AccountAvailabilityService(userRepository, new AccountAvailabilityConfig());
+		commit(10, "alice");
+	}
+
+	@Test
+	void checksTheDatabaseUntilWarmedUp() {
+		assertThat(service.isUsernameAvailable("alice")).isFalse();
+		assertThat(service.isEmailAvailable("alice@test")).isFalse();
+		assertThat(service.isUsernameAvailable("bob")).isTrue();
+	}
+
+	@Test
+	void accountsRegisteredHereAreTakenAtOnce() {
+		service.warmUp();
+
+		commit(11, "bob");
+		service.recordAccount("bob", "bob@test");
+
+		assertThat(service.isUsernameAvailable("alice")).isFalse();
+		assertThat(service.isUsernameAvailable("Bob")).isFalse();
+		assertThat(service.isEmailAvailable("bob@test")).isFalse();
+	}
+
+	@Test
+	void accountsRegisteredElsewhereAreTakenAfterTheNextCatchUp() {
+		service.warmUp();
+		commit(11, "bob");
+
+		// Eventually consistent: another instance's account is not in the filter yet
+		assertThat(service.isUsernameAvailable("bob")).isTrue();
+
+		service.catchUp();
+
+		assertThat(service.isUsernameAvailable("bob")).isFalse();
+		assertThat(service.isEmailAvailable("bob@test")).isFalse();
+	}
+
+	@Test
+	void catchUpFindsAccountsCommittedBehindOnesAlreadySeen() {
+		service.warmUp();
+		commit(20, "carol");
+		service.catchUp();
+
+		// Took its id before carol but committed after the last catch-up
+		commit(15, "dave");
+		service.catchUp();
+
+		assertThat(service.isUsernameAvailable("dave")).isFalse();
+	}
+
+	private void commit(long id, String username) {
+		accounts.add(new Account(id, username, username + "@test"));
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookDetailsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BookDetailsAssembler.class)
+@Sql("classpath:book-details-data.sql")
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:book-details;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.flyway.enabled=false",
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema-h2.sql"
+})
+class BookDetailsAssemblerTests {
+
+	@Autowired
+	private BookDetailsAssembler bookDetailsAssembler;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void resetStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void singleBookWithTopReviewsUsesOneStatementPerTable() {
+		List<BookDetailsResponse> books = bookDetailsAssembler.assembleByIds(List.of(1L), 2);
+
+		// books, images, genres, rating stats, top reviews, accounts
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+		assertThat(books).hasSize(1);
+
+		BookDetailsResponse book = books.get(0);
+		assertThat(book.getAddedBy().getAvatarUrl()).isEqualTo("https://cdn.example.com/alice.png");
+		assertThat(book.getImages()).hasSize(2);
+		assertThat(book.getGenres()).extracting(BookDetailsResponse.GenreSummary::getName)
+				.containsExactly("Fiction", "History");
+		assertThat(book.getReviewCount()).isEqualTo(3);
+		assertThat(book.getTopReviews()).extracting(BookDetailsResponse.ReviewSummary::getId)
+				.containsExactly(2L, 4L);
+		assertThat(book.getTopReviews().get(0).getReviewer().getUsername()).isEqualTo("carol");
+	}
+
+	@Test
+	void statementCountDoesNotGrowWithTheNumberOfBooks() {
+		List<BookDetailsResponse> books = bookDetailsAssembler.assembleByIds(List.of(3L, 1L, 2L, 1L), 2);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+		assertThat(books).extracting(BookDetailsResponse::getId).containsExactly(3L, 1L, 2L);
+		assertThat(books.get(2).getTopReviews()).extracting(BookDetailsResponse.ReviewSummary::getId)
+				.containsExactly(5L);
+	}
+
+	@Test
+	void listingWithoutTopReviewsSkipsTheReviewQuery() {
+		List<BookDetailsResponse> books = bookDetailsAssembler.assembleByIds(List.of(1L, 2L, 3L), 0);
+
+		// books, images, genres, rating stats, accounts
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+		assertThat(books).allSatisfy(book -> assertThat(book.getTopReviews()).isEmpty());
+	}
+
+}
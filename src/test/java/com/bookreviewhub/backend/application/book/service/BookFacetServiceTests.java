@@ -0,0 +1,55 @@
+package com.bookreviewhub.backend.application.book.service;
+
+import com.bookreviewhub.backend.application.book.dto.response.BookFacetSearchResponse;
+import com.bookreviewhub.backend.application.book.dto.response.BookResponse;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookEntity;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetIndex;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetQuery;
+import com.bookreviewhub.backend.infrastructure.book.facet.BookFacetResult;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookFacetServiceTests {
+
+	private static final BookFacetQuery EVERYTHING = new BookFacetQuery(
+			Set.of(), BookFacetQuery.GenreMatch.ANY, Set.of(), Set.of(), null, null);
+
+	private final BookFacetIndex bookFacetIndex = mock(BookFacetIndex.class);
+	private final BookRepository bookRepository = mock(BookRepository.class);
+
+	@Test
+	void booksDeletedElsewhereAreLeftOutOfThePageAndTheTotal() {
+		when(bookFacetIndex.query(any(), anyInt(), anyInt(), anyInt()))
+				.thenReturn(new BookFacetResult(List.of(3L, 2L, 1L), 7, List.of(), List.of(), List.of()));
+		when(bookRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(
+				book(1L, null),
+				book(2L, LocalDateTime.of(2026, 1, 1, 0, 0)),
+				book(3L, null)
+		));
+		BookFacetService service = new BookFacetService(bookFacetIndex, bookRepository);
+		ReflectionTestUtils.setField(service, "maxPageSize", 50);
+
+		BookFacetSearchResponse response = service.filter(EVERYTHING, 0, 3).getData();
+
+		assertThat(response.getItems()).extracting(BookResponse::getId).containsExactly(3L, 1L);
+		assertThat(response.getTotalElements()).isEqualTo(6);
+		verify(bookFacetIndex).removeBooks(List.of(2L));
+	}
+
+	private static BookEntity book(Long id, LocalDateTime deletedAt) {
+		return BookEntity.builder().id(id).title("Book " + id).author("Author").deletedAt(deletedAt).build();
+	}
+
+}
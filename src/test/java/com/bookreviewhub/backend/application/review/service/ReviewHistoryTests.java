@@ -0,0 +1,131 @@
+package com.bookreviewhub.backend.application.review.service;
+
+import com.bookreviewhub.backend.application.book.service.BookRatingStatsService;
+import com.bookreviewhub.backend.application.review.dto.request.ReviewRequest;
+import com.bookreviewhub.backend.application.review.dto.response.ReviewResponse;
+import com.bookreviewhub.backend.application.review.dto.response.ReviewWithHistoryResponse;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReviewService.class, ReviewHistoryService.class, BookRatingStatsService.class})
+@Sql("classpath:review-rating-data.sql")
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:review-history;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.flyway.enabled=false",
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema-h2.sql"
+})
+class ReviewHistoryTests {
+
+	private static final Long BOOK = 1L;
+	private static final AuthenticatedAccount ALICE = new AuthenticatedAccount(1L, "alice", UserEntity.Role.USER);
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private ReviewHistoryService reviewHistoryService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void everyVersionOfAMultiEditChainReturnsTheWholeChainOldestFirst() {
+		Long first = reviewService.createReview(BOOK, request(2), ALICE).getData().getId();
+		Long second = reviewService.editReview(first, request(3), ALICE).getData().getId();
+		Long head = reviewService.editReview(second, request(4), ALICE).getData().getId();
+
+		for (Long version : List.of(first, second, head)) {
+			assertThat(reviewHistoryService.getHistory(version).getData())
+					.extracting(ReviewResponse::getId)
+					.containsExactly(first, second, head);
+		}
+		assertThat(reviewHistoryService.getHistory(head).getData())
+				.extracting(ReviewResponse::isCurrent)
+				.containsExactly(false, false, true);
+	}
+
+	@Test
+	void aDeletedHeadKeepsItsHistoryButLeavesTheListing() {
+		Long first = reviewService.createReview(BOOK, request(2), ALICE).getData().getId();
+		Long head = reviewService.editReview(first, request(5), ALICE).getData().getId();
+		Long other = reviewService.createReview(BOOK, request(4), ALICE).getData().getId();
+
+		reviewService.deleteReview(head, ALICE);
+
+		List<ReviewResponse> history = reviewHistoryService.getHistory(first).getData();
+		assertThat(history).extracting(ReviewResponse::getId).containsExactly(first, head);
+		assertThat(history.get(1).getDeletedAt()).isNotNull();
+		// The superseded version does not stand in for its deleted head
+		assertThat(reviewHistoryService.listBookReviewsWithHistory(BOOK, null, 10).getData().getItems())
+				.extracting(ReviewWithHistoryResponse::getReview)
+				.extracting(ReviewResponse::getId)
+				.containsExactly(other);
+	}
+
+	@Test
+	void theV7BackfillResolvesRootsOfMultiEditChainsAndDeletedHeads() throws IOException {
+		// Rows as they were before V7: chains only linked through previous_review_id
+		jdbcTemplate.update("""
+				INSERT INTO reviews (id, rating, reviewer_id, book_id, previous_review_id, created_at, deleted_at) VALUES
+				    (10, 1, 1, 1, NULL, '2026-01-01 10:00:00', NULL),
+				    (11, 2, 1, 1, 10, '2026-01-02 10:00:00', NULL),
+				    (12, 3, 1, 1, 11, '2026-01-03 10:00:00', '2026-01-04 10:00:00'),
+				    (20, 4, 1, 1, NULL, '2026-01-01 11:00:00', NULL),
+				    (30, 5, 1, 1, 999, '2026-01-01 12:00:00', NULL)
+				""");
+
+		// H2 has no UPDATE ... JOIN, so the chain walk from the migration runs as a query and is applied row by row
+		jdbcTemplate.query(chainWalkOfV7(), (resultSet, rowNum) -> Map.entry(resultSet.getLong(1), resultSet.getLong(2)))
+				.forEach(resolved -> jdbcTemplate.update(
+						"UPDATE reviews SET root_review_id = ? WHERE id = ?", resolved.getValue(), resolved.getKey()));
+		jdbcTemplate.update("UPDATE reviews SET root_review_id = id WHERE root_review_id IS NULL");
+
+		assertThat(jdbcTemplate.queryForList("SELECT root_review_id FROM reviews WHERE id >= 10 ORDER BY id", Long.class))
+				.containsExactly(10L, 10L, 10L, 20L, 30L);
+		assertThat(reviewHistoryService.getHistory(12L).getData())
+				.extracting(ReviewResponse::getId)
+				.containsExactly(10L, 11L, 12L);
+		assertThat(reviewHistoryService.getHistory(30L).getData())
+				.extracting(ReviewResponse::getId)
+				.containsExactly(30L);
+	}
+
+	private static String chainWalkOfV7() throws IOException {
+		String migration = new ClassPathResource("db/migration/V7__add_review_chain_columns.sql")
+				.getContentAsString(StandardCharsets.UTF_8);
+		String end = "SELECT id, root_id FROM chain";
+		return migration.substring(migration.indexOf("WITH RECURSIVE"), migration.indexOf(end) + end.length());
+	}
+
+	private static ReviewRequest request(Integer rating) {
+		ReviewRequest reviewRequest = new ReviewRequest();
+		reviewRequest.setContent("Review");
+		reviewRequest.setRating(rating);
+		return reviewRequest;
+	}
+
+}
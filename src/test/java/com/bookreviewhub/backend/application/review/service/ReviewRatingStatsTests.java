@@ -0,0 +1,126 @@
+package com.bookreviewhub.backend.application.review.service;
+
+import com.bookreviewhub.backend.application.book.service.BookRatingStatsService;
+import com.bookreviewhub.backend.application.review.dto.request.ReviewRequest;
+import com.bookreviewhub.backend.infrastructure.book.entity.BookRatingStatsEntity;
+import com.bookreviewhub.backend.infrastructure.book.repository.BookRatingStatsRepository;
+import com.bookreviewhub.backend.infrastructure.security.principal.AuthenticatedAccount;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReviewService.class, BookRatingStatsService.class})
+@Sql("classpath:review-rating-data.sql")
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:review-rating;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.flyway.enabled=false",
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema-h2.sql"
+})
+class ReviewRatingStatsTests {
+
+	private static final Long BOOK = 1L;
+	private static final AuthenticatedAccount ALICE = new AuthenticatedAccount(1L, "alice", UserEntity.Role.USER);
+	private static final AuthenticatedAccount BOB = new AuthenticatedAccount(2L, "bob", UserEntity.Role.USER);
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private BookRatingStatsRepository bookRatingStatsRepository;
+
+	@Test
+	void createdReviewsAddToTheCountSumAndHistogram() {
+		reviewService.createReview(BOOK, request(5), ALICE);
+		reviewService.createReview(BOOK, request(2), BOB);
+
+		BookRatingStatsEntity stats = stats();
+		assertThat(stats.getReviewCount()).isEqualTo(2);
+		assertThat(stats.getRatingSum()).isEqualTo(7);
+		assertThat(stats.getRating5Count()).isEqualTo(1);
+		assertThat(stats.getRating2Count()).isEqualTo(1);
+		assertThat(stats.getAverageRating()).isEqualByComparingTo(new BigDecimal("3.50"));
+	}
+
+	@Test
+	void anEditMovesTheReviewBetweenStarsWithoutCountingItTwice() {
+		Long reviewId = reviewService.createReview(BOOK, request(1), ALICE).getData().getId();
+		reviewService.createReview(BOOK, request(4), BOB);
+
+		reviewService.editReview(reviewId, request(3), ALICE);
+
+		BookRatingStatsEntity stats = stats();
+		assertThat(stats.getReviewCount()).isEqualTo(2);
+		assertThat(stats.getRatingSum()).isEqualTo(7);
+		assertThat(stats.getRating1Count()).isZero();
+		assertThat(stats.getRating3Count()).isEqualTo(1);
+		assertThat(stats.getAverageRating()).isEqualByComparingTo(new BigDecimal("3.50"));
+	}
+
+	@Test
+	void anEditWithoutARatingTakesTheReviewOutOfTheAggregates() {
+		Long reviewId = reviewService.createReview(BOOK, request(4), ALICE).getData().getId();
+
+		reviewService.editReview(reviewId, request(null), ALICE);
+
+		assertThat(stats().getReviewCount()).isZero();
+		assertThat(stats().getRating4Count()).isZero();
+	}
+
+	@Test
+	void deletingAndRestoringTakesTheReviewOutAndBack() {
+		Long reviewId = reviewService.createReview(BOOK, request(5), ALICE).getData().getId();
+		reviewService.createReview(BOOK, request(3), BOB);
+
+		reviewService.deleteReview(reviewId, ALICE);
+
+		BookRatingStatsEntity afterDelete = stats();
+		assertThat(afterDelete.getReviewCount()).isEqualTo(1);
+		assertThat(afterDelete.getRating5Count()).isZero();
+		assertThat(afterDelete.getAverageRating()).isEqualByComparingTo(new BigDecimal("3.00"));
+
+		reviewService.restoreReview(reviewId, ALICE);
+
+		assertThat(stats().getReviewCount()).isEqualTo(2);
+		assertThat(stats().getAverageRating()).isEqualByComparingTo(new BigDecimal("4.00"));
+	}
+
+	@Test
+	void deletingTheLastReviewLeavesAZeroRow() {
+		Long reviewId = reviewService.createReview(BOOK, request(4), ALICE).getData().getId();
+
+		reviewService.deleteReview(reviewId, ALICE);
+
+		assertThat(stats().getReviewCount()).isZero();
+		assertThat(stats().getRatingSum()).isZero();
+		assertThat(stats().getAverageRating()).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	private BookRatingStatsEntity stats() {
+		return bookRatingStatsRepository.findById(BOOK).orElseThrow();
+	}
+
+	private static ReviewRequest request(Integer rating) {
+		ReviewRequest reviewRequest = new ReviewRequest();
+		reviewRequest.setContent("Review");
+		reviewRequest.setRating(rating);
+		return reviewRequest;
+	}
+
+}
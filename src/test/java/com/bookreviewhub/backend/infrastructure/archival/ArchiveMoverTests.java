@@ -0,0 +1,105 @@
+package com.bookreviewhub.backend.infrastructure.archival;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveMoverTests {
+
+	private static final Timestamp DELETED_AT = Timestamp.valueOf("2026-01-01 00:00:00");
+	private static final Timestamp ARCHIVED_AT = Timestamp.valueOf("2026-02-01 00:00:00");
+
+	private JdbcTemplate jdbcTemplate;
+	private ArchiveMover archiveMover;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:archive-mover;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(h2);
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+		new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(h2);
+		archiveMover = new ArchiveMover(jdbcTemplate);
+
+		jdbcTemplate.update("INSERT INTO accounts (id, username, hashed_password, email, first_name, last_name) VALUES (1, 'owner', 'x', 'owner@test', 'O', 'W')");
+		jdbcTemplate.update("INSERT INTO books (id, title, author, added_by_account_id, deleted_at) VALUES (1, 'Deleted', 'A', 1, ?)", DELETED_AT);
+		jdbcTemplate.update("INSERT INTO books (id, title, author, added_by_account_id) VALUES (2, 'Live', 'A', 1)");
+		jdbcTemplate.update("INSERT INTO genres (id, name) VALUES (1, 'Fantasy')");
+		jdbcTemplate.update("INSERT INTO book_genres (book_id, genre_id, deleted_at) VALUES (2, 1, ?)", DELETED_AT);
+	}
+
+	@Test
+	void singleColumnKeysUseAPlainInList() {
+		assertThat(ArchiveMover.keyCondition("", List.of("id"), 3)).isEqualTo("id IN (?, ?, ?)");
+	}
+
+	@Test
+	void compositeKeysUseRowConstructors() {
+		assertThat(ArchiveMover.keyCondition("a.", List.of("review_id", "account_id"), 2))
+				.isEqualTo("(a.review_id, a.account_id) IN ((?, ?), (?, ?))");
+	}
+
+	@Test
+	void everyArchivedTableListsItsKeyAmongItsColumns() {
+		for (ArchivedTable table : ArchivedTable.values()) {
+			assertThat(table.getColumns()).containsAll(table.getKeyColumns());
+			assertThat(table.getColumns()).containsAll(table.getAccountReferences());
+		}
+	}
+
+	@Test
+	void archivedBooksRestoreWithTheirColumnsAndMissingAccountsCleared() {
+		int archived = archiveMover.archive(ArchivedTable.BOOKS, "deleted_at IS NOT NULL", List.of(), ARCHIVED_AT);
+
+		assertThat(archived).isEqualTo(1);
+		assertThat(count("books")).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT archived_at FROM books_archive WHERE id = 1", Timestamp.class))
+				.isEqualTo(ARCHIVED_AT);
+
+		// The owner went away while the book sat in the archive
+		jdbcTemplate.update("DELETE FROM books WHERE id = 2");
+		jdbcTemplate.update("DELETE FROM accounts WHERE id = 1");
+		int restored = archiveMover.restore(ArchivedTable.BOOKS, "a.id = ?", List.of(1L));
+
+		assertThat(restored).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForMap("SELECT title, added_by_account_id, deleted_at FROM books WHERE id = 1"))
+				.containsEntry("title", "Deleted")
+				.containsEntry("added_by_account_id", null)
+				.containsEntry("deleted_at", DELETED_AT);
+		assertThat(count("books_archive")).isZero();
+	}
+
+	@Test
+	void reusedLinkKeysReplaceTheirOlderArchivedCopyAndStayHotOnRestore() {
+		archiveMover.archive(ArchivedTable.BOOK_GENRES, "deleted_at IS NOT NULL", List.of(), ARCHIVED_AT);
+		// The link is re-created, deleted and archived again under the same key
+		jdbcTemplate.update("INSERT INTO book_genres (book_id, genre_id, deleted_at) VALUES (2, 1, ?)", ARCHIVED_AT);
+		int archivedAgain = archiveMover.archive(ArchivedTable.BOOK_GENRES, "deleted_at IS NOT NULL", List.of(), ARCHIVED_AT);
+
+		assertThat(archivedAgain).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT deleted_at FROM book_genres_archive WHERE book_id = 2 AND genre_id = 1", Timestamp.class))
+				.isEqualTo(ARCHIVED_AT);
+
+		// A live link under the key wins over the archived copy, which is dropped
+		jdbcTemplate.update("INSERT INTO book_genres (book_id, genre_id) VALUES (2, 1)");
+		int restored = archiveMover.restore(ArchivedTable.BOOK_GENRES, "a.book_id = ?", List.of(2L));
+
+		assertThat(restored).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT deleted_at FROM book_genres WHERE book_id = 2 AND genre_id = 1", Timestamp.class))
+				.isNull();
+		assertThat(count("book_genres_archive")).isZero();
+	}
+
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.bookreviewhub.backend.infrastructure.book.facet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacetStateTests {
+
+	private static final BookFacetQuery EVERYTHING = new BookFacetQuery(
+			Set.of(), BookFacetQuery.GenreMatch.ANY, Set.of(), Set.of(), null, null);
+
+	private FacetState state;
+
+	@BeforeEach
+	void setUp() {
+		state = new FacetState(Map.of(1L, "Fiction", 2L, "History"));
+		state.putBook(1, "Mara Ellison", (short) 1999, List.of(1L));
+		state.putBook(2, "mara ellison", (short) 2004, List.of(1L, 2L));
+		state.putBook(3, "Dale Carnegie", (short) 1936, List.of(2L));
+		state.seal();
+	}
+
+	@Test
+	void countsEachFacetWithTheOtherFilters() {
+		BookFacetResult result = state.query(
+				new BookFacetQuery(Set.of(1L), BookFacetQuery.GenreMatch.ANY, Set.of(), Set.of(), 2000, null), 0, 10, 10);
+
+		assertThat(result.bookIds()).containsExactly(2L);
+		assertThat(result.totalHits()).isEqualTo(1);
+		assertThat(result.authors()).extracting(BookFacetResult.FacetCount::count).containsExactly(1L);
+		assertThat(result.decades()).extracting(BookFacetResult.FacetCount::label).containsExactly("2000s", "1990s");
+	}
+
+	@Test
+	void updatesAndRemovalsUndoTheOldMemberships() {
+		state.putBook(2, "Dale Carnegie", (short) 1936, List.of(2L));
+		state.removeBook(1);
+
+		BookFacetResult result = state.query(EVERYTHING, 0, 10, 10);
+
+		assertThat(result.totalHits()).isEqualTo(2);
+		assertThat(result.authors()).extracting(BookFacetResult.FacetCount::label).containsExactly("Dale Carnegie");
+		assertThat(result.decades()).extracting(BookFacetResult.FacetCount::label).containsExactly("1930s");
+		assertThat(result.genres()).extracting(BookFacetResult.FacetCount::label).containsExactly("History");
+	}
+
+	@Test
+	void anOutlyingIdDoesNotGrowPerBookStorageUpToIt() {
+		state.putBook(Integer.MAX_VALUE, "Late Author", (short) 2020, List.of(1L));
+
+		BookFacetResult result = state.query(
+				new BookFacetQuery(Set.of(), BookFacetQuery.GenreMatch.ANY, Set.of(), Set.of("late author"), null, null), 0, 10, 10);
+		assertThat(result.bookIds()).containsExactly((long) Integer.MAX_VALUE);
+
+		state.removeBook(Integer.MAX_VALUE);
+		assertThat(state.query(EVERYTHING, 0, 10, 10).decades()).extracting(BookFacetResult.FacetCount::label)
+				.containsExactly("2000s", "1990s", "1930s");
+	}
+
+	@Test
+	void pagesAreAllocatedOnlyForIdsInUse() {
+		FacetState.BookValues values = new FacetState.BookValues();
+		values.set(5, 7);
+		values.set(Integer.MAX_VALUE, 9);
+		values.set(1_000_000, 0);
+
+		assertThat(values.get(5)).isEqualTo(7);
+		assertThat(values.get(Integer.MAX_VALUE)).isEqualTo(9);
+		assertThat(values.get(1_000_000)).isZero();
+		assertThat(values.allocatedPages()).isEqualTo(2);
+	}
+
+}
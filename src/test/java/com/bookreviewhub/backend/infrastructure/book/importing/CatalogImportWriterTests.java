@@ -0,0 +1,109 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogImportWriterTests {
+
+	private static final Timestamp DELETED_AT = Timestamp.valueOf("2026-01-01 00:00:00");
+
+	private JdbcTemplate jdbcTemplate;
+	private CatalogImportWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:catalog-import-writer;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(h2);
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+		new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(h2);
+		writer = new CatalogImportWriter(jdbcTemplate);
+
+		jdbcTemplate.update("INSERT INTO books (id, title, author) VALUES (1, 'Dune', 'Frank Herbert')");
+		jdbcTemplate.update("INSERT INTO books (id, title, author, deleted_at) VALUES (2, 'Removed', 'Someone', ?)", DELETED_AT);
+		jdbcTemplate.update("INSERT INTO genres (id, name) VALUES (1, 'Adventure')");
+		jdbcTemplate.update("INSERT INTO genres (id, name, deleted_at) VALUES (2, 'Spam', ?)", DELETED_AT);
+		jdbcTemplate.update("INSERT INTO genres (id, name) VALUES (3, 'Classics')");
+		jdbcTemplate.update("INSERT INTO book_genres (book_id, genre_id, deleted_at) VALUES (1, 3, ?)", DELETED_AT);
+	}
+
+	@Test
+	void removedGenresAreReportedInsteadOfRestored() {
+		CatalogImportWriter.BatchResult result = writer.write(
+				CatalogImportJobEntity.Kind.GENRES,
+				List.of(record(1, Map.of("name", "Spam")), record(2, Map.of("name", "Poetry"))),
+				null,
+				GenreDictionary.load(jdbcTemplate, null)
+		);
+
+		assertThat(result.imported()).isEqualTo(1);
+		assertThat(result.errors()).extracting(CatalogImportWriter.RecordError::recordNumber).containsExactly(1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT deleted_at FROM genres WHERE id = 2", Timestamp.class)).isEqualTo(DELETED_AT);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM genres WHERE name = 'Poetry'", Integer.class)).isEqualTo(1);
+	}
+
+	@Test
+	void linksSkipRemovedBooksGenresAndLinks() {
+		CatalogImportWriter.BatchResult result = writer.write(
+				CatalogImportJobEntity.Kind.BOOK_GENRES,
+				List.of(
+						link(1, "Dune", "Frank Herbert", "Adventure"),
+						link(2, "Removed", "Someone", "Adventure"),
+						link(3, "Dune", "Frank Herbert", "Spam"),
+						link(4, "Dune", "Frank Herbert", "Classics"),
+						link(5, "Missing", "Nobody", "Adventure")
+				),
+				null,
+				GenreDictionary.load(jdbcTemplate, null)
+		);
+
+		assertThat(result.imported()).isEqualTo(1);
+		assertThat(result.errors()).extracting(CatalogImportWriter.RecordError::message).containsExactly(
+				"Book was removed and is not restored by an import: Removed by Someone",
+				"Genre was removed and is not restored by an import: Spam",
+				"Book not found: Missing by Nobody",
+				"Genre link was removed and is not restored by an import: Classics"
+		);
+		assertThat(jdbcTemplate.queryForList("SELECT genre_id FROM book_genres WHERE book_id = 1 AND deleted_at IS NULL", Long.class))
+				.containsExactly(1L);
+	}
+
+	@Test
+	void writingTheSameLinksTwiceIsHarmless() {
+		List<ImportRecord> records = List.of(link(1, "Dune", "Frank Herbert", "Adventure"));
+		GenreDictionary genres = GenreDictionary.load(jdbcTemplate, null);
+
+		writer.write(CatalogImportJobEntity.Kind.BOOK_GENRES, records, null, genres);
+		CatalogImportWriter.BatchResult again = writer.write(CatalogImportJobEntity.Kind.BOOK_GENRES, records, null, genres);
+
+		assertThat(again.imported()).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_genres WHERE book_id = 1 AND genre_id = 1", Integer.class))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void genreKeysFoldCaseAndAccentsLikeTheColumnCollation() {
+		assertThat(GenreDictionary.key(" Ficción ")).isEqualTo(GenreDictionary.key("FICCION"));
+		assertThat(GenreDictionary.key("Science Fiction")).isNotEqualTo(GenreDictionary.key("ScienceFiction"));
+	}
+
+	private static ImportRecord link(long number, String title, String author, String genre) {
+		return record(number, Map.of("title", title, "author", author, "genre", genre));
+	}
+
+	private static ImportRecord record(long number, Map<String, String> fields) {
+		return new ImportRecord(number, fields, null);
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.bookreviewhub.backend.infrastructure.book.importing;
+
+import com.bookreviewhub.backend.infrastructure.book.entity.CatalogImportJobEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportRecordReaderTests {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void readsQuotedCsvFieldsByLowerCaseHeader() throws IOException {
+		Path file = write("books.csv", """
+				Title,Author,published_year,genres
+				"War and Peace","Tolstoy, Leo",1869,Fiction|History
+				"Multi
+				line",Someone,,
+				""");
+
+		try (ImportRecordReader reader = ImportRecordReader.open(file, CatalogImportJobEntity.Format.CSV)) {
+			ImportRecord first = reader.next();
+			assertThat(first.number()).isEqualTo(1);
+			assertThat(first.field("title")).isEqualTo("War and Peace");
+			assertThat(first.field("author")).isEqualTo("Tolstoy, Leo");
+			assertThat(first.field("genres")).isEqualTo("Fiction|History");
+
+			ImportRecord second = reader.next();
+			assertThat(second.number()).isEqualTo(2);
+			assertThat(second.field("title")).isEqualTo("Multi\nline");
+			assertThat(second.field("published_year")).isNull();
+
+			assertThat(reader.next()).isNull();
+			assertThat(reader.bytesRead()).isEqualTo(Files.size(file));
+		}
+	}
+
+	@Test
+	void keepsGoingPastAMalformedJsonLine() throws IOException {
+		Path file = write("books.jsonl", """
+				{"title": "Dune", "author": "Frank Herbert", "genres": ["Science Fiction", "Adventure"]}
+				{"title": "broken"
+
+				{"title": "Emma", "author": "Jane Austen", "published_year": 1815}
+				""");
+
+		try (ImportRecordReader reader = ImportRecordReader.open(file, CatalogImportJobEntity.Format.JSONL)) {
+			assertThat(reader.next().field("genres")).isEqualTo("Science Fiction|Adventure");
+
+			ImportRecord malformed = reader.next();
+			assertThat(malformed.number()).isEqualTo(2);
+			assertThat(malformed.parseError()).startsWith("Malformed JSON");
+
+			ImportRecord last = reader.next();
+			assertThat(last.number()).isEqualTo(3);
+			assertThat(last.field("published_year")).isEqualTo("1815");
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	void resumesAfterTheCheckpointedRecords() throws IOException {
+		Path file = write("genres.csv", "name\nFiction\nHistory\nPoetry\n");
+
+		try (ImportRecordReader reader = ImportRecordReader.open(file, CatalogImportJobEntity.Format.CSV)) {
+			reader.skip(2);
+			ImportRecord next = reader.next();
+			assertThat(next.number()).isEqualTo(3);
+			assertThat(next.field("name")).isEqualTo("Poetry");
+		}
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.writeString(tempDir.resolve(name), content);
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.bookreviewhub.backend.infrastructure.book.ranking;
+
+import com.bookreviewhub.backend.shared.config.BookRankingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RankingStateTests {
+
+	private static final long NOW = 1_700_000_000_000L;
+	private static final long HALF_LIFE = Duration.ofDays(2).toMillis();
+
+	private BookRankingConfig config;
+
+	@BeforeEach
+	void setUp() {
+		config = new BookRankingConfig();
+		config.setTopK(2);
+	}
+
+	@Test
+	void singleFiveStarReviewDoesNotOutrankManyGoodOnes() {
+		RankingState state = new RankingState(config, NOW);
+		state.setRating(1, 1, 5);
+		state.setRating(2, 200, 900);
+		state.setRating(3, 50, 100);
+		// Scores offered while loading used a moving catalog-wide mean
+		state.rebuildLists();
+
+		assertThat(state.top(BookRankingType.TOP_RATED, null, 10, NOW))
+				.extracting(RankedBook::bookId)
+				.containsExactly(2L, 1L);
+	}
+
+	@Test
+	void olderActivityCountsHalfPerHalfLife() {
+		RankingState state = new RankingState(config, NOW);
+		state.addTrending(1, 4.0, NOW - HALF_LIFE);
+		state.addTrending(2, 3.0, NOW);
+
+		List<RankedBook> top = state.top(BookRankingType.TRENDING, null, 10, NOW);
+
+		assertThat(top).extracting(RankedBook::bookId).containsExactly(2L, 1L);
+		assertThat(top.get(1).score()).isCloseTo(2.0, within(1e-9));
+		// Time passing decays every score alike, so the order holds
+		assertThat(state.top(BookRankingType.TRENDING, null, 10, NOW + 3 * HALF_LIFE).get(0).score())
+				.isCloseTo(3.0 / 8, within(1e-9));
+	}
+
+	@Test
+	void genreListsOnlyHoldBooksOfTheGenre() {
+		RankingState state = new RankingState(config, NOW);
+		state.setGenres(1, List.of(10L));
+		state.setGenres(2, List.of(20L));
+		state.addTrending(1, 1.0, NOW);
+		state.addTrending(2, 5.0, NOW);
+
+		assertThat(state.top(BookRankingType.TRENDING, 10L, 10, NOW)).extracting(RankedBook::bookId).containsExactly(1L);
+		assertThat(state.top(BookRankingType.TRENDING, 30L, 10, NOW)).isEmpty();
+	}
+
+	@Test
+	void retractedActivityLeavesTheListAndRebuildRefillsIt() {
+		RankingState state = new RankingState(config, NOW);
+		state.addTrending(1, 3.0, NOW);
+		state.addTrending(2, 2.0, NOW);
+		state.addTrending(3, 1.0, NOW);
+		state.addTrending(1, -3.0, NOW);
+
+		assertThat(state.top(BookRankingType.TRENDING, null, 10, NOW)).extracting(RankedBook::bookId).containsExactly(2L);
+
+		state.rebuildLists();
+
+		assertThat(state.top(BookRankingType.TRENDING, null, 10, NOW)).extracting(RankedBook::bookId).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void removingAnOldUpvoteOnlyTakesBackItsDecayedWeight() {
+		RankingState state = new RankingState(config, NOW);
+		state.addTrending(1, 1.0, NOW - 2 * HALF_LIFE);
+		state.addTrending(1, 1.0, NOW);
+		state.addTrending(1, 1.0, NOW - 2 * HALF_LIFE);
+
+		state.addTrending(1, -1.0, NOW - 2 * HALF_LIFE);
+		state.addTrending(1, -1.0, NOW - 2 * HALF_LIFE);
+
+		List<RankedBook> top = state.top(BookRankingType.TRENDING, null, 10, NOW);
+		assertThat(top).extracting(RankedBook::bookId).containsExactly(1L);
+		assertThat(top.get(0).score()).isCloseTo(1.0, within(1e-9));
+	}
+
+}
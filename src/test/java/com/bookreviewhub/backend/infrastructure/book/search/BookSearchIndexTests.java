@@ -0,0 +1,134 @@
+package com.bookreviewhub.backend.infrastructure.book.search;
+
+import com.bookreviewhub.backend.infrastructure.book.projection.BookSearchView;
+import com.bookreviewhub.backend.shared.config.BookSearchConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTests {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	private BookSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new BookSearchIndex(new BookSearchConfig());
+		for (long id = 1; id <= 5; id++) {
+			index.index(book(id, "Winter Garden " + id, "Mara Ellison"));
+		}
+		index.index(book(6L, "Đắc Nhân Tâm", "Dale Carnegie"));
+	}
+
+	@Test
+	void foldsDiacriticsAndTheLetterD() {
+		assertThat(TextNormalizer.tokenize("Đắc Nhân Tâm, 2nd-ed.")).containsExactly("dac", "nhan", "tam", "2nd", "ed");
+		assertThat(TextNormalizer.distinctTokens("tam tam nhan", 10)).containsExactly("tam", "nhan");
+	}
+
+	@Test
+	void matchesFoldedQueriesPrefixesAndTypos() {
+		assertThat(index.search("dac nhan tam", 0, 10).hits()).extracting(BookSearchHit::bookId).containsExactly(6L);
+		assertThat(index.search("gard", 0, 10).totalHits()).isEqualTo(5);
+		assertThat(index.search("wintr", 0, 10).totalHits()).isEqualTo(5);
+	}
+
+	@Test
+	void pagesThroughTheRankedCandidates() {
+		BookSearchResult first = index.search("winter", 0, 2);
+		BookSearchResult last = index.search("winter", 2, 2);
+
+		assertThat(first.totalHits()).isEqualTo(5);
+		assertThat(first.hits()).hasSize(2);
+		assertThat(last.hits()).hasSize(1);
+		assertThat(first.hits()).extracting(BookSearchHit::bookId).doesNotContainAnyElementsOf(
+				last.hits().stream().map(BookSearchHit::bookId).toList());
+	}
+
+	@Test
+	void farPagesAreEmptyWithoutOverflowing() {
+		assertThat(index.search("winter", 3, 2).hits()).isEmpty();
+		assertThat(index.search("winter", Integer.MAX_VALUE, 50).hits()).isEmpty();
+		assertThat(index.search("winter", Integer.MAX_VALUE, 50).totalHits()).isEqualTo(5);
+	}
+
+	@Test
+	void onlyCatchUpReadTimesMoveTheWatermark() {
+		assertThat(index.getWatermark()).isNull();
+
+		index.advanceWatermark(T0.plusMinutes(2));
+		// Books carry times from other clocks; indexing one must not move the watermark past unread changes
+		index.index(book(7L, "Later", "Someone"));
+		index.remove(7L);
+		index.advanceWatermark(T0.plusMinutes(1));
+
+		assertThat(index.getWatermark()).isEqualTo(T0.plusMinutes(2));
+	}
+
+	@Test
+	void theWatermarkSurvivesASnapshot() throws IOException {
+		index.advanceWatermark(T0.plusSeconds(90));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		index.writeSnapshot(new DataOutputStream(bytes));
+
+		BookSearchIndex restored = new BookSearchIndex(new BookSearchConfig());
+		restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(restored.getWatermark()).isEqualTo(T0.plusSeconds(90));
+		assertThat(restored.search("winter", 0, 10).totalHits()).isEqualTo(5);
+	}
+
+	private static BookSearchView book(Long id, String title, String author) {
+		return new BookSearchView() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getTitle() {
+				return title;
+			}
+
+			@Override
+			public String getAuthor() {
+				return author;
+			}
+
+			@Override
+			public String getPublisher() {
+				return null;
+			}
+
+			@Override
+			public String getDescription() {
+				return null;
+			}
+
+			@Override
+			public LocalDateTime getCreatedAt() {
+				return T0;
+			}
+
+			@Override
+			public LocalDateTime getUpdatedAt() {
+				return T0;
+			}
+
+			@Override
+			public LocalDateTime getDeletedAt() {
+				return null;
+			}
+		};
+	}
+
+}
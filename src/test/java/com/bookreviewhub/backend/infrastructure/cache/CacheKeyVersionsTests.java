@@ -0,0 +1,86 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheKeyVersionsTests {
+
+	private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+	private CacheKeyVersions versions;
+
+	@BeforeEach
+	void setUp() {
+		versions = new CacheKeyVersions();
+	}
+
+	@Test
+	void nothingIsServedBeforeStart() {
+		versions.apply(5, T0, "books", "1");
+
+		assertThat(versions.of("books", "1")).isEmpty();
+		assertThat(versions.latestOf("books")).isEmpty();
+	}
+
+	@Test
+	void keysWithoutRowsShareTheOldestRetainedRow() {
+		versions.apply(7, T0.plusSeconds(7), "books", "1");
+		versions.start(new CacheKeyVersions.Version(3, T0.plusSeconds(3)));
+
+		assertThat(versions.of("books", "1")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(7L);
+		assertThat(versions.of("books", "2")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(3L);
+		assertThat(versions.latestOf("books")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(7L);
+	}
+
+	@Test
+	void clearingAWholeCacheVersionsEveryKey() {
+		versions.start(null);
+		versions.apply(4, T0, "books", "1");
+		versions.apply(9, T0.plusSeconds(1), "books", CacheInvalidationRelay.ALL_KEYS);
+
+		assertThat(versions.of("books", "1")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(9L);
+		assertThat(versions.of("books", "2")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(9L);
+		assertThat(versions.of("reviews", "1")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(0L);
+	}
+
+	@Test
+	void aLocalChangeHidesTheVersionUntilItsRowIsRead() {
+		versions.start(null);
+		versions.apply(4, T0, "books", "1");
+
+		versions.markPending("books", "1");
+		assertThat(versions.of("books", "1")).isEmpty();
+		assertThat(versions.latestOf("books")).isEmpty();
+		assertThat(versions.of("books", "2")).isPresent();
+
+		versions.apply(6, T0.plusSeconds(1), "books", "1");
+		assertThat(versions.of("books", "1")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(6L);
+	}
+
+	@Test
+	void pendingMarksOfRolledBackChangesExpire() {
+		versions.start(null);
+		versions.markPending("books", "1");
+
+		versions.expirePending(Instant.now().plusSeconds(1));
+
+		assertThat(versions.of("books", "1")).isPresent();
+	}
+
+	@Test
+	void theFloorNeverMovesBack() {
+		versions.start(new CacheKeyVersions.Version(10, T0));
+		versions.apply(12, T0.plusSeconds(2), "books", "1");
+
+		versions.raiseFloor(new CacheKeyVersions.Version(15, T0.plusSeconds(5)));
+		assertThat(versions.of("books", "1")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(15L);
+
+		versions.raiseFloor(null);
+		assertThat(versions.of("books", "1")).get().extracting(CacheKeyVersions.Version::id).isEqualTo(15L);
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.bookreviewhub.backend.infrastructure.cache;
+
+import com.bookreviewhub.backend.shared.config.TwoTierCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTests {
+
+	private final SharedCacheStore sharedStore = new InMemorySharedCacheStore();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	// Two instances sharing one L2
+	private TwoTierCache nodeA;
+	private TwoTierCache nodeB;
+
+	@BeforeEach
+	void createCaches() {
+		TwoTierCacheConfig config = new TwoTierCacheConfig();
+		config.setSharedEnabled(true);
+		nodeA = new TwoTierCache("books", config, sharedStore, null, Runnable::run, meterRegistry);
+		nodeB = new TwoTierCache("books", config, sharedStore, null, Runnable::run, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void secondInstanceIsServedFromTheSharedTier() {
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(nodeA.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+		assertThat(nodeB.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+		assertThat(loads).hasValue(1);
+		assertThat(meterRegistry.get("cache.shared.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void evictionOnTheWriterAndRelayedLocalEvictionDropStaleEntries() {
+		nodeA.get(1L, () -> "old");
+		nodeB.get(1L, () -> "old");
+
+		nodeA.evict(1L);
+		assertThat(nodeB.get(1L)).isNotNull();
+		nodeB.evictLocal("1");
+
+		assertThat(nodeB.get(1L, () -> "new")).isEqualTo("new");
+		assertThat(nodeA.get(1L, () -> "unused")).isEqualTo("new");
+	}
+
+	@Test
+	void nullResultsAreNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		String loaded = nodeA.get(2L, () -> {
+			loads.incrementAndGet();
+			return null;
+		});
+
+		assertThat(loaded).isNull();
+		assertThat(nodeA.get(2L)).isNull();
+		assertThat(nodeA.get(2L, () -> "found")).isEqualTo("found");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void refreshAheadReloadsThroughTheRegisteredReloaderOnly() throws InterruptedException {
+		AtomicInteger reloads = new AtomicInteger();
+		AtomicInteger readLoads = new AtomicInteger();
+		TwoTierCache cache = new TwoTierCache("books", refreshingConfig(), null, new CacheReloader() {
+			@Override
+			public String cacheName() {
+				return "books";
+			}
+
+			@Override
+			public Object reload(String key) {
+				return "reloaded " + key + " #" + reloads.incrementAndGet();
+			}
+		}, Runnable::run, new SimpleMeterRegistry());
+
+		cache.get(1L, () -> "loaded #" + readLoads.incrementAndGet());
+		Thread.sleep(5);
+
+		// The refresh runs on the calling thread here, so the read already sees its result
+		assertThat(cache.get(1L).get()).isEqualTo("reloaded 1 #1");
+		assertThat(cache.get(1L, () -> "loaded #" + readLoads.incrementAndGet())).isIn("reloaded 1 #1", "reloaded 1 #2");
+		assertThat(readLoads).hasValue(1);
+	}
+
+	@Test
+	void withoutAReloaderEntriesAreNotRefreshed() throws InterruptedException {
+		AtomicInteger loads = new AtomicInteger();
+		TwoTierCache cache = new TwoTierCache("books", refreshingConfig(), null, null, Runnable::run, new SimpleMeterRegistry());
+
+		cache.get(1L, () -> "v" + loads.incrementAndGet());
+		Thread.sleep(5);
+
+		assertThat(cache.get(1L).get()).isEqualTo("v1");
+		assertThat(cache.get(1L).get()).isEqualTo("v1");
+		assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+		assertThat(loads).hasValue(1);
+	}
+
+	private static TwoTierCacheConfig refreshingConfig() {
+		TwoTierCacheConfig config = new TwoTierCacheConfig();
+		config.setRefreshAfter(Duration.ofMillis(1));
+		return config;
+	}
+
+}
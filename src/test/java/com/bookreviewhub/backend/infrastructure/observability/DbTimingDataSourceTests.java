@@ -0,0 +1,71 @@
+package com.bookreviewhub.backend.infrastructure.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbTimingDataSourceTests {
+
+	private SimpleMeterRegistry meterRegistry;
+	private DbTimingDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:db-timing;DB_CLOSE_DELAY=-1");
+		// Setup statements go to the raw data source, so the timers only count what the tests run
+		JdbcTemplate setup = new JdbcTemplate(h2);
+		setup.execute("CREATE TABLE IF NOT EXISTS items (id INT PRIMARY KEY)");
+		setup.update("DELETE FROM items");
+		meterRegistry = new SimpleMeterRegistry();
+		dataSource = new DbTimingDataSource(h2, meterRegistry);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	@AfterEach
+	void clearRequest() {
+		RequestDbStats.clear();
+	}
+
+	@Test
+	void statementsAreTimedByKindAndCountedForTheRequest() {
+		RequestDbStats stats = RequestDbStats.start();
+
+		jdbcTemplate.update("INSERT INTO items (id) VALUES (?)", 1);
+		jdbcTemplate.batchUpdate("INSERT INTO items (id) VALUES (?)", List.of(new Object[]{2}, new Object[]{3}));
+		jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+
+		assertThat(stats.statements()).isEqualTo(3);
+		assertThat(stats.nanos()).isPositive();
+		assertThat(meterRegistry.get("db.statements").tag("kind", "update").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("db.statements").tag("kind", "batch").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("db.statements").tag("kind", "query").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void statementsOutsideARequestAreOnlyTimed() {
+		jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+
+		assertThat(meterRegistry.get("db.statements").tag("kind", "query").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void proxiesKeepIdentityAndUnwrapToTheDriver() throws Exception {
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(connection).isEqualTo(connection);
+			assertThat(connection.unwrap(JdbcConnection.class)).isInstanceOf(JdbcConnection.class);
+			assertThat(connection.prepareStatement("SELECT 1").getConnection()).isSameAs(connection);
+		}
+	}
+
+}
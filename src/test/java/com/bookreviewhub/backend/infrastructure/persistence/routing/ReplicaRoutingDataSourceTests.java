@@ -0,0 +1,118 @@
+package com.bookreviewhub.backend.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two in-memory H2 databases stand in for the primary and the replica; "replication" is copying the heartbeat
+class ReplicaRoutingDataSourceTests {
+
+	private final AtomicReference<Long> currentAccountId = new AtomicReference<>();
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+	private ReplicaLagMonitor monitor;
+	private JdbcTemplate routed;
+	private TransactionTemplate readOnlyTransaction;
+	private TransactionTemplate writeTransaction;
+
+	@BeforeEach
+	void createDatabases() {
+		primary = new JdbcTemplate(database("primary"));
+		replica = new JdbcTemplate(database("replica"));
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		monitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(2), meterRegistry);
+		monitor.afterPropertiesSet();
+		ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100, currentAccountId::get);
+		ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(
+				primary.getDataSource(), replica.getDataSource(), monitor, tracker, meterRegistry
+		);
+		router.afterPropertiesSet();
+
+		DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+		routed = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		writeTransaction = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	void readsStayOnThePrimaryUntilTheReplicaHasBeenChecked() {
+		assertThat(readFrom()).isEqualTo("primary");
+	}
+
+	@Test
+	void readOnlyTransactionsGoToAHealthyReplica() {
+		replicate();
+		monitor.check();
+
+		String writtenFrom = writeTransaction.execute(status -> routed.queryForObject("SELECT name FROM node", String.class));
+
+		assertThat(readFrom()).isEqualTo("replica");
+		assertThat(writtenFrom).isEqualTo("primary");
+	}
+
+	@Test
+	void writersReadTheirOwnWritesFromThePrimary() {
+		replicate();
+		monitor.check();
+
+		currentAccountId.set(7L);
+		writeTransaction.executeWithoutResult(status -> routed.update("UPDATE node SET writes = writes + 1"));
+
+		assertThat(readFrom()).isEqualTo("primary");
+		currentAccountId.set(8L);
+		assertThat(readFrom()).isEqualTo("replica");
+	}
+
+	@Test
+	void laggingOrUnreachableReplicaFallsBackToThePrimary() {
+		LocalDateTime primaryBeat = primary.queryForObject("SELECT beat_at FROM replication_heartbeat", LocalDateTime.class);
+		replica.update("UPDATE replication_heartbeat SET beat_at = ?", primaryBeat.minusSeconds(10));
+		monitor.check();
+		assertThat(readFrom()).isEqualTo("primary");
+
+		replicate();
+		monitor.check();
+		assertThat(readFrom()).isEqualTo("replica");
+
+		replica.execute("DROP TABLE replication_heartbeat");
+		monitor.check();
+		assertThat(readFrom()).isEqualTo("primary");
+	}
+
+	private String readFrom() {
+		return readOnlyTransaction.execute(status -> routed.queryForObject("SELECT name FROM node", String.class));
+	}
+
+	private void replicate() {
+		LocalDateTime primaryBeat = primary.queryForObject("SELECT beat_at FROM replication_heartbeat", LocalDateTime.class);
+		replica.update("UPDATE replication_heartbeat SET beat_at = ?", primaryBeat);
+	}
+
+	private static DataSource database(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE replication_heartbeat (id TINYINT PRIMARY KEY, beat_at DATETIME(3) NOT NULL)");
+		jdbcTemplate.execute("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, NOW(3))");
+		jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16), writes INT)");
+		jdbcTemplate.update("INSERT INTO node (name, writes) VALUES (?, 0)", name);
+		return dataSource;
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.bookreviewhub.backend.infrastructure.persistence.touch;
+
+import com.bookreviewhub.backend.shared.config.TouchWriteBehindConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TouchWriteBehindBufferTests {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private FailingJdbcTemplate jdbcTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private TouchWriteBehindBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:touch-write-behind;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new FailingJdbcTemplate(h2);
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+		new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(h2);
+		for (long id = 1; id <= 45; id++) {
+			jdbcTemplate.update("INSERT INTO accounts (id, username, hashed_password, email, first_name, last_name) VALUES (?, ?, 'x', ?, 'A', 'B')",
+					id, "user" + id, "user" + id + "@example.com");
+		}
+
+		meterRegistry = new SimpleMeterRegistry();
+		buffer = new TouchWriteBehindBuffer(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(h2)),
+				new TouchWriteBehindConfig(), meterRegistry, 20);
+		buffer.start();
+	}
+
+	@Test
+	void repeatedTouchesOfARowAreWrittenOnceWithTheLatestTime() {
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 1L, T0.plusMinutes(1));
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 1L, T0.plusMinutes(3));
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 1L, T0.plusMinutes(2));
+		assertThat(pending()).isEqualTo(1);
+
+		buffer.flush();
+
+		assertThat(lastLoginAt(1L)).isEqualTo(T0.plusMinutes(3));
+		assertThat(pending()).isZero();
+		assertThat(meterRegistry.get("persistence.touch.flushed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void aFlushNeverMovesTheTimestampBack() {
+		jdbcTemplate.update("UPDATE accounts SET last_login_at = ? WHERE id = 1", T0.plusHours(1));
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 1L, T0);
+
+		buffer.flush();
+
+		assertThat(lastLoginAt(1L)).isEqualTo(T0.plusHours(1));
+	}
+
+	@Test
+	void writesEveryRowAcrossSeveralBatches() {
+		for (long id = 1; id <= 45; id++) {
+			buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, id, T0);
+		}
+
+		buffer.flush();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts WHERE last_login_at = ?", Integer.class, T0))
+				.isEqualTo(45);
+		assertThat(jdbcTemplate.batches).isEqualTo(3);
+	}
+
+	@Test
+	void aFailedFlushKeepsTheTouchesForTheNextOne() {
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 1L, T0);
+		jdbcTemplate.failing = true;
+
+		buffer.flush();
+
+		assertThat(lastLoginAt(1L)).isNull();
+		assertThat(pending()).isEqualTo(1);
+
+		// A newer touch recorded meanwhile wins over the one put back
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 1L, T0.plusMinutes(5));
+		jdbcTemplate.failing = false;
+		buffer.flush();
+
+		assertThat(lastLoginAt(1L)).isEqualTo(T0.plusMinutes(5));
+		assertThat(pending()).isZero();
+	}
+
+	@Test
+	void stoppingDrainsWhatIsPending() {
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 2L, T0);
+		buffer.touch(TouchColumn.ACCOUNT_LAST_LOGIN_AT, 3L, T0);
+
+		buffer.stop();
+
+		assertThat(buffer.isRunning()).isFalse();
+		assertThat(lastLoginAt(2L)).isEqualTo(T0);
+		assertThat(lastLoginAt(3L)).isEqualTo(T0);
+		assertThat(pending()).isZero();
+	}
+
+	private double pending() {
+		return meterRegistry.get("persistence.touch.pending").gauge().value();
+	}
+
+	private LocalDateTime lastLoginAt(Long id) {
+		return jdbcTemplate.queryForObject("SELECT last_login_at FROM accounts WHERE id = ?", LocalDateTime.class, id);
+	}
+
+	private static final class FailingJdbcTemplate extends JdbcTemplate {
+		private volatile boolean failing;
+		private int batches;
+
+		FailingJdbcTemplate(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		@Override
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+			if (failing) {
+				throw new DataAccessResourceFailureException("Database unavailable");
+			}
+			batches++;
+			return super.batchUpdate(sql, batchArgs, batchSize, pss);
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.bookreviewhub.backend.infrastructure.review.repository;
+
+import com.bookreviewhub.backend.infrastructure.review.entity.ReviewEntity;
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import com.bookreviewhub.backend.shared.util.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(statements = {
+		"INSERT INTO accounts (id, username, hashed_password, email, first_name, last_name) VALUES (1, 'alice', 'x', 'alice@example.com', 'Alice', 'Nguyen')",
+		"INSERT INTO books (id, title, author, added_by_account_id) VALUES (1, 'Book One', 'Author A', 1)",
+		// Five reviews share one created_at, so only the id orders them
+		"INSERT INTO reviews (id, rating, reviewer_id, book_id, root_review_id, created_at) VALUES "
+				+ "(1, 5, 1, 1, 1, '2026-01-01 10:00:00'), (2, 4, 1, 1, 2, '2026-01-01 12:00:00'), "
+				+ "(3, 3, 1, 1, 3, '2026-01-01 12:00:00'), (4, 2, 1, 1, 4, '2026-01-01 12:00:00'), "
+				+ "(5, 1, 1, 1, 5, '2026-01-01 12:00:00'), (6, 5, 1, 1, 6, '2026-01-01 12:00:00'), "
+				+ "(7, 4, 1, 1, 7, '2026-01-01 14:00:00')"
+})
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:review-keyset;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.flyway.enabled=false",
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema-h2.sql"
+})
+class ReviewKeysetPagingTests {
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Test
+	void pagesThroughEqualTimestampsWithoutSkippingOrRepeating() {
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			KeysetCursor position = KeysetCursor.decode(cursor);
+			List<ReviewEntity> rows = reviewRepository.findBookPageBefore(1L, position.createdAt(), position.id(), Limit.of(3));
+			CursorPageResponse<Long> page = KeysetCursor.toPage(
+					rows, 2, review -> new KeysetCursor(review.getCreatedAt(), review.getId()), ReviewEntity::getId);
+			seen.addAll(page.getItems());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(seen).containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+	}
+
+}
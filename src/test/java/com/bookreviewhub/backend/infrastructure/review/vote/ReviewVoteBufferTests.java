@@ -0,0 +1,196 @@
+package com.bookreviewhub.backend.infrastructure.review.vote;
+
+import com.bookreviewhub.backend.shared.config.ReviewVoteConfig;
+import com.bookreviewhub.backend.shared.event.ReviewVotesFlushedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewVoteBufferTests {
+
+	private static final Long REVIEW = 1L;
+	private static final Long BOOK = 7L;
+
+	private FakeDatabase database;
+	private List<Object> events;
+	private ReviewVoteBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:review-vote-buffer;DB_CLOSE_DELAY=-1");
+		database = new FakeDatabase();
+		events = new ArrayList<>();
+		buffer = new ReviewVoteBuffer(
+				database,
+				new TransactionTemplate(new DataSourceTransactionManager(h2)),
+				new ReviewVoteConfig(),
+				events::add,
+				new SimpleMeterRegistry(),
+				20
+		);
+	}
+
+	@Test
+	void cachedTotalsTakeAFlushedDeltaOnce() {
+		assertThat(buffer.totals(REVIEW)).isEqualTo(VoteTotals.EMPTY);
+
+		buffer.vote(REVIEW, 10L, VoteType.UPVOTE);
+		assertThat(buffer.totals(REVIEW).upvotes()).isEqualTo(1);
+		buffer.flush();
+
+		assertThat(database.totals.get(REVIEW).upvotes()).isEqualTo(1);
+		assertThat(buffer.totals(REVIEW).upvotes()).isEqualTo(1);
+		buffer.evictTotals(REVIEW);
+		assertThat(buffer.totals(REVIEW).upvotes()).isEqualTo(1);
+	}
+
+	@Test
+	void aReadDuringTheCommitWaitsAndCountsTheDeltaOnce() {
+		AtomicReference<VoteTotals> seen = new AtomicReference<>();
+		AtomicReference<Thread> reader = new AtomicReference<>();
+		// The delta is visible in the database but the flush has not moved it out of flight yet
+		database.onCommit = () -> {
+			Thread thread = new Thread(() -> seen.set(buffer.totals(REVIEW)));
+			reader.set(thread);
+			thread.start();
+			awaitParkedOrDone(thread);
+		};
+
+		buffer.vote(REVIEW, 10L, VoteType.UPVOTE);
+		buffer.flush();
+		join(reader.get());
+
+		assertThat(seen.get().upvotes()).isEqualTo(1);
+		assertThat(buffer.totals(REVIEW).upvotes()).isEqualTo(1);
+	}
+
+	@Test
+	void aFailedFlushKeepsTheDeltaForTheNextOne() {
+		buffer.vote(REVIEW, 10L, VoteType.UPVOTE);
+		database.failWrites = true;
+		buffer.flush();
+
+		assertThat(database.totals).isEmpty();
+		assertThat(buffer.totals(REVIEW).upvotes()).isEqualTo(1);
+
+		database.failWrites = false;
+		buffer.flush();
+
+		assertThat(database.totals.get(REVIEW).upvotes()).isEqualTo(1);
+		assertThat(buffer.totals(REVIEW).upvotes()).isEqualTo(1);
+	}
+
+	@Test
+	void aFlipMovesTheVoteBetweenTotals() {
+		buffer.vote(REVIEW, 10L, VoteType.UPVOTE);
+		buffer.flush();
+		buffer.vote(REVIEW, 10L, VoteType.DOWNVOTE);
+		buffer.flush();
+
+		assertThat(database.totals.get(REVIEW)).isEqualTo(new VoteTotals(0, 1));
+		assertThat(buffer.totals(REVIEW)).isEqualTo(new VoteTotals(0, 1));
+	}
+
+	@Test
+	void aRetractionReturnsWhenTheUpvoteItReplacesWasCast() {
+		Instant before = Instant.now();
+		buffer.vote(REVIEW, 10L, VoteType.UPVOTE);
+		buffer.flush();
+
+		CastVote previous = buffer.vote(REVIEW, 10L, VoteType.NONE);
+
+		assertThat(previous.type()).isEqualTo(VoteType.UPVOTE);
+		assertThat(previous.castAt()).isBetween(before, Instant.now());
+	}
+
+	@Test
+	void flushesAnnounceTheirReviewsAndBooksForOtherInstances() {
+		buffer.vote(REVIEW, 10L, VoteType.UPVOTE);
+		buffer.flush();
+
+		assertThat(events).containsExactly(new ReviewVotesFlushedEvent(List.of(REVIEW), List.of(BOOK)));
+	}
+
+	private static void awaitParkedOrDone(Thread thread) {
+		long deadline = System.nanoTime() + 5_000_000_000L;
+		while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TERMINATED
+				&& System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private static void join(Thread thread) {
+		try {
+			thread.join(5_000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Every review belongs to BOOK and exists without votes; total deltas become visible when the surrounding transaction commits
+	private static final class FakeDatabase extends JdbcTemplate {
+		private final Map<Long, VoteTotals> totals = new ConcurrentHashMap<>();
+		private volatile boolean failWrites;
+		private volatile Runnable onCommit = () -> {
+		};
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+			if (sql.contains("FROM review_vote_totals")) {
+				VoteTotals row = totals.get((Long) args[0]);
+				return row == null ? List.of() : List.of((T) row);
+			}
+			List<T> noVote = new ArrayList<>();
+			noVote.add(null);
+			return noVote;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+			return List.of((T) BOOK);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+			if (failWrites) {
+				throw new DataAccessResourceFailureException("Database unavailable");
+			}
+			if (sql.contains("INTO review_vote_totals")) {
+				List<Map.Entry<Long, VoteTotals>> deltas = List.copyOf((Collection<Map.Entry<Long, VoteTotals>>) batchArgs);
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						deltas.forEach(delta -> totals.merge(delta.getKey(), delta.getValue(),
+								(a, b) -> a.plus(b.upvotes(), b.downvotes())));
+						onCommit.run();
+					}
+				});
+			}
+			return new int[0][];
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.bookreviewhub.backend.infrastructure.security.jwt;
+
+import com.bookreviewhub.backend.application.account.service.AccountAdministrationService;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.user.projection.AccountSecurityView;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.event.AccountSecurityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountTokenRevocationRegistryTests {
+
+	private static final long ACCOUNT = 1L;
+	private static final LocalDateTime DB_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private UserEntity account;
+	private AccountTokenRevocationRegistry registry;
+	private AccountAdministrationService administration;
+
+	@BeforeEach
+	void setUp() {
+		account = UserEntity.builder().id(ACCOUNT).username("alice").role(UserEntity.Role.USER).build();
+		when(userRepository.findById(ACCOUNT)).thenReturn(Optional.of(account));
+		when(jdbcTemplate.queryForObject("SELECT NOW(3)", LocalDateTime.class)).thenReturn(DB_TIME, DB_TIME.plusSeconds(30));
+		registry = new AccountTokenRevocationRegistry(userRepository, jdbcTemplate);
+		// Events reach the registry as they would after the transaction commits
+		administration = new AccountAdministrationService(userRepository,
+				event -> registry.onAccountSecurityChanged((AccountSecurityChangedEvent) event));
+	}
+
+	@Test
+	void accountsThatNeverChangedAcceptEveryToken() {
+		assertThat(registry.isTokenCurrent(ACCOUNT, 0)).isTrue();
+	}
+
+	@Test
+	void aBanRevokesTokensOfEveryVersion() {
+		administration.banAccount(ACCOUNT);
+
+		assertThat(registry.isTokenCurrent(ACCOUNT, 0)).isFalse();
+		assertThat(registry.isTokenCurrent(ACCOUNT, 1)).isFalse();
+
+		administration.unbanAccount(ACCOUNT);
+
+		assertThat(registry.isTokenCurrent(ACCOUNT, 1)).isFalse();
+		assertThat(registry.isTokenCurrent(ACCOUNT, 2)).isTrue();
+	}
+
+	@Test
+	void aRoleChangeRevokesOnlyTokensIssuedBeforeIt() {
+		administration.changeRole(ACCOUNT, UserEntity.Role.ADMIN);
+
+		assertThat(registry.isTokenCurrent(ACCOUNT, 0)).isFalse();
+		assertThat(registry.isTokenCurrent(ACCOUNT, 1)).isTrue();
+	}
+
+	@Test
+	void deactivationRevokesTokensOfEveryVersion() {
+		administration.deactivateAccount(ACCOUNT);
+
+		assertThat(registry.isTokenCurrent(ACCOUNT, 0)).isFalse();
+		assertThat(registry.isTokenCurrent(ACCOUNT, 1)).isFalse();
+	}
+
+	@Test
+	void pollsFromTheDatabaseClockOfThePreviousRefresh() {
+		when(userRepository.findSecurityChangedSince(any())).thenReturn(List.of(), List.of(view(3, UserEntity.Status.ACTIVE)));
+
+		registry.refresh();
+		registry.refresh();
+
+		verify(userRepository).findSecurityChangedSince(LocalDateTime.of(1969, 12, 31, 23, 59, 55));
+		// Read before the first query ran, minus the overlap; the local clock plays no part
+		verify(userRepository).findSecurityChangedSince(DB_TIME.minusSeconds(5));
+		assertThat(registry.isTokenCurrent(ACCOUNT, 2)).isFalse();
+		assertThat(registry.isTokenCurrent(ACCOUNT, 3)).isTrue();
+	}
+
+	@Test
+	void aStalePollDoesNotUndoANewerChange() {
+		administration.banAccount(ACCOUNT);
+		administration.unbanAccount(ACCOUNT);
+		when(userRepository.findSecurityChangedSince(any())).thenReturn(List.of(view(1, UserEntity.Status.BANNED)));
+
+		registry.refresh();
+
+		assertThat(registry.isTokenCurrent(ACCOUNT, 2)).isTrue();
+	}
+
+	private static AccountSecurityView view(int securityVersion, UserEntity.Status status) {
+		return new AccountSecurityView() {
+			@Override
+			public Long getId() {
+				return ACCOUNT;
+			}
+
+			@Override
+			public int getSecurityVersion() {
+				return securityVersion;
+			}
+
+			@Override
+			public UserEntity.Status getStatus() {
+				return status;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.bookreviewhub.backend.infrastructure.security.jwt;
+
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.shared.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTests {
+
+	private final ManualTime time = new ManualTime();
+	private JwtConfig config;
+
+	@BeforeEach
+	void setUp() {
+		config = new JwtConfig();
+		config.setSecret("0123456789abcdef0123456789abcdef0123456789abcdef");
+		config.setExpiration(Duration.ofMinutes(10));
+		config.setVerificationCacheTtl(Duration.ofHours(1));
+	}
+
+	@Test
+	void verifiesOnceAndServesTheClaimsFromTheCache() {
+		JwtService jwtService = new JwtService(config, time, time);
+		String token = jwtService.generateToken(account());
+
+		VerifiedToken first = jwtService.verifyToken(token);
+
+		assertThat(jwtService.verifyToken(token)).isSameAs(first);
+		assertThat(first.accountId()).isEqualTo(1L);
+		assertThat(first.securityVersion()).isEqualTo(3);
+	}
+
+	@Test
+	void aCachedTokenIsRejectedOnceItExpires() {
+		// The cache's own time stands still, as if eviction had not caught up with the token's expiry yet
+		JwtService jwtService = new JwtService(config, time, () -> 0L);
+		String token = jwtService.generateToken(account());
+		jwtService.verifyToken(token);
+
+		time.advance(Duration.ofMinutes(10).plusSeconds(1));
+
+		assertThatThrownBy(() -> jwtService.verifyToken(token)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(jwtService.isTokenValid(token)).isFalse();
+	}
+
+	@Test
+	void cacheEntriesExpireWithTheTokenWhenThatComesFirst() {
+		VerifiedTokenExpiry expiry = new VerifiedTokenExpiry(Duration.ofMinutes(5), time);
+
+		assertThat(expiry.expireAfterCreate("a", token(time.instant().plus(Duration.ofMinutes(2))), 0))
+				.isEqualTo(Duration.ofMinutes(2).toNanos());
+		assertThat(expiry.expireAfterCreate("b", token(time.instant().plus(Duration.ofHours(1))), 0))
+				.isEqualTo(Duration.ofMinutes(5).toNanos());
+		assertThat(expiry.expireAfterCreate("c", token(time.instant().minusSeconds(1)), 0)).isZero();
+	}
+
+	@Test
+	void tamperedTokensAreNeverCached() {
+		JwtService jwtService = new JwtService(config, time, time);
+		String token = jwtService.generateToken(account());
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+		assertThatThrownBy(() -> jwtService.verifyToken(tampered)).isInstanceOf(JwtException.class);
+		assertThatThrownBy(() -> jwtService.verifyToken(tampered)).isInstanceOf(JwtException.class);
+	}
+
+	private static AccountUserDetails account() {
+		return new AccountUserDetails(UserEntity.builder()
+				.id(1L)
+				.username("alice")
+				.password("hash")
+				.role(UserEntity.Role.USER)
+				.securityVersion(3)
+				.build());
+	}
+
+	private static VerifiedToken token(Instant expiresAt) {
+		return new VerifiedToken("alice", 1L, UserEntity.Role.USER, 0, expiresAt);
+	}
+
+	// One source of time for token expiry (the clock) and cache expiry (the ticker)
+	private static final class ManualTime extends Clock implements Ticker {
+		private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public long read() {
+			return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+
+}
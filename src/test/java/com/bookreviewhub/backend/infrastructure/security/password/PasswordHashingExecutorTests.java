@@ -0,0 +1,92 @@
+package com.bookreviewhub.backend.infrastructure.security.password;
+
+import com.bookreviewhub.backend.shared.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTests {
+
+	private SimpleMeterRegistry meterRegistry;
+	private PasswordHashingExecutor executor;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		PasswordHashingConfig config = new PasswordHashingConfig();
+		config.setThreads(1);
+		config.setQueueCapacity(1);
+		config.setTimeout(Duration.ofMillis(200));
+		meterRegistry = new SimpleMeterRegistry();
+		executor = new PasswordHashingExecutor(config, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.destroy();
+	}
+
+	@Test
+	void runsTheHashAndTimesItPerOperation() {
+		assertThat(executor.execute("matches", () -> true)).isTrue();
+		assertThat(executor.execute("matches", () -> false)).isFalse();
+
+		assertThat(meterRegistry.get("auth.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("auth.password.hashing.queue.wait").tag("operation", "matches").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsRightAwayWhenThreadsAndQueueAreBusy() {
+		CompletableFuture.runAsync(() -> executor.execute("matches", this::blockUntilReleased));
+		CompletableFuture.runAsync(() -> executor.execute("matches", this::blockUntilReleased));
+		awaitQueued(1);
+
+		assertThatThrownBy(() -> executor.execute("encode", () -> "hash"))
+				.isInstanceOf(PasswordHashingRejectedException.class)
+				.hasMessageContaining("Too many concurrent");
+		assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void givesUpAfterTheTimeoutWithARetryAfter() {
+		assertThatThrownBy(() -> executor.execute("matches", this::blockUntilReleased))
+				.isInstanceOfSatisfying(PasswordHashingRejectedException.class, e -> {
+					assertThat(e.getMessage()).contains("timed out");
+					assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+				});
+	}
+
+	@Test
+	void hashingFailuresReachTheCaller() {
+		assertThatThrownBy(() -> executor.execute("encode", () -> {
+			throw new IllegalArgumentException("rawPassword cannot be null");
+		})).isInstanceOf(IllegalArgumentException.class).hasMessage("rawPassword cannot be null");
+	}
+
+	private boolean blockUntilReleased() {
+		try {
+			return release.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void awaitQueued(int tasks) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("executor.queued").gauge().value() < tasks && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+	}
+
+}
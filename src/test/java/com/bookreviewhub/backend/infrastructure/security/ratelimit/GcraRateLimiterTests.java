@@ -0,0 +1,78 @@
+package com.bookreviewhub.backend.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTests {
+
+	// 60 per minute: one request per second, plus a burst of 3
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final GcraRateLimiter limiter = new GcraRateLimiter(60, Duration.ofMinutes(1), 3, 1_000, Duration.ofMinutes(10));
+
+	@Test
+	void allowsTheBurstThenAsksToWaitOneInterval() {
+		long now = 1_000 * SECOND;
+
+		assertThat(limiter.tryAcquire("ip:1", now)).isZero();
+		assertThat(limiter.tryAcquire("ip:1", now)).isZero();
+		assertThat(limiter.tryAcquire("ip:1", now)).isZero();
+		assertThat(limiter.tryAcquire("ip:1", now)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void refillsAtTheSustainedRate() {
+		long now = 1_000 * SECOND;
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("ip:1", now);
+		}
+
+		assertThat(limiter.tryAcquire("ip:1", now + SECOND)).isZero();
+		assertThat(limiter.tryAcquire("ip:1", now + SECOND)).isPositive();
+		assertThat(limiter.tryAcquire("ip:1", now + 10 * SECOND)).isZero();
+	}
+
+	@Test
+	void clientsHaveTheirOwnBuckets() {
+		long now = 1_000 * SECOND;
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire("account:1", now);
+		}
+
+		assertThat(limiter.tryAcquire("account:1", now)).isPositive();
+		assertThat(limiter.tryAcquire("account:2", now)).isZero();
+		assertThat(limiter.keyCount()).isEqualTo(2);
+	}
+
+	@Test
+	void concurrentRequestsNeverExceedTheBurst() throws Exception {
+		long now = 1_000 * SECOND;
+		AtomicInteger allowed = new AtomicInteger();
+		try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+			List<Future<?>> requests = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				requests.add(executor.submit(() -> {
+					if (limiter.tryAcquire("ip:1", now) == 0) {
+						allowed.incrementAndGet();
+					}
+				}));
+			}
+			for (Future<?> request : requests) {
+				request.get();
+			}
+		}
+
+		assertThat(allowed).hasValue(3);
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.bookreviewhub.backend.infrastructure.stats;
+
+import com.bookreviewhub.backend.shared.config.StatsConfig;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyStatsRollupTests {
+
+	private static final LocalDate YESTERDAY = LocalDate.now().minusDays(1);
+
+	private JdbcTemplate jdbcTemplate;
+	private DailyStatsRollup rollup;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:daily-stats;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=DAY");
+		jdbcTemplate = new JdbcTemplate(h2);
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+		new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"), new ClassPathResource("stats-schema-h2.sql")).execute(h2);
+
+		StatsConfig config = new StatsConfig();
+		config.setCloseGrace(Duration.ZERO);
+		config.setChunkDays(2);
+		rollup = new DailyStatsRollup(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(h2)), config);
+
+		jdbcTemplate.update("INSERT INTO accounts (id, username, hashed_password, email, first_name, last_name, created_at) "
+				+ "VALUES (1, 'alice', 'x', 'alice@example.com', 'Alice', 'Nguyen', ?)", at(YESTERDAY.minusDays(4)));
+		book(1, YESTERDAY.minusDays(4));
+		book(2, YESTERDAY.minusDays(1));
+		book(3, YESTERDAY.minusDays(1));
+		book(4, YESTERDAY);
+		// Today is still open
+		book(5, LocalDate.now());
+		jdbcTemplate.update("INSERT INTO books_archive (id, title, author, created_at, archived_at) VALUES (6, 'Gone', 'Someone', ?, ?)",
+				at(YESTERDAY), at(YESTERDAY));
+	}
+
+	@AfterEach
+	void tearDown() {
+		rollup.destroy();
+	}
+
+	@Test
+	void catchUpRollsUpEveryClosedDayInChunksAndAdvancesTheWatermark() {
+		rollup.rollUpClosedDays();
+
+		assertThat(rollup.findRolledUpThrough()).isEqualTo(YESTERDAY);
+		assertThat(books()).containsExactly(
+				new DailyStatsRollup.DailyTotal(YESTERDAY.minusDays(4), StatsMetric.BOOKS, 1),
+				new DailyStatsRollup.DailyTotal(YESTERDAY.minusDays(1), StatsMetric.BOOKS, 2),
+				new DailyStatsRollup.DailyTotal(YESTERDAY, StatsMetric.BOOKS, 2)
+		);
+	}
+
+	@Test
+	void laterRunsOnlyReadDaysAfterTheWatermark() {
+		rollup.rollUpClosedDays();
+		// Lands on a day already rolled up; only a backfill or a reset watermark picks it up
+		book(7, YESTERDAY.minusDays(1));
+
+		rollup.rollUpClosedDays();
+
+		assertThat(books()).extracting(DailyStatsRollup.DailyTotal::total).containsExactly(1L, 2L, 2L);
+		assertThat(rollup.findRolledUpThrough()).isEqualTo(YESTERDAY);
+	}
+
+	@Test
+	void rollingUpTheSameDaysAgainReplacesTheirRows() {
+		rollup.rollUpClosedDays();
+		jdbcTemplate.update("DELETE FROM books WHERE id = 3");
+		jdbcTemplate.update("UPDATE stats_rollup_watermark SET rolled_up_through = NULL WHERE id = 1");
+
+		rollup.rollUpClosedDays();
+		rollup.rollUpClosedDays();
+
+		assertThat(books()).extracting(DailyStatsRollup.DailyTotal::total).containsExactly(1L, 1L, 2L);
+		assertThat(rollup.findTotals(YESTERDAY.minusDays(4), YESTERDAY))
+				.filteredOn(total -> total.metric() == StatsMetric.SIGNUPS)
+				.extracting(DailyStatsRollup.DailyTotal::total)
+				.containsExactly(1L);
+	}
+
+	private List<DailyStatsRollup.DailyTotal> books() {
+		return rollup.findTotals(YESTERDAY.minusDays(10), LocalDate.now()).stream()
+				.filter(total -> total.metric() == StatsMetric.BOOKS)
+				.toList();
+	}
+
+	private void book(long id, LocalDate day) {
+		jdbcTemplate.update("INSERT INTO books (id, title, author, created_at) VALUES (?, ?, 'Author', ?)", id, "Book " + id, at(day));
+	}
+
+	private static Timestamp at(LocalDate day) {
+		return Timestamp.valueOf(day.atTime(12, 0));
+	}
+
+}
@@ -0,0 +1,225 @@
+package com.bookreviewhub.backend.infrastructure.storage;
+
+import com.bookreviewhub.backend.infrastructure.user.entity.AccountAvatarEntity;
+import com.bookreviewhub.backend.shared.config.ImageUploadConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageUploadPipelineTests {
+
+	private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+	private static final List<String> ALLOWED = List.of("png", "jpg");
+
+	@TempDir
+	private Path tempDir;
+
+	private ImageUploadConfig config;
+	private FlakyStorage storage;
+	private ImageUploadPipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		config = new ImageUploadConfig();
+		config.setLocalDirectory(tempDir.resolve("storage"));
+		config.setStagingDirectory(tempDir.resolve("staging"));
+		config.setRetryBackoff(Duration.ofMillis(10));
+		storage = new FlakyStorage(new LocalFileSystemImageStorage(config));
+		pipeline = new ImageUploadPipeline(config, storage, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.destroy();
+	}
+
+	@Test
+	void storesTheImageAndRemovesTheStagedCopy() throws Exception {
+		ImageUploadPipeline.StagedImage staged = pipeline.stage(png(100_000), -1, 200_000, ALLOWED);
+		assertThat(staged.format()).isEqualTo(ImageFormat.PNG);
+		assertThat(staged.size()).isEqualTo(100_000);
+
+		List<StoredImage> recorded = new CopyOnWriteArrayList<>();
+		UUID uploadId = pipeline.submit(1L, "avatar", "users/1/avatar-", staged, recorded::add);
+
+		ImageUploadPipeline.UploadStatus status = awaitOutcome(uploadId);
+		assertThat(status.state()).isEqualTo(ImageUploadPipeline.State.STORED);
+		assertThat(status.url()).isEqualTo("/uploads/users/1/avatar-" + uploadId + ".png");
+		assertThat(recorded).hasSize(1);
+		assertThat(tempDir.resolve("storage/users/1/avatar-" + uploadId + ".png")).hasSize(100_000);
+		assertThat(staged.file()).doesNotExist();
+	}
+
+	@Test
+	void rejectsAnUnsupportedFormatAfterTheFirstBytes() {
+		byte[] gifHeader = {'G', 'I', 'F', '8', '9', 'a', 0, 0, 0, 0, 0, 0};
+		InputStream body = new SequenceInputStream(new ByteArrayInputStream(gifHeader), failingStream());
+
+		assertThatThrownBy(() -> pipeline.stage(body, -1, 200_000, ALLOWED))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Unsupported image format");
+	}
+
+	@Test
+	void rejectsADeclaredLengthOverTheLimitWithoutReading() {
+		assertThatThrownBy(() -> pipeline.stage(failingStream(), 300_000, 200_000, ALLOWED))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("maximum size");
+	}
+
+	@Test
+	void stopsReadingAnUndeclaredBodyAtTheLimit() throws IOException {
+		assertThatThrownBy(() -> pipeline.stage(png(300_000), -1, 200_000, ALLOWED))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		try (var staged = Files.list(config.getStagingDirectory())) {
+			assertThat(staged).isEmpty();
+		}
+	}
+
+	@Test
+	void retriesStorageFailuresUntilAnAttemptSucceeds() throws Exception {
+		storage.failuresLeft.set(2);
+		ImageUploadPipeline.StagedImage staged = pipeline.stage(png(1_000), 1_000, 200_000, ALLOWED);
+
+		UUID uploadId = pipeline.submit(1L, "avatar", "users/1/avatar-", staged, stored -> {
+		});
+
+		assertThat(awaitOutcome(uploadId).state()).isEqualTo(ImageUploadPipeline.State.STORED);
+		assertThat(storage.attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	void deletesTheStoredImageWhenRecordingItFails() throws Exception {
+		ImageUploadPipeline.StagedImage staged = pipeline.stage(png(1_000), 1_000, 200_000, ALLOWED);
+
+		UUID uploadId = pipeline.submit(1L, "book-image", "books/7/cover-", staged, stored -> {
+			throw new IllegalArgumentException("Book not found");
+		});
+
+		ImageUploadPipeline.UploadStatus status = awaitOutcome(uploadId);
+		assertThat(status.state()).isEqualTo(ImageUploadPipeline.State.FAILED);
+		assertThat(status.error()).isEqualTo("Book not found");
+		assertThat(tempDir.resolve("storage/books/7/cover-" + uploadId + ".png")).doesNotExist();
+	}
+
+	@Test
+	void clearsStagedFilesLeftByAPreviousRun() throws IOException {
+		Path leftover = Files.createFile(config.getStagingDirectory().resolve("upload-123.png"));
+
+		new ImageUploadPipeline(config, storage, new SimpleMeterRegistry()).destroy();
+
+		assertThat(leftover).doesNotExist();
+	}
+
+	@Test
+	void shutdownFailsUploadsThatDoNotFinishInTime() throws Exception {
+		config.setConcurrency(1);
+		config.setShutdownTimeout(Duration.ofMillis(100));
+		pipeline.destroy();
+		pipeline = new ImageUploadPipeline(config, storage, new SimpleMeterRegistry());
+		storage.blocked = true;
+		ImageUploadPipeline.StagedImage running = pipeline.stage(png(1_000), 1_000, 200_000, ALLOWED);
+		ImageUploadPipeline.StagedImage queued = pipeline.stage(png(1_000), 1_000, 200_000, ALLOWED);
+
+		UUID runningId = pipeline.submit(1L, "avatar", "users/1/avatar-", running, stored -> {
+		});
+		UUID queuedId = pipeline.submit(2L, "avatar", "users/2/avatar-", queued, stored -> {
+		});
+		storage.started.await();
+		pipeline.destroy();
+
+		assertThat(pipeline.status(runningId).orElseThrow().state()).isEqualTo(ImageUploadPipeline.State.FAILED);
+		assertThat(pipeline.status(queuedId).orElseThrow().error()).contains("server shutdown");
+		assertThat(running.file()).doesNotExist();
+		assertThat(queued.file()).doesNotExist();
+	}
+
+	private ImageUploadPipeline.UploadStatus awaitOutcome(UUID uploadId) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (System.nanoTime() < deadline) {
+			ImageUploadPipeline.UploadStatus status = pipeline.status(uploadId).orElseThrow();
+			if (status.state() != ImageUploadPipeline.State.PENDING) {
+				return status;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("Upload " + uploadId + " did not finish");
+	}
+
+	private static InputStream png(int size) {
+		byte[] image = new byte[size];
+		System.arraycopy(PNG_HEADER, 0, image, 0, PNG_HEADER.length);
+		return new ByteArrayInputStream(image);
+	}
+
+	// Fails the test if the pipeline reads past what it needed
+	private static InputStream failingStream() {
+		return new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("Body should not have been read");
+			}
+		};
+	}
+
+	private static class FlakyStorage implements ImageStorage {
+		private final ImageStorage delegate;
+		private final AtomicInteger failuresLeft = new AtomicInteger();
+		private final AtomicInteger attempts = new AtomicInteger();
+		private final CountDownLatch started = new CountDownLatch(1);
+		private volatile boolean blocked;
+
+		FlakyStorage(ImageStorage delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public StoredImage store(String key, Path stagedFile, ImageFormat format) throws IOException {
+			attempts.incrementAndGet();
+			started.countDown();
+			if (blocked) {
+				try {
+					Thread.sleep(Long.MAX_VALUE);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Storage call interrupted");
+				}
+			}
+			if (failuresLeft.getAndDecrement() > 0) {
+				throw new IOException("Storage unavailable");
+			}
+			return delegate.store(key, stagedFile, format);
+		}
+
+		@Override
+		public void delete(String key) throws IOException {
+			delegate.delete(key);
+		}
+
+		@Override
+		public AccountAvatarEntity.Source avatarSource() {
+			return delegate.avatarSource();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.bookreviewhub.backend.infrastructure.user.cache;
+
+import com.bookreviewhub.backend.infrastructure.CustomUserDetailsService;
+import com.bookreviewhub.backend.infrastructure.security.principal.AccountUserDetails;
+import com.bookreviewhub.backend.infrastructure.user.entity.UserEntity;
+import com.bookreviewhub.backend.infrastructure.user.repository.UserRepository;
+import com.bookreviewhub.backend.shared.config.UserDetailsCacheConfig;
+import com.bookreviewhub.backend.shared.event.AccountSecurityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountUserDetailsCacheTests {
+
+	private static final Long ACCOUNT = 1L;
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private UserEntity account;
+	private AccountUserDetailsCache cache;
+	private CustomUserDetailsService userDetailsService;
+
+	@BeforeEach
+	void setUp() {
+		account = UserEntity.builder().id(ACCOUNT).username("Alice").password("old-hash").role(UserEntity.Role.USER).build();
+		// Usernames match case-insensitively, as under the accounts collation
+		when(userRepository.findByUsername(anyString())).thenAnswer(invocation ->
+				Optional.of(account).filter(entity -> entity.getUsername().equalsIgnoreCase(invocation.getArgument(0))));
+		when(userRepository.findById(ACCOUNT)).thenAnswer(invocation -> Optional.of(account));
+		cache = new AccountUserDetailsCache(new UserDetailsCacheConfig(), new SimpleMeterRegistry());
+		userDetailsService = new CustomUserDetailsService(userRepository, cache, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void aLoadByUsernameAlsoServesLookupsByAccountId() {
+		userDetailsService.loadUserByUsername("alice");
+		AccountUserDetails byId = userDetailsService.loadUserByAccountId(ACCOUNT);
+
+		assertThat(byId.getUsername()).isEqualTo("Alice");
+		verify(userRepository, times(1)).findByUsername(anyString());
+		verify(userRepository, times(0)).findById(ACCOUNT);
+	}
+
+	@Test
+	void aCommittedSecurityChangeDropsBothKeys() {
+		userDetailsService.loadUserByUsername("alice");
+		account.setStatus(UserEntity.Status.BANNED);
+
+		cache.onAccountSecurityChanged(new AccountSecurityChangedEvent(ACCOUNT, "ALICE", 1, UserEntity.Status.BANNED));
+
+		assertThat(userDetailsService.loadUserByAccountId(ACCOUNT).isAccountNonLocked()).isFalse();
+		assertThat(userDetailsService.loadUserByUsername("alice").isAccountNonLocked()).isFalse();
+	}
+
+	@Test
+	void aRemoteInvalidationFindsTheUsernameEntryByAccountId() {
+		userDetailsService.loadUserByUsername("alice");
+		account.setRole(UserEntity.Role.ADMIN);
+
+		// Relayed invalidations carry only the account id
+		cache.invalidateAccount(ACCOUNT);
+
+		assertThat(((AccountUserDetails) userDetailsService.loadUserByUsername("alice")).getRole()).isEqualTo(UserEntity.Role.ADMIN);
+	}
+
+	@Test
+	void aRehashOnLoginReplacesTheCachedHash() {
+		AccountUserDetails loggedIn = (AccountUserDetails) userDetailsService.loadUserByUsername("alice");
+		when(userRepository.updatePasswordByUsername("Alice", "new-hash")).thenAnswer(invocation -> {
+			account.setPassword("new-hash");
+			return 1;
+		});
+
+		userDetailsService.updatePassword(loggedIn, "new-hash");
+
+		assertThat(userDetailsService.loadUserByUsername("alice").getPassword()).isEqualTo("new-hash");
+		assertThat(userDetailsService.loadUserByAccountId(ACCOUNT).getPassword()).isEqualTo("new-hash");
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.bookreviewhub.backend.shared.util;
+
+import com.bookreviewhub.backend.shared.dto.response.CursorPageResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTests {
+
+	@Test
+	void roundTripsThePositionWithSubSecondPrecision() {
+		KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 4, 5, 6, 7, 123_000_000), 42L);
+
+		assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+		assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+	}
+
+	@Test
+	void aMissingCursorStartsAtTheFirstPage() {
+		assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+		assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.FIRST);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"not base64!", "2026-03-04T05:06:07|42", "A"})
+	void rejectsCursorsThatAreNotBase64(String cursor) {
+		assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid cursor");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"2026-03-04T05:06:07", "yesterday|42", "2026-03-04T05:06:07|4x2", "2026-03-04T05:06:07|", "|"})
+	void rejectsTamperedPositions(String position) {
+		assertThatThrownBy(() -> KeysetCursor.decode(encode(position)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid cursor");
+	}
+
+	@Test
+	void theNextCursorPointsAtTheLastRowShown() {
+		LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+		List<KeysetCursor> rows = List.of(new KeysetCursor(createdAt, 9L), new KeysetCursor(createdAt, 8L), new KeysetCursor(createdAt, 7L));
+
+		CursorPageResponse<Long> page = KeysetCursor.toPage(rows, 2, Function.identity(), KeysetCursor::id);
+		CursorPageResponse<Long> last = KeysetCursor.toPage(rows.subList(2, 3), 2, Function.identity(), KeysetCursor::id);
+
+		assertThat(page.getItems()).containsExactly(9L, 8L);
+		assertThat(page.isHasMore()).isTrue();
+		assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(new KeysetCursor(createdAt, 8L));
+		assertThat(last.isHasMore()).isFalse();
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	void pageSizesOutsideTheLimitsAreRejected() {
+		assertThatThrownBy(() -> KeysetCursor.checkPageSize(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> KeysetCursor.checkPageSize(KeysetCursor.MAX_PAGE_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
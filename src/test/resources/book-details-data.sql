@@ -0,0 +1,34 @@
+INSERT INTO accounts (id, username, hashed_password, email, first_name, last_name, avatar_id) VALUES
+    (1, 'alice', 'x', 'alice@example.com', 'Alice', 'Nguyen', NULL),
+    (2, 'bob', 'x', 'bob@example.com', 'Bob', 'Tran', NULL),
+    (3, 'carol', 'x', 'carol@example.com', 'Carol', 'Le', NULL);
+
+INSERT INTO account_avatars (id, account_id, version, url) VALUES
+    (1, 1, 1, 'https://cdn.example.com/alice.png');
+UPDATE accounts SET avatar_id = 1 WHERE id = 1;
+
+INSERT INTO books (id, title, author, published_year, added_by_account_id, created_at) VALUES
+    (1, 'Book One', 'Author A', 2001, 1, '2024-01-01 00:00:00'),
+    (2, 'Book Two', 'Author B', 2002, 2, '2024-01-02 00:00:00'),
+    (3, 'Book Three', 'Author A', 2003, 1, '2024-01-03 00:00:00');
+
+INSERT INTO book_images (id, book_id, image_url, type, uploaded_by_account_id) VALUES
+    (1, 1, 'https://cdn.example.com/1-cover.png', 'COVER', 1),
+    (2, 1, 'https://cdn.example.com/1-page.png', 'ILLUSTRATION', 2),
+    (3, 2, 'https://cdn.example.com/2-cover.png', 'COVER', 2);
+
+INSERT INTO genres (id, name) VALUES (1, 'Fiction'), (2, 'History');
+INSERT INTO book_genres (book_id, genre_id) VALUES (1, 1), (1, 2), (2, 2), (3, 1);
+
+INSERT INTO reviews (id, content, rating, reviewer_id, book_id, root_review_id, is_current, created_at) VALUES
+    (1, 'Great', 5, 2, 1, 1, TRUE, '2024-02-01 00:00:00'),
+    (2, 'Fine', 3, 3, 1, 2, TRUE, '2024-02-02 00:00:00'),
+    (3, 'Old text', 4, 1, 1, 3, FALSE, '2024-02-03 00:00:00'),
+    (4, 'Edited text', 4, 1, 1, 3, TRUE, '2024-02-04 00:00:00'),
+    (5, 'Solid', 4, 3, 2, 5, TRUE, '2024-02-05 00:00:00');
+
+INSERT INTO review_vote_totals (review_id, upvotes, downvotes) VALUES (2, 5, 1), (4, 1, 0);
+
+INSERT INTO book_rating_stats (book_id, review_count, rating_sum, rating_3_count, rating_4_count, rating_5_count, average_rating) VALUES
+    (1, 3, 12, 1, 1, 1, 4.00),
+    (2, 1, 4, 0, 1, 0, 4.00);
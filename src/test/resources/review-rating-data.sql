@@ -0,0 +1,6 @@
+INSERT INTO accounts (id, username, hashed_password, email, first_name, last_name) VALUES
+    (1, 'alice', 'x', 'alice@example.com', 'Alice', 'Nguyen'),
+    (2, 'bob', 'x', 'bob@example.com', 'Bob', 'Tran');
+
+INSERT INTO books (id, title, author, published_year, added_by_account_id, created_at) VALUES
+    (1, 'Book One', 'Author A', 2001, 1, '2024-01-01 00:00:00');
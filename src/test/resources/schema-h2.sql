@@ -0,0 +1,214 @@
+/* H2 (MySQL mode) version of the Flyway schema for repository slice tests */
+/* ENUM and YEAR columns become VARCHAR and SMALLINT; triggers and MySQL-only DDL are left out */
+
+CREATE TABLE accounts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    hashed_password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    role VARCHAR(20) DEFAULT 'USER',
+    first_name VARCHAR(50) NOT NULL,
+    middle_name VARCHAR(50) DEFAULT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    provider VARCHAR(20) DEFAULT 'LOCAL',
+    provider_id VARCHAR(255) DEFAULT NULL,
+    avatar_id BIGINT DEFAULT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    last_login_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    status VARCHAR(20) DEFAULT 'ACTIVE',
+    security_version INT NOT NULL DEFAULT 0,
+    security_changed_at DATETIME(3) DEFAULT NULL,
+    banned_at DATETIME DEFAULT NULL,
+    deactivated_at DATETIME DEFAULT NULL
+);
+
+CREATE TABLE account_avatars (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    version INT NOT NULL,
+    url VARCHAR(1023) NOT NULL,
+    source VARCHAR(20) NOT NULL DEFAULT 'CLOUDINARY',
+    uploaded_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    deleted_at DATETIME DEFAULT NULL,
+
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+);
+
+CREATE TABLE books (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    published_year SMALLINT,
+    publisher VARCHAR(255),
+    cover_image_url VARCHAR(511) DEFAULT NULL,
+    description TEXT,
+    added_by_account_id BIGINT,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+
+    CONSTRAINT uq_title_author UNIQUE (title, author),
+    FOREIGN KEY (added_by_account_id) REFERENCES accounts(id) ON DELETE SET NULL
+);
+
+CREATE TABLE book_images (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    book_id BIGINT NOT NULL,
+    image_url VARCHAR(1024) NOT NULL,
+    type VARCHAR(20) DEFAULT 'OTHER',
+    uploaded_by_account_id BIGINT,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+
+    FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
+);
+
+CREATE TABLE genres (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) UNIQUE NOT NULL,
+    added_by_account_id BIGINT,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL
+);
+
+CREATE TABLE book_genres (
+    book_id BIGINT,
+    genre_id BIGINT,
+    deleted_at DATETIME DEFAULT NULL,
+
+    PRIMARY KEY (book_id, genre_id),
+    FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE,
+    FOREIGN KEY (genre_id) REFERENCES genres(id) ON DELETE CASCADE
+);
+
+CREATE TABLE reviews (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content TEXT,
+    rating TINYINT CHECK (rating BETWEEN 1 AND 5),
+    reviewer_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    previous_review_id BIGINT DEFAULT NULL,
+    root_review_id BIGINT DEFAULT NULL,
+    is_current BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    deleted_at DATETIME DEFAULT NULL,
+
+    FOREIGN KEY (reviewer_id) REFERENCES accounts(id) ON DELETE CASCADE,
+    FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
+);
+
+CREATE TABLE review_votes (
+    review_id BIGINT,
+    account_id BIGINT,
+    vote_type VARCHAR(20),
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    deleted_at DATETIME DEFAULT NULL,
+
+    PRIMARY KEY (review_id, account_id)
+);
+
+CREATE TABLE review_vote_totals (
+    review_id BIGINT PRIMARY KEY,
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE book_rating_stats (
+    book_id BIGINT PRIMARY KEY,
+    review_count INT NOT NULL DEFAULT 0,
+    rating_sum INT NOT NULL DEFAULT 0,
+    rating_1_count INT NOT NULL DEFAULT 0,
+    rating_2_count INT NOT NULL DEFAULT 0,
+    rating_3_count INT NOT NULL DEFAULT 0,
+    rating_4_count INT NOT NULL DEFAULT 0,
+    rating_5_count INT NOT NULL DEFAULT 0,
+    average_rating DECIMAL(3, 2) NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE cache_invalidations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(255) NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE TABLE replication_heartbeat (
+    id TINYINT PRIMARY KEY,
+    beat_at DATETIME(3) NOT NULL
+);
+
+CREATE TABLE books_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    published_year SMALLINT,
+    publisher VARCHAR(255),
+    cover_image_url VARCHAR(511) DEFAULT NULL,
+    description TEXT,
+    added_by_account_id BIGINT,
+    created_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL
+);
+
+CREATE TABLE book_images_archive (
+    id BIGINT PRIMARY KEY,
+    book_id BIGINT NOT NULL,
+    image_url VARCHAR(1024) NOT NULL,
+    type VARCHAR(20) DEFAULT 'OTHER',
+    uploaded_by_account_id BIGINT,
+    created_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL
+);
+
+CREATE TABLE genres_archive (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    added_by_account_id BIGINT,
+    created_at DATETIME DEFAULT NULL,
+    updated_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL
+);
+
+CREATE TABLE book_genres_archive (
+    book_id BIGINT NOT NULL,
+    genre_id BIGINT NOT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    PRIMARY KEY (book_id, genre_id)
+);
+
+CREATE TABLE reviews_archive (
+    id BIGINT PRIMARY KEY,
+    content TEXT,
+    rating TINYINT,
+    reviewer_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    previous_review_id BIGINT DEFAULT NULL,
+    root_review_id BIGINT DEFAULT NULL,
+    is_current BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL
+);
+
+CREATE TABLE review_votes_archive (
+    review_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    vote_type VARCHAR(20),
+    created_at DATETIME DEFAULT NULL,
+    deleted_at DATETIME DEFAULT NULL,
+    archived_at DATETIME NOT NULL,
+
+    PRIMARY KEY (review_id, account_id)
+);
@@ -0,0 +1,16 @@
+/* Stats tables, kept apart from schema-h2.sql because DAY is an H2 keyword; load with NON_KEYWORDS=DAY */
+
+CREATE TABLE stats_daily (
+    day DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    total INT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (day, metric)
+);
+
+CREATE TABLE stats_rollup_watermark (
+    id TINYINT PRIMARY KEY,
+    rolled_up_through DATE DEFAULT NULL
+);
+
+INSERT INTO stats_rollup_watermark (id, rolled_up_through) VALUES (1, NULL);